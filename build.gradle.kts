@@ -126,6 +126,8 @@ allprojects {
 
 
     apply(plugin = "org.eclipse.dataspaceconnector.test-summary")
+    // generates the module manifests and the injection indexes used at boot time
+    apply(plugin = "org.eclipse.dataspaceconnector.module-processor")
 
     if (System.getenv("JACOCO") == "true") {
         apply(plugin = "jacoco")
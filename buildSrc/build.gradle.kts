@@ -20,5 +20,10 @@ gradlePlugin {
             implementationClass = "org.eclipse.dataspaceconnector.gradle.ModuleNamesPlugin"
         }
 
+        create("ModuleProcessorPlugin") {
+            id = "org.eclipse.dataspaceconnector.module-processor"
+            implementationClass = "org.eclipse.dataspaceconnector.gradle.ModuleProcessorPlugin"
+        }
+
     }
 }
\ No newline at end of file
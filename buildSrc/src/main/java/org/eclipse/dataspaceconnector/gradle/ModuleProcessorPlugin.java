@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.gradle;
+
+import org.gradle.api.GradleException;
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.plugins.JavaPlugin;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.compile.JavaCompile;
+import org.gradle.process.CommandLineArgumentProvider;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Custom gradle plugin that runs the EDC module processor on the main sources of every Java project, so that each module
+ * contains its injection index (and, for modules annotated with {@code @Extension} or {@code @Spi}, its manifest). The
+ * {@code edc.id} and {@code edc.version} processor options are derived from the group, name and version of the project.
+ * <p>
+ * The processor and the projects it depends on cannot be compiled with it and are excluded, as are the projects that test
+ * the processor and configure it themselves.
+ * <p>
+ * Shadow jars contain the classes of many modules, so the injection indexes of all modules are appended into a single
+ * resource instead of only keeping the first one.
+ */
+public class ModuleProcessorPlugin implements Plugin<Project> {
+    private static final String PROCESSOR_PROJECT = ":tooling:module-processor";
+    private static final Set<String> EXCLUDED_PROJECTS = Set.of(
+            PROCESSOR_PROJECT,
+            ":tooling:module-domain",
+            ":tooling:module-processor-extension-test",
+            ":tooling:module-processor-spi-test",
+            ":spi:core-spi",
+            ":core:policy:policy-evaluator",
+            ":common:util");
+    // must match ExtensionMetadata.INDEX_RESOURCE, which is not on the classpath of the build
+    private static final String INDEX_RESOURCE = "META-INF/edc/injection-index.json";
+
+    @Override
+    public void apply(Project project) {
+        if (project == project.getRootProject() || EXCLUDED_PROJECTS.contains(project.getPath())) {
+            return;
+        }
+
+        project.getPluginManager().withPlugin("java", plugin -> {
+            project.getDependencies().add(JavaPlugin.ANNOTATION_PROCESSOR_CONFIGURATION_NAME, project.getDependencies().project(Map.of("path", PROCESSOR_PROJECT)));
+            project.getTasks().named(JavaPlugin.COMPILE_JAVA_TASK_NAME, JavaCompile.class)
+                    .configure(task -> task.getOptions().getCompilerArgumentProviders().add(new ProcessorOptions(project)));
+        });
+
+        project.getPluginManager().withPlugin("com.github.johnrengelman.shadow", plugin ->
+                project.getTasks().named("shadowJar").configure(this::appendInjectionIndex));
+    }
+
+    // the shadow plugin is not on the classpath of the build, hence ShadowJar#append(String) is invoked reflectively
+    private void appendInjectionIndex(Task shadowJar) {
+        try {
+            shadowJar.getClass().getMethod("append", String.class).invoke(shadowJar, INDEX_RESOURCE);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new GradleException("Cannot append the injection indexes in task " + shadowJar.getPath(), e);
+        }
+    }
+
+    /**
+     * Resolves the processor options when the task is executed, i.e. after the group and version have been set.
+     */
+    private static class ProcessorOptions implements CommandLineArgumentProvider {
+        private final Project project;
+
+        ProcessorOptions(Project project) {
+            this.project = project;
+        }
+
+        @Input
+        public String getId() {
+            return project.getGroup() + ":" + project.getName();
+        }
+
+        @Input
+        public String getVersion() {
+            return project.getVersion().toString();
+        }
+
+        @Override
+        public Iterable<String> asArguments() {
+            return List.of("-Aedc.id=" + getId(), "-Aedc.version=" + getVersion());
+        }
+    }
+}
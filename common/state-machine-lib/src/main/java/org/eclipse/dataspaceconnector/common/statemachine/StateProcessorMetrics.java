@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.common.statemachine;
+
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Decorates the entity supplier and the process function of a {@link StateProcessorImpl} to record per-state metrics:
+ * <ul>
+ *     <li>{@value #NEXT_FOR_STATE}: latency of fetching the next batch of entities from the store</li>
+ *     <li>{@value #BACKLOG}: size of the last fetched batch. A value equal to the batch size indicates that entities are waiting</li>
+ *     <li>{@value #PROCESS}: latency of processing a single entity</li>
+ *     <li>{@value #PROCESSED}: number of entities that were processed, i.e. transitioned</li>
+ * </ul>
+ * When the {@link MetricsInstrumentation} is disabled, the original supplier and function are returned untouched.
+ */
+public class StateProcessorMetrics {
+    public static final String NEXT_FOR_STATE = "edc.statemachine.next-for-state";
+    public static final String BACKLOG = "edc.statemachine.backlog";
+    public static final String PROCESS = "edc.statemachine.process";
+    public static final String PROCESSED = "edc.statemachine.processed";
+
+    private final String name;
+    private final MetricsInstrumentation instrumentation;
+    private final Map<String, AtomicInteger> backlogs = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param name            the name of the state machine, used to tag metrics.
+     * @param instrumentation the instrumentation that records the metrics.
+     */
+    public StateProcessorMetrics(String name, MetricsInstrumentation instrumentation) {
+        this.name = name;
+        this.instrumentation = instrumentation;
+    }
+
+    /**
+     * Decorates the supplier of entities in a specific state.
+     */
+    public <T> Supplier<Collection<T>> entities(String state, Supplier<Collection<T>> entities) {
+        if (!instrumentation.isEnabled()) {
+            return entities;
+        }
+        var backlog = backlogs.computeIfAbsent(state, s -> {
+            var value = new AtomicInteger();
+            instrumentation.gauge(BACKLOG, value::get, "manager", name, "state", s);
+            return value;
+        });
+        return () -> {
+            var batch = instrumentation.time(NEXT_FOR_STATE, entities, "manager", name, "state", state);
+            backlog.set(batch.size());
+            return batch;
+        };
+    }
+
+    /**
+     * Decorates the function that processes a single entity in a specific state.
+     */
+    public <T> Function<T, Boolean> process(String state, Function<T, Boolean> process) {
+        if (!instrumentation.isEnabled()) {
+            return process;
+        }
+        return entity -> {
+            var processed = instrumentation.time(PROCESS, () -> process.apply(entity), "manager", name, "state", state);
+            if (Boolean.TRUE.equals(processed)) {
+                instrumentation.increment(PROCESSED, 1, "manager", name, "state", state);
+            }
+            return processed;
+        };
+    }
+}
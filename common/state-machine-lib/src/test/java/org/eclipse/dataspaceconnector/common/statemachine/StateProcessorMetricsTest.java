@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.common.statemachine;
+
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.common.statemachine.StateProcessorMetrics.BACKLOG;
+import static org.eclipse.dataspaceconnector.common.statemachine.StateProcessorMetrics.NEXT_FOR_STATE;
+import static org.eclipse.dataspaceconnector.common.statemachine.StateProcessorMetrics.PROCESS;
+import static org.eclipse.dataspaceconnector.common.statemachine.StateProcessorMetrics.PROCESSED;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StateProcessorMetricsTest {
+
+    @Test
+    void shouldNotDecorate_whenInstrumentationDisabled() {
+        var metrics = new StateProcessorMetrics("test", MetricsInstrumentation.noop());
+        Supplier<Collection<String>> entities = () -> List.of("entity");
+        Function<String, Boolean> process = e -> true;
+
+        assertThat(metrics.entities("INITIAL", entities)).isSameAs(entities);
+        assertThat(metrics.process("INITIAL", process)).isSameAs(process);
+    }
+
+    @Test
+    void shouldRecordMetrics_whenInstrumentationEnabled() {
+        var instrumentation = mock(MetricsInstrumentation.class);
+        when(instrumentation.isEnabled()).thenReturn(true);
+        when(instrumentation.time(any(), any(), any())).thenAnswer(i -> i.getArgument(1, Supplier.class).get());
+        var metrics = new StateProcessorMetrics("test", instrumentation);
+
+        var processor = new StateProcessorImpl<String>(metrics.entities("INITIAL", () -> List.of("a", "b")), metrics.process("INITIAL", "a"::equals));
+
+        assertThat(processor.process()).isEqualTo(1L);
+        verify(instrumentation).gauge(eq(BACKLOG), any(), eq("manager"), eq("test"), eq("state"), eq("INITIAL"));
+        verify(instrumentation).time(eq(NEXT_FOR_STATE), any(), eq("manager"), eq("test"), eq("state"), eq("INITIAL"));
+        verify(instrumentation).increment(PROCESSED, 1, "manager", "test", "state", "INITIAL");
+    }
+
+    @Test
+    void shouldNotCountEntity_whenNotProcessed() {
+        var instrumentation = mock(MetricsInstrumentation.class);
+        when(instrumentation.isEnabled()).thenReturn(true);
+        when(instrumentation.time(eq(PROCESS), any(), any())).thenAnswer(i -> i.getArgument(1, Supplier.class).get());
+        var metrics = new StateProcessorMetrics("test", instrumentation);
+
+        var processed = metrics.<String>process("INITIAL", e -> false).apply("entity");
+
+        assertThat(processed).isFalse();
+        verify(instrumentation, never()).increment(eq(PROCESSED), eq(1.0), any());
+    }
+}
@@ -44,6 +44,7 @@ import org.eclipse.dataspaceconnector.spi.system.BaseExtension;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Hostname;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Provider;
 import org.eclipse.dataspaceconnector.spi.system.Provides;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
@@ -91,10 +92,16 @@ public class CoreServicesExtension implements ServiceExtension {
     public static final String THREADPOOL_SIZE_SETTING = "edc.core.system.health.check.threadpool-size";
     @EdcSetting
     public static final String HOSTNAME_SETTING = "edc.hostname";
+    @EdcSetting
+    public static final String EVENT_PARTITIONS_SETTING = "edc.events.router.partitions";
+    @EdcSetting
+    public static final String EVENT_QUEUE_CAPACITY_SETTING = "edc.events.router.queue.capacity";
 
     private static final long DEFAULT_DURATION = 60;
     private static final int DEFAULT_TP_SIZE = 3;
     private static final String DEFAULT_HOSTNAME = "localhost";
+    private static final int DEFAULT_EVENT_PARTITIONS = 1;
+    private static final int DEFAULT_EVENT_QUEUE_CAPACITY = 1000;
 
     /**
      * An optional OkHttp {@link EventListener} that can be used to instrument OkHttp client for collecting metrics.
@@ -107,16 +114,19 @@ public class CoreServicesExtension implements ServiceExtension {
      */
     @Inject(required = false)
     private ExecutorInstrumentation executorInstrumentation;
+    /**
+     * An optional recorder for domain-level metrics. Used by the optional {@code micrometer} module.
+     */
+    @Inject(required = false)
+    private MetricsInstrumentation metricsInstrumentation;
 
     @Inject
     private PrivateKeyResolver privateKeyResolver;
 
-    @Inject(required = false)
-    private EventExecutorServiceContainer eventExecutorServiceContainer;
-
     private HealthCheckServiceImpl healthCheckService;
     private RuleBindingRegistryImpl ruleBindingRegistry;
     private ScopeFilter scopeFilter;
+    private EventRouterImpl eventRouter;
 
     @Override
     public String name() {
@@ -149,6 +159,9 @@ public class CoreServicesExtension implements ServiceExtension {
     @Override
     public void shutdown() {
         healthCheckService.stop();
+        if (eventRouter != null) {
+            eventRouter.stop();
+        }
         ServiceExtension.super.shutdown();
     }
 
@@ -157,6 +170,11 @@ public class CoreServicesExtension implements ServiceExtension {
         return ExecutorInstrumentation.noop();
     }
 
+    @Provider(isDefault = true)
+    public MetricsInstrumentation defaultMetricsInstrumentation() {
+        return MetricsInstrumentation.noop();
+    }
+
     @Provider
     public RetryPolicy<?> retryPolicy(ServiceExtensionContext context) {
         var maxRetries = context.getSetting(MAX_RETRIES, 5);
@@ -180,7 +198,7 @@ public class CoreServicesExtension implements ServiceExtension {
 
     @Provider
     public RemoteMessageDispatcherRegistry remoteMessageDispatcherRegistry() {
-        return new RemoteMessageDispatcherRegistryImpl();
+        return new RemoteMessageDispatcherRegistryImpl(metricsInstrumentation);
     }
 
     @Provider
@@ -200,7 +218,7 @@ public class CoreServicesExtension implements ServiceExtension {
 
     @Provider
     public PolicyEngine policyEngine() {
-        return new PolicyEngineImpl(scopeFilter);
+        return new PolicyEngineImpl(scopeFilter, metricsInstrumentation);
     }
 
     @Provider
@@ -216,15 +234,21 @@ public class CoreServicesExtension implements ServiceExtension {
 
     @Provider
     public EventRouter eventRouter(ServiceExtensionContext context) {
-        if (eventExecutorServiceContainer == null) {
-            eventExecutorServiceContainer = eventExecutorServiceContainer();
-        }
-        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService());
+        var partitions = context.getSetting(EVENT_PARTITIONS_SETTING, DEFAULT_EVENT_PARTITIONS);
+        var queueCapacity = context.getSetting(EVENT_QUEUE_CAPACITY_SETTING, DEFAULT_EVENT_QUEUE_CAPACITY);
+        eventRouter = new EventRouterImpl(context.getMonitor(), executorInstrumentation, metricsInstrumentation, partitions, queueCapacity);
+        return eventRouter;
     }
 
+    /**
+     * Provides the shared executor of the former event router.
+     *
+     * @deprecated not used by the {@link EventRouterImpl} anymore, will be removed in a future release.
+     */
+    @Deprecated
     @Provider(isDefault = true)
     public EventExecutorServiceContainer eventExecutorServiceContainer() {
-        return new EventExecutorServiceContainer(Executors.newFixedThreadPool(1)); // TODO: make configurable
+        return new EventExecutorServiceContainer(Executors.newFixedThreadPool(1));
     }
 
     @Provider(isDefault = true)
@@ -19,6 +19,7 @@ import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.message.MessageContext;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcher;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.types.domain.message.RemoteMessage;
 import org.jetbrains.annotations.Nullable;
 
@@ -30,8 +31,18 @@ import java.util.concurrent.CompletableFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
 
 public class RemoteMessageDispatcherRegistryImpl implements RemoteMessageDispatcherRegistry {
+    private static final String SEND_METRIC = "edc.dispatcher.send";
 
     private final Map<String, RemoteMessageDispatcher> dispatchers = new HashMap<>();
+    private final MetricsInstrumentation metricsInstrumentation;
+
+    public RemoteMessageDispatcherRegistryImpl() {
+        this(MetricsInstrumentation.noop());
+    }
+
+    public RemoteMessageDispatcherRegistryImpl(MetricsInstrumentation metricsInstrumentation) {
+        this.metricsInstrumentation = metricsInstrumentation;
+    }
 
     @Override
     public void register(RemoteMessageDispatcher dispatcher) {
@@ -46,7 +57,11 @@ public class RemoteMessageDispatcherRegistryImpl implements RemoteMessageDispatc
         if (dispatcher == null) {
             return failedFuture(new EdcException("No provider dispatcher registered for protocol: " + protocol));
         }
-        return dispatcher.send(responseType, message, context);
+        if (!metricsInstrumentation.isEnabled()) {
+            return dispatcher.send(responseType, message, context);
+        }
+        return metricsInstrumentation.timeAsync(SEND_METRIC, () -> dispatcher.send(responseType, message, context),
+                "type", message.getClass().getSimpleName(), "counterparty", String.valueOf(message.getConnectorAddress()));
     }
 
     @Nullable
@@ -27,6 +27,7 @@ import org.eclipse.dataspaceconnector.spi.policy.PolicyContext;
 import org.eclipse.dataspaceconnector.spi.policy.PolicyEngine;
 import org.eclipse.dataspaceconnector.spi.policy.RuleFunction;
 import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -42,8 +43,10 @@ import static java.util.stream.Collectors.toList;
  */
 public class PolicyEngineImpl implements PolicyEngine {
     private static final String ALL_SCOPES_DELIMITED = ALL_SCOPES + ".";
+    private static final String EVALUATION_METRIC = "edc.policy.evaluation";
 
     private ScopeFilter scopeFilter;
+    private MetricsInstrumentation metricsInstrumentation;
 
     private Map<String, List<ConstraintFunctionEntry<Rule>>> constraintFunctions = new TreeMap<>();
     private Map<String, List<RuleFunctionEntry<Rule>>> ruleFunctions = new TreeMap<>();
@@ -52,7 +55,12 @@ public class PolicyEngineImpl implements PolicyEngine {
     private List<BiFunction<Policy, PolicyContext, Boolean>> postValidators = new ArrayList<>();
 
     public PolicyEngineImpl(ScopeFilter scopeFilter) {
+        this(scopeFilter, MetricsInstrumentation.noop());
+    }
+
+    public PolicyEngineImpl(ScopeFilter scopeFilter, MetricsInstrumentation metricsInstrumentation) {
         this.scopeFilter = scopeFilter;
+        this.metricsInstrumentation = metricsInstrumentation;
     }
 
     @Override
@@ -67,6 +75,10 @@ public class PolicyEngineImpl implements PolicyEngine {
 
     @Override
     public Result<Policy> evaluate(String scope, Policy policy, ParticipantAgent agent, Map<Class, Object> contextInformation) {
+        return metricsInstrumentation.time(EVALUATION_METRIC, () -> evaluateInScope(scope, policy, agent, contextInformation), "scope", scope);
+    }
+
+    private Result<Policy> evaluateInScope(String scope, Policy policy, ParticipantAgent agent, Map<Class, Object> contextInformation) {
         var context = new PolicyContextImpl(agent, contextInformation);
 
         for (BiFunction<Policy, PolicyContext, Boolean> validator : preValidators) {
@@ -20,7 +20,11 @@ import java.util.concurrent.ExecutorService;
 
 /**
  * Holder class for a shared {@link ExecutorService} across event router implementations.
+ *
+ * @deprecated the {@link EventRouterImpl} dispatches events on its own per-subscriber workers and no longer uses this
+ *         executor. This class will be removed in a future release.
  */
+@Deprecated
 public class EventExecutorServiceContainer {
     private final ExecutorService executorService;
 
@@ -19,40 +19,195 @@ import org.eclipse.dataspaceconnector.spi.event.Event;
 import org.eclipse.dataspaceconnector.spi.event.EventRouter;
 import org.eclipse.dataspaceconnector.spi.event.EventSubscriber;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 
-import java.util.ArrayList;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
-import static java.util.concurrent.CompletableFuture.runAsync;
 
+/**
+ * Dispatches events to the subscribers asynchronously.
+ * <p>
+ * Every subscriber gets its own partitions, each one made of a bounded queue and a single worker thread, so that a slow
+ * subscriber does not hold up the others. Events are assigned to a partition by their {@link org.eclipse.dataspaceconnector.spi.event.EventPayload#entityId()},
+ * which guarantees that a subscriber receives the events of the same entity in the order in which they were published.
+ * When the queue of a partition is full, {@link #publish(Event)} waits until there is room, which slows down the
+ * producers instead of losing events. Events that are published by a subscriber, i.e. from a delivery thread, are
+ * enqueued without waiting, possibly exceeding the capacity, since waiting for its own queue (or for the queue of a
+ * subscriber that is waiting for it) would never end.
+ * <p>
+ * The following metrics are recorded for every subscriber, tagged with its class name:
+ * <ul>
+ *     <li>{@value #LAG_METRIC}: time between the publication of an event and its dispatch to the subscriber</li>
+ *     <li>{@value #QUEUE_SIZE_METRIC}: number of events waiting to be dispatched to the subscriber</li>
+ * </ul>
+ */
 public class EventRouterImpl implements EventRouter {
+    static final String LAG_METRIC = "edc.events.subscriber.lag";
+    static final String QUEUE_SIZE_METRIC = "edc.events.subscriber.queue.size";
 
-    private final List<EventSubscriber> subscribers = new ArrayList<>();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
     private final Monitor monitor;
-    private final ExecutorService executor;
+    private final ExecutorInstrumentation executorInstrumentation;
+    private final MetricsInstrumentation metricsInstrumentation;
+    private final int partitions;
+    private final int queueCapacity;
+    private final ThreadLocal<Boolean> deliveryThread = ThreadLocal.withInitial(() -> false);
 
-    public EventRouterImpl(Monitor monitor, ExecutorService executor) {
+    /**
+     * Constructor.
+     *
+     * @param monitor                 the monitor.
+     * @param executorInstrumentation instruments the executors of the subscribers.
+     * @param metricsInstrumentation  records the per-subscriber metrics.
+     * @param partitions              the number of partitions, i.e. worker threads, of every subscriber.
+     * @param queueCapacity           the capacity of the queue of every partition.
+     */
+    public EventRouterImpl(Monitor monitor, ExecutorInstrumentation executorInstrumentation, MetricsInstrumentation metricsInstrumentation, int partitions, int queueCapacity) {
+        if (partitions < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Partitions and queue capacity must be positive");
+        }
         this.monitor = monitor;
-        this.executor = executor;
+        this.executorInstrumentation = executorInstrumentation;
+        this.metricsInstrumentation = metricsInstrumentation;
+        this.partitions = partitions;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Constructor with one partition of 1000 events per subscriber.
+     *
+     * @param monitor         the monitor.
+     * @param executorService not used anymore, since every subscriber has its own workers.
+     * @deprecated use {@link #EventRouterImpl(Monitor, ExecutorInstrumentation, MetricsInstrumentation, int, int)}.
+     */
+    @Deprecated
+    public EventRouterImpl(Monitor monitor, ExecutorService executorService) {
+        this(monitor, ExecutorInstrumentation.noop(), MetricsInstrumentation.noop(), 1, 1000);
     }
 
     @Override
     public void register(EventSubscriber subscriber) {
-        subscribers.add(subscriber);
+        register(Event.class, subscriber);
+    }
+
+    @Override
+    public void register(Class<? extends Event> eventKind, EventSubscriber subscriber) {
+        subscriptions.add(new Subscription(eventKind, subscriber));
     }
 
     @Override
     public void publish(Event event) {
-        subscribers.stream()
-                .map(subscriber -> runAsync(() -> subscriber.on(event), executor).thenApply(v -> subscriber))
-                .forEach(future -> future.whenComplete((subscriber, throwable) -> {
-                    if (throwable != null) {
-                        var subscriberName = subscriber.getClass().getSimpleName();
-                        var eventName = event.getClass().getSimpleName();
-                        monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
+        for (var subscription : subscriptions) {
+            if (subscription.eventKind.isInstance(event)) {
+                subscription.dispatch(event);
+            }
+        }
+    }
+
+    /**
+     * Stops the workers of all the subscribers. Events that have not been dispatched yet are discarded.
+     */
+    public void stop() {
+        subscriptions.forEach(Subscription::stop);
+    }
+
+    private class Subscription {
+        private final Class<? extends Event> eventKind;
+        private final EventSubscriber subscriber;
+        private final String name;
+        private final ThreadPoolExecutor[] workers;
+        private final ExecutorService[] executors;
+        private final Semaphore[] capacities;
+
+        Subscription(Class<? extends Event> eventKind, EventSubscriber subscriber) {
+            this.eventKind = eventKind;
+            this.subscriber = subscriber;
+            this.name = subscriber.getClass().getSimpleName();
+            this.workers = new ThreadPoolExecutor[partitions];
+            this.executors = new ExecutorService[partitions];
+            this.capacities = new Semaphore[partitions];
+            for (var i = 0; i < partitions; i++) {
+                capacities[i] = new Semaphore(queueCapacity);
+                workers[i] = worker(i);
+                executors[i] = executorInstrumentation.instrument(workers[i], "EventRouter-" + name);
+            }
+            metricsInstrumentation.gauge(QUEUE_SIZE_METRIC, () -> Arrays.stream(workers).mapToInt(w -> w.getQueue().size()).sum(), "subscriber", name);
+        }
+
+        void dispatch(Event event) {
+            var published = System.nanoTime();
+            var partition = partition(event);
+            var capacity = capacities[partition];
+            var reserved = !deliveryThread.get();
+            if (reserved) {
+                try {
+                    capacity.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    monitor.warning(format("Event %s not dispatched to subscriber %s: interrupted while waiting for room in the queue", event.getClass().getSimpleName(), name));
+                    return;
+                }
+            }
+            try {
+                executors[partition].execute(() -> {
+                    if (reserved) {
+                        capacity.release();
                     }
-                }));
+                    metricsInstrumentation.record(LAG_METRIC, Duration.ofNanos(System.nanoTime() - published), "subscriber", name);
+                    try {
+                        subscriber.on(event);
+                    } catch (Throwable throwable) {
+                        monitor.severe(format("Subscriber %s failed to handle event %s", name, event.getClass().getSimpleName()), throwable);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                if (reserved) {
+                    capacity.release();
+                }
+                monitor.warning(format("Event %s not dispatched to subscriber %s: %s", event.getClass().getSimpleName(), name, e.getMessage()));
+            }
+        }
+
+        void stop() {
+            Arrays.stream(executors).forEach(ExecutorService::shutdownNow);
+        }
+
+        private int partition(Event event) {
+            if (partitions == 1) {
+                return 0;
+            }
+            var entityId = event.getPayload() != null ? event.getPayload().entityId() : null;
+            var key = entityId != null ? entityId : event.getId();
+            return key == null ? 0 : Math.floorMod(key.hashCode(), partitions);
+        }
+
+        // the queue is unbounded, its capacity is enforced by the semaphore of the partition in dispatch()
+        private ThreadPoolExecutor worker(int partition) {
+            var threads = new AtomicInteger();
+            return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        var thread = new Thread(() -> {
+                            deliveryThread.set(true);
+                            runnable.run();
+                        }, format("EventRouter-%s-%d-%d", name, partition, threads.incrementAndGet()));
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    (runnable, executor) -> {
+                        throw new RejectedExecutionException("subscriber stopped");
+                    });
+        }
     }
 }
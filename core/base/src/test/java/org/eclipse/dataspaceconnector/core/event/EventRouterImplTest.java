@@ -18,24 +18,40 @@ import org.eclipse.dataspaceconnector.spi.event.Event;
 import org.eclipse.dataspaceconnector.spi.event.EventPayload;
 import org.eclipse.dataspaceconnector.spi.event.EventSubscriber;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
-import java.util.concurrent.Executors;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 class EventRouterImplTest {
 
     private final Clock clock = Clock.systemUTC();
     private final Monitor monitor = mock(Monitor.class);
-    private final EventRouterImpl eventRouter = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor());
+    private final EventRouterImpl eventRouter = new EventRouterImpl(monitor, ExecutorInstrumentation.noop(), MetricsInstrumentation.noop(), 4, 100);
+
+    @AfterEach
+    void tearDown() {
+        eventRouter.stop();
+    }
 
     @Test
     void shouldPublishToAllSubscribers() {
@@ -68,6 +84,82 @@ class EventRouterImplTest {
         });
     }
 
+    @Test
+    void shouldDispatchOnlyEventsOfTheSubscribedKind() {
+        var subscriber = mock(EventSubscriber.class);
+        var allSubscriber = mock(EventSubscriber.class);
+        eventRouter.register(OtherEvent.class, subscriber);
+        eventRouter.register(allSubscriber);
+
+        eventRouter.publish(TestEvent.Builder.newInstance().at(clock.millis()).build());
+        eventRouter.publish(OtherEvent.Builder.newInstance().at(clock.millis()).build());
+
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(subscriber).on(isA(OtherEvent.class));
+            verify(allSubscriber).on(isA(TestEvent.class));
+            verify(allSubscriber).on(isA(OtherEvent.class));
+        });
+        verify(subscriber, never()).on(isA(TestEvent.class));
+    }
+
+    @Test
+    void shouldDispatchEventsOfTheSameEntityInOrder() {
+        var received = new ConcurrentHashMap<String, List<Integer>>();
+        eventRouter.register(event -> {
+            var payload = (TestEvent.Payload) event.getPayload();
+            received.computeIfAbsent(payload.entityId(), k -> new CopyOnWriteArrayList<>()).add(payload.sequence);
+        });
+
+        for (var sequence = 0; sequence < 100; sequence++) {
+            for (var entity = 0; entity < 10; entity++) {
+                eventRouter.publish(TestEvent.Builder.newInstance().entityId("entity-" + entity).sequence(sequence).at(clock.millis()).build());
+            }
+        }
+
+        var expected = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(received).hasSize(10);
+            assertThat(received.values()).allSatisfy(sequences -> assertThat(sequences).isEqualTo(expected));
+        });
+    }
+
+    @Test
+    void shouldNotHoldUpOtherSubscribersWhenSubscriberIsSlow() {
+        var release = new CountDownLatch(1);
+        var slowSubscriber = mock(EventSubscriber.class);
+        doAnswer(i -> release.await(5, TimeUnit.SECONDS)).when(slowSubscriber).on(any());
+        var subscriber = mock(EventSubscriber.class);
+        eventRouter.register(slowSubscriber);
+        eventRouter.register(subscriber);
+
+        eventRouter.publish(TestEvent.Builder.newInstance().at(clock.millis()).build());
+
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> verify(subscriber).on(isA(TestEvent.class)));
+        release.countDown();
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> verify(slowSubscriber).on(isA(TestEvent.class)));
+    }
+
+    @Test
+    void shouldNotBlockWhenSubscriberPublishesIntoItsOwnFullQueue() {
+        var router = new EventRouterImpl(monitor, ExecutorInstrumentation.noop(), MetricsInstrumentation.noop(), 1, 1);
+        var received = new CopyOnWriteArrayList<Integer>();
+        router.register(event -> {
+            var sequence = ((TestEvent.Payload) event.getPayload()).sequence;
+            received.add(sequence);
+            if (sequence == 0) {
+                IntStream.rangeClosed(1, 3).forEach(next -> router.publish(TestEvent.Builder.newInstance().sequence(next).at(clock.millis()).build()));
+            }
+        });
+
+        try {
+            router.publish(TestEvent.Builder.newInstance().sequence(0).at(clock.millis()).build());
+
+            await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(received).containsExactly(0, 1, 2, 3));
+        } finally {
+            router.stop();
+        }
+    }
+
     private static class TestEvent extends Event<TestEvent.Payload> {
         public static class Builder extends Event.Builder<TestEvent, Payload, Builder> {
 
@@ -79,6 +171,44 @@ class EventRouterImplTest {
                 super(new TestEvent(), new Payload());
             }
 
+            public Builder entityId(String entityId) {
+                event.payload.entityId = entityId;
+                return this;
+            }
+
+            public Builder sequence(int sequence) {
+                event.payload.sequence = sequence;
+                return this;
+            }
+
+            @Override
+            protected void validate() {
+
+            }
+        }
+
+        public static class Payload extends EventPayload {
+            private String entityId;
+            private int sequence;
+
+            @Override
+            public String entityId() {
+                return entityId;
+            }
+        }
+    }
+
+    private static class OtherEvent extends Event<OtherEvent.Payload> {
+        public static class Builder extends Event.Builder<OtherEvent, Payload, Builder> {
+
+            public static Builder newInstance() {
+                return new Builder();
+            }
+
+            private Builder() {
+                super(new OtherEvent(), new Payload());
+            }
+
             @Override
             protected void validate() {
 
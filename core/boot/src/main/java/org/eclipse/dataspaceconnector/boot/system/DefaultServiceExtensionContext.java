@@ -25,19 +25,21 @@ import org.eclipse.dataspaceconnector.spi.telemetry.Telemetry;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 
 import java.time.Clock;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Base service extension context.
  * <p>Prior to using, {@link #initialize()} must be called.</p>
+ * <p>Services can be registered and resolved concurrently, which is needed when extensions are booted in parallel.</p>
  */
 public class DefaultServiceExtensionContext implements ServiceExtensionContext {
 
-    private final Map<Class<?>, Object> services = new HashMap<>();
+    private final Map<Class<?>, Object> services = new ConcurrentHashMap<>();
     private final List<ConfigurationExtension> configurationExtensions;
     private String connectorId;
     private Config config;
@@ -63,7 +65,7 @@ public class DefaultServiceExtensionContext implements ServiceExtensionContext {
 
     @Override
     public <T> T getService(Class<T> type) {
-        T service = (T) services.get(type);
+        T service = resolve(type);
         if (service == null) {
             throw new EdcException("Service not found: " + type.getName());
         }
@@ -75,17 +77,30 @@ public class DefaultServiceExtensionContext implements ServiceExtensionContext {
         if (!isOptional) {
             return getService(type);
         }
-        return (T) services.get(type);
+        return resolve(type);
     }
 
     @Override
     public <T> void registerService(Class<T> type, T service) {
+        if (service == null) {
+            // registering no instance is equivalent to having no service, as getService() cannot return it anyway
+            services.remove(type);
+            return;
+        }
         if (hasService(type)) {
             getMonitor().warning("A service of the type " + type.getCanonicalName() + " was already registered and has now been replaced with a " + service.getClass().getSimpleName() + " instance.");
         }
         services.put(type, service);
     }
 
+    @Override
+    public <T> void registerLazyService(Class<T> type, Supplier<T> supplier) {
+        if (hasService(type)) {
+            getMonitor().warning("A service of the type " + type.getCanonicalName() + " was already registered and has now been replaced with a lazily created instance.");
+        }
+        services.put(type, new LazyService<>(supplier));
+    }
+
     @Override
     public void initialize() {
         configurationExtensions.forEach(ext -> {
@@ -106,6 +121,15 @@ public class DefaultServiceExtensionContext implements ServiceExtensionContext {
         return System.getenv();
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> T resolve(Class<T> type) {
+        var service = services.get(type);
+        if (service instanceof LazyService) {
+            return ((LazyService<T>) service).get();
+        }
+        return (T) service;
+    }
+
     private Config loadConfig() {
         var config = configurationExtensions.stream()
                 .map(ConfigurationExtension::getConfig)
@@ -119,4 +143,29 @@ public class DefaultServiceExtensionContext implements ServiceExtensionContext {
         return config.merge(environmentConfig).merge(systemPropertyConfig);
     }
 
+    /**
+     * Holds a service that is created on first access. Creation happens at most once, even if the service is resolved concurrently.
+     */
+    private static class LazyService<T> {
+        private final Supplier<T> supplier;
+        private volatile T instance;
+
+        LazyService(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        T get() {
+            var result = instance;
+            if (result == null) {
+                synchronized (this) {
+                    result = instance;
+                    if (result == null) {
+                        result = supplier.get();
+                        instance = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
 }
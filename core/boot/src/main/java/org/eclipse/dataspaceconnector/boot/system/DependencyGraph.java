@@ -48,6 +48,20 @@ import java.util.stream.Stream;
  */
 public class DependencyGraph {
     private final InjectionPointScanner injectionPointScanner = new InjectionPointScanner();
+    private final InjectionIndex injectionIndex;
+
+    public DependencyGraph() {
+        this(InjectionIndex.empty());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param injectionIndex the metadata generated at build time, extensions that are not contained in it are scanned by reflection.
+     */
+    public DependencyGraph(InjectionIndex injectionIndex) {
+        this.injectionIndex = injectionIndex;
+    }
 
     /**
      * Sorts all {@link ServiceExtension} implementors, that were found on the classpath, according to their dependencies.
@@ -62,28 +76,33 @@ public class DependencyGraph {
      */
     public List<InjectionContainer<ServiceExtension>> of(List<ServiceExtension> loadedExtensions) {
         var extensions = sortByType(loadedExtensions);
-        var dependencyMap = createDependencyMap(extensions);
+
+        // scan every extension only once, the results are needed for resolving the dependencies and for the containers
+        var injectionPoints = new HashMap<ServiceExtension, Set<InjectionPoint<ServiceExtension>>>();
+        var providerScanners = new HashMap<ServiceExtension, ProviderMethodScanner>();
+        extensions.forEach(ext -> {
+            injectionPoints.put(ext, injectionIndex.getInjectionPoints(ext).orElseGet(() -> getInjectedFields(ext)));
+            providerScanners.put(ext, injectionIndex.getProviderMethodScanner(ext).orElseGet(() -> new ProviderMethodScanner(ext)));
+        });
+        var dependencyMap = createDependencyMap(extensions, providerScanners);
 
         var sort = new TopologicalSort<ServiceExtension>();
+        var dependencies = new HashMap<ServiceExtension, Set<ServiceExtension>>();
 
         // check if all injected fields are satisfied, collect missing ones and throw exception otherwise
         var unsatisfiedInjectionPoints = new ArrayList<InjectionPoint<ServiceExtension>>();
-        var injectionPoints = extensions.stream()
-                .flatMap(ext -> getInjectedFields(ext).stream()
-                        .peek(injectionPoint -> {
-                            var providers = dependencyMap.get(injectionPoint.getFeatureName());
-                            if (providers == null) {
-                                if (injectionPoint.isRequired()) {
-                                    unsatisfiedInjectionPoints.add(injectionPoint);
-                                }
-                            } else {
-                                providers.stream()
-                                        .filter(d -> !Objects.equals(d, ext)) // remove dependencies onto oneself
-                                        .forEach(provider -> sort.addDependency(ext, provider));
-                            }
-                        })
-                )
-                .collect(Collectors.toList());
+        extensions.forEach(ext -> injectionPoints.get(ext).forEach(injectionPoint -> {
+            var providers = dependencyMap.get(injectionPoint.getFeatureName());
+            if (providers == null) {
+                if (injectionPoint.isRequired()) {
+                    unsatisfiedInjectionPoints.add(injectionPoint);
+                }
+            } else {
+                providers.stream()
+                        .filter(d -> !Objects.equals(d, ext)) // remove dependencies onto oneself
+                        .forEach(provider -> addDependency(sort, dependencies, ext, provider));
+            }
+        }));
 
         //throw an exception if still unsatisfied links
         if (!unsatisfiedInjectionPoints.isEmpty()) {
@@ -95,13 +114,13 @@ public class DependencyGraph {
         //check that all the @Required features are there
         var unsatisfiedRequirements = new ArrayList<String>();
         extensions.forEach(ext -> {
-            var features = getRequiredFeatures(ext.getClass());
+            var features = injectionIndex.getRequiredFeatures(ext).orElseGet(() -> getRequiredFeatures(ext.getClass()));
             features.forEach(feature -> {
-                var dependencies = dependencyMap.get(feature);
-                if (dependencies == null) {
+                var providers = dependencyMap.get(feature);
+                if (providers == null) {
                     unsatisfiedRequirements.add(feature);
                 } else {
-                    dependencies.forEach(dependency -> sort.addDependency(ext, dependency));
+                    providers.forEach(provider -> addDependency(sort, dependencies, ext, provider));
                 }
             });
         });
@@ -113,17 +132,38 @@ public class DependencyGraph {
 
         sort.sort(extensions);
 
-        // todo: should the list of InjectionContainers be generated directly by the flatmap?
         // convert the sorted list of extensions into an equally sorted list of InjectionContainers
+        var typeDependencies = getTypeDependencies(extensions);
         return extensions.stream()
-                .map(se -> new InjectionContainer<>(se, injectionPoints.stream().filter(ip -> ip.getInstance() == se).collect(Collectors.toSet())))
+                .map(se -> {
+                    var containerDependencies = new HashSet<>(dependencies.getOrDefault(se, Set.of()));
+                    containerDependencies.addAll(typeDependencies.get(orderFor(se.getClass())));
+                    return new InjectionContainer<>(se, injectionPoints.get(se), containerDependencies);
+                })
                 .collect(Collectors.toList());
     }
 
-    private Map<String, List<ServiceExtension>> createDependencyMap(List<ServiceExtension> extensions) {
+    private void addDependency(TopologicalSort<ServiceExtension> sort, Map<ServiceExtension, Set<ServiceExtension>> dependencies, ServiceExtension dependent, ServiceExtension dependency) {
+        sort.addDependency(dependent, dependency);
+        if (dependent != dependency) {
+            dependencies.computeIfAbsent(dependent, k -> new HashSet<>()).add(dependency);
+        }
+    }
+
+    /**
+     * Base and core extensions are sorted first without declaring it, so every extension implicitly depends on all the
+     * extensions of the preceding types. Returns these implicit dependencies per type order.
+     */
+    private List<Set<ServiceExtension>> getTypeDependencies(List<ServiceExtension> extensions) {
+        var base = extensions.stream().filter(e -> orderFor(e.getClass()) == 0).collect(Collectors.toSet());
+        var baseAndCore = extensions.stream().filter(e -> orderFor(e.getClass()) <= 1).collect(Collectors.toSet());
+        return List.of(Set.of(), base, baseAndCore);
+    }
+
+    private Map<String, List<ServiceExtension>> createDependencyMap(List<ServiceExtension> extensions, Map<ServiceExtension, ProviderMethodScanner> providerScanners) {
         Map<String, List<ServiceExtension>> dependencyMap = new HashMap<>();
-        extensions.forEach(ext -> getDefaultProvidedFeatures(ext).forEach(feature -> dependencyMap.computeIfAbsent(feature, k -> new ArrayList<>()).add(ext)));
-        extensions.forEach(ext -> getProvidedFeatures(ext).forEach(feature -> dependencyMap.computeIfAbsent(feature, k -> new ArrayList<>()).add(ext)));
+        extensions.forEach(ext -> getDefaultProvidedFeatures(providerScanners.get(ext)).forEach(feature -> dependencyMap.computeIfAbsent(feature, k -> new ArrayList<>()).add(ext)));
+        extensions.forEach(ext -> getProvidedFeatures(ext, providerScanners.get(ext)).forEach(feature -> dependencyMap.computeIfAbsent(feature, k -> new ArrayList<>()).add(ext)));
         return dependencyMap;
     }
 
@@ -139,22 +179,24 @@ public class DependencyGraph {
     /**
      * Obtains all features a specific extension requires as strings
      */
-    private Set<String> getProvidedFeatures(ServiceExtension ext) {
+    private Set<String> getProvidedFeatures(ServiceExtension ext, ProviderMethodScanner scanner) {
         var allProvides = new HashSet<String>();
 
         // check all @Provides
-        var providesAnnotation = ext.getClass().getAnnotation(Provides.class);
-        if (providesAnnotation != null) {
-            var featureStrings = Arrays.stream(providesAnnotation.value()).map(Class::getName).collect(Collectors.toSet());
-            allProvides.addAll(featureStrings);
-        }
+        injectionIndex.getProvidedFeatures(ext).ifPresentOrElse(allProvides::addAll, () -> {
+            var providesAnnotation = ext.getClass().getAnnotation(Provides.class);
+            if (providesAnnotation != null) {
+                var featureStrings = Arrays.stream(providesAnnotation.value()).map(Class::getName).collect(Collectors.toSet());
+                allProvides.addAll(featureStrings);
+            }
+        });
         // check all @Provider methods
-        allProvides.addAll(new ProviderMethodScanner(ext).nonDefaultProviders().stream().map(ProviderMethod::getReturnType).map(Class::getName).collect(Collectors.toSet()));
+        allProvides.addAll(scanner.nonDefaultProviders().stream().map(ProviderMethod::getReturnType).map(Class::getName).collect(Collectors.toSet()));
         return allProvides;
     }
 
-    private Set<String> getDefaultProvidedFeatures(ServiceExtension ext) {
-        return new ProviderMethodScanner(ext).defaultProviders().stream()
+    private Set<String> getDefaultProvidedFeatures(ProviderMethodScanner scanner) {
+        return scanner.defaultProviders().stream()
                 .map(ProviderMethod::getReturnType)
                 .map(Class::getName)
                 .collect(Collectors.toSet());
@@ -181,16 +223,16 @@ public class DependencyGraph {
         return injectionPointScanner.getInjectionPoints(ext);
     }
 
+    private static int orderFor(Class<? extends ServiceExtension> class1) {
+        return class1.getAnnotation(BaseExtension.class) != null
+                ? 0 : class1.getAnnotation(CoreExtension.class) != null
+                ? 1 : 2;
+    }
+
     private static class ServiceExtensionComparator implements Comparator<ServiceExtension> {
         @Override
         public int compare(ServiceExtension o1, ServiceExtension o2) {
-            return orderFor(o1.getClass()).compareTo(orderFor(o2.getClass()));
-        }
-
-        private Integer orderFor(Class<? extends ServiceExtension> class1) {
-            return class1.getAnnotation(BaseExtension.class) != null
-                    ? 0 : class1.getAnnotation(CoreExtension.class) != null
-                    ? 1 : 2;
+            return Integer.compare(orderFor(o1.getClass()), orderFor(o2.getClass()));
         }
     }
 }
@@ -19,6 +19,8 @@ import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
 import org.eclipse.dataspaceconnector.boot.system.injection.InjectorImpl;
 import org.eclipse.dataspaceconnector.boot.system.injection.lifecycle.ExtensionLifecycleManager;
+import org.eclipse.dataspaceconnector.boot.system.injection.lifecycle.StartPhase;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.monitor.ConsoleMonitor;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.monitor.MultiplexingMonitor;
@@ -33,10 +35,19 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import static java.lang.String.format;
+
 public class ExtensionLoader {
 
     private final ServiceLocator serviceLocator;
@@ -49,6 +60,25 @@ public class ExtensionLoader {
      * Convenience method for loading service extensions.
      */
     public static void bootServiceExtensions(List<InjectionContainer<ServiceExtension>> containers, ServiceExtensionContext context) {
+        bootServiceExtensions(containers, context, 1);
+    }
+
+    /**
+     * Loads service extensions. With a parallelism greater than one, extensions are injected, initialized and provided
+     * concurrently as soon as all the extensions they depend on are, whereas starting them always happens sequentially
+     * in dependency order.
+     * <p>
+     * Parallel boot requires that extensions declare all their dependencies using {@code @Inject} or {@code @Requires},
+     * as services that are only obtained from the context may not have been registered yet.
+     *
+     * @param containers  the sorted injection containers, as returned by the {@link DependencyGraph}
+     * @param context     the context the extensions are booted in
+     * @param parallelism the number of extensions that may be initialized concurrently
+     */
+    public static void bootServiceExtensions(List<InjectionContainer<ServiceExtension>> containers, ServiceExtensionContext context, int parallelism) {
+        var bootStart = System.nanoTime();
+        var monitor = context.getMonitor();
+
         //construct a list of default providers, which are invoked, if a particular service is not present in the context
         var defaultServices = new HashMap<Class<?>, Supplier<Object>>();
         containers.forEach(se -> {
@@ -59,22 +89,87 @@ public class ExtensionLoader {
         var injector = new InjectorImpl(defaultServices);
 
         // go through the extension initialization lifecycle
-        var lifeCycles = containers.stream()
-                .map(c -> new ExtensionLifecycleManager(c, context, injector))
-                .map(ExtensionLifecycleManager::inject)
-                .map(ExtensionLifecycleManager::initialize)
-                .map(ExtensionLifecycleManager::provide)
-                .collect(Collectors.toList());
-
-        lifeCycles.forEach(ExtensionLifecycleManager::start);
+        var initializationTimes = new ConcurrentHashMap<ServiceExtension, Long>();
+        var lifeCycles = parallelism > 1
+                ? initializeParallel(containers, context, injector, parallelism, initializationTimes)
+                : containers.stream().map(c -> initialize(c, context, injector, initializationTimes)).collect(Collectors.toList());
+
+        for (var i = 0; i < lifeCycles.size(); i++) {
+            var extension = containers.get(i).getInjectionTarget();
+            var start = System.nanoTime();
+            ExtensionLifecycleManager.start(lifeCycles.get(i));
+            var startTime = toMillis(System.nanoTime() - start);
+            var initializationTime = toMillis(initializationTimes.get(extension));
+            monitor.debug(() -> format("Booted %s in %d ms (initialization: %d ms, start: %d ms)", extension.name(), initializationTime + startTime, initializationTime, startTime));
+        }
+
+        monitor.info(format("Booted %d extensions in %d ms", containers.size(), toMillis(System.nanoTime() - bootStart)));
+    }
+
+    /**
+     * Puts the extensions through inject, initialize and provide on a dedicated thread pool. Every extension is scheduled
+     * once all of its dependencies are done, so independent branches of the dependency graph are processed concurrently.
+     */
+    private static List<StartPhase> initializeParallel(List<InjectionContainer<ServiceExtension>> containers, ServiceExtensionContext context, InjectorImpl injector,
+                                                       int parallelism, Map<ServiceExtension, Long> initializationTimes) {
+        var executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            var futures = new HashMap<ServiceExtension, CompletableFuture<StartPhase>>();
+            for (var container : containers) {
+                // containers are sorted topologically, dependencies sorted after an extension (i.e. forming a cycle with the implicit ones) are not awaited
+                var dependencies = container.getDependencies().stream()
+                        .map(futures::get)
+                        .filter(Objects::nonNull)
+                        .toArray(CompletableFuture[]::new);
+                var future = CompletableFuture.allOf(dependencies)
+                        .thenApplyAsync(v -> initialize(container, context, injector, initializationTimes), executor);
+                futures.put(container.getInjectionTarget(), future);
+            }
+            return containers.stream()
+                    .map(container -> await(futures.get(container.getInjectionTarget())))
+                    .collect(Collectors.toList());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static StartPhase initialize(InjectionContainer<ServiceExtension> container, ServiceExtensionContext context, InjectorImpl injector, Map<ServiceExtension, Long> initializationTimes) {
+        var start = System.nanoTime();
+        var injected = new ExtensionLifecycleManager(container, context, injector).inject();
+        var lifeCycle = ExtensionLifecycleManager.provide(ExtensionLifecycleManager.initialize(injected));
+        initializationTimes.put(container.getInjectionTarget(), System.nanoTime() - start);
+        return lifeCycle;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // rethrow the original exception, so that errors look the same as when booting sequentially
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new EdcException(cause);
+        }
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
     }
 
     @NotNull
     private static Supplier<Object> getDefaultProviderInvoker(ServiceExtensionContext context, InjectionContainer<ServiceExtension> se, ProviderMethod p) {
         return () -> {
-            var d = p.invoke(se.getInjectionTarget(), context);
-            context.registerService(p.getReturnType(), d);
-            return d;
+            // extensions booted in parallel may request the same default service concurrently, it must only be created once
+            synchronized (p) {
+                if (context.hasService(p.getReturnType())) {
+                    return context.getService(p.getReturnType());
+                }
+                var d = p.invoke(se.getInjectionTarget(), context);
+                context.registerService(p.getReturnType(), d);
+                return d;
+            }
         };
     }
 
@@ -109,11 +204,13 @@ public class ExtensionLoader {
     }
 
     /**
-     * Loads and orders the service extensions.
+     * Loads and orders the service extensions. The injection metadata of the extensions is taken from the
+     * {@link InjectionIndex} where available.
      */
     public List<InjectionContainer<ServiceExtension>> loadServiceExtensions() {
         List<ServiceExtension> serviceExtensions = loadExtensions(ServiceExtension.class, true);
-        return new DependencyGraph().of(serviceExtensions);
+        var injectionIndex = InjectionIndex.load(Thread.currentThread().getContextClassLoader());
+        return new DependencyGraph(injectionIndex).of(serviceExtensions);
     }
 
     /**
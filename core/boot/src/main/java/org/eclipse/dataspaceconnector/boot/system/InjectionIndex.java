@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.boot.system;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.system.injection.ExtensionMetadata;
+import org.eclipse.dataspaceconnector.spi.system.injection.FieldInjectionPoint;
+import org.eclipse.dataspaceconnector.spi.system.injection.InjectionPoint;
+import org.eclipse.dataspaceconnector.spi.system.injection.ProviderMethod;
+import org.eclipse.dataspaceconnector.spi.system.injection.ProviderMethodScanner;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Holds the {@link ExtensionMetadata} that was generated at build time by the module processor for all modules on the
+ * classpath. Resolving the injection points and provider methods of an extension from the index avoids scanning all of
+ * its members by reflection.
+ * <p>
+ * The index is generated by the same compilation as the extension classes, so it is trusted without inspecting the other
+ * members of the class, which would be as expensive as the reflective scan it replaces. Every lookup returns an empty
+ * {@link Optional} if the extension is not indexed or if an indexed member does not exist in the loaded class, in which
+ * case the caller falls back to reflection. Like the reflective scan, only the members declared by the extension class
+ * itself are considered, inherited members are not injected.
+ * <p>
+ * An index resource may contain several concatenated JSON arrays, as produced when the indexes of several modules are
+ * appended into a single jar.
+ */
+public class InjectionIndex {
+    private static final TypeReference<List<ExtensionMetadata>> TYPE_REFERENCE = new TypeReference<>() {
+    };
+
+    private final Map<String, ExtensionMetadata> extensions = new HashMap<>();
+
+    public InjectionIndex(List<ExtensionMetadata> metadata) {
+        metadata.forEach(m -> extensions.put(m.getType(), m));
+    }
+
+    public static InjectionIndex empty() {
+        return new InjectionIndex(Collections.emptyList());
+    }
+
+    /**
+     * Loads and merges all the {@link ExtensionMetadata#INDEX_RESOURCE}s that are visible to the class loader.
+     */
+    public static InjectionIndex load(ClassLoader classLoader) {
+        var mapper = new ObjectMapper();
+        var metadata = new ArrayList<ExtensionMetadata>();
+        try {
+            var resources = classLoader.getResources(ExtensionMetadata.INDEX_RESOURCE);
+            while (resources.hasMoreElements()) {
+                var resource = resources.nextElement();
+                try (var stream = resource.openStream(); var parser = mapper.getFactory().createParser(stream)) {
+                    while (parser.nextToken() != null) {
+                        metadata.addAll(mapper.readValue(parser, TYPE_REFERENCE));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new EdcException("Error reading the injection index", e);
+        }
+        return new InjectionIndex(metadata);
+    }
+
+    public boolean isEmpty() {
+        return extensions.isEmpty();
+    }
+
+    /**
+     * Returns the injection points of the extension.
+     */
+    public Optional<Set<InjectionPoint<ServiceExtension>>> getInjectionPoints(ServiceExtension extension) {
+        return getMetadata(extension).flatMap(metadata -> {
+            var injectionPoints = new HashSet<InjectionPoint<ServiceExtension>>();
+            for (var field : metadata.getInjectedFields()) {
+                try {
+                    var declaredField = extension.getClass().getDeclaredField(field.getName());
+                    injectionPoints.add(new FieldInjectionPoint<>(extension, declaredField, field.getType(), field.isRequired()));
+                } catch (NoSuchFieldException e) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(injectionPoints);
+        });
+    }
+
+    /**
+     * Returns a {@link ProviderMethodScanner} that is initialized with the provider methods of the extension.
+     */
+    public Optional<ProviderMethodScanner> getProviderMethodScanner(ServiceExtension extension) {
+        return getMetadata(extension).flatMap(metadata -> {
+            var providerMethods = new HashSet<ProviderMethod>();
+            for (var method : metadata.getProviderMethods()) {
+                try {
+                    var declaredMethod = method.acceptsContext()
+                            ? extension.getClass().getDeclaredMethod(method.getName(), ServiceExtensionContext.class)
+                            : extension.getClass().getDeclaredMethod(method.getName());
+                    providerMethods.add(new ProviderMethod(declaredMethod));
+                } catch (NoSuchMethodException | IllegalArgumentException e) {
+                    // method was renamed or is not annotated anymore
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(new ProviderMethodScanner(extension, providerMethods));
+        });
+    }
+
+    /**
+     * Returns the class names of the features the extension declares with {@code @Provides}.
+     */
+    public Optional<Set<String>> getProvidedFeatures(ServiceExtension extension) {
+        return getMetadata(extension).map(metadata -> new HashSet<>(metadata.getProvides()));
+    }
+
+    /**
+     * Returns the class names of the features the extension declares with {@code @Requires}.
+     */
+    public Optional<Set<String>> getRequiredFeatures(ServiceExtension extension) {
+        return getMetadata(extension).map(metadata -> new HashSet<>(metadata.getRequires()));
+    }
+
+    private Optional<ExtensionMetadata> getMetadata(ServiceExtension extension) {
+        return Optional.ofNullable(extensions.get(extension.getClass().getName()));
+    }
+}
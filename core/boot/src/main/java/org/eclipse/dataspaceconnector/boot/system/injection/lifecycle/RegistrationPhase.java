@@ -21,6 +21,7 @@ import org.eclipse.dataspaceconnector.spi.system.injection.ProviderMethodScanner
 
 /**
  * Represents an {@link ServiceExtension}'s lifecycle phase where all it's provider methods are invoked by the {@link ExtensionLifecycleManager}, and the provided objects are registered into the context.
+ * Lazy provider methods are not invoked here, they are registered into the context to be invoked on first use.
  *
  * @see ProviderMethodScanner
  */
@@ -46,9 +47,13 @@ public class RegistrationPhase extends Phase {
     }
 
     private void invokeAndRegister(ProviderMethod m, ServiceExtension target, ServiceExtensionContext context) {
-        var type = m.getReturnType();
-
-        var res = m.invoke(target, context);
-        context.registerService(type, res);
+        Class<Object> type = m.getReturnType();
+
+        if (m.isLazy()) {
+            context.registerLazyService(type, () -> m.invoke(target, context));
+        } else {
+            var res = m.invoke(target, context);
+            context.registerService(type, res);
+        }
     }
 }
@@ -28,6 +28,7 @@ import org.mockito.Mockito;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -100,6 +101,23 @@ class DefaultServiceExtensionContextTest {
         }
     }
 
+    @Test
+    void registerLazyService_createdOnceOnFirstAccess() {
+        var invocations = new AtomicInteger();
+        context.registerLazyService(TestObject.class, () -> {
+            invocations.incrementAndGet();
+            return new TestObject("lazy");
+        });
+
+        assertThat(context.hasService(TestObject.class)).isTrue();
+        assertThat(invocations).hasValue(0);
+
+        var service = context.getService(TestObject.class);
+
+        assertThat(context.getService(TestObject.class, true)).isSameAs(service);
+        assertThat(invocations).hasValue(1);
+    }
+
     @Test
     void get_setting_returns_the_setting_from_the_configuration_extension() {
         when(configuration.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of("key", "value")));
@@ -78,6 +78,20 @@ class DependencyGraphTest {
                 .containsOnly(dependentExtension);
     }
 
+    @Test
+    void sortExtensions_exposesDependencies() {
+        var provider = createProviderExtension(false);
+        var dependentExtension = createDependentExtension(true);
+
+        var list = sorter.of(createList(dependentExtension, provider));
+
+        var dependent = list.stream().filter(c -> c.getInjectionTarget() == dependentExtension).findFirst().orElseThrow();
+        assertThat(dependent.getDependencies()).contains(provider).doesNotContain(dependentExtension);
+        // base and core extensions are implicit dependencies
+        assertThat(dependent.getDependencies()).hasSize(3);
+        assertThat(list.get(0).getDependencies()).isEmpty();
+    }
+
     @Test
     void sortExtensions_multipleDefaultProviders() {
 
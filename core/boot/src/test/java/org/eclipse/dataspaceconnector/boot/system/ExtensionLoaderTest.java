@@ -18,6 +18,7 @@ package org.eclipse.dataspaceconnector.boot.system;
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
 import org.eclipse.dataspaceconnector.boot.system.testextensions.DefaultProviderExtension;
+import org.eclipse.dataspaceconnector.boot.system.testextensions.LazyProviderExtension;
 import org.eclipse.dataspaceconnector.boot.system.testextensions.ProviderExtension;
 import org.eclipse.dataspaceconnector.boot.util.CyclicDependencyException;
 import org.eclipse.dataspaceconnector.spi.EdcException;
@@ -30,6 +31,7 @@ import org.eclipse.dataspaceconnector.spi.system.MonitorExtension;
 import org.eclipse.dataspaceconnector.spi.system.Provides;
 import org.eclipse.dataspaceconnector.spi.system.Requires;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.system.injection.EdcInjectionException;
 import org.eclipse.dataspaceconnector.spi.system.injection.InjectionContainer;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
@@ -384,6 +386,60 @@ class ExtensionLoaderTest {
         assertThat(context.getService(TestObject.class)).isNotNull();
     }
 
+    @Test
+    @DisplayName("bootServiceExtensions - Should inject provided services when booting in parallel")
+    void bootServiceExtensions_parallel() {
+        var dependentExtension = new TestObjectDependentExtension();
+        var independentExtension = new StartRecordingExtension();
+        var provider = (ProviderExtension) spy(createProviderExtension(false));
+        when(provider.testObject()).thenCallRealMethod();
+
+        var context = new DefaultServiceExtensionContext(new TypeManager(), mock(Monitor.class), null, List.of());
+
+        var list = createInjectionContainers(createList(dependentExtension, independentExtension, provider));
+
+        ExtensionLoader.bootServiceExtensions(list, context, 4);
+
+        assertThat(dependentExtension.testObject).isNotNull();
+        verify(provider, times(1)).testObject();
+        assertThat(independentExtension.started).isTrue();
+    }
+
+    @Test
+    @DisplayName("bootServiceExtensions - Should invoke lazy provider only when the service is resolved")
+    void bootServiceExtensions_withLazyProvider() {
+        var lazyProvider = (LazyProviderExtension) spy(new LazyProviderExtension());
+        when(lazyProvider.testObject()).thenCallRealMethod();
+
+        var context = new DefaultServiceExtensionContext(new TypeManager(), mock(Monitor.class), null, List.of());
+
+        var list = createInjectionContainers(createList(lazyProvider));
+
+        ExtensionLoader.bootServiceExtensions(list, context);
+
+        verify(lazyProvider, never()).testObject();
+        assertThat(context.getService(TestObject.class)).isNotNull();
+        verify(lazyProvider, times(1)).testObject();
+    }
+
+    @Test
+    @DisplayName("bootServiceExtensions - Should rethrow the original exception when booting in parallel")
+    void bootServiceExtensions_parallel_whenInitializationFails() {
+        var failing = new ServiceExtension() {
+            @Override
+            public void initialize(ServiceExtensionContext context) {
+                throw new EdcException("initialization failed");
+            }
+        };
+
+        var context = new DefaultServiceExtensionContext(new TypeManager(), mock(Monitor.class), null, List.of());
+        var list = createInjectionContainers(createList(failing));
+
+        assertThatThrownBy(() -> ExtensionLoader.bootServiceExtensions(list, context, 4))
+                .isInstanceOf(EdcException.class)
+                .hasMessage("initialization failed");
+    }
+
     @SafeVarargs
     private <T> List<T> mutableListOf(T... elements) {
         return new ArrayList<>(List.of(elements));
@@ -432,6 +488,20 @@ class ExtensionLoaderTest {
         private AnotherObject obj;
     }
 
+    private static class TestObjectDependentExtension implements ServiceExtension {
+        @Inject
+        private TestObject testObject;
+    }
+
+    private static class StartRecordingExtension implements ServiceExtension {
+        private volatile boolean started;
+
+        @Override
+        public void start() {
+            started = true;
+        }
+    }
+
     private static class SomeObject {
     }
 
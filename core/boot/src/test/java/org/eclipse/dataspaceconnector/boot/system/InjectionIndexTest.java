@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.boot.system;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspaceconnector.boot.system.testextensions.DefaultProviderExtension;
+import org.eclipse.dataspaceconnector.boot.system.testextensions.RequiredDependentExtension;
+import org.eclipse.dataspaceconnector.spi.system.injection.ExtensionMetadata;
+import org.eclipse.dataspaceconnector.spi.system.injection.InjectionContainer;
+import org.eclipse.dataspaceconnector.spi.system.injection.InjectionPoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.eclipse.dataspaceconnector.boot.system.TestFunctions.createList;
+
+class InjectionIndexTest {
+
+    @Test
+    void getInjectionPoints() {
+        var extension = new RequiredDependentExtension();
+        var index = new InjectionIndex(List.of(ExtensionMetadata.Builder.newInstance()
+                .type(RequiredDependentExtension.class.getName())
+                .injectedField(new ExtensionMetadata.InjectedField("testObject", TestObject.class.getName(), true))
+                .build()));
+
+        var injectionPoints = index.getInjectionPoints(extension);
+
+        assertThat(injectionPoints).hasValueSatisfying(points -> assertThat(points)
+                .extracting(InjectionPoint::getFeatureName, InjectionPoint::isRequired)
+                .containsExactly(tuple(TestObject.class.getName(), true)));
+    }
+
+    @Test
+    void getInjectionPoints_whenStale_shouldBeEmpty() {
+        var index = new InjectionIndex(List.of(ExtensionMetadata.Builder.newInstance()
+                .type(RequiredDependentExtension.class.getName())
+                .injectedField(new ExtensionMetadata.InjectedField("renamed", TestObject.class.getName(), true))
+                .build()));
+
+        assertThat(index.getInjectionPoints(new RequiredDependentExtension())).isEmpty();
+    }
+
+    @Test
+    void getProviderMethodScanner_whenStale_shouldBeEmpty() {
+        var index = new InjectionIndex(List.of(ExtensionMetadata.Builder.newInstance()
+                .type(DefaultProviderExtension.class.getName())
+                .providerMethod(new ExtensionMetadata.ProviderMethodMetadata("renamed", TestObject.class.getName(), true, false, false))
+                .build()));
+
+        assertThat(index.getProviderMethodScanner(new DefaultProviderExtension())).isEmpty();
+    }
+
+    @Test
+    void load_concatenatedIndexes(@TempDir Path tempDir) throws IOException {
+        var mapper = new ObjectMapper();
+        var first = ExtensionMetadata.Builder.newInstance()
+                .type(RequiredDependentExtension.class.getName())
+                .injectedField(new ExtensionMetadata.InjectedField("testObject", TestObject.class.getName(), true))
+                .build();
+        var second = ExtensionMetadata.Builder.newInstance()
+                .type(DefaultProviderExtension.class.getName())
+                .providerMethod(new ExtensionMetadata.ProviderMethodMetadata("testObject", TestObject.class.getName(), true, false, false))
+                .build();
+        var resource = tempDir.resolve(ExtensionMetadata.INDEX_RESOURCE);
+        Files.createDirectories(resource.getParent());
+        Files.writeString(resource, mapper.writeValueAsString(List.of(first)) + "\n" + mapper.writeValueAsString(List.of(second)) + "\n");
+
+        try (var classLoader = new URLClassLoader(new URL[]{ tempDir.toUri().toURL() }, null)) {
+            var index = InjectionIndex.load(classLoader);
+
+            assertThat(index.getInjectionPoints(new RequiredDependentExtension())).isPresent();
+            assertThat(index.getProviderMethodScanner(new DefaultProviderExtension())).isPresent();
+        }
+    }
+
+    @Test
+    void getProviderMethodScanner() {
+        var extension = new DefaultProviderExtension();
+        var index = new InjectionIndex(List.of(ExtensionMetadata.Builder.newInstance()
+                .type(DefaultProviderExtension.class.getName())
+                .providerMethod(new ExtensionMetadata.ProviderMethodMetadata("testObject", TestObject.class.getName(), true, false, false))
+                .build()));
+
+        var scanner = index.getProviderMethodScanner(extension);
+
+        assertThat(scanner).hasValueSatisfying(s -> {
+            assertThat(s.defaultProviders()).hasSize(1);
+            assertThat(s.nonDefaultProviders()).isEmpty();
+        });
+    }
+
+    @Test
+    void notIndexed_shouldBeEmpty() {
+        var index = InjectionIndex.empty();
+        var extension = new RequiredDependentExtension();
+
+        assertThat(index.getInjectionPoints(extension)).isEmpty();
+        assertThat(index.getProviderMethodScanner(extension)).isEmpty();
+        assertThat(index.getProvidedFeatures(extension)).isEmpty();
+        assertThat(index.getRequiredFeatures(extension)).isEmpty();
+    }
+
+    @Test
+    void dependencyGraph_shouldUseIndex() {
+        var provider = new DefaultProviderExtension();
+        var dependent = new RequiredDependentExtension();
+        var index = new InjectionIndex(List.of(
+                ExtensionMetadata.Builder.newInstance()
+                        .type(DefaultProviderExtension.class.getName())
+                        .providerMethod(new ExtensionMetadata.ProviderMethodMetadata("testObject", TestObject.class.getName(), true, false, false))
+                        .build(),
+                ExtensionMetadata.Builder.newInstance()
+                        .type(RequiredDependentExtension.class.getName())
+                        .injectedField(new ExtensionMetadata.InjectedField("testObject", TestObject.class.getName(), true))
+                        .build()));
+
+        var containers = new DependencyGraph(index).of(createList(dependent, provider));
+
+        var dependentContainer = containers.stream().filter(c -> c.getInjectionTarget() == dependent).findFirst().orElseThrow();
+        assertThat(dependentContainer.getInjectionPoints()).hasSize(1);
+        assertThat(dependentContainer.getDependencies()).contains(provider);
+        assertThat(containers).extracting(InjectionContainer::getInjectionTarget).containsSubsequence(provider, dependent);
+    }
+}
@@ -101,6 +101,23 @@ class RegistrationPhaseTest extends PhaseTest {
         verify(context, never()).registerService(eq(TestService.class), isA(TestService.class));
     }
 
+    @Test
+    void registerProviders_withProvider_isLazy_notInvoked() {
+        var scannerMock = mock(ProviderMethodScanner.class);
+        var providerMethod = mock(ProviderMethod.class);
+        when(providerMethod.isLazy()).thenReturn(true);
+        when(providerMethod.getReturnType()).thenAnswer(a -> TestService.class);
+        when(scannerMock.nonDefaultProviders()).thenReturn(Set.of(providerMethod));
+
+        var rp = new RegistrationPhase(new Phase(injector, container, context, monitor) {
+        }, scannerMock);
+        when(container.getInjectionTarget()).thenReturn(mock(ServiceExtension.class));
+        rp.invokeProviderMethods();
+
+        verify(context).registerLazyService(eq(TestService.class), any());
+        verify(context, never()).registerService(any(), any());
+        verify(providerMethod, never()).invoke(any(), any());
+    }
 
     private static class TestService {
 
@@ -27,6 +27,7 @@ import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.policy.store.PolicyDefinitionStore;
 import org.eclipse.dataspaceconnector.spi.retry.WaitStrategy;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.telemetry.Telemetry;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates;
@@ -52,6 +53,7 @@ public abstract class AbstractContractNegotiationManager {
     protected Clock clock;
     protected Telemetry telemetry;
     protected ExecutorInstrumentation executorInstrumentation;
+    protected MetricsInstrumentation metricsInstrumentation;
     protected int batchSize = 5;
     protected WaitStrategy waitStrategy = () -> 5000L;  // default wait five seconds
     protected PolicyDefinitionStore policyStore;
@@ -73,6 +75,7 @@ public abstract class AbstractContractNegotiationManager {
             this.manager.clock = Clock.systemUTC(); // default implementation
             this.manager.telemetry = new Telemetry(); // default noop implementation
             this.manager.executorInstrumentation = ExecutorInstrumentation.noop(); // default noop implementation
+            this.manager.metricsInstrumentation = MetricsInstrumentation.noop(); // default noop implementation
         }
 
         public Builder<T> validationService(ContractValidationService validationService) {
@@ -125,6 +128,11 @@ public abstract class AbstractContractNegotiationManager {
             return this;
         }
 
+        public Builder<T> metricsInstrumentation(MetricsInstrumentation metricsInstrumentation) {
+            manager.metricsInstrumentation = metricsInstrumentation;
+            return this;
+        }
+
         public Builder<T> observable(ContractNegotiationObservable observable) {
             manager.observable = observable;
             return this;
@@ -155,6 +163,7 @@ public abstract class AbstractContractNegotiationManager {
             Objects.requireNonNull(manager.clock, "clock");
             Objects.requireNonNull(manager.telemetry, "telemetry");
             Objects.requireNonNull(manager.executorInstrumentation, "executorInstrumentation");
+            Objects.requireNonNull(manager.metricsInstrumentation, "metricsInstrumentation");
             Objects.requireNonNull(manager.negotiationStore, "store");
             Objects.requireNonNull(manager.policyStore, "policyStore");
             Objects.requireNonNull(manager.sendRetryManager, "sendRetryManager");
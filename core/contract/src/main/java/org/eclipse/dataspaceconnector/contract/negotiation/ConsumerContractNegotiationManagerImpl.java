@@ -20,6 +20,7 @@ package org.eclipse.dataspaceconnector.contract.negotiation;
 import io.opentelemetry.extension.annotations.WithSpan;
 import org.eclipse.dataspaceconnector.common.statemachine.StateMachineManager;
 import org.eclipse.dataspaceconnector.common.statemachine.StateProcessorImpl;
+import org.eclipse.dataspaceconnector.common.statemachine.StateProcessorMetrics;
 import org.eclipse.dataspaceconnector.contract.common.ContractId;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.ConsumerContractNegotiationManager;
@@ -61,11 +62,13 @@ import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiati
 public class ConsumerContractNegotiationManagerImpl extends AbstractContractNegotiationManager implements ConsumerContractNegotiationManager {
 
     private StateMachineManager stateMachineManager;
+    private StateProcessorMetrics stateProcessorMetrics;
 
     private ConsumerContractNegotiationManagerImpl() {
     }
 
     public void start() {
+        stateProcessorMetrics = new StateProcessorMetrics("consumer-contract-negotiation", metricsInstrumentation);
         stateMachineManager = StateMachineManager.Builder.newInstance("consumer-contract-negotiation", monitor, executorInstrumentation, waitStrategy)
                 .processor(processNegotiationsInState(INITIAL, this::processInitial))
                 .processor(processNegotiationsInState(REQUESTING, this::processRequesting))
@@ -479,7 +482,8 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
     }
 
     private StateProcessorImpl<ContractNegotiation> processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, Boolean> function) {
-        return new StateProcessorImpl<>(() -> negotiationStore.nextForState(state.code(), batchSize), telemetry.contextPropagationMiddleware(function));
+        var functionWithTraceContext = telemetry.contextPropagationMiddleware(stateProcessorMetrics.process(state.name(), function));
+        return new StateProcessorImpl<>(stateProcessorMetrics.entities(state.name(), () -> negotiationStore.nextForState(state.code(), batchSize)), functionWithTraceContext);
     }
 
     private StateProcessorImpl<ContractNegotiationCommand> onCommands(Function<ContractNegotiationCommand, Boolean> process) {
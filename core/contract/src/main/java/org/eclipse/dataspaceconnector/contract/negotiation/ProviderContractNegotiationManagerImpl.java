@@ -20,6 +20,7 @@ package org.eclipse.dataspaceconnector.contract.negotiation;
 import io.opentelemetry.extension.annotations.WithSpan;
 import org.eclipse.dataspaceconnector.common.statemachine.StateMachineManager;
 import org.eclipse.dataspaceconnector.common.statemachine.StateProcessorImpl;
+import org.eclipse.dataspaceconnector.common.statemachine.StateProcessorMetrics;
 import org.eclipse.dataspaceconnector.contract.common.ContractId;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.ProviderContractNegotiationManager;
@@ -55,6 +56,7 @@ import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiati
 public class ProviderContractNegotiationManagerImpl extends AbstractContractNegotiationManager implements ProviderContractNegotiationManager {
 
     private StateMachineManager stateMachineManager;
+    private StateProcessorMetrics stateProcessorMetrics;
 
     private ProviderContractNegotiationManagerImpl() {
     }
@@ -64,6 +66,7 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
     //TODO validate previous offers against hash?
 
     public void start() {
+        stateProcessorMetrics = new StateProcessorMetrics("provider-contract-negotiation", metricsInstrumentation);
         stateMachineManager = StateMachineManager.Builder.newInstance("provider-contract-negotiation", monitor, executorInstrumentation, waitStrategy)
                 .processor(processNegotiationsInState(PROVIDER_OFFERING, this::processProviderOffering))
                 .processor(processNegotiationsInState(DECLINING, this::processDeclining))
@@ -250,7 +253,8 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
     }
 
     private StateProcessorImpl<ContractNegotiation> processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, Boolean> function) {
-        return new StateProcessorImpl<>(() -> negotiationStore.nextForState(state.code(), batchSize), telemetry.contextPropagationMiddleware(function));
+        var functionWithTraceContext = telemetry.contextPropagationMiddleware(stateProcessorMetrics.process(state.name(), function));
+        return new StateProcessorImpl<>(stateProcessorMetrics.entities(state.name(), () -> negotiationStore.nextForState(state.code(), batchSize)), functionWithTraceContext);
     }
 
     private StateProcessorImpl<ContractNegotiationCommand> onCommands(Function<ContractNegotiationCommand, Boolean> process) {
@@ -27,6 +27,7 @@ import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -82,7 +83,18 @@ public class InMemoryAssetIndex implements AssetIndex, DataAddressResolver, Asse
                 result = cache.values().stream();
             }
 
-            // ... then sort
+            // ... then page by id if a cursor is given ...
+            var cursorKey = querySpec.getCursorKey();
+            if (cursorKey != null) {
+                var ascending = querySpec.getSortOrder() == SortOrder.ASC;
+                if (!cursorKey.isEmpty()) {
+                    result = result.filter(asset -> ascending ? asset.getId().compareTo(cursorKey) > 0 : asset.getId().compareTo(cursorKey) < 0);
+                }
+                Comparator<Asset> byId = Comparator.comparing(Asset::getId);
+                return result.sorted(ascending ? byId : byId.reversed()).limit(querySpec.getLimit());
+            }
+
+            // ... or sort
             var sortField = querySpec.getSortField();
             if (sortField != null) {
                 result = result.sorted((asset1, asset2) -> {
@@ -230,6 +230,30 @@ class InMemoryAssetIndexTest {
         assertThat(all).hasSize(3);
     }
 
+    @Test
+    void findAll_withCursor() {
+        IntStream.range(0, 10)
+                .mapToObj(i -> createAsset("test-asset", "id" + i))
+                .forEach(a -> index.accept(a, createDataAddress(a)));
+
+        var firstPage = index.queryAssets(QuerySpec.Builder.newInstance().cursor("").limit(4).build()).collect(Collectors.toList());
+        assertThat(firstPage).extracting(Asset::getId).containsExactly("id0", "id1", "id2", "id3");
+
+        var cursor = QuerySpec.cursorAfter(firstPage.get(3).getId());
+        var nextPage = index.queryAssets(QuerySpec.Builder.newInstance().cursor(cursor).limit(4).build());
+        assertThat(nextPage).extracting(Asset::getId).containsExactly("id4", "id5", "id6", "id7");
+    }
+
+    @Test
+    void findAll_withCursorDesc() {
+        IntStream.range(0, 10)
+                .mapToObj(i -> createAsset("test-asset", "id" + i))
+                .forEach(a -> index.accept(a, createDataAddress(a)));
+
+        var spec = QuerySpec.Builder.newInstance().cursor(QuerySpec.cursorAfter("id2")).sortOrder(SortOrder.DESC).build();
+        assertThat(index.queryAssets(spec)).extracting(Asset::getId).containsExactly("id1", "id0");
+    }
+
     @Test
     void findAll_withFiltering() {
         var assets = IntStream.range(0, 10)
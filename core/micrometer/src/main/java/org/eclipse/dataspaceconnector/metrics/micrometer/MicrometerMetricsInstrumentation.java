@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.metrics.micrometer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * {@link MetricsInstrumentation} that records timers, counters and gauges in a Micrometer {@link MeterRegistry}.
+ */
+public class MicrometerMetricsInstrumentation implements MetricsInstrumentation {
+    private final MeterRegistry registry;
+
+    public MicrometerMetricsInstrumentation(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public <T> T time(String name, Supplier<T> operation, String... tags) {
+        return registry.timer(name, tags).record(operation);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> timeAsync(String name, Supplier<CompletableFuture<T>> operation, String... tags) {
+        var sample = Timer.start(registry);
+        return operation.get().whenComplete((result, throwable) -> sample.stop(registry.timer(name, tags)));
+    }
+
+    @Override
+    public void record(String name, Duration duration, String... tags) {
+        registry.timer(name, tags).record(duration);
+    }
+
+    @Override
+    public void increment(String name, double amount, String... tags) {
+        registry.counter(name, tags).increment(amount);
+    }
+
+    @Override
+    public void gauge(String name, Supplier<Number> value, String... tags) {
+        Gauge.builder(name, value).tags(tags).strongReference(true).register(registry);
+    }
+}
@@ -25,6 +25,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.FATAL_ERROR;
@@ -54,6 +55,21 @@ public class DataFlowManagerImpl implements DataFlowManager {
         }
     }
 
+    @WithSpan
+    @Override
+    public @NotNull CompletableFuture<StatusResult<Void>> initiateAsync(DataRequest dataRequest, DataAddress contentAddress, Policy policy) {
+        try {
+            return controllers.stream()
+                    .filter(controller -> controller.canHandle(dataRequest, contentAddress))
+                    .findFirst()
+                    .map(controller -> controller.initiateFlowAsync(dataRequest, contentAddress, policy)
+                            .exceptionally(e -> StatusResult.failure(FATAL_ERROR, runtimeException(dataRequest.getId(), e.getLocalizedMessage()))))
+                    .orElseGet(() -> CompletableFuture.completedFuture(StatusResult.failure(FATAL_ERROR, controllerNotFound(dataRequest.getId()))));
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(StatusResult.failure(FATAL_ERROR, runtimeException(dataRequest.getId(), e.getLocalizedMessage())));
+        }
+    }
+
     private String runtimeException(String id, String message) {
         return format("Unable to process data request %s. Data flow controller throws an exception: %s", id, message);
     }
@@ -27,17 +27,32 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedResou
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ResourceDefinition;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.stream.Collectors.toList;
 import static org.eclipse.dataspaceconnector.common.async.AsyncUtils.asyncAllOf;
 
+/**
+ * Dispatches resource definitions and provisioned resources to the first registered {@link Provisioner} that can handle them.
+ * <p>
+ * Provisioners are indexed by the resource definition and provisioned resource types they declare as type arguments, so that
+ * only the provisioners registered for a concrete type are asked whether they can handle an instance of it. Provisioners whose
+ * type arguments cannot be resolved, e.g. because they are declared through a type variable, are candidates for every type.
+ */
 public class ProvisionManagerImpl implements ProvisionManager {
-    private final List<Provisioner<?, ?>> provisioners = new ArrayList<>();
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, List<Provisioner<?, ?>>> provisionersByDefinitionType = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<Provisioner<?, ?>>> provisionersByResourceType = new ConcurrentHashMap<>();
     private final Monitor monitor;
 
     public ProvisionManagerImpl(Monitor monitor) {
@@ -46,7 +61,9 @@ public class ProvisionManagerImpl implements ProvisionManager {
 
     @Override
     public <RD extends ResourceDefinition, PR extends ProvisionedResource> void register(Provisioner<RD, PR> provisioner) {
-        provisioners.add(provisioner);
+        registrations.add(new Registration(provisioner));
+        provisionersByDefinitionType.clear();
+        provisionersByResourceType.clear();
     }
 
     @WithSpan
@@ -69,7 +86,7 @@ public class ProvisionManagerImpl implements ProvisionManager {
     @NotNull
     private CompletableFuture<StatusResult<ProvisionResponse>> provision(ResourceDefinition definition, Policy policy) {
         try {
-            return provisioners.stream()
+            return candidates(provisionersByDefinitionType, definition.getClass(), r -> r.definitionType).stream()
                     .filter(it -> it.canProvision(definition))
                     .findFirst()
                     .map(it -> (Provisioner<ResourceDefinition, ?>) it)
@@ -84,7 +101,7 @@ public class ProvisionManagerImpl implements ProvisionManager {
     @NotNull
     private CompletableFuture<StatusResult<DeprovisionedResource>> deprovision(ProvisionedResource definition, Policy policy) {
         try {
-            return provisioners.stream()
+            return candidates(provisionersByResourceType, definition.getClass(), r -> r.resourceType).stream()
                     .filter(it -> it.canDeprovision(definition))
                     .findFirst()
                     .map(it -> (Provisioner<?, ProvisionedResource>) it)
@@ -112,6 +129,44 @@ public class ProvisionManagerImpl implements ProvisionManager {
             }
         };
     }
-}
 
+    /**
+     * Returns the provisioners registered for the given type in registration order, computing the index entry on first use.
+     */
+    private List<Provisioner<?, ?>> candidates(Map<Class<?>, List<Provisioner<?, ?>>> index, Class<?> type, Function<Registration, Class<?>> declaredType) {
+        return index.computeIfAbsent(type, t -> registrations.stream()
+                .filter(registration -> {
+                    var declared = declaredType.apply(registration);
+                    return declared == null || declared.isAssignableFrom(t);
+                })
+                .map(registration -> registration.provisioner)
+                .collect(toList()));
+    }
+
+    private static class Registration {
+        private final Provisioner<?, ?> provisioner;
+        private final Class<?> definitionType;
+        private final Class<?> resourceType;
+
+        Registration(Provisioner<?, ?> provisioner) {
+            this.provisioner = provisioner;
+            definitionType = typeArgument(provisioner.getClass(), 0);
+            resourceType = typeArgument(provisioner.getClass(), 1);
+        }
 
+        /**
+         * Resolves the type argument of {@link Provisioner} at the given position, or null if it is not declared as a concrete class.
+         */
+        private static Class<?> typeArgument(Class<?> type, int position) {
+            for (var current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Type candidate : current.getGenericInterfaces()) {
+                    if (candidate instanceof ParameterizedType && ((ParameterizedType) candidate).getRawType() == Provisioner.class) {
+                        var argument = ((ParameterizedType) candidate).getActualTypeArguments()[position];
+                        return argument instanceof Class ? (Class<?>) argument : null;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
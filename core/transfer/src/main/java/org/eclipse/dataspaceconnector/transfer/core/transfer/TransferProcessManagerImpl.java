@@ -18,6 +18,7 @@ package org.eclipse.dataspaceconnector.transfer.core.transfer;
 import io.opentelemetry.extension.annotations.WithSpan;
 import org.eclipse.dataspaceconnector.common.statemachine.StateMachineManager;
 import org.eclipse.dataspaceconnector.common.statemachine.StateProcessorImpl;
+import org.eclipse.dataspaceconnector.common.statemachine.StateProcessorMetrics;
 import org.eclipse.dataspaceconnector.common.statemachine.retry.SendRetryManager;
 import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
 import org.eclipse.dataspaceconnector.spi.command.CommandProcessor;
@@ -32,6 +33,7 @@ import org.eclipse.dataspaceconnector.spi.response.StatusResult;
 import org.eclipse.dataspaceconnector.spi.retry.WaitStrategy;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.telemetry.Telemetry;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessManager;
 import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowManager;
@@ -41,6 +43,7 @@ import org.eclipse.dataspaceconnector.spi.transfer.provision.ProvisionManager;
 import org.eclipse.dataspaceconnector.spi.transfer.provision.ResourceManifestGenerator;
 import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessStore;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.BatchStatusChecker;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DeprovisionedResource;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionResponse;
@@ -56,10 +59,16 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.command.Transfer
 
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static java.lang.String.join;
@@ -117,23 +126,28 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
     private Monitor monitor;
     private Telemetry telemetry;
     private ExecutorInstrumentation executorInstrumentation;
+    private MetricsInstrumentation metricsInstrumentation;
+    private StateProcessorMetrics stateProcessorMetrics;
     private StateMachineManager stateMachineManager;
     private DataAddressResolver addressResolver;
     private PolicyArchive policyArchive;
     private SendRetryManager<StatefulEntity> sendRetryManager;
     private Clock clock;
+    // results of the last batched completion check, only accessed from the state machine thread
+    private final Map<String, Boolean> batchCompletion = new HashMap<>();
 
     private TransferProcessManagerImpl() {
     }
 
     public void start() {
+        stateProcessorMetrics = new StateProcessorMetrics("transfer-process", metricsInstrumentation);
         stateMachineManager = StateMachineManager.Builder.newInstance("transfer-process", monitor, executorInstrumentation, waitStrategy)
                 .processor(processTransfersInState(INITIAL, this::processInitial))
                 .processor(processTransfersInState(PROVISIONING, this::processProvisioning))
                 .processor(processTransfersInState(PROVISIONED, this::processProvisioned))
                 .processor(processTransfersInState(REQUESTING, this::processRequesting))
                 .processor(processTransfersInState(REQUESTED, this::processRequested))
-                .processor(processTransfersInState(IN_PROGRESS, this::processInProgress))
+                .processor(processTransfersInState(IN_PROGRESS, () -> checkCompletionInBatch(transferProcessStore.nextForState(IN_PROGRESS.code(), batchSize)), this::processInProgress))
                 .processor(processTransfersInState(DEPROVISIONING, this::processDeprovisioning))
                 .processor(processTransfersInState(DEPROVISIONED, this::processDeprovisioned))
                 .processor(onCommands(this::processCommand))
@@ -374,8 +388,9 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
             }
             return true;
         } else {
-            List<ProvisionedResource> resources = process.getDataRequest().isManagedResources() ? process.getProvisionedResourceSet().getResources() : emptyList();
-            if (checker.isComplete(process, resources)) {
+            var batchResult = batchCompletion.remove(process.getId());
+            var complete = batchResult != null ? batchResult : checker.isComplete(process, resourcesToCheck(process));
+            if (complete) {
                 transitionToCompleted(process);
                 return true;
             } else {
@@ -551,8 +566,44 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
     }
 
     private StateProcessorImpl<TransferProcess> processTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
-        var functionWithTraceContext = telemetry.contextPropagationMiddleware(function);
-        return new StateProcessorImpl<>(() -> transferProcessStore.nextForState(state.code(), batchSize), functionWithTraceContext);
+        return processTransfersInState(state, () -> transferProcessStore.nextForState(state.code(), batchSize), function);
+    }
+
+    private StateProcessorImpl<TransferProcess> processTransfersInState(TransferProcessStates state, Supplier<Collection<TransferProcess>> entities, Function<TransferProcess, Boolean> function) {
+        var functionWithTraceContext = telemetry.contextPropagationMiddleware(stateProcessorMetrics.process(state.name(), function));
+        return new StateProcessorImpl<>(stateProcessorMetrics.entities(state.name(), entities), functionWithTraceContext);
+    }
+
+    /**
+     * Checks the completion of the consumer processes whose {@link org.eclipse.dataspaceconnector.spi.types.domain.transfer.StatusChecker}
+     * is a {@link BatchStatusChecker} with one call per destination type, instead of one call per process. The results are
+     * consumed by {@link #processInProgress(TransferProcess)}. If a batched check fails, the processes are checked one by one.
+     */
+    private Collection<TransferProcess> checkCompletionInBatch(List<TransferProcess> processes) {
+        batchCompletion.clear();
+        var byDestinationType = processes.stream()
+                .filter(process -> process.getType() == CONSUMER)
+                .collect(Collectors.groupingBy(process -> process.getDataRequest().getDestinationType()));
+
+        byDestinationType.forEach((destinationType, group) -> {
+            var checker = statusCheckerRegistry.resolve(destinationType);
+            if (!(checker instanceof BatchStatusChecker) || group.size() < 2) {
+                return;
+            }
+            var resources = new LinkedHashMap<TransferProcess, List<ProvisionedResource>>();
+            group.forEach(process -> resources.put(process, resourcesToCheck(process)));
+            try {
+                var completed = ((BatchStatusChecker) checker).completed(resources);
+                group.forEach(process -> batchCompletion.put(process.getId(), completed.contains(process.getId())));
+            } catch (Exception e) {
+                monitor.warning(format("Batched completion check failed for destination type %s, checking processes one by one", destinationType), e);
+            }
+        });
+        return processes;
+    }
+
+    private List<ProvisionedResource> resourcesToCheck(TransferProcess process) {
+        return process.getDataRequest().isManagedResources() ? process.getProvisionedResourceSet().getResources() : emptyList();
     }
 
     private StateProcessorImpl<TransferProcessCommand> onCommands(Function<TransferProcessCommand, Boolean> process) {
@@ -590,8 +641,17 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
 
         var policy = policyArchive.findPolicyForContract(dataRequest.getContractId());
 
-        var response = dataFlowManager.initiate(dataRequest, contentAddress, policy);
+        dataFlowManager.initiateAsync(dataRequest, contentAddress, policy)
+                .whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        transitionToError(process.getId(), throwable, "Error initiating data flow");
+                    } else {
+                        handleDataFlowResponse(process, response);
+                    }
+                });
+    }
 
+    private void handleDataFlowResponse(TransferProcess process, StatusResult<Void> response) {
         if (response.succeeded()) {
             process.transitionInProgressOrStreaming();
             updateTransferProcess(process, l -> l.preInProgress(process));
@@ -670,6 +730,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
             manager = new TransferProcessManagerImpl();
             manager.telemetry = new Telemetry(); // default noop implementation
             manager.executorInstrumentation = ExecutorInstrumentation.noop(); // default noop implementation
+            manager.metricsInstrumentation = MetricsInstrumentation.noop(); // default noop implementation
         }
 
         public static Builder newInstance() {
@@ -731,6 +792,11 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
             return this;
         }
 
+        public Builder metricsInstrumentation(MetricsInstrumentation metricsInstrumentation) {
+            manager.metricsInstrumentation = metricsInstrumentation;
+            return this;
+        }
+
         public Builder clock(Clock clock) {
             manager.clock = clock;
             return this;
@@ -783,6 +849,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
             Objects.requireNonNull(manager.dispatcherRegistry, "dispatcherRegistry cannot be null");
             Objects.requireNonNull(manager.monitor, "monitor cannot be null");
             Objects.requireNonNull(manager.executorInstrumentation, "executorInstrumentation cannot be null");
+            Objects.requireNonNull(manager.metricsInstrumentation, "metricsInstrumentation cannot be null");
             Objects.requireNonNull(manager.commandQueue, "commandQueue cannot be null");
             Objects.requireNonNull(manager.commandRunner, "commandRunner cannot be null");
             Objects.requireNonNull(manager.statusCheckerRegistry, "statusCheckerRegistry cannot be null!");
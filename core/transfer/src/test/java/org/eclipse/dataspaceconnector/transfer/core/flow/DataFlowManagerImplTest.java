@@ -23,6 +23,7 @@ import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
 import org.junit.jupiter.api.Test;
 
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.FATAL_ERROR;
 import static org.mockito.ArgumentMatchers.any;
@@ -86,4 +87,36 @@ class DataFlowManagerImplTest {
         assertThat(response.getFailure().status()).isEqualTo(FATAL_ERROR);
         assertThat(response.getFailureMessages()).hasSize(1).first().matches(message -> message.contains(errorMsg));
     }
+
+    @Test
+    void initiateAsync_shouldReturnFatalError_whenFlowCompletesExceptionally() {
+        var manager = new DataFlowManagerImpl();
+        var controller = mock(DataFlowController.class);
+        var dataRequest = DataRequest.Builder.newInstance().destinationType(FAKER.lorem().word()).build();
+        var dataAddress = DataAddress.Builder.newInstance().type(FAKER.lorem().word()).build();
+        var policy = Policy.Builder.newInstance().build();
+
+        var errorMsg = FAKER.lorem().sentence();
+        when(controller.canHandle(any(), any())).thenReturn(true);
+        when(controller.initiateFlowAsync(any(), any(), any())).thenReturn(failedFuture(new EdcException(errorMsg)));
+        manager.register(controller);
+
+        var response = manager.initiateAsync(dataRequest, dataAddress, policy).join();
+
+        assertThat(response.succeeded()).isFalse();
+        assertThat(response.getFailure().status()).isEqualTo(FATAL_ERROR);
+        assertThat(response.getFailureMessages()).hasSize(1).first().matches(message -> message.contains(errorMsg));
+    }
+
+    @Test
+    void initiateAsync_shouldReturnFatalError_whenNoControllerCanHandleTheRequest() {
+        var manager = new DataFlowManagerImpl();
+        var dataRequest = DataRequest.Builder.newInstance().destinationType(FAKER.lorem().word()).build();
+        var dataAddress = DataAddress.Builder.newInstance().type(FAKER.lorem().word()).build();
+
+        var response = manager.initiateAsync(dataRequest, dataAddress, Policy.Builder.newInstance().build()).join();
+
+        assertThat(response.succeeded()).isFalse();
+        assertThat(response.getFailure().status()).isEqualTo(FATAL_ERROR);
+    }
 }
@@ -23,6 +23,7 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DeprovisionedRes
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionResponse;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedDataDestinationResource;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedResource;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ResourceDefinition;
 import org.eclipse.dataspaceconnector.transfer.core.TestProvisionedDataDestinationResource;
 import org.eclipse.dataspaceconnector.transfer.core.TestResourceDefinition;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,8 +36,11 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ProvisionManagerImplTest {
@@ -142,7 +146,46 @@ class ProvisionManagerImplTest {
                 .withMessageContaining("error");
     }
 
+    @Test
+    void provision_should_only_ask_provisioners_declared_for_the_definition_type() {
+        var otherProvisioner = mock(OtherProvisioner.class);
+        provisionManager.register(otherProvisioner);
+        when(provisioner.canProvision(isA(TestResourceDefinition.class))).thenReturn(false);
+        when(otherProvisioner.canProvision(any())).thenReturn(true);
+
+        var result = provisionManager.provision(List.of(new TestResourceDefinition()), policy);
+
+        assertThat(result).failsWithin(1, SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withMessageContaining("Unknown provision type");
+        verify(otherProvisioner, never()).canProvision(any());
+    }
+
+    @Test
+    void deprovision_should_only_ask_provisioners_declared_for_the_resource_type() {
+        var otherProvisioner = mock(OtherProvisioner.class);
+        provisionManager.register(otherProvisioner);
+        when(provisioner.canDeprovision(isA(ProvisionedResource.class))).thenReturn(false);
+        when(otherProvisioner.canDeprovision(any())).thenReturn(true);
+
+        var result = provisionManager.deprovision(List.of(new TestProvisionedResource()), policy);
+
+        assertThat(result).failsWithin(1, SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withMessageContaining("Unknown provision type");
+        verify(otherProvisioner, never()).canDeprovision(any());
+    }
+
     private static class TestProvisionedResource extends ProvisionedResource {
     }
 
+    private static class OtherResourceDefinition extends ResourceDefinition {
+    }
+
+    private static class OtherProvisionedResource extends ProvisionedResource {
+    }
+
+    private abstract static class OtherProvisioner implements Provisioner<OtherResourceDefinition, OtherProvisionedResource> {
+    }
+
 }
@@ -41,6 +41,7 @@ import org.eclipse.dataspaceconnector.spi.transfer.provision.ResourceManifestGen
 import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessStore;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.BatchStatusChecker;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DeprovisionedResource;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionResponse;
@@ -64,6 +65,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 
@@ -361,7 +363,7 @@ class TransferProcessManagerImplTest {
         when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
         when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
         when(transferProcessStore.nextForState(eq(PROVISIONED.code()), anyInt())).thenReturn(List.of(process)).thenReturn(emptyList());
-        when(dataFlowManager.initiate(any(), any(), any())).thenReturn(StatusResult.success());
+        when(dataFlowManager.initiateAsync(any(), any(), any())).thenReturn(completedFuture(StatusResult.success()));
 
         manager.start();
 
@@ -529,6 +531,47 @@ class TransferProcessManagerImplTest {
         });
     }
 
+    @Test
+    @DisplayName("checkComplete: should check processes in one call if checker supports batches")
+    void verifyCompleted_batchStatusChecker() {
+        var completed = createTransferProcess(IN_PROGRESS);
+        var notCompleted = createTransferProcess(IN_PROGRESS);
+        var checker = mock(BatchStatusChecker.class);
+        when(checker.completed(any())).thenReturn(Set.of(completed.getId()));
+
+        when(transferProcessStore.nextForState(eq(IN_PROGRESS.code()), anyInt())).thenReturn(List.of(completed, notCompleted)).thenReturn(emptyList());
+        when(statusCheckerRegistry.resolve(anyString())).thenReturn(checker);
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(checker).completed(argThat(processes -> processes.size() == 2));
+            verify(checker, never()).isComplete(any(), any());
+            verify(transferProcessStore).update(argThat(p -> p.getId().equals(completed.getId()) && p.getState() == COMPLETED.code()));
+            verify(transferProcessStore).update(argThat(p -> p.getId().equals(notCompleted.getId()) && p.getState() == IN_PROGRESS.code()));
+        });
+    }
+
+    @Test
+    @DisplayName("checkComplete: should check processes one by one if batched check fails")
+    void verifyCompleted_batchStatusCheckerFails() {
+        var process = createTransferProcess(IN_PROGRESS);
+        var otherProcess = createTransferProcess(IN_PROGRESS);
+        var checker = mock(BatchStatusChecker.class);
+        when(checker.completed(any())).thenThrow(new EdcException("error"));
+        when(checker.isComplete(any(), any())).thenReturn(true);
+
+        when(transferProcessStore.nextForState(eq(IN_PROGRESS.code()), anyInt())).thenReturn(List.of(process, otherProcess)).thenReturn(emptyList());
+        when(statusCheckerRegistry.resolve(anyString())).thenReturn(checker);
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(checker, times(2)).isComplete(any(), any());
+            verify(transferProcessStore, times(2)).update(argThat(p -> p.getState() == COMPLETED.code()));
+        });
+    }
+
     @Test
     @DisplayName("checkComplete: should not transition process with managed resources but no status checker")
     void verifyCompleted_noCheckerForManaged() {
@@ -27,9 +27,11 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.dataspaceconnector.ids.api.multipart.handler.Handler;
 import org.eclipse.dataspaceconnector.ids.api.multipart.message.MultipartRequest;
 import org.eclipse.dataspaceconnector.ids.api.multipart.message.MultipartResponse;
+import org.eclipse.dataspaceconnector.ids.api.multipart.message.StreamingPayload;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.iam.IdentityService;
 import org.eclipse.dataspaceconnector.spi.iam.TokenParameters;
@@ -182,7 +184,8 @@ public class MultipartController {
     }
     
     /**
-     * Builds a form-data multipart body with the given header and payload.
+     * Builds a form-data multipart body with the given header and payload. A {@link StreamingPayload} is serialized
+     * while the response is written.
      *
      * @param header the header.
      * @param payload the payload.
@@ -194,7 +197,11 @@ public class MultipartController {
             multiPart.bodyPart(new FormDataBodyPart(HEADER, toJson(header), MediaType.APPLICATION_JSON_TYPE));
         }
 
-        if (payload != null) {
+        if (payload instanceof StreamingPayload) {
+            var streamingPayload = (StreamingPayload) payload;
+            StreamingOutput output = outputStream -> streamingPayload.writeTo(outputStream, objectMapper);
+            multiPart.bodyPart(new FormDataBodyPart(PAYLOAD, output, MediaType.APPLICATION_JSON_TYPE));
+        } else if (payload != null) {
             multiPart.bodyPart(new FormDataBodyPart(PAYLOAD, toJson(payload), MediaType.APPLICATION_JSON_TYPE));
         }
 
@@ -21,9 +21,9 @@ import de.fraunhofer.iais.eis.DescriptionRequestMessage;
 import de.fraunhofer.iais.eis.ModelClass;
 import de.fraunhofer.iais.eis.Representation;
 import de.fraunhofer.iais.eis.Resource;
-import de.fraunhofer.iais.eis.ResourceCatalog;
 import org.eclipse.dataspaceconnector.ids.api.multipart.message.MultipartRequest;
 import org.eclipse.dataspaceconnector.ids.api.multipart.message.MultipartResponse;
+import org.eclipse.dataspaceconnector.ids.api.multipart.message.StreamingResourceCatalog;
 import org.eclipse.dataspaceconnector.ids.spi.IdsId;
 import org.eclipse.dataspaceconnector.ids.spi.IdsType;
 import org.eclipse.dataspaceconnector.ids.spi.service.CatalogService;
@@ -105,6 +105,13 @@ public class DescriptionRequestHandler implements Handler {
         var to = getInt(message, Range.TO, Integer.MAX_VALUE);
         var range = new Range(from, to);
     
+        // The catalog is streamed, as it may contain a large number of offers
+        if (idsId != null && idsId.getType() == IdsType.CATALOG) {
+            var contractOffers = catalogService.streamContractOffers(claimToken, range);
+            var catalog = new StreamingResourceCatalog(catalogService.getDataCatalogId(), contractOffers, transformerRegistry, monitor);
+            return createMultipartResponse(descriptionResponse(message, connectorId), catalog);
+        }
+
         // Retrieve and transform requested element
         Result<? extends ModelClass> result;
         if (idsId == null || (idsId.getType() == IdsType.CONNECTOR)) {
@@ -138,7 +145,7 @@ public class DescriptionRequestHandler implements Handler {
     
     /**
      * Retrieves the requested element specified by the IdsId. If the requested element is a
-     * catalog or resource, the given range is used.
+     * resource, the given range is used.
      *
      * @param idsId the ID.
      * @param claimToken the claim token of the requesting connector.
@@ -151,8 +158,6 @@ public class DescriptionRequestHandler implements Handler {
             case ARTIFACT:
             case REPRESENTATION:
                 return assetIndex.findById(idsId.getValue());
-            case CATALOG:
-                return catalogService.getDataCatalog(claimToken, range);
             case RESOURCE:
                 var assetId = idsId.getValue();
                 var asset = assetIndex.findById(assetId);
@@ -183,8 +188,6 @@ public class DescriptionRequestHandler implements Handler {
         switch (type) {
             case ARTIFACT:
                 return transformerRegistry.transform(object, Artifact.class);
-            case CATALOG:
-                return transformerRegistry.transform(object, ResourceCatalog.class);
             case REPRESENTATION:
                 return transformerRegistry.transform(object, Representation.class);
             case RESOURCE:
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A multipart response payload that is serialized while the response is written, instead of being materialized in memory
+ * beforehand.
+ */
+@FunctionalInterface
+public interface StreamingPayload {
+
+    /**
+     * Writes the payload as JSON.
+     *
+     * @param outputStream the stream to write to, must not be closed by the implementation.
+     * @param objectMapper the mapper used for IDS serialization.
+     * @throws IOException if writing fails.
+     */
+    void writeTo(OutputStream outputStream, ObjectMapper objectMapper) throws IOException;
+}
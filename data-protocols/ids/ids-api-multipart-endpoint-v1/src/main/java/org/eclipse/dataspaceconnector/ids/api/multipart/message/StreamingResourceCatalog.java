@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart.message;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import de.fraunhofer.iais.eis.Resource;
+import de.fraunhofer.iais.eis.ResourceCatalog;
+import org.eclipse.dataspaceconnector.ids.spi.transform.IdsTransformerRegistry;
+import org.eclipse.dataspaceconnector.ids.spi.types.container.OfferedAsset;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+
+/**
+ * Serializes an IDS {@link ResourceCatalog} without materializing it. The contract offers are consumed lazily, transformed
+ * one asset at a time and written with the Jackson streaming generator, so that the memory needed for a catalog response
+ * does not grow with the number of offers.
+ * <p>
+ * Consecutive offers of the same asset are grouped into a single {@link Resource}. An asset that is offered by several
+ * contract definitions may therefore be listed more than once, each time with a subset of its offers. A resource that
+ * cannot be transformed is skipped, as the response header has already been sent at that point.
+ * <p>
+ * The catalog properties other than the offered resources are obtained by transforming a catalog that contains a single
+ * placeholder offer, whose resource is replaced by the streamed resources while writing.
+ */
+public class StreamingResourceCatalog implements StreamingPayload {
+    private static final String ID_PROPERTY = "@id";
+
+    private final String catalogId;
+    private final Stream<ContractOffer> contractOffers;
+    private final IdsTransformerRegistry transformerRegistry;
+    private final Monitor monitor;
+
+    public StreamingResourceCatalog(@NotNull String catalogId,
+                                    @NotNull Stream<ContractOffer> contractOffers,
+                                    @NotNull IdsTransformerRegistry transformerRegistry,
+                                    @NotNull Monitor monitor) {
+        this.catalogId = Objects.requireNonNull(catalogId);
+        this.contractOffers = Objects.requireNonNull(contractOffers);
+        this.transformerRegistry = Objects.requireNonNull(transformerRegistry);
+        this.monitor = Objects.requireNonNull(monitor);
+    }
+
+    public String getCatalogId() {
+        return catalogId;
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        try (contractOffers) {
+            var placeholderOffer = placeholderOffer();
+            var shell = transformerRegistry.transform(Catalog.Builder.newInstance().id(catalogId).contractOffers(List.of(placeholderOffer)).build(), ResourceCatalog.class);
+            if (shell.failed() || shell.getContent().getOfferedResource() == null || shell.getContent().getOfferedResource().size() != 1) {
+                throw new EdcException(format("Could not transform catalog %s: %s", catalogId, shell.failed() ? shell.getFailureMessages() : "missing placeholder resource"));
+            }
+            var placeholderId = shell.getContent().getOfferedResource().get(0).getId().toString();
+
+            try (var generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                var resourceWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+                writeNode(objectMapper.valueToTree(shell.getContent()), placeholderId, generator, resourceWriter);
+            }
+        }
+    }
+
+    /**
+     * Writes the node as is, except for the placeholder resource, which is replaced by the streamed resources.
+     */
+    private void writeNode(JsonNode node, String placeholderId, JsonGenerator generator, ObjectWriter resourceWriter) throws IOException {
+        if (node.isObject()) {
+            generator.writeStartObject();
+            for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+                var field = fields.next();
+                generator.writeFieldName(field.getKey());
+                writeNode(field.getValue(), placeholderId, generator, resourceWriter);
+            }
+            generator.writeEndObject();
+        } else if (node.isArray()) {
+            generator.writeStartArray();
+            for (JsonNode element : node) {
+                if (placeholderId.equals(element.path(ID_PROPERTY).asText(null))) {
+                    writeResources(generator, resourceWriter);
+                } else {
+                    writeNode(element, placeholderId, generator, resourceWriter);
+                }
+            }
+            generator.writeEndArray();
+        } else {
+            generator.writeTree(node);
+        }
+    }
+
+    private void writeResources(JsonGenerator generator, ObjectWriter resourceWriter) throws IOException {
+        Asset asset = null;
+        var offers = new ArrayList<ContractOffer>();
+        for (Iterator<ContractOffer> iterator = contractOffers.iterator(); iterator.hasNext(); ) {
+            var offer = iterator.next();
+            if (asset != null && !asset.getId().equals(offer.getAsset().getId())) {
+                writeResource(new OfferedAsset(asset, offers), generator, resourceWriter);
+                offers = new ArrayList<>();
+            }
+            asset = offer.getAsset();
+            offers.add(offer);
+        }
+        if (asset != null) {
+            writeResource(new OfferedAsset(asset, offers), generator, resourceWriter);
+        }
+    }
+
+    private void writeResource(OfferedAsset offeredAsset, JsonGenerator generator, ObjectWriter resourceWriter) throws IOException {
+        var result = transformerRegistry.transform(offeredAsset, Resource.class);
+        if (result.failed()) {
+            monitor.warning(format("Skipping asset %s in catalog %s: [%s]", offeredAsset.getAsset().getId(), catalogId, String.join(", ", result.getFailureMessages())));
+            return;
+        }
+        resourceWriter.writeValue(generator, result.getContent());
+    }
+
+    private ContractOffer placeholderOffer() {
+        var placeholderId = "placeholder-" + UUID.randomUUID();
+        return ContractOffer.Builder.newInstance()
+                .id(placeholderId)
+                .asset(Asset.Builder.newInstance().id(placeholderId).build())
+                .policy(Policy.Builder.newInstance().build())
+                .build();
+    }
+}
@@ -27,10 +27,9 @@ import de.fraunhofer.iais.eis.Representation;
 import de.fraunhofer.iais.eis.RepresentationBuilder;
 import de.fraunhofer.iais.eis.Resource;
 import de.fraunhofer.iais.eis.ResourceBuilder;
-import de.fraunhofer.iais.eis.ResourceCatalog;
-import de.fraunhofer.iais.eis.ResourceCatalogBuilder;
 import de.fraunhofer.iais.eis.TokenFormat;
 import org.eclipse.dataspaceconnector.ids.api.multipart.message.MultipartRequest;
+import org.eclipse.dataspaceconnector.ids.api.multipart.message.StreamingResourceCatalog;
 import org.eclipse.dataspaceconnector.ids.spi.IdsId;
 import org.eclipse.dataspaceconnector.ids.spi.IdsType;
 import org.eclipse.dataspaceconnector.ids.spi.service.CatalogService;
@@ -45,13 +44,11 @@ import org.eclipse.dataspaceconnector.spi.message.Range;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
-import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
-import java.util.ArrayList;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -136,9 +133,7 @@ class DescriptionRequestHandlerTest {
     }
     
     @Test
-    void handleRequest_catalog_returnDescription() {
-        var catalog = Catalog.Builder.newInstance().id("1").contractOffers(new ArrayList<>()).build();
-        var idsCatalog = new ResourceCatalogBuilder().build();
+    void handleRequest_catalog_returnStreamingDescription() {
         var idsId = IdsId.Builder.newInstance()
                 .type(IdsType.CATALOG)
                 .value("1")
@@ -148,17 +143,19 @@ class DescriptionRequestHandlerTest {
                 .claimToken(ClaimToken.Builder.newInstance().build())
                 .build();
     
-        when(catalogService.getDataCatalog(any(), any())).thenReturn(catalog);
+        when(catalogService.getDataCatalogId()).thenReturn("1");
+        when(catalogService.streamContractOffers(any(), any())).thenReturn(Stream.empty());
         when(transformerRegistry.transform(any(), eq(IdsId.class))).thenReturn(Result.success(idsId));
-        when(transformerRegistry.transform(catalog, ResourceCatalog.class)).thenReturn(Result.success(idsCatalog));
     
         var response = handler.handleRequest(request);
     
         assertThat(response.getHeader()).isNotNull().isInstanceOf(DescriptionResponseMessage.class);
-        assertThat(response.getPayload()).isNotNull().isEqualTo(idsCatalog);
+        assertThat(response.getPayload()).isNotNull().isInstanceOfSatisfying(StreamingResourceCatalog.class,
+                catalog -> assertThat(catalog.getCatalogId()).isEqualTo("1"));
         
         verify(catalogService, times(1))
-                .getDataCatalog(any(), argThat(range -> range.getFrom() == rangeFrom && range.getTo() == rangeTo));
+                .streamContractOffers(any(), argThat(range -> range.getFrom() == rangeFrom && range.getTo() == rangeTo));
+        verify(catalogService).getDataCatalogId();
         verifyNoMoreInteractions(catalogService);
         verifyNoInteractions(connectorService, contractOfferService, assetIndex);
     }
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.fraunhofer.iais.eis.Resource;
+import de.fraunhofer.iais.eis.ResourceBuilder;
+import de.fraunhofer.iais.eis.ResourceCatalog;
+import de.fraunhofer.iais.eis.ResourceCatalogBuilder;
+import org.eclipse.dataspaceconnector.ids.core.serialization.ObjectMapperFactory;
+import org.eclipse.dataspaceconnector.ids.spi.transform.IdsTransformerRegistry;
+import org.eclipse.dataspaceconnector.ids.spi.types.container.OfferedAsset;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StreamingResourceCatalogTest {
+
+    private final IdsTransformerRegistry transformerRegistry = mock(IdsTransformerRegistry.class);
+    private final Monitor monitor = mock(Monitor.class);
+    private final ObjectMapper objectMapper = new ObjectMapperFactory().getObjectMapper();
+    private final List<OfferedAsset> transformedAssets = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(transformerRegistry.transform(any(Catalog.class), eq(ResourceCatalog.class)))
+                .thenAnswer(invocation -> Result.success(toResourceCatalog(invocation.getArgument(0))));
+        when(transformerRegistry.transform(any(OfferedAsset.class), eq(Resource.class))).thenAnswer(invocation -> {
+            OfferedAsset offeredAsset = invocation.getArgument(0);
+            if (offeredAsset.getAsset().getId().equals("broken")) {
+                return Result.failure("cannot transform");
+            }
+            transformedAssets.add(offeredAsset);
+            return Result.success(toResource(offeredAsset.getAsset()));
+        });
+    }
+
+    @Test
+    void writeTo_streamsResources() throws Exception {
+        var offers = Stream.of(offer("o1", "a1"), offer("o2", "a1"), offer("o3", "a2"), offer("o4", "broken"), offer("o5", "a3"));
+        var closed = new AtomicBoolean();
+        var catalog = new StreamingResourceCatalog("catalog", offers.onClose(() -> closed.set(true)), transformerRegistry, monitor);
+
+        var output = new ByteArrayOutputStream();
+        catalog.writeTo(output, objectMapper);
+
+        var expected = new ResourceCatalogBuilder(URI.create("urn:catalog:catalog"))
+                ._offeredResource_(new ArrayList<>(List.of(toResource(asset("a1")), toResource(asset("a2")), toResource(asset("a3")))))
+                .build();
+        assertThat(objectMapper.readTree(output.toByteArray())).isEqualTo(objectMapper.valueToTree(expected));
+        assertThat(transformedAssets.stream().map(a -> a.getAsset().getId()).collect(Collectors.toList()))
+                .containsExactly("a1", "a2", "a3");
+        assertThat(transformedAssets.get(0).getTargetingContractOffers()).extracting(ContractOffer::getId).containsExactly("o1", "o2");
+        assertThat(closed).isTrue();
+        verify(monitor).warning(anyString());
+    }
+
+    @Test
+    void writeTo_noOffers() throws Exception {
+        var catalog = new StreamingResourceCatalog("catalog", Stream.empty(), transformerRegistry, monitor);
+
+        var output = new ByteArrayOutputStream();
+        catalog.writeTo(output, objectMapper);
+
+        var result = objectMapper.readValue(output.toByteArray(), ResourceCatalog.class);
+        assertThat(result.getId()).isEqualTo(URI.create("urn:catalog:catalog"));
+        assertThat(result.getOfferedResource()).isNullOrEmpty();
+    }
+
+    private ResourceCatalog toResourceCatalog(Catalog catalog) {
+        var resources = catalog.getContractOffers().stream()
+                .map(ContractOffer::getAsset)
+                .map(this::toResource)
+                .collect(Collectors.toCollection(ArrayList::new));
+        return new ResourceCatalogBuilder(URI.create("urn:catalog:" + catalog.getId()))._offeredResource_(resources).build();
+    }
+
+    private Resource toResource(Asset asset) {
+        return new ResourceBuilder(URI.create("urn:resource:" + asset.getId())).build();
+    }
+
+    private ContractOffer offer(String id, String assetId) {
+        return ContractOffer.Builder.newInstance()
+                .id(id)
+                .asset(asset(assetId))
+                .policy(Policy.Builder.newInstance().build())
+                .build();
+    }
+
+    private Asset asset(String id) {
+        return Asset.Builder.newInstance().id(id).build();
+    }
+}
@@ -22,9 +22,11 @@ import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
 import org.eclipse.dataspaceconnector.spi.message.Range;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 
@@ -50,10 +52,20 @@ public class CatalogServiceImpl implements CatalogService {
     @Override
     @NotNull
     public Catalog getDataCatalog(ClaimToken claimToken, Range range) {
-        var query = ContractOfferQuery.Builder.newInstance().claimToken(claimToken).build();
+        try (var offers = streamContractOffers(claimToken, range)) {
+            return Catalog.Builder.newInstance().id(dataCatalogId).contractOffers(offers.collect(toList())).build();
+        }
+    }
 
-        var offers = contractOfferService.queryContractOffers(query, range).collect(toList());
+    @Override
+    public @NotNull String getDataCatalogId() {
+        return dataCatalogId;
+    }
+
+    @Override
+    public @NotNull Stream<ContractOffer> streamContractOffers(ClaimToken claimToken, Range range) {
+        var query = ContractOfferQuery.Builder.newInstance().claimToken(claimToken).build();
 
-        return Catalog.Builder.newInstance().id(dataCatalogId).contractOffers(offers).build();
+        return contractOfferService.queryContractOffers(query, range);
     }
 }
@@ -23,51 +23,61 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implements a {@link IdsTransformerRegistry} that recursively dispatches to transformers for type conversion.
+ * <p>
+ * The transformer resolved for a concrete input class and an output type is memoized, so that walking the class hierarchy
+ * only happens on the first transformation of a type. Registering a transformer discards the memoized resolutions.
  */
 public class IdsTransformerRegistryImpl implements IdsTransformerRegistry {
-    private final Map<TransformKey, IdsTypeTransformer<?, ?>> transformers = new HashMap<>();
+    private final Map<TransformKey, IdsTypeTransformer<?, ?>> transformers = new ConcurrentHashMap<>();
+    private volatile ClassValue<Map<Class<?>, IdsTypeTransformer<?, ?>>> resolved = newResolvedCache();
 
     @Override
     public void register(IdsTypeTransformer<?, ?> transformer) {
         Objects.requireNonNull(transformer);
         transformers.put(new TransformKey(transformer.getInputType(), transformer.getOutputType()), transformer);
+        resolved = newResolvedCache();
     }
 
     @Override
     public <INPUT, OUTPUT> Result<OUTPUT> transform(@NotNull INPUT object, @NotNull Class<OUTPUT> outputType) {
         var context = new TransformerContextImpl(this);
         var output = transform(object, outputType, context);
-        return context.hasProblems() ? Result.failure(context.problems) : Result.success(output);
+        return context.hasProblems() ? Result.failure(context.getProblems()) : Result.success(output);
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
     private <INPUT, OUTPUT> @Nullable OUTPUT transform(INPUT object, Class<OUTPUT> outputType, TransformerContext context) {
         Objects.requireNonNull(object);
 
-        IdsTypeTransformer idsTypeTransformer = findEligibleTransformer(object, outputType);
+        // read the cache once: a resolution made while a transformer is registered must only go into the discarded cache
+        var resolutions = resolved.get(object.getClass());
+        IdsTypeTransformer idsTypeTransformer = resolutions.get(outputType);
         if (idsTypeTransformer == null) {
-            throw new EdcException("Transformer not found for pair:" + new TransformKey(object.getClass(), outputType)); // this is a programming error
+            idsTypeTransformer = findEligibleTransformer(object.getClass(), outputType);
+            if (idsTypeTransformer == null) {
+                throw new EdcException("Transformer not found for pair:" + new TransformKey(object.getClass(), outputType)); // this is a programming error
+            }
+            resolutions.put(outputType, idsTypeTransformer);
         }
         return outputType.cast(idsTypeTransformer.transform(object, context));
     }
 
-    @SuppressWarnings({ "unchecked" })
-    private <INPUT, OUTPUT> IdsTypeTransformer<INPUT, OUTPUT> findEligibleTransformer(INPUT object, Class<OUTPUT> outputType) {
-        IdsTypeTransformer<INPUT, OUTPUT> idsTypeTransformer;
+    private IdsTypeTransformer<?, ?> findEligibleTransformer(Class<?> concreteClass, Class<?> outputType) {
+        IdsTypeTransformer<?, ?> idsTypeTransformer;
 
-        Class<?> inputClass = object.getClass();
+        Class<?> inputClass = concreteClass;
         do {
-            idsTypeTransformer = (IdsTypeTransformer<INPUT, OUTPUT>) transformers.get(new TransformKey(inputClass, outputType));
+            idsTypeTransformer = transformers.get(new TransformKey(inputClass, outputType));
             if (idsTypeTransformer == null) {
                 for (Class<?> anInterface : inputClass.getInterfaces()) {
-                    idsTypeTransformer = (IdsTypeTransformer<INPUT, OUTPUT>) transformers.get(new TransformKey(anInterface, outputType));
+                    idsTypeTransformer = transformers.get(new TransformKey(anInterface, outputType));
                     if (idsTypeTransformer != null) {
                         break;
                     }
@@ -80,6 +90,15 @@ public class IdsTransformerRegistryImpl implements IdsTransformerRegistry {
         return idsTypeTransformer;
     }
 
+    private static ClassValue<Map<Class<?>, IdsTypeTransformer<?, ?>>> newResolvedCache() {
+        return new ClassValue<>() {
+            @Override
+            protected Map<Class<?>, IdsTypeTransformer<?, ?>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+
     private static class TransformKey {
         private final Class<?> input;
         private final Class<?> output;
@@ -105,7 +124,7 @@ public class IdsTransformerRegistryImpl implements IdsTransformerRegistry {
 
         @Override
         public int hashCode() {
-            return Objects.hash(input, output);
+            return 31 * input.hashCode() + output.hashCode();
         }
 
         @Override
@@ -118,8 +137,8 @@ public class IdsTransformerRegistryImpl implements IdsTransformerRegistry {
     }
 
     private static class TransformerContextImpl implements TransformerContext {
-        private final List<String> problems = new ArrayList<>();
         private final IdsTransformerRegistryImpl registry;
+        private List<String> problems;
 
         TransformerContextImpl(IdsTransformerRegistryImpl registry) {
             this.registry = registry;
@@ -127,16 +146,19 @@ public class IdsTransformerRegistryImpl implements IdsTransformerRegistry {
 
         @Override
         public boolean hasProblems() {
-            return !problems.isEmpty();
+            return problems != null;
         }
 
         @Override
         public List<String> getProblems() {
-            return problems;
+            return problems == null ? List.of() : problems;
         }
 
         @Override
         public void reportProblem(String problem) {
+            if (problems == null) {
+                problems = new ArrayList<>();
+            }
             problems.add(problem);
         }
 
@@ -25,9 +25,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -66,4 +69,20 @@ class CatalogServiceImplTest {
         verify(contractOfferService).queryContractOffers(any(ContractOfferQuery.class), any());
     }
 
+    @Test
+    void streamContractOffers() {
+        var claimToken = ClaimToken.Builder.newInstance().build();
+        var range = new Range(0, 100);
+        var offer = ContractOffer.Builder.newInstance()
+                .policy(Policy.Builder.newInstance().build())
+                .id("1")
+                .build();
+        when(contractOfferService.queryContractOffers(any(ContractOfferQuery.class), any())).thenReturn(Stream.of(offer));
+
+        var result = dataCatalogService.streamContractOffers(claimToken, range);
+
+        assertThat(result).containsExactly(offer);
+        assertThat(dataCatalogService.getDataCatalogId()).isEqualTo(CATALOG_ID);
+        verify(contractOfferService).queryContractOffers(argThat(query -> query.getClaimToken() == claimToken), eq(range));
+    }
 }
@@ -15,14 +15,17 @@
 package org.eclipse.dataspaceconnector.ids.core.transform;
 
 import org.eclipse.dataspaceconnector.ids.spi.transform.IdsTypeTransformer;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.transformer.TransformerContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -63,6 +66,39 @@ class IdsTransformerRegistryImplTest {
         verify(fooBarTransformer).transform(isA(Foo.class), isA(TransformerContext.class));
     }
 
+    @Test
+    void verifyDispatch_toSuperTypeTransformer() {
+        var fooBarTransformer = createMock(Foo.class, Bar.class);
+        when(fooBarTransformer.transform(isA(Foo.class), isA(TransformerContext.class))).thenReturn(new Bar());
+
+        registry.register(fooBarTransformer);
+
+        assertTrue(registry.transform(new SubFoo(), Bar.class).succeeded());
+        assertTrue(registry.transform(new SubFoo(), Bar.class).succeeded());
+        verify(fooBarTransformer, times(2)).transform(isA(SubFoo.class), isA(TransformerContext.class));
+    }
+
+    @Test
+    void verifyRegister_discardsResolvedTransformers() {
+        var fooBarTransformer = createMock(Foo.class, Bar.class);
+        when(fooBarTransformer.transform(isA(Foo.class), isA(TransformerContext.class))).thenReturn(new Bar());
+        var subFooBarTransformer = createMock(SubFoo.class, Bar.class);
+        when(subFooBarTransformer.transform(isA(SubFoo.class), isA(TransformerContext.class))).thenReturn(new Bar());
+
+        registry.register(fooBarTransformer);
+        registry.transform(new SubFoo(), Bar.class);
+        registry.register(subFooBarTransformer);
+        registry.transform(new SubFoo(), Bar.class);
+
+        verify(fooBarTransformer, times(1)).transform(isA(SubFoo.class), isA(TransformerContext.class));
+        verify(subFooBarTransformer, times(1)).transform(isA(SubFoo.class), isA(TransformerContext.class));
+    }
+
+    @Test
+    void verifyMissingTransformer_throwsException() {
+        assertThrows(EdcException.class, () -> registry.transform(new Foo(), Bar.class));
+    }
+
     @BeforeEach
     void setUp() {
         registry = new IdsTransformerRegistryImpl();
@@ -79,6 +115,10 @@ class IdsTransformerRegistryImplTest {
 
     }
 
+    private static class SubFoo extends Foo {
+
+    }
+
     private static class Bar {
 
     }
@@ -17,8 +17,11 @@ package org.eclipse.dataspaceconnector.ids.spi.service;
 import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
 import org.eclipse.dataspaceconnector.spi.message.Range;
 import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.stream.Stream;
+
 /**
  * The IDS service is able to create a description of the EDC data catalog.
  */
@@ -31,4 +34,21 @@ public interface CatalogService {
      */
     @NotNull
     Catalog getDataCatalog(ClaimToken claimToken, Range range);
+
+    /**
+     * Provides the id of the data catalog.
+     *
+     * @return data catalog id
+     */
+    @NotNull
+    String getDataCatalogId();
+
+    /**
+     * Provides the contract offers of the data catalog lazily, so that large catalogs can be processed without holding
+     * all offers in memory. The returned stream must be closed by the caller.
+     *
+     * @return stream of contract offers
+     */
+    @NotNull
+    Stream<ContractOffer> streamContractOffers(ClaimToken claimToken, Range range);
 }
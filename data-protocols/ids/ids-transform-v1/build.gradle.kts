@@ -17,6 +17,7 @@ val rsApi: String by project
 
 plugins {
     `java-library`
+    id("me.champeau.jmh") version "0.6.6"
 }
 
 
@@ -30,7 +31,10 @@ dependencies {
 
     implementation("jakarta.ws.rs:jakarta.ws.rs-api:${rsApi}")
     testImplementation(project(":extensions:junit"))
+}
 
+jmh {
+    jmhVersion.set(project.property("jmhVersion") as String)
 }
 
 publishing {
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.transform;
+
+import de.fraunhofer.iais.eis.ResourceCatalog;
+import org.eclipse.dataspaceconnector.ids.core.transform.IdsTransformerRegistryImpl;
+import org.eclipse.dataspaceconnector.policy.model.Action;
+import org.eclipse.dataspaceconnector.policy.model.AtomicConstraint;
+import org.eclipse.dataspaceconnector.policy.model.LiteralExpression;
+import org.eclipse.dataspaceconnector.policy.model.Operator;
+import org.eclipse.dataspaceconnector.policy.model.Permission;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the transformation of a catalog into an IDS {@link ResourceCatalog} using all transformers of this module.
+ * Every offer targets its own asset and carries a policy with a constrained permission, so that the whole transformer
+ * graph is traversed for each offer.
+ * <p>
+ * Run with {@code ./gradlew :data-protocols:ids:ids-transform-v1:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CatalogTransformationBenchmark {
+
+    @Param({ "10000" })
+    private int offers;
+
+    private IdsTransformerRegistryImpl registry;
+    private Catalog catalog;
+
+    @Setup
+    public void setUp() {
+        registry = new IdsTransformerRegistryImpl();
+        IdsTransformServiceExtension.registerTransformers(registry);
+
+        var contractOffers = new ArrayList<ContractOffer>(offers);
+        for (int i = 0; i < offers; i++) {
+            contractOffers.add(createContractOffer(i));
+        }
+        catalog = Catalog.Builder.newInstance().id("catalog").contractOffers(contractOffers).build();
+    }
+
+    @Benchmark
+    public ResourceCatalog transformCatalog() {
+        var result = registry.transform(catalog, ResourceCatalog.class);
+        if (result.failed()) {
+            throw new EdcException("Catalog transformation failed: " + result.getFailureMessages());
+        }
+        return result.getContent();
+    }
+
+    private ContractOffer createContractOffer(int i) {
+        var asset = Asset.Builder.newInstance()
+                .id("asset-" + i)
+                .property("asset:prop:name", "asset " + i)
+                .build();
+        var constraint = AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression("ids:absoluteSpatialPosition"))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression("eu"))
+                .build();
+        var permission = Permission.Builder.newInstance()
+                .target(asset.getId())
+                .action(Action.Builder.newInstance().type("USE").build())
+                .constraint(constraint)
+                .build();
+        return ContractOffer.Builder.newInstance()
+                .id("offer-" + i)
+                .asset(asset)
+                .policy(Policy.Builder.newInstance().permission(permission).build())
+                .provider(URI.create("urn:connector:provider"))
+                .consumer(URI.create("urn:connector:consumer"))
+                .build();
+    }
+}
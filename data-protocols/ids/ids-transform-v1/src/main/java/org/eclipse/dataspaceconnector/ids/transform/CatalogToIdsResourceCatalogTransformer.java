@@ -30,10 +30,9 @@ import org.jetbrains.annotations.Nullable;
 
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 public class CatalogToIdsResourceCatalogTransformer implements IdsTypeTransformer<Catalog, ResourceCatalog> {
 
@@ -67,22 +66,23 @@ public class CatalogToIdsResourceCatalogTransformer implements IdsTypeTransforme
             builder = new ResourceCatalogBuilder();
         }
 
-        List<Resource> resources = new LinkedList<>();
-        List<ContractOffer> contractOffers = object.getContractOffers();
-
-        List<Asset> distinctAssets = contractOffers.stream().map(ContractOffer::getAsset).distinct().collect(Collectors.toList());
-
-        for (Asset distinctAsset : distinctAssets) {
-            List<ContractOffer> targetingOffers = contractOffers.stream().filter(c -> c.getAsset().getId().equals(distinctAsset.getId())).collect(Collectors.toList());
+        // group the offers by asset id in a single pass, keeping the order in which the assets are first offered
+        Map<String, OfferedAsset> offeredAssets = new LinkedHashMap<>();
+        for (ContractOffer contractOffer : object.getContractOffers()) {
+            Asset asset = contractOffer.getAsset();
+            offeredAssets.computeIfAbsent(asset.getId(), id -> new OfferedAsset(asset, new ArrayList<>()))
+                    .getTargetingContractOffers().add(contractOffer);
+        }
 
-            OfferedAsset assetAndContractOffers = new OfferedAsset(distinctAsset, targetingOffers);
-            Resource resource = context.transform(assetAndContractOffers, Resource.class);
+        ArrayList<Resource> resources = new ArrayList<>(offeredAssets.size());
+        for (OfferedAsset offeredAsset : offeredAssets.values()) {
+            Resource resource = context.transform(offeredAsset, Resource.class);
             if (resource != null) {
                 resources.add(resource);
             }
         }
 
-        builder._offeredResource_(new ArrayList<>(resources));
+        builder._offeredResource_(resources);
 
         return builder.build();
     }
@@ -33,6 +33,13 @@ public class IdsTransformServiceExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext serviceExtensionContext) {
+        registerTransformers(registry);
+    }
+
+    /**
+     * Registers all the IDS transformers of this module.
+     */
+    static void registerTransformers(IdsTransformerRegistry registry) {
         Arrays.asList(
                 new ActionToIdsActionTransformer(),
                 new AssetToIdsArtifactTransformer(),
@@ -70,5 +77,4 @@ public class IdsTransformServiceExtension implements ServiceExtension {
                 new UriToIdsIdTransformer()
         ).forEach(registry::register);
     }
-
 }
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -93,4 +94,29 @@ class CatalogToIdsResourceCatalogTransformerTest {
         verify(context, times(2)).transform(isA(OfferedAsset.class), eq(Resource.class));
     }
 
+    @Test
+    void testGroupsOffersByAsset() {
+        var a1 = Asset.Builder.newInstance().id("a1").build();
+        var a2 = Asset.Builder.newInstance().id("a2").build();
+        ContractOffer o1 = ContractOffer.Builder.newInstance().id("o1").asset(a1).policy(Policy.Builder.newInstance().build()).build();
+        ContractOffer o2 = ContractOffer.Builder.newInstance().id("o2").asset(a2).policy(Policy.Builder.newInstance().build()).build();
+        ContractOffer o3 = ContractOffer.Builder.newInstance().id("o3").asset(a1).policy(Policy.Builder.newInstance().build()).build();
+        var catalog = Catalog.Builder.newInstance()
+                .id(CATALOG_ID)
+                .contractOffers(List.of(o1, o2, o3))
+                .build();
+        var offeredAssets = new ArrayList<OfferedAsset>();
+        when(context.transform(isA(OfferedAsset.class), eq(Resource.class))).thenAnswer(invocation -> {
+            offeredAssets.add(invocation.getArgument(0));
+            return new ResourceBuilder().build();
+        });
+
+        var result = transformer.transform(catalog, context);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getOfferedResource()).hasSize(2);
+        assertThat(offeredAssets).extracting(OfferedAsset::getAsset).containsExactly(a1, a2);
+        assertThat(offeredAssets.get(0).getTargetingContractOffers()).containsExactly(o1, o3);
+        assertThat(offeredAssets.get(1).getTargetingContractOffers()).containsExactly(o2);
+    }
 }
@@ -22,6 +22,12 @@ import org.eclipse.dataspaceconnector.spi.query.SortOrder;
 
 public class QuerySpecDto {
 
+    /**
+     * Response header that carries the cursor of the next page, if a page was requested by cursor and more results may
+     * follow.
+     */
+    public static final String NEXT_CURSOR_HEADER = "Next-Cursor";
+
     @QueryParam("offset")
     @PositiveOrZero
     private Integer offset = 0;
@@ -39,6 +45,9 @@ public class QuerySpecDto {
     @QueryParam("sortField")
     private String sortField;
 
+    @QueryParam("cursor")
+    private String cursor;
+
     public QuerySpecDto() {
 
     }
@@ -63,6 +72,10 @@ public class QuerySpecDto {
         return sortField;
     }
 
+    public String getCursor() {
+        return cursor;
+    }
+
     @AssertTrue
     public boolean isValid() {
         if (filter != null && filter.isBlank()) {
@@ -73,6 +86,11 @@ public class QuerySpecDto {
             return false;
         }
 
+        // pages addressed by cursor are ordered by id and start right after the cursor
+        if (cursor != null && ((offset != null && offset > 0) || sortField != null)) {
+            return false;
+        }
+
         return true;
     }
 
@@ -112,6 +130,11 @@ public class QuerySpecDto {
             return this;
         }
 
+        public Builder cursor(String cursor) {
+            querySpec.cursor = cursor;
+            return this;
+        }
+
         public QuerySpecDto build() {
             return querySpec;
         }
@@ -40,6 +40,7 @@ public class QuerySpecDtoToQuerySpecTransformer implements DtoTransformer<QueryS
                 .filter(object.getFilter())
                 .sortField(object.getSortField())
                 .sortOrder(object.getSortOrder())
+                .cursor(object.getCursor())
                 .build();
     }
 }
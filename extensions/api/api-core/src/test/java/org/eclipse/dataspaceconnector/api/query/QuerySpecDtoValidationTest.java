@@ -77,4 +77,11 @@ class QuerySpecDtoValidationTest {
 
         assertThat(result).isNotEmpty();
     }
+
+    @Test
+    void cursorShouldNotBeCombinedWithOffsetOrSortField() {
+        assertThat(validator.validate(QuerySpecDto.Builder.newInstance().cursor("").build())).isEmpty();
+        assertThat(validator.validate(QuerySpecDto.Builder.newInstance().cursor("").offset(10).build())).isNotEmpty();
+        assertThat(validator.validate(QuerySpecDto.Builder.newInstance().cursor("").sortField("field").build())).isNotEmpty();
+    }
 }
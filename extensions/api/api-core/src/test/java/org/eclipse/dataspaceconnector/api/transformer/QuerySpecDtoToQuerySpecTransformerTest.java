@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.api.transformer;
 
 import org.eclipse.dataspaceconnector.api.query.QuerySpecDto;
 import org.eclipse.dataspaceconnector.spi.query.Criterion;
+import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.query.SortOrder;
 import org.eclipse.dataspaceconnector.spi.transformer.TransformerContext;
 import org.junit.jupiter.api.Test;
@@ -66,6 +67,20 @@ class QuerySpecDtoToQuerySpecTransformerTest {
         assertThat(spec.getFilterExpression()).hasSize(0);
         assertThat(spec.getSortOrder()).isEqualTo(SortOrder.ASC);
         assertThat(spec.getSortField()).isNull();
+        assertThat(spec.getCursor()).isNull();
+    }
+
+    @Test
+    void transform_cursor() {
+        var context = mock(TransformerContext.class);
+        var cursor = QuerySpec.cursorAfter("id");
+        var querySpecDto = QuerySpecDto.Builder.newInstance().cursor(cursor).limit(20).build();
+
+        var spec = transformer.transform(querySpecDto, context);
+
+        assertThat(spec.getCursor()).isEqualTo(cursor);
+        assertThat(spec.getCursorKey()).isEqualTo("id");
+        assertThat(spec.getLimit()).isEqualTo(20);
     }
 
 }
\ No newline at end of file
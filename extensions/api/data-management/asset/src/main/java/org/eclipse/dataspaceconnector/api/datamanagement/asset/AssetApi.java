@@ -16,19 +16,19 @@ package org.eclipse.dataspaceconnector.api.datamanagement.asset;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.dataspaceconnector.api.datamanagement.asset.model.AssetDto;
 import org.eclipse.dataspaceconnector.api.datamanagement.asset.model.AssetEntryDto;
 import org.eclipse.dataspaceconnector.api.query.QuerySpecDto;
 import org.eclipse.dataspaceconnector.spi.ApiErrorDetail;
 
-import java.util.List;
-
 @OpenAPIDefinition
 @Tag(name = "Asset")
 public interface AssetApi {
@@ -43,14 +43,17 @@ public interface AssetApi {
     )
     void createAsset(@Valid AssetEntryDto assetEntryDto);
 
-    @Operation(description = "Gets all assets according to a particular query",
+    @Operation(description = "Gets all assets according to a particular query. Pages are either addressed by offset or by cursor: " +
+            "an empty cursor requests the first page ordered by asset id, the cursor of the next page is returned in the " + QuerySpecDto.NEXT_CURSOR_HEADER + " header",
             responses = {
                     @ApiResponse(responseCode = "200",
-                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = AssetDto.class)))),
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = AssetDto.class))),
+                            headers = @Header(name = QuerySpecDto.NEXT_CURSOR_HEADER, description = "Cursor of the next page, absent on the last page or if the page was addressed by offset",
+                                    schema = @Schema(type = "string"))),
                     @ApiResponse(responseCode = "400", description = "Request body was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class))))
             })
-    List<AssetDto> getAllAssets(@Valid QuerySpecDto querySpecDto);
+    Response getAllAssets(@Valid QuerySpecDto querySpecDto);
 
     @Operation(description = "Gets an asset with the given ID",
             responses = {
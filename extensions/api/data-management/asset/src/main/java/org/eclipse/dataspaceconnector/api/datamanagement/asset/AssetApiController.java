@@ -26,6 +26,7 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.dataspaceconnector.api.datamanagement.asset.model.AssetDto;
 import org.eclipse.dataspaceconnector.api.datamanagement.asset.model.AssetEntryDto;
 import org.eclipse.dataspaceconnector.api.datamanagement.asset.service.AssetService;
@@ -38,7 +39,7 @@ import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 
-import java.util.List;
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -84,7 +85,7 @@ public class AssetApiController implements AssetApi {
 
     @GET
     @Override
-    public List<AssetDto> getAllAssets(@Valid @BeanParam QuerySpecDto querySpecDto) {
+    public Response getAllAssets(@Valid @BeanParam QuerySpecDto querySpecDto) {
         var transformationResult = transformerRegistry.transform(querySpecDto, QuerySpec.class);
         if (transformationResult.failed()) {
             monitor.warning("Error transforming QuerySpec: " + String.join(", ", transformationResult.getFailureMessages()));
@@ -101,13 +102,20 @@ public class AssetApiController implements AssetApi {
             throw mapToException(queryResult, QuerySpec.class, null);
         }
 
-        var assets = queryResult.getContent();
+        var assets = new ArrayList<>(queryResult.getContent());
 
-        return assets.stream()
+        var dtos = assets.stream()
                 .map(it -> transformerRegistry.transform(it, AssetDto.class))
                 .filter(Result::succeeded)
                 .map(Result::getContent)
                 .collect(Collectors.toList());
+
+        var response = Response.ok(dtos);
+        // a full page may be followed by more assets
+        if (spec.getCursor() != null && assets.size() == spec.getLimit()) {
+            response.header(QuerySpecDto.NEXT_CURSOR_HEADER, QuerySpec.cursorAfter(assets.get(assets.size() - 1).getId()));
+        }
+        return response.build();
     }
 
     @GET
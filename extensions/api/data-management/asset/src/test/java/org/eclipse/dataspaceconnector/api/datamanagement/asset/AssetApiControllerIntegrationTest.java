@@ -18,6 +18,7 @@ package org.eclipse.dataspaceconnector.api.datamanagement.asset;
 import io.restassured.specification.RequestSpecification;
 import org.eclipse.dataspaceconnector.api.datamanagement.asset.model.AssetDto;
 import org.eclipse.dataspaceconnector.api.datamanagement.asset.model.AssetEntryDto;
+import org.eclipse.dataspaceconnector.api.query.QuerySpecDto;
 import org.eclipse.dataspaceconnector.dataloading.AssetLoader;
 import org.eclipse.dataspaceconnector.junit.extensions.EdcExtension;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
@@ -42,6 +43,8 @@ import static org.eclipse.dataspaceconnector.api.datamanagement.asset.TestFuncti
 import static org.eclipse.dataspaceconnector.junit.testfixtures.TestUtils.getFreePort;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 @ExtendWith(EdcExtension.class)
 public class AssetApiControllerIntegrationTest {
@@ -86,6 +89,36 @@ public class AssetApiControllerIntegrationTest {
                 .body("size()", is(1));
     }
 
+    @Test
+    void getAllAssets_byCursor(AssetLoader assetLoader) {
+        var dataAddress = DataAddress.Builder.newInstance().type("type").build();
+        assetLoader.accept(Asset.Builder.newInstance().id("id1").build(), dataAddress);
+        assetLoader.accept(Asset.Builder.newInstance().id("id2").build(), dataAddress);
+
+        var nextCursor = baseRequest()
+                .get("/assets?cursor=&limit=1")
+                .then()
+                .statusCode(200)
+                .body("size()", is(1))
+                .header(QuerySpecDto.NEXT_CURSOR_HEADER, notNullValue())
+                .extract().header(QuerySpecDto.NEXT_CURSOR_HEADER);
+
+        baseRequest()
+                .get("/assets?limit=2&cursor=" + nextCursor)
+                .then()
+                .statusCode(200)
+                .body("size()", is(1))
+                .header(QuerySpecDto.NEXT_CURSOR_HEADER, nullValue());
+    }
+
+    @Test
+    void getAll_cursorWithOffset() {
+        baseRequest()
+                .get("/assets?cursor=&offset=1")
+                .then()
+                .statusCode(400);
+    }
+
     @Test
     void getAll_invalidQuery() {
         baseRequest()
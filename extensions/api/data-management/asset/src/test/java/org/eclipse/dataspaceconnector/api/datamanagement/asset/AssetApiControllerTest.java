@@ -112,9 +112,10 @@ public class AssetApiControllerTest {
                 .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
         var querySpec = QuerySpecDto.Builder.newInstance().build();
 
-        var allAssets = controller.getAllAssets(querySpec);
+        var response = controller.getAllAssets(querySpec);
 
-        assertThat(allAssets).hasSize(1);
+        assertThat((List<?>) response.getEntity()).hasSize(1);
+        assertThat(response.getHeaderString(QuerySpecDto.NEXT_CURSOR_HEADER)).isNull();
         verify(service).query(argThat(s -> s.getOffset() == 10));
         verify(transformerRegistry).transform(isA(Asset.class), eq(AssetDto.class));
         verify(transformerRegistry).transform(isA(QuerySpecDto.class), eq(QuerySpec.class));
@@ -127,9 +128,38 @@ public class AssetApiControllerTest {
                 .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
         when(transformerRegistry.transform(isA(Asset.class), eq(AssetDto.class))).thenReturn(Result.failure("failed to transform"));
 
-        var allAssets = controller.getAllAssets(QuerySpecDto.Builder.newInstance().build());
+        var response = controller.getAllAssets(QuerySpecDto.Builder.newInstance().build());
 
-        assertThat(allAssets).isEmpty();
+        assertThat((List<?>) response.getEntity()).isEmpty();
+    }
+
+    @Test
+    void getAll_returnsNextCursor_whenPageIsFull() {
+        var assets = List.of(Asset.Builder.newInstance().id("id1").build(), Asset.Builder.newInstance().id("id2").build());
+        when(service.query(any())).thenReturn(ServiceResult.success(assets));
+        when(transformerRegistry.transform(isA(QuerySpecDto.class), eq(QuerySpec.class)))
+                .thenReturn(Result.success(QuerySpec.Builder.newInstance().cursor("").limit(2).build()));
+        when(transformerRegistry.transform(isA(Asset.class), eq(AssetDto.class)))
+                .thenReturn(Result.success(AssetDto.Builder.newInstance().build()));
+
+        var response = controller.getAllAssets(QuerySpecDto.Builder.newInstance().cursor("").limit(2).build());
+
+        assertThat((List<?>) response.getEntity()).hasSize(2);
+        assertThat(response.getHeaderString(QuerySpecDto.NEXT_CURSOR_HEADER)).isEqualTo(QuerySpec.cursorAfter("id2"));
+    }
+
+    @Test
+    void getAll_returnsNoNextCursor_onLastPage() {
+        when(service.query(any())).thenReturn(ServiceResult.success(List.of(Asset.Builder.newInstance().id("id1").build())));
+        when(transformerRegistry.transform(isA(QuerySpecDto.class), eq(QuerySpec.class)))
+                .thenReturn(Result.success(QuerySpec.Builder.newInstance().cursor("").limit(2).build()));
+        when(transformerRegistry.transform(isA(Asset.class), eq(AssetDto.class)))
+                .thenReturn(Result.success(AssetDto.Builder.newInstance().build()));
+
+        var response = controller.getAllAssets(QuerySpecDto.Builder.newInstance().cursor("").limit(2).build());
+
+        assertThat((List<?>) response.getEntity()).hasSize(1);
+        assertThat(response.getHeaderString(QuerySpecDto.NEXT_CURSOR_HEADER)).isNull();
     }
 
     @Test
@@ -50,6 +50,9 @@ public class CatalogApiController implements CatalogApi {
 
         @NotNull QuerySpec spec;
         if (querySpecDto != null) {
+            if (querySpecDto.getCursor() != null) {
+                throw new IllegalArgumentException("Paging by cursor is not supported for catalogs, use offset and limit");
+            }
             var result = transformerRegistry.transform(querySpecDto, QuerySpec.class);
             if (result.failed()) {
                 monitor.warning("Error transforming QuerySpec: " + String.join(", ", result.getFailureMessages()));
@@ -56,6 +56,9 @@ public class ContractAgreementApiController implements ContractAgreementApi {
     @GET
     @Override
     public List<ContractAgreementDto> getAllAgreements(@Valid @BeanParam QuerySpecDto querySpecDto) {
+        if (querySpecDto.getCursor() != null) {
+            throw new IllegalArgumentException("Paging by cursor is not supported for contract agreements, use offset and limit");
+        }
         var result = transformerRegistry.transform(querySpecDto, QuerySpec.class);
         if (result.failed()) {
             monitor.warning("Error transforming QuerySpec: " + String.join(", ", result.getFailureMessages()));
@@ -58,6 +58,9 @@ public class ContractDefinitionApiController implements ContractDefinitionApi {
     @GET
     @Override
     public List<ContractDefinitionDto> getAllContractDefinitions(@Valid @BeanParam QuerySpecDto querySpecDto) {
+        if (querySpecDto.getCursor() != null) {
+            throw new IllegalArgumentException("Paging by cursor is not supported for contract definitions, use offset and limit");
+        }
         var result = transformerRegistry.transform(querySpecDto, QuerySpec.class);
         if (result.failed()) {
             monitor.warning("Error transforming QuerySpec: " + String.join(", ", result.getFailureMessages()));
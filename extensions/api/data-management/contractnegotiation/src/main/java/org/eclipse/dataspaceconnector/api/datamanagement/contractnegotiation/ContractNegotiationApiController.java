@@ -67,6 +67,9 @@ public class ContractNegotiationApiController implements ContractNegotiationApi
     @GET
     @Override
     public List<ContractNegotiationDto> getNegotiations(@Valid @BeanParam QuerySpecDto querySpecDto) {
+        if (querySpecDto.getCursor() != null) {
+            throw new IllegalArgumentException("Paging by cursor is not supported for contract negotiations, use offset and limit");
+        }
         var result = transformerRegistry.transform(querySpecDto, QuerySpec.class);
         if (result.failed()) {
             monitor.warning("Error transforming QuerySpec: " + String.join(", ", result.getFailureMessages()));
@@ -59,6 +59,9 @@ public class PolicyDefinitionApiController implements PolicyDefinitionApi {
     @GET
     @Override
     public List<PolicyDefinition> getAllPolicies(@Valid @BeanParam QuerySpecDto querySpecDto) {
+        if (querySpecDto.getCursor() != null) {
+            throw new IllegalArgumentException("Paging by cursor is not supported for policy definitions, use offset and limit");
+        }
         var result = transformerRegistry.transform(querySpecDto, QuerySpec.class);
         if (result.failed()) {
             monitor.warning("Error transforming QuerySpec: " + String.join(", ", result.getFailureMessages()));
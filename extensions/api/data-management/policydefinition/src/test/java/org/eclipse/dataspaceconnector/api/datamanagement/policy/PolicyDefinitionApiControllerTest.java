@@ -39,6 +39,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class PolicyDefinitionApiControllerTest {
@@ -91,6 +92,14 @@ class PolicyDefinitionApiControllerTest {
         assertThatThrownBy(() -> controller.getAllPolicies(QuerySpecDto.Builder.newInstance().build())).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void getAll_throwsExceptionIfPagedByCursor() {
+        var querySpec = QuerySpecDto.Builder.newInstance().cursor(QuerySpec.cursorAfter("id")).build();
+
+        assertThatThrownBy(() -> controller.getAllPolicies(querySpec)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(service);
+    }
+
     @Test
     void createPolicy() {
         var policyDefinition = TestFunctions.createPolicy("id");
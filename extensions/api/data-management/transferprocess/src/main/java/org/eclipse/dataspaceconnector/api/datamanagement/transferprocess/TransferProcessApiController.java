@@ -64,6 +64,9 @@ public class TransferProcessApiController implements TransferProcessApi {
     @GET
     @Override
     public List<TransferProcessDto> getAllTransferProcesses(@Valid @BeanParam QuerySpecDto querySpecDto) {
+        if (querySpecDto.getCursor() != null) {
+            throw new IllegalArgumentException("Paging by cursor is not supported for transfer processes, use offset and limit");
+        }
         var result = transformerRegistry.transform(querySpecDto, QuerySpec.class);
         if (result.failed()) {
             monitor.warning("Error transforming QuerySpec: " + String.join(", ", result.getFailureMessages()));
@@ -15,7 +15,6 @@
 
 package org.eclipse.dataspaceconnector.api.datamanagement.transferprocess.service;
 
-import org.eclipse.dataspaceconnector.core.event.EventExecutorServiceContainer;
 import org.eclipse.dataspaceconnector.junit.extensions.EdcExtension;
 import org.eclipse.dataspaceconnector.spi.event.EventRouter;
 import org.eclipse.dataspaceconnector.spi.event.EventSubscriber;
@@ -37,7 +36,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executors;
 
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
@@ -56,8 +54,6 @@ public class TransferProcessEventDispatchTest {
         extension.setConfiguration(Map.of("edc.transfer.send.retry.limit", "0",
                                           "edc.transfer.send.retry.base-delay.ms", "0"));
         extension.registerServiceMock(TransferWaitStrategy.class, () -> 1);
-        extension.registerServiceMock(EventExecutorServiceContainer.class,
-                                      new EventExecutorServiceContainer(Executors.newSingleThreadExecutor()));
     }
 
     @Test
@@ -0,0 +1,314 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.monitor.async;
+
+import org.eclipse.dataspaceconnector.spi.monitor.ConsoleMonitor.Level;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * Monitor that writes to a {@link PrintStream} from a dedicated background thread, in the same format as the
+ * {@link org.eclipse.dataspaceconnector.spi.monitor.ConsoleMonitor}.
+ * <p>
+ * The calling thread only evaluates the message and records the time, and then puts the record on a lock-free
+ * {@link RingBuffer}. Timestamps are formatted and records written by the background thread, so callers do not contend
+ * on the output stream. When the buffer is full, the {@link OverflowPolicy} decides whether the caller waits or the
+ * record is dropped. Warnings and errors are never dropped.
+ * <p>
+ * {@link #close()} writes the records that are still buffered and stops the background thread. Records logged after
+ * that are written on the calling thread.
+ */
+public class AsyncMonitor implements Monitor, AutoCloseable {
+
+    /**
+     * What happens to a record that is logged while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The caller waits until the record can be buffered.
+         */
+        BLOCK,
+        /**
+         * Debug records are dropped, the caller waits for other records.
+         */
+        DROP_DEBUG,
+        /**
+         * Once the buffer is three quarters full, only one in {@code sampleRate} debug and info records is kept. Debug
+         * and info records are dropped when the buffer is full, the caller waits for other records.
+         */
+        SAMPLE
+    }
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong sampled = new AtomicLong();
+    private String prefix = "";
+    private Level level = Level.DEBUG;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_DEBUG;
+    private int capacity = 8192;
+    private int sampleRate = 10;
+    private PrintStream out = System.out;
+    private ZoneId zone = ZoneId.systemDefault();
+    private RingBuffer<Record> buffer;
+    private int sampleThreshold;
+    private Thread writer;
+    private volatile boolean writerWaiting;
+    private volatile boolean closed;
+
+    private AsyncMonitor() {
+    }
+
+    @Override
+    public void severe(Supplier<String> supplier, Throwable... errors) {
+        log(Level.SEVERE, supplier, errors);
+    }
+
+    @Override
+    public void warning(Supplier<String> supplier, Throwable... errors) {
+        log(Level.WARNING, supplier, errors);
+    }
+
+    @Override
+    public void info(Supplier<String> supplier, Throwable... errors) {
+        log(Level.INFO, supplier, errors);
+    }
+
+    @Override
+    public void debug(Supplier<String> supplier, Throwable... errors) {
+        log(Level.DEBUG, supplier, errors);
+    }
+
+    /**
+     * Returns the number of records that have been buffered since the monitor was created.
+     */
+    public long getEnqueuedCount() {
+        return enqueued.get();
+    }
+
+    /**
+     * Returns the number of records that are buffered and not written yet.
+     */
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Returns the number of records that have been dropped by the {@link OverflowPolicy}.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!writer.isAlive()) {
+            // records offered by callers that had not yet seen the monitor closed
+            for (var record = buffer.poll(); record != null; record = buffer.poll()) {
+                write(record);
+            }
+            out.flush();
+        }
+    }
+
+    private void log(Level recordLevel, Supplier<String> supplier, Throwable... errors) {
+        // the levels are declared from the most to the least severe
+        if (recordLevel.compareTo(level) > 0) {
+            return;
+        }
+        var record = new Record(recordLevel, System.currentTimeMillis(), sanitizeMessage(supplier), errors);
+        if (closed) {
+            write(record);
+            return;
+        }
+        var droppable = droppable(recordLevel);
+        if (droppable && overflowPolicy == OverflowPolicy.SAMPLE && buffer.size() >= sampleThreshold && sampled.incrementAndGet() % sampleRate != 0) {
+            dropped.incrementAndGet();
+            return;
+        }
+        while (!buffer.offer(record)) {
+            if (droppable) {
+                dropped.incrementAndGet();
+                return;
+            }
+            if (closed) {
+                write(record);
+                return;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+        }
+        enqueued.incrementAndGet();
+        if (writerWaiting) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private boolean droppable(Level recordLevel) {
+        switch (overflowPolicy) {
+            case DROP_DEBUG:
+                return recordLevel == Level.DEBUG;
+            case SAMPLE:
+                return recordLevel == Level.DEBUG || recordLevel == Level.INFO;
+            default:
+                return false;
+        }
+    }
+
+    private void run() {
+        while (true) {
+            var record = buffer.poll();
+            if (record != null) {
+                write(record);
+                continue;
+            }
+            if (closed && buffer.size() == 0) {
+                break;
+            }
+            out.flush();
+            writerWaiting = true;
+            // re-check after announcing the wait, so that a record offered meanwhile is not left behind
+            if (buffer.size() == 0 && !closed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            writerWaiting = false;
+        }
+        out.flush();
+    }
+
+    private void write(Record record) {
+        var time = ZonedDateTime.ofInstant(Instant.ofEpochMilli(record.timestamp), zone).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        out.println(prefix + record.level.name() + " " + time + " " + record.message);
+        if (record.errors != null) {
+            for (var error : record.errors) {
+                if (error != null) {
+                    error.printStackTrace(out);
+                }
+            }
+        }
+    }
+
+    private static class Record {
+        private final Level level;
+        private final long timestamp;
+        private final String message;
+        private final Throwable[] errors;
+
+        Record(Level level, long timestamp, String message, Throwable[] errors) {
+            this.level = level;
+            this.timestamp = timestamp;
+            this.message = message;
+            this.errors = errors;
+        }
+    }
+
+    public static class Builder {
+        private final AsyncMonitor monitor;
+
+        private Builder() {
+            monitor = new AsyncMonitor();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder runtimeName(@Nullable String runtimeName) {
+            monitor.prefix = format("[%s] ", runtimeName);
+            return this;
+        }
+
+        public Builder level(Level level) {
+            monitor.level = level;
+            return this;
+        }
+
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+            monitor.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * The number of records that can be buffered, rounded up to the next power of two.
+         */
+        public Builder capacity(int capacity) {
+            monitor.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * With {@link OverflowPolicy#SAMPLE}, one in {@code sampleRate} debug and info records is kept while the buffer
+         * is three quarters full.
+         */
+        public Builder sampleRate(int sampleRate) {
+            monitor.sampleRate = sampleRate;
+            return this;
+        }
+
+        public Builder output(PrintStream out) {
+            monitor.out = out;
+            return this;
+        }
+
+        public Builder zone(ZoneId zone) {
+            monitor.zone = zone;
+            return this;
+        }
+
+        /**
+         * Builds the monitor and starts its background thread.
+         */
+        public AsyncMonitor build() {
+            Objects.requireNonNull(monitor.level, "level");
+            Objects.requireNonNull(monitor.overflowPolicy, "overflowPolicy");
+            Objects.requireNonNull(monitor.out, "output");
+            if (monitor.sampleRate < 1) {
+                throw new IllegalArgumentException("sampleRate must be greater than 0");
+            }
+            monitor.buffer = new RingBuffer<>(monitor.capacity);
+            monitor.sampleThreshold = monitor.buffer.capacity() * 3 / 4;
+            monitor.writer = new Thread(monitor::run, "monitor-writer");
+            monitor.writer.setDaemon(true);
+            monitor.writer.start();
+            return monitor;
+        }
+    }
+}
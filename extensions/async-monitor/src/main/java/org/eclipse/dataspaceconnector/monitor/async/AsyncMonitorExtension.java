@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.monitor.async;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
+import org.eclipse.dataspaceconnector.spi.monitor.ConsoleMonitor.Level;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.MonitorExtension;
+
+import static java.lang.String.format;
+
+/**
+ * Contributes an {@link AsyncMonitor} that writes to the console.
+ * <p>
+ * Monitors are created before the runtime configuration is loaded, so the settings are read from JVM system properties.
+ */
+public class AsyncMonitorExtension implements MonitorExtension {
+
+    @EdcSetting
+    static final String LEVEL = "edc.monitor.async.level";
+    static final String DEFAULT_LEVEL = Level.DEBUG.name();
+
+    @EdcSetting
+    static final String CAPACITY = "edc.monitor.async.capacity";
+    static final int DEFAULT_CAPACITY = 8192;
+
+    @EdcSetting
+    static final String OVERFLOW_POLICY = "edc.monitor.async.overflow";
+    static final String DEFAULT_OVERFLOW_POLICY = AsyncMonitor.OverflowPolicy.DROP_DEBUG.name();
+
+    @EdcSetting
+    static final String SAMPLE_RATE = "edc.monitor.async.sample.rate";
+    static final int DEFAULT_SAMPLE_RATE = 10;
+
+    @Override
+    public Monitor getMonitor() {
+        var monitor = AsyncMonitor.Builder.newInstance()
+                .level(parseEnum(Level.class, LEVEL, DEFAULT_LEVEL))
+                .capacity(Integer.getInteger(CAPACITY, DEFAULT_CAPACITY))
+                .overflowPolicy(parseEnum(AsyncMonitor.OverflowPolicy.class, OVERFLOW_POLICY, DEFAULT_OVERFLOW_POLICY))
+                .sampleRate(Integer.getInteger(SAMPLE_RATE, DEFAULT_SAMPLE_RATE))
+                .build();
+        // write the buffered records before the JVM exits
+        Runtime.getRuntime().addShutdownHook(new Thread(monitor::close, "monitor-shutdown"));
+        return monitor;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String key, String defaultValue) {
+        var value = System.getProperty(key, defaultValue);
+        try {
+            return Enum.valueOf(type, value.toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new EdcException(format("Invalid value for %s: %s", key, value));
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.monitor.async;
+
+import org.eclipse.dataspaceconnector.spi.monitor.ConsoleMonitor.Level;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.monitor.async.AsyncMonitor.OverflowPolicy.BLOCK;
+import static org.eclipse.dataspaceconnector.monitor.async.AsyncMonitor.OverflowPolicy.DROP_DEBUG;
+import static org.eclipse.dataspaceconnector.monitor.async.AsyncMonitor.OverflowPolicy.SAMPLE;
+
+class AsyncMonitorTest {
+    private final BlockingOutput output = new BlockingOutput();
+    private AsyncMonitor monitor;
+
+    @AfterEach
+    void tearDown() {
+        output.release();
+        monitor.close();
+    }
+
+    @Test
+    void writesRecordsInOrder() {
+        output.release();
+        monitor = monitor(DROP_DEBUG, 16, Level.INFO);
+
+        monitor.info("first");
+        monitor.debug("filtered");
+        monitor.warning("second\nline", new RuntimeException("error"));
+        monitor.close();
+
+        var lines = output.lines();
+        assertThat(lines[0]).matches("\\[test] INFO \\d{4}-\\d{2}-\\d{2}T.* first");
+        assertThat(lines[1]).matches("\\[test] WARNING .* second line");
+        assertThat(lines[2]).contains("RuntimeException: error");
+        assertThat(output.toString()).doesNotContain("filtered");
+        assertThat(monitor.getEnqueuedCount()).isEqualTo(2);
+        assertThat(monitor.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void dropDebug_dropsDebugRecordsWhenFull() throws Exception {
+        monitor = monitor(DROP_DEBUG, 4, Level.DEBUG);
+        monitor.info("blocks the writer");
+        output.awaitWriting();
+
+        for (var i = 0; i < 6; i++) {
+            monitor.debug("debug " + i);
+        }
+
+        assertThat(monitor.getPendingCount()).isEqualTo(4);
+        assertThat(monitor.getDroppedCount()).isEqualTo(2);
+
+        output.release();
+        monitor.close();
+        assertThat(output.lines()).hasSize(5);
+        assertThat(output.lines()[4]).endsWith("debug 3");
+    }
+
+    @Test
+    void block_waitsForSpaceInsteadOfDropping() throws Exception {
+        monitor = monitor(BLOCK, 4, Level.DEBUG);
+        monitor.info("blocks the writer");
+        output.awaitWriting();
+        for (var i = 0; i < 4; i++) {
+            monitor.debug("debug " + i);
+        }
+
+        var caller = new Thread(() -> monitor.debug("waiting"));
+        caller.start();
+        caller.join(200);
+        assertThat(caller.isAlive()).isTrue();
+
+        output.release();
+        caller.join(TimeUnit.SECONDS.toMillis(5));
+        monitor.close();
+
+        assertThat(caller.isAlive()).isFalse();
+        assertThat(monitor.getDroppedCount()).isZero();
+        assertThat(output.lines()).hasSize(6);
+        assertThat(output.lines()[5]).endsWith("waiting");
+    }
+
+    @Test
+    void sample_keepsOneInSampleRateRecordsWhenMostlyFull() throws Exception {
+        monitor = monitor(SAMPLE, 8, Level.DEBUG);
+        monitor.info("blocks the writer");
+        output.awaitWriting();
+
+        // the first six records fill the buffer up to three quarters, the next four are sampled
+        for (var i = 0; i < 10; i++) {
+            monitor.info("info " + i);
+        }
+
+        assertThat(monitor.getDroppedCount()).isEqualTo(2);
+        assertThat(monitor.getPendingCount()).isEqualTo(8);
+
+        output.release();
+        monitor.close();
+        assertThat(output.lines()).hasSize(9);
+        assertThat(output.toString()).doesNotContain("info 6").doesNotContain("info 8");
+    }
+
+    private AsyncMonitor monitor(AsyncMonitor.OverflowPolicy policy, int capacity, Level level) {
+        return AsyncMonitor.Builder.newInstance()
+                .runtimeName("test")
+                .level(level)
+                .overflowPolicy(policy)
+                .capacity(capacity)
+                .sampleRate(2)
+                .zone(ZoneOffset.UTC)
+                .output(new PrintStream(output, true, UTF_8))
+                .build();
+    }
+
+    /**
+     * Output that blocks the writer thread on its first write until released.
+     */
+    private static class BlockingOutput extends OutputStream {
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public void write(int b) {
+            writing.countDown();
+            try {
+                released.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (content) {
+                content.write(b);
+            }
+        }
+
+        void awaitWriting() throws InterruptedException {
+            assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        String[] lines() {
+            return toString().split(System.lineSeparator());
+        }
+
+        @Override
+        public String toString() {
+            synchronized (content) {
+                return content.toString(UTF_8);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.monitor.async;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RingBufferTest {
+
+    @Test
+    void offer_roundsCapacityUpAndRejectsWhenFull() {
+        var buffer = new RingBuffer<Integer>(3);
+
+        assertThat(buffer.capacity()).isEqualTo(4);
+        for (var i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+    }
+
+    @Test
+    void poll_returnsElementsInOfferOrder() {
+        var buffer = new RingBuffer<Integer>(2);
+
+        for (var i = 0; i < 10; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+            assertThat(buffer.poll()).isEqualTo(i);
+        }
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void concurrentProducers_noElementLost() throws Exception {
+        var producers = 4;
+        var perProducer = 10_000;
+        var buffer = new RingBuffer<long[]>(64);
+        var executor = Executors.newFixedThreadPool(producers);
+        var start = new CountDownLatch(1);
+        for (var p = 0; p < producers; p++) {
+            var producer = p;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (var i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(new long[]{ producer, i })) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+
+        start.countDown();
+        var received = new ArrayList<long[]>();
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (received.size() < producers * perProducer && System.nanoTime() < deadline) {
+            var element = buffer.poll();
+            if (element != null) {
+                received.add(element);
+            }
+        }
+        executor.shutdownNow();
+
+        assertThat(received).hasSize(producers * perProducer);
+        var next = new long[producers];
+        for (var element : received) {
+            // the elements of a single producer keep their order
+            assertThat(element[1]).isEqualTo(next[(int) element[0]]++);
+        }
+    }
+}
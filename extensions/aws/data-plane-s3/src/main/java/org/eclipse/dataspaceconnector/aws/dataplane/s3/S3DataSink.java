@@ -14,18 +14,35 @@
 
 package org.eclipse.dataspaceconnector.aws.dataplane.s3;
 
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.ChunkedWrite;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.ParallelSink;
 import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
 import org.eclipse.dataspaceconnector.spi.response.StatusResult;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
 import java.io.IOException;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
 
 class S3DataSink extends ParallelSink {
+    private static final long MIN_MULTIPART_SIZE = 5 * 1024 * 1024;
+    private static final int MAX_MULTIPART_PARTS = 10000;
 
     private S3Client client;
     private String bucketName;
@@ -53,6 +70,77 @@ class S3DataSink extends ParallelSink {
         return StatusResult.success();
     }
 
+    /**
+     * Large parts are written with a multipart upload, whose parts must be at least 5 MB, except for the last one, and
+     * which has at most 10000 parts.
+     */
+    @Override
+    protected boolean supportsChunkedWrites() {
+        return true;
+    }
+
+    @Override
+    protected long chunkSizeOf(long partSize) {
+        return Math.max(chunkSize, (partSize + MAX_MULTIPART_PARTS - 1) / MAX_MULTIPART_PARTS);
+    }
+
+    @Override
+    protected ChunkedWrite openChunkedWrite(DataSource.Part part) {
+        var request = CreateMultipartUploadRequest.builder().bucket(bucketName).key(keyName).build();
+        return new MultipartUpload(client.createMultipartUpload(request).uploadId());
+    }
+
+    private class MultipartUpload implements ChunkedWrite {
+        private final String uploadId;
+        private final Map<Integer, CompletedPart> completedParts = new ConcurrentHashMap<>();
+
+        MultipartUpload(String uploadId) {
+            this.uploadId = uploadId;
+        }
+
+        @Override
+        public StatusResult<Void> write(int index, long offset, byte[] content) {
+            // S3 part numbers start at 1
+            var partNumber = index + 1;
+            var request = UploadPartRequest.builder()
+                    .bucket(bucketName)
+                    .key(keyName)
+                    .uploadId(uploadId)
+                    .partNumber(partNumber)
+                    .build();
+            UploadPartResponse response;
+            try {
+                response = client.uploadPart(request, RequestBody.fromBytes(content));
+            } catch (SdkException e) {
+                var message = format("Error uploading part %d of %s to bucket %s", partNumber, keyName, bucketName);
+                monitor.severe(message, e);
+                return StatusResult.failure(ResponseStatus.ERROR_RETRY, message);
+            }
+            completedParts.put(partNumber, CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+            return StatusResult.success();
+        }
+
+        @Override
+        public StatusResult<Void> commit() {
+            var parts = completedParts.values().stream()
+                    .sorted(Comparator.comparing(CompletedPart::partNumber))
+                    .collect(Collectors.toList());
+            var request = CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(keyName)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build();
+            client.completeMultipartUpload(request);
+            return StatusResult.success();
+        }
+
+        @Override
+        public void abort() {
+            client.abortMultipartUpload(AbortMultipartUploadRequest.builder().bucket(bucketName).key(keyName).uploadId(uploadId).build());
+        }
+    }
+
     public static class Builder extends ParallelSink.Builder<Builder, S3DataSink> {
 
         private Builder() {
@@ -80,7 +168,7 @@ class S3DataSink extends ParallelSink {
 
         @Override
         protected void validate() {
-
+            sink.chunkSize = Math.max(sink.chunkSize, MIN_MULTIPART_SIZE);
         }
     }
 }
@@ -22,6 +22,8 @@ import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import java.io.InputStream;
 import java.util.stream.Stream;
 
+import static java.lang.String.format;
+
 class S3DataSource implements DataSource {
 
     private String bucketName;
@@ -39,6 +41,7 @@ class S3DataSource implements DataSource {
         private final S3Client client;
         private final String keyName;
         private final String bucketName;
+        private long size = SIZE_UNKNOWN;
 
         S3Part(S3Client client, String keyName, String bucketName) {
             this.client = client;
@@ -53,8 +56,11 @@ class S3DataSource implements DataSource {
 
         @Override
         public long size() {
-            var request = HeadObjectRequest.builder().key(keyName).bucket(bucketName).build();
-            return client.headObject(request).contentLength();
+            if (size == SIZE_UNKNOWN) {
+                var request = HeadObjectRequest.builder().key(keyName).bucket(bucketName).build();
+                size = client.headObject(request).contentLength();
+            }
+            return size;
         }
 
         @Override
@@ -62,6 +68,19 @@ class S3DataSource implements DataSource {
             var request = GetObjectRequest.builder().key(keyName).bucket(bucketName).build();
             return client.getObject(request);
         }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return true;
+        }
+
+        @Override
+        public byte[] read(long offset, long bytes) {
+            var request = GetObjectRequest.builder().key(keyName).bucket(bucketName)
+                    .range(format("bytes=%d-%d", offset, offset + bytes - 1))
+                    .build();
+            return client.getObjectAsBytes(request).asByteArray();
+        }
     }
 
     public static class Builder {
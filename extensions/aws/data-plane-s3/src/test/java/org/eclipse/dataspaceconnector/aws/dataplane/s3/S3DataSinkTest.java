@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ */
+
+package org.eclipse.dataspaceconnector.aws.dataplane.s3;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3DataSinkTest {
+
+    private static final long MB = 1024 * 1024;
+
+    private final S3Client client = mock(S3Client.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final S3DataSink sink = S3DataSink.Builder.newInstance()
+            .requestId(UUID.randomUUID().toString())
+            .client(client)
+            .bucketName("bucket")
+            .keyName("key")
+            .executorService(executor)
+            .monitor(mock(Monitor.class))
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void transfer_whenUploadPartFails_abortsAndFails() {
+        when(client.createMultipartUpload(any(CreateMultipartUploadRequest.class))).thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload").build());
+        when(client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenThrow(SdkClientException.create("unreachable"));
+
+        assertThat(sink.transfer(() -> Stream.of(largePart(10 * MB)))).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(result -> assertThat(result.failed()).isTrue());
+
+        verify(client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void chunkSizeOf_keepsPartsWithinMultipartLimit() {
+        var size = 200_000 * MB;
+
+        var chunkSize = sink.chunkSizeOf(size);
+
+        assertThat((size + chunkSize - 1) / chunkSize).isLessThanOrEqualTo(10000);
+        assertThat(sink.chunkSizeOf(10 * MB)).isEqualTo(8 * MB);
+    }
+
+    private DataSource.Part largePart(long size) {
+        return new DataSource.Part() {
+            @Override
+            public String name() {
+                return "large";
+            }
+
+            @Override
+            public long size() {
+                return size;
+            }
+
+            @Override
+            public InputStream openStream() {
+                return new ByteArrayInputStream(new byte[0]);
+            }
+
+            @Override
+            public boolean supportsRandomAccess() {
+                return true;
+            }
+
+            @Override
+            public byte[] read(long offset, long bytes) {
+                return new byte[(int) bytes];
+            }
+        };
+    }
+}
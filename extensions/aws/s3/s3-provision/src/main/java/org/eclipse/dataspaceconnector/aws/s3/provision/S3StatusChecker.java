@@ -19,20 +19,32 @@ import dev.failsafe.RetryPolicy;
 import org.eclipse.dataspaceconnector.aws.s3.core.ClientProvider;
 import org.eclipse.dataspaceconnector.aws.s3.core.S3BucketSchema;
 import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.BatchStatusChecker;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.CompletionMarker;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedResource;
-import org.eclipse.dataspaceconnector.spi.types.domain.transfer.StatusChecker;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
-import software.amazon.awssdk.services.s3.model.ListObjectsRequest;
-import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 
-public class S3StatusChecker implements StatusChecker {
+/**
+ * Checks for the {@link CompletionMarker}s in the destination bucket. Markers are probed with HEAD requests, so that a check
+ * does not need to list a bucket that might hold a large number of objects.
+ */
+public class S3StatusChecker implements BatchStatusChecker {
     private final ClientProvider clientProvider;
     private final RetryPolicy<Object> retryPolicy;
 
@@ -43,51 +55,112 @@ public class S3StatusChecker implements StatusChecker {
 
     @Override
     public boolean isComplete(TransferProcess transferProcess, List<ProvisionedResource> resources) {
-        if (resources.isEmpty()) {
-            var destination = transferProcess.getDataRequest().getDataDestination();
-            var bucketName = destination.getProperty(S3BucketSchema.BUCKET_NAME);
-            var region = destination.getProperty(S3BucketSchema.REGION);
-            return checkBucket(bucketName, region);
-        } else {
-            for (var resource : resources) {
-                if (resource instanceof S3BucketProvisionedResource) {
-                    var provisionedResource = (S3BucketProvisionedResource) resource;
-                    try {
-                        var bucketName = provisionedResource.getBucketName();
-                        var region = provisionedResource.getRegion();
-                        return checkBucket(bucketName, region);
-                    } catch (CompletionException cpe) {
-                        if (cpe.getCause() instanceof NoSuchBucketException) {
-                            return false;
-                        }
-                        throw cpe;
-                    }
+        var bucket = bucketFor(transferProcess, resources);
+        var names = new ArrayList<String>();
+        names.add(CompletionMarker.NAME);
+        names.addAll(CompletionMarker.namesFor(transferProcess));
+        return anyExists(bucket, names).join();
+    }
 
-                }
+    /**
+     * Checks the processes grouped by their destination bucket, so that the marker shared by all transfers to a bucket is
+     * probed only once per bucket. The markers of the single processes are probed concurrently.
+     */
+    @Override
+    public Set<String> completed(Map<TransferProcess, List<ProvisionedResource>> processes) {
+        var byBucket = new LinkedHashMap<Bucket, List<TransferProcess>>();
+        processes.forEach((process, resources) -> byBucket.computeIfAbsent(bucketFor(process, resources), b -> new ArrayList<>()).add(process));
+
+        var completed = new HashSet<String>();
+        byBucket.forEach((bucket, group) -> {
+            if (exists(bucket, CompletionMarker.NAME).join()) {
+                group.forEach(process -> completed.add(process.getId()));
+                return;
             }
+            var probes = group.stream()
+                    .collect(Collectors.toMap(TransferProcess::getId, process -> anyExists(bucket, CompletionMarker.namesFor(process))));
+            probes.forEach((id, probe) -> {
+                if (probe.join()) {
+                    completed.add(id);
+                }
+            });
+        });
+        return completed;
+    }
 
+    private Bucket bucketFor(TransferProcess transferProcess, List<ProvisionedResource> resources) {
+        if (resources.isEmpty()) {
+            var destination = transferProcess.getDataRequest().getDataDestination();
+            return new Bucket(destination.getProperty(S3BucketSchema.BUCKET_NAME), destination.getProperty(S3BucketSchema.REGION));
+        }
+        for (var resource : resources) {
+            if (resource instanceof S3BucketProvisionedResource) {
+                var provisionedResource = (S3BucketProvisionedResource) resource;
+                return new Bucket(provisionedResource.getBucketName(), provisionedResource.getRegion());
+            }
         }
 
         // otherwise, we have an implementation error
         throw new EdcException(format("No bucket resource was associated with the transfer process: %s - cannot determine completion.", transferProcess.getId()));
     }
 
-    private boolean checkBucket(String bucketName, String region) {
-        try {
-            var s3client = clientProvider.clientFor(S3AsyncClient.class, region);
-
-            var rq = ListObjectsRequest.builder().bucket(bucketName).build();
-            var response = Failsafe.with(retryPolicy)
-                    .getStageAsync(() -> s3client.listObjects(rq))
-                    .join();
-            return response.contents().stream().anyMatch(s3object -> s3object.key().endsWith(".complete"));
-        } catch (CompletionException ex) {
-            if (ex.getCause() instanceof S3Exception) {
+    private CompletableFuture<Boolean> anyExists(Bucket bucket, List<String> keys) {
+        var probes = keys.stream().map(key -> exists(bucket, key)).collect(Collectors.toList());
+        return CompletableFuture.allOf(probes.toArray(CompletableFuture[]::new))
+                .thenApply(v -> probes.stream().anyMatch(CompletableFuture::join));
+    }
+
+    /**
+     * Probes an object with a HEAD request. A missing object or bucket is not retried, and like any other S3 error
+     * it means that the object does not exist (yet).
+     */
+    private CompletableFuture<Boolean> exists(Bucket bucket, String key) {
+        var s3client = clientProvider.clientFor(S3AsyncClient.class, bucket.region);
+        var rq = HeadObjectRequest.builder().bucket(bucket.name).key(key).build();
+        return Failsafe.with(retryPolicy)
+                .getStageAsync(() -> s3client.headObject(rq).handle((response, error) -> {
+                    if (error == null) {
+                        return true;
+                    }
+                    var cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (cause instanceof S3Exception && ((S3Exception) cause).statusCode() == 404) {
+                        return false;
+                    }
+                    throw new CompletionException(cause);
+                }))
+                .exceptionally(error -> {
+                    var cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (cause instanceof S3Exception) {
+                        return false;
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+
+    private static class Bucket {
+        private final String name;
+        private final String region;
+
+        Bucket(String name, String region) {
+            this.name = name;
+            this.region = region;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
                 return false;
-            } else {
-                throw ex;
             }
+            var that = (Bucket) o;
+            return Objects.equals(name, that.name) && Objects.equals(region, that.region);
         }
-    }
 
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, region);
+        }
+    }
 }
@@ -20,7 +20,9 @@ import org.eclipse.dataspaceconnector.aws.s3.core.S3BucketSchema;
 import org.eclipse.dataspaceconnector.aws.testfixtures.AbstractS3Test;
 import org.eclipse.dataspaceconnector.aws.testfixtures.annotations.AwsS3IntegrationTest;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.CompletionMarker;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedResource;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +30,7 @@ import software.amazon.awssdk.services.s3.S3AsyncClient;
 
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Supplier;
 
@@ -109,6 +112,38 @@ class S3StatusCheckerIntegrationTest extends AbstractS3Test {
         assertThat(complete).isFalse();
     }
 
+    @Test
+    void isComplete_whenSharedMarkerExists() throws InterruptedException {
+        putTestFile(CompletionMarker.NAME, getFileFromResourceName("hello.txt"), bucketName);
+        var transferProcess = createTransferProcess(bucketName);
+
+        var hasCompleted = waitUntil(() -> checker.isComplete(transferProcess, emptyList()), ONE_MINUTE_MILLIS);
+
+        assertThat(hasCompleted).isTrue();
+    }
+
+    @Test
+    void isComplete_whenMarkerOfOtherProcessExists() {
+        putTestFile(UUID.randomUUID() + ".complete", getFileFromResourceName("hello.txt"), bucketName);
+
+        var complete = checker.isComplete(createTransferProcess(bucketName), emptyList());
+
+        assertThat(complete).isFalse();
+    }
+
+    @Test
+    void completed_shouldReturnCompletedProcessesSharingBucket() throws InterruptedException {
+        putTestFile(PROCESS_ID + ".complete", getFileFromResourceName("hello.txt"), bucketName);
+        var completed = createTransferProcess(PROCESS_ID, bucketName);
+        var notCompleted = createTransferProcess(UUID.randomUUID().toString(), bucketName);
+        var processes = Map.of(completed, List.<ProvisionedResource>of(), notCompleted, List.<ProvisionedResource>of());
+
+        var hasCompleted = waitUntil(() -> checker.completed(processes).contains(PROCESS_ID), ONE_MINUTE_MILLIS);
+
+        assertThat(hasCompleted).isTrue();
+        assertThat(checker.completed(processes)).containsExactly(PROCESS_ID);
+    }
+
     private boolean waitUntil(Supplier<Boolean> conditionSupplier, long maxTimeMillis) throws InterruptedException {
         var done = false;
         var start = System.currentTimeMillis();
@@ -137,8 +172,12 @@ class S3StatusCheckerIntegrationTest extends AbstractS3Test {
     }
 
     private TransferProcess createTransferProcess(String bucketName) {
+        return createTransferProcess(PROCESS_ID, bucketName);
+    }
+
+    private TransferProcess createTransferProcess(String id, String bucketName) {
         return TransferProcess.Builder.newInstance()
-                .id(UUID.randomUUID().toString())
+                .id(id)
                 .dataRequest(DataRequest.Builder.newInstance()
                         .destinationType(S3BucketSchema.TYPE)
                         .dataDestination(DataAddress.Builder.newInstance()
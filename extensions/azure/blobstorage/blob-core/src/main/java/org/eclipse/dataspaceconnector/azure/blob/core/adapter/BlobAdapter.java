@@ -18,6 +18,7 @@ import com.azure.storage.blob.specialized.BlockBlobClient;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.List;
 
 /**
  * Adapter over {@link BlockBlobClient} in order to support mocking.
@@ -25,9 +26,32 @@ import java.io.OutputStream;
 public interface BlobAdapter {
     OutputStream getOutputStream();
 
+    /**
+     * Opens a stream that uploads the written data in blocks of the given size, staging up to {@code maxConcurrency}
+     * blocks concurrently, and commits them when the stream is closed.
+     */
+    default OutputStream getOutputStream(long blockSize, int maxConcurrency) {
+        return getOutputStream();
+    }
+
     InputStream openInputStream();
 
     String getBlobName();
 
     long getBlobSize();
+
+    /**
+     * Opens a stream over a range of the blob.
+     */
+    InputStream openInputStream(long offset, long count);
+
+    /**
+     * Uploads a block, which becomes part of the blob only once it is committed with {@link #commitBlockList(List)}.
+     */
+    void stageBlock(String blockId, byte[] content);
+
+    /**
+     * Writes the blob from the given staged blocks, in order, replacing any existing content.
+     */
+    void commitBlockList(List<String> blockIds);
 }
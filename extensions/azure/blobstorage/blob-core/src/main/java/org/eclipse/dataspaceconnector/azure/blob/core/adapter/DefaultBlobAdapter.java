@@ -14,10 +14,14 @@
 
 package org.eclipse.dataspaceconnector.azure.blob.core.adapter;
 
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.ParallelTransferOptions;
 import com.azure.storage.blob.specialized.BlockBlobClient;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.List;
 
 /**
  * Implementation of {@link BlobAdapter} using a {@link BlockBlobClient}.
@@ -34,6 +38,13 @@ public class DefaultBlobAdapter implements BlobAdapter {
         return client.getBlobOutputStream(/* overwrite = */ true);
     }
 
+    @Override
+    public OutputStream getOutputStream(long blockSize, int maxConcurrency) {
+        var options = new ParallelTransferOptions().setBlockSizeLong(blockSize).setMaxConcurrency(maxConcurrency);
+        // without request conditions the blob is overwritten
+        return client.getBlobOutputStream(options, null, null, null, null);
+    }
+
     @Override
     public InputStream openInputStream() {
         return client.openInputStream();
@@ -48,4 +59,19 @@ public class DefaultBlobAdapter implements BlobAdapter {
     public long getBlobSize() {
         return client.getProperties().getBlobSize();
     }
+
+    @Override
+    public InputStream openInputStream(long offset, long count) {
+        return client.openInputStream(new BlobRange(offset, count), null);
+    }
+
+    @Override
+    public void stageBlock(String blockId, byte[] content) {
+        client.stageBlock(blockId, new ByteArrayInputStream(content), content.length);
+    }
+
+    @Override
+    public void commitBlockList(List<String> blockIds) {
+        client.commitBlockList(blockIds, /* overwrite = */ true);
+    }
 }
@@ -19,7 +19,7 @@ import com.azure.storage.blob.models.BlobItem;
 import org.eclipse.dataspaceconnector.azure.blob.core.adapter.BlobAdapter;
 
 import java.time.OffsetDateTime;
-import java.util.List;
+import java.util.stream.Stream;
 
 public interface BlobStoreApi {
 
@@ -29,9 +29,18 @@ public interface BlobStoreApi {
 
     boolean exists(String accountName, String containerName);
 
+    /**
+     * Checks if a blob exists, without listing the container. Returns false if the container does not exist either.
+     */
+    boolean exists(String accountName, String containerName, String blobName);
+
     String createContainerSasToken(String accountName, String containerName, String accessSpec, OffsetDateTime expiry);
 
-    List<BlobItem> listContainer(String accountName, String containerName);
+    /**
+     * Lists the blobs of a container. The listing is paged: pages are fetched from the service only as the returned stream
+     * is consumed, so that large containers are not loaded into memory at once.
+     */
+    Stream<BlobItem> listContainer(String accountName, String containerName);
 
     void putBlob(String accountName, String containerName, String blobName, byte[] data);
 
@@ -28,24 +28,43 @@ import com.azure.storage.common.sas.AccountSasService;
 import com.azure.storage.common.sas.AccountSasSignatureValues;
 import org.eclipse.dataspaceconnector.azure.blob.core.adapter.BlobAdapter;
 import org.eclipse.dataspaceconnector.azure.blob.core.adapter.DefaultBlobAdapter;
+import org.eclipse.dataspaceconnector.common.collection.LruCache;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.OffsetDateTime;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
-
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Accesses Azure Blob Storage with {@link BlobServiceClient}s that are shared between callers.
+ * <p>
+ * Clients are thread-safe and hold connection pools, so they are cached per account and credential in a bounded LRU
+ * cache instead of being built per request. Clients for accounts whose key is resolved from the vault are cached per
+ * account, clients built from a shared key or SAS token per account and credential, so that a new credential gets a new client.
+ * The cache keys hold a SHA-256 hash of the credential instead of the credential itself.
+ */
 public class BlobStoreApiImpl implements BlobStoreApi {
+    public static final int DEFAULT_MAX_CLIENTS = 100;
 
     private final Vault vault;
     private final String blobstoreEndpointTemplate;
-    private final Map<String, BlobServiceClient> cache = new HashMap<>();
+    private final Map<ClientKey, CachedClient> clients;
 
     public BlobStoreApiImpl(Vault vault, String blobstoreEndpointTemplate) {
+        this(vault, blobstoreEndpointTemplate, DEFAULT_MAX_CLIENTS);
+    }
+
+    public BlobStoreApiImpl(Vault vault, String blobstoreEndpointTemplate, int maxClients) {
         this.vault = vault;
         this.blobstoreEndpointTemplate = blobstoreEndpointTemplate;
+        clients = Collections.synchronizedMap(new LruCache<>(maxClients));
     }
 
     @Override
@@ -63,6 +82,11 @@ public class BlobStoreApiImpl implements BlobStoreApi {
         return getBlobServiceClient(accountName).getBlobContainerClient(containerName).exists();
     }
 
+    @Override
+    public boolean exists(String accountName, String containerName, String blobName) {
+        return getBlobServiceClient(accountName).getBlobContainerClient(containerName).getBlobClient(blobName).exists();
+    }
+
     @Override
     public String createContainerSasToken(String accountName, String containerName, String permissionSpec, OffsetDateTime expiry) {
         BlobContainerSasPermission permissions = BlobContainerSasPermission.parse(permissionSpec);
@@ -71,8 +95,9 @@ public class BlobStoreApiImpl implements BlobStoreApi {
     }
 
     @Override
-    public List<BlobItem> listContainer(String accountName, String containerName) {
-        return getBlobServiceClient(accountName).getBlobContainerClient(containerName).listBlobs().stream().collect(Collectors.toList());
+    public Stream<BlobItem> listContainer(String accountName, String containerName) {
+        // the paged iterable fetches the next page of results only when the stream reaches it
+        return getBlobServiceClient(accountName).getBlobContainerClient(containerName).listBlobs().stream();
     }
 
     @Override
@@ -100,22 +125,25 @@ public class BlobStoreApiImpl implements BlobStoreApi {
     private BlobServiceClient getBlobServiceClient(String accountName) {
         Objects.requireNonNull(accountName, "accountName");
 
-        if (cache.containsKey(accountName)) {
-            return cache.get(accountName);
-        }
-
-        var accountKey = vault.resolveSecret(accountName + "-key1");
+        return getClient(new ClientKey(accountName, null), () -> {
+            var accountKey = vault.resolveSecret(accountName + "-key1");
 
-        if (accountKey == null) {
-            throw new IllegalArgumentException("No Object Storage credential found in vault!");
-        }
+            if (accountKey == null) {
+                throw new IllegalArgumentException("No Object Storage credential found in vault!");
+            }
 
-        BlobServiceClient blobServiceClient = new BlobServiceClientBuilder().credential(createCredential(accountKey, accountName))
-                .endpoint(createEndpoint(accountName))
-                .buildClient();
+            return new BlobServiceClientBuilder().credential(createCredential(accountKey, accountName));
+        });
+    }
 
-        cache.put(accountName, blobServiceClient);
-        return blobServiceClient;
+    /**
+     * Returns the cached client for the key, building it on a miss. Only an empty entry is created while holding the cache
+     * lock, the credential is resolved and the client built while holding the lock of the entry, so that concurrent callers
+     * share a single client and a slow vault does not block the callers of other clients.
+     */
+    private BlobServiceClient getClient(ClientKey key, Supplier<BlobServiceClientBuilder> builder) {
+        return clients.computeIfAbsent(key, k -> new CachedClient())
+                .get(() -> builder.get().endpoint(createEndpoint(key.accountName)).buildClient());
     }
 
     private StorageSharedKeyCredential createCredential(String accountKey, String accountName) {
@@ -124,21 +152,19 @@ public class BlobStoreApiImpl implements BlobStoreApi {
 
     @Override
     public BlobAdapter getBlobAdapter(String accountName, String containerName, String blobName, String sharedKey) {
-        BlobServiceClientBuilder builder = new BlobServiceClientBuilder().credential(new StorageSharedKeyCredential(accountName, sharedKey));
-        return getBlobAdapter(accountName, containerName, blobName, builder);
+        var client = getClient(new ClientKey(accountName, "key:" + sharedKey),
+                () -> new BlobServiceClientBuilder().credential(new StorageSharedKeyCredential(accountName, sharedKey)));
+        return getBlobAdapter(client, containerName, blobName);
     }
 
     @Override
     public BlobAdapter getBlobAdapter(String accountName, String containerName, String blobName, AzureSasCredential credential) {
-        BlobServiceClientBuilder builder = new BlobServiceClientBuilder().credential(credential);
-        return getBlobAdapter(accountName, containerName, blobName, builder);
+        var client = getClient(new ClientKey(accountName, "sas:" + credential.getSignature()),
+                () -> new BlobServiceClientBuilder().credential(credential));
+        return getBlobAdapter(client, containerName, blobName);
     }
 
-    private BlobAdapter getBlobAdapter(String accountName, String containerName, String blobName, BlobServiceClientBuilder builder) {
-        var blobServiceClient = builder
-                .endpoint(createEndpoint(accountName))
-                .buildClient();
-
+    private BlobAdapter getBlobAdapter(BlobServiceClient blobServiceClient, String containerName, String blobName) {
         var blockBlobClient = blobServiceClient
                 .getBlobContainerClient(containerName)
                 .getBlobClient(blobName)
@@ -150,4 +176,57 @@ public class BlobStoreApiImpl implements BlobStoreApi {
     private String createEndpoint(String accountName) {
         return String.format(blobstoreEndpointTemplate, accountName);
     }
+
+    /**
+     * A client in the cache, which is built on first use.
+     */
+    private static final class CachedClient {
+        private BlobServiceClient client;
+
+        synchronized BlobServiceClient get(Supplier<BlobServiceClient> factory) {
+            if (client == null) {
+                client = factory.get();
+            }
+            return client;
+        }
+    }
+
+    /**
+     * Identifies a cached client by account and credential. A null credential denotes the account key from the vault.
+     */
+    private static final class ClientKey {
+        private final String accountName;
+        private final String credential;
+
+        ClientKey(String accountName, String credential) {
+            this.accountName = accountName;
+            this.credential = credential != null ? hash(credential) : null;
+        }
+
+        private static String hash(String credential) {
+            try {
+                var digest = MessageDigest.getInstance("SHA-256").digest(credential.getBytes(StandardCharsets.UTF_8));
+                return Base64.getEncoder().encodeToString(digest);
+            } catch (NoSuchAlgorithmException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var that = (ClientKey) o;
+            return accountName.equals(that.accountName) && Objects.equals(credential, that.credential);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(accountName, credential);
+        }
+    }
 }
@@ -14,13 +14,28 @@
 
 package org.eclipse.dataspaceconnector.azure.blob.core.api;
 
+import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.junit.jupiter.api.Test;
 
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.eclipse.dataspaceconnector.azure.blob.core.AzureStorageTestFixtures.createAccountName;
 import static org.eclipse.dataspaceconnector.azure.blob.core.AzureStorageTestFixtures.createBlobName;
 import static org.eclipse.dataspaceconnector.azure.blob.core.AzureStorageTestFixtures.createContainerName;
 import static org.eclipse.dataspaceconnector.azure.blob.core.AzureStorageTestFixtures.createSharedKey;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class BlobStoreApiImplTest {
 
@@ -34,4 +49,44 @@ class BlobStoreApiImplTest {
                         createBlobName(),
                         createSharedKey()));
     }
+
+    @Test
+    void getBlobServiceClient_isSharedBetweenConcurrentCallers() throws Exception {
+        var vault = mock(Vault.class);
+        when(vault.resolveSecret(anyString())).thenReturn(accountKey());
+        var service = new BlobStoreApiImpl(vault, "https://%s.blob.core.windows.net");
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var tasks = IntStream.range(0, 32)
+                    .mapToObj(i -> (Callable<String>) () -> service.createContainerSasToken("account", "container", "r", OffsetDateTime.now().plusHours(1)))
+                    .collect(toList());
+
+            for (Future<String> future : executor.invokeAll(tasks)) {
+                assertThat(future.get()).isNotBlank();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(vault, times(1)).resolveSecret("account-key1");
+    }
+
+    @Test
+    void getBlobServiceClient_evictsLeastRecentlyUsedClient() {
+        var vault = mock(Vault.class);
+        when(vault.resolveSecret(anyString())).thenReturn(accountKey());
+        var service = new BlobStoreApiImpl(vault, "https://%s.blob.core.windows.net", 1);
+        var expiry = OffsetDateTime.now().plusHours(1);
+
+        service.createContainerSasToken("account1", "container", "r", expiry);
+        service.createContainerSasToken("account2", "container", "r", expiry);
+        service.createContainerSasToken("account1", "container", "r", expiry);
+
+        verify(vault, times(2)).resolveSecret("account1-key1");
+        verify(vault, times(1)).resolveSecret("account2-key1");
+    }
+
+    private static String accountKey() {
+        return Base64.getEncoder().encodeToString(createSharedKey().getBytes());
+    }
 }
@@ -19,15 +19,26 @@ import dev.failsafe.RetryPolicy;
 import org.eclipse.dataspaceconnector.azure.blob.core.AzureBlobStoreSchema;
 import org.eclipse.dataspaceconnector.azure.blob.core.api.BlobStoreApi;
 import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.BatchStatusChecker;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.CompletionMarker;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedResource;
-import org.eclipse.dataspaceconnector.spi.types.domain.transfer.StatusChecker;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import static java.lang.String.format;
 
-public class ObjectContainerStatusChecker implements StatusChecker {
+/**
+ * Checks for the {@link CompletionMarker}s in the destination container. Markers are probed by name, so that a check does
+ * not need to list a container that might hold a large number of blobs.
+ */
+public class ObjectContainerStatusChecker implements BatchStatusChecker {
     private final BlobStoreApi blobStoreApi;
     private final RetryPolicy<Object> retryPolicy;
 
@@ -38,31 +49,74 @@ public class ObjectContainerStatusChecker implements StatusChecker {
 
     @Override
     public boolean isComplete(TransferProcess transferProcess, List<ProvisionedResource> resources) {
-        if (!resources.isEmpty()) {
-            for (var resource : resources) {
-                if (resource instanceof ObjectContainerProvisionedResource) {
-                    var provisionedResource = (ObjectContainerProvisionedResource) resource;
-                    String accountName = provisionedResource.getAccountName();
-                    String containerName = provisionedResource.getContainerName();
-                    return checkContainerExists(accountName, containerName);
-                }
+        var container = containerFor(transferProcess, resources);
+        return exists(container, CompletionMarker.NAME) || CompletionMarker.namesFor(transferProcess).stream().anyMatch(name -> exists(container, name));
+    }
+
+    /**
+     * Checks the processes grouped by their destination container, so that the marker shared by all transfers to a
+     * container is probed only once per container.
+     */
+    @Override
+    public Set<String> completed(Map<TransferProcess, List<ProvisionedResource>> processes) {
+        var byContainer = new LinkedHashMap<Container, List<TransferProcess>>();
+        processes.forEach((process, resources) -> byContainer.computeIfAbsent(containerFor(process, resources), c -> new ArrayList<>()).add(process));
+
+        var completed = new HashSet<String>();
+        byContainer.forEach((container, group) -> {
+            if (exists(container, CompletionMarker.NAME)) {
+                group.forEach(process -> completed.add(process.getId()));
+            } else {
+                group.stream()
+                        .filter(process -> CompletionMarker.namesFor(process).stream().anyMatch(name -> exists(container, name)))
+                        .forEach(process -> completed.add(process.getId()));
+            }
+        });
+        return completed;
+    }
+
+    private Container containerFor(TransferProcess transferProcess, List<ProvisionedResource> resources) {
+        if (resources.isEmpty()) {
+            var destination = transferProcess.getDataRequest().getDataDestination();
+            return new Container(destination.getProperty(AzureBlobStoreSchema.ACCOUNT_NAME), destination.getProperty(AzureBlobStoreSchema.CONTAINER_NAME));
+        }
+        for (var resource : resources) {
+            if (resource instanceof ObjectContainerProvisionedResource) {
+                var provisionedResource = (ObjectContainerProvisionedResource) resource;
+                return new Container(provisionedResource.getAccountName(), provisionedResource.getContainerName());
             }
-        } else {
-            var accountName = transferProcess.getDataRequest().getDataDestination().getProperty(AzureBlobStoreSchema.ACCOUNT_NAME);
-            var containerName = transferProcess.getDataRequest().getDataDestination().getProperty(AzureBlobStoreSchema.CONTAINER_NAME);
-            return checkContainerExists(accountName, containerName);
         }
         throw new EdcException(format("No object container resource was associated with the transfer process: %s - cannot determine completion.", transferProcess));
     }
 
-    private boolean checkContainerExists(String accountName, String containerName) {
-        if (!blobStoreApi.exists(accountName, containerName)) {
-            return false;
+    private boolean exists(Container container, String blobName) {
+        return Failsafe.with(retryPolicy).get(() -> blobStoreApi.exists(container.accountName, container.containerName, blobName));
+    }
+
+    private static class Container {
+        private final String accountName;
+        private final String containerName;
+
+        Container(String accountName, String containerName) {
+            this.accountName = accountName;
+            this.containerName = containerName;
         }
 
-        // TODO: this checks if there is **any** file ends with *.complete. This can be improved to check for a particular file name, if specified
-        return Failsafe.with(retryPolicy).get(() -> blobStoreApi.listContainer(accountName, containerName)
-                .stream().anyMatch(bci -> bci.getName().endsWith(".complete")));
-    }
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var that = (Container) o;
+            return Objects.equals(accountName, that.accountName) && Objects.equals(containerName, that.containerName);
+        }
 
+        @Override
+        public int hashCode() {
+            return Objects.hash(accountName, containerName);
+        }
+    }
 }
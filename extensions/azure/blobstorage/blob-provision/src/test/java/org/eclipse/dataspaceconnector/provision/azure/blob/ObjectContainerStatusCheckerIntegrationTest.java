@@ -23,12 +23,16 @@ import org.eclipse.dataspaceconnector.azure.testfixtures.annotations.AzureStorag
 import org.eclipse.dataspaceconnector.junit.testfixtures.TestUtils;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.CompletionMarker;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedResource;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static java.util.Collections.emptyList;
@@ -105,9 +109,40 @@ class ObjectContainerStatusCheckerIntegrationTest extends AbstractAzureBlobTest
         assertThat(checker.isComplete(tp, singletonList(pr))).isFalse();
     }
 
+    @Test
+    void isComplete_sharedMarker() {
+        putBlob(CompletionMarker.NAME, helloTxt);
+
+        var tp = createTransferProcess(account1ContainerName);
+        assertThat(checker.isComplete(tp, emptyList())).isTrue();
+    }
+
+    @Test
+    void isComplete_markerOfOtherProcess_notComplete() {
+        putBlob(UUID.randomUUID() + ".complete", helloTxt);
+
+        var tp = createTransferProcess(account1ContainerName);
+        assertThat(checker.isComplete(tp, emptyList())).isFalse();
+    }
+
+    @Test
+    void completed_processesSharingContainer() {
+        putBlob(testRunId + ".complete", helloTxt);
+        var completed = createTransferProcess(testRunId, account1ContainerName);
+        var notCompleted = createTransferProcess(UUID.randomUUID().toString(), account1ContainerName);
+
+        var result = checker.completed(Map.of(completed, List.<ProvisionedResource>of(), notCompleted, List.<ProvisionedResource>of()));
+
+        assertThat(result).containsExactly(testRunId);
+    }
+
     private TransferProcess createTransferProcess(String containerName) {
+        return createTransferProcess(testRunId, containerName);
+    }
+
+    private TransferProcess createTransferProcess(String id, String containerName) {
         return TransferProcess.Builder.newInstance()
-                .id(UUID.randomUUID().toString())
+                .id(id)
                 .dataRequest(DataRequest.Builder.newInstance()
                         .destinationType(AzureBlobStoreSchema.TYPE)
                         .dataDestination(DataAddress.Builder.newInstance()
@@ -86,7 +86,7 @@ public class CosmosAssetIndex implements AssetIndex, DataAddressResolver, AssetL
         var limit = querySpec.getLimit();
         var sortAsc = querySpec.getSortOrder() == SortOrder.ASC;
 
-        var sqlQuery = queryBuilder.from(expr, sortField, sortAsc, limit, querySpec.getOffset());
+        var sqlQuery = queryBuilder.from(expr, sortField, sortAsc, limit, querySpec.getOffset(), querySpec.getCursorKey());
         var response = with(retryPolicy).get(() -> assetDb.queryItems(sqlQuery));
         return response.map(this::convertObject)
                 .map(AssetDocument::getWrappedAsset);
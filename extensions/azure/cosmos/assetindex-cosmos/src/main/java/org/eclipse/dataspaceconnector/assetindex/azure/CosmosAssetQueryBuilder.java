@@ -19,13 +19,17 @@ import org.eclipse.dataspaceconnector.assetindex.azure.model.AssetDocument;
 import org.eclipse.dataspaceconnector.azure.cosmos.dialect.SqlStatement;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.query.Criterion;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.eclipse.dataspaceconnector.azure.cosmos.CosmosDocument.sanitize;
+
 public class CosmosAssetQueryBuilder {
 
     public CosmosAssetQueryBuilder() {
@@ -62,10 +66,19 @@ public class CosmosAssetQueryBuilder {
     }
 
     public SqlQuerySpec from(List<Criterion> criteria, String orderByField, boolean sortAscending, Integer limit, Integer offset) {
+        return from(criteria, orderByField, sortAscending, limit, offset, null);
+    }
+
+    /**
+     * Builds the query of a page, which is addressed by a keyset cursor if the cursor key is not null. Keyset pages are
+     * ordered by the asset id instead of the order by field.
+     */
+    public SqlQuerySpec from(List<Criterion> criteria, String orderByField, boolean sortAscending, Integer limit, Integer offset, @Nullable String cursorKey) {
 
         var stmt = new SqlStatement<>(AssetDocument.class)
                 .where(criteria)
                 .orderBy(orderByField, sortAscending)
+                .cursor(sanitize(Asset.PROPERTY_ID), cursorKey, sortAscending)
                 .offset(offset)
                 .limit(limit);
 
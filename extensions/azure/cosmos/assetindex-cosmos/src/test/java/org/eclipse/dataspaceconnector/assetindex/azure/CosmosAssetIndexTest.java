@@ -192,6 +192,23 @@ class CosmosAssetIndexTest {
         verify(api).queryItems(any(SqlQuerySpec.class));
     }
 
+    @Test
+    void findAll_withCursor_queriesPageAfterCursor() {
+        AssetDocument document = createDocument(TEST_ID);
+        var expectedQuery = "SELECT * FROM AssetDocument WHERE AssetDocument.wrappedInstance.asset_prop_id > @cursor ORDER BY AssetDocument.wrappedInstance.asset_prop_id ASC OFFSET 0 LIMIT 10";
+        when(api.queryItems(argThat(queryMatches(expectedQuery)))).thenReturn(Stream.of(document));
+
+        List<Asset> assets = assetIndex.queryAssets(QuerySpec.Builder.newInstance()
+                        .cursor(QuerySpec.cursorAfter("id-previous"))
+                        .limit(10)
+                        .build())
+                .collect(Collectors.toList());
+
+        assertThat(assets).hasSize(1).extracting(Asset::getId).containsExactly(TEST_ID);
+        verify(api).queryItems(argThat(new PredicateMatcher<SqlQuerySpec>(query -> query.getParameters().stream()
+                .anyMatch(p -> p.getName().equals("@cursor") && "id-previous".equals(p.getValue(String.class))))));
+    }
+
     @Test
     void findAll_withPaging_SortingDesc() {
         AssetDocument document = createDocument(TEST_ID);
@@ -124,6 +124,7 @@ public class CosmosContractNegotiationStore implements ContractNegotiationStore
                 .offset(querySpec.getOffset())
                 .limit(querySpec.getLimit())
                 .orderBy(querySpec.getSortField(), querySpec.getSortOrder() == SortOrder.ASC)
+                .cursor("id", querySpec.getCursorKey(), querySpec.getSortOrder() == SortOrder.ASC)
                 .getQueryAsSqlQuerySpec();
 
         var objects = with(retryPolicy).get(() -> cosmosDbApi.queryItems(query));
@@ -154,6 +155,7 @@ public class CosmosContractNegotiationStore implements ContractNegotiationStore
                 .offset(querySpec.getOffset())
                 .limit(querySpec.getLimit())
                 .orderBy(sortField, querySpec.getSortOrder() == SortOrder.ASC)
+                .cursor("contractAgreement.id", querySpec.getCursorKey(), querySpec.getSortOrder() == SortOrder.ASC)
                 .getQueryAsSqlQuerySpec();
 
         return with(retryPolicy).get(() -> cosmosDbApi.queryItems(query))
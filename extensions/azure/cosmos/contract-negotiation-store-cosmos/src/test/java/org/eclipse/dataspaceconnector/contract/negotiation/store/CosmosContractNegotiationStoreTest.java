@@ -164,6 +164,16 @@ class CosmosContractNegotiationStoreTest {
         verify(cosmosDbApi).queryItems(argThat(new PredicateMatcher<SqlQuerySpec>(qs -> qs.getQueryText().equals("SELECT * FROM ContractNegotiationDocument OFFSET 5 LIMIT 100"))));
     }
 
+    @Test
+    void findAll_verifyCursor() {
+        var expectedQuery = "SELECT * FROM ContractNegotiationDocument WHERE ContractNegotiationDocument.wrappedInstance.id > @cursor ORDER BY ContractNegotiationDocument.wrappedInstance.id ASC OFFSET 0 LIMIT 4";
+        when(cosmosDbApi.queryItems(argThat(new PredicateMatcher<SqlQuerySpec>(qs -> qs.getQueryText().equals(expectedQuery))))).thenReturn(IntStream.range(0, 4).mapToObj(i -> generateDocument()));
+
+        assertThat(store.queryNegotiations(QuerySpec.Builder.newInstance().cursor(QuerySpec.cursorAfter("negotiation-3")).limit(4).build())).hasSize(4);
+
+        verify(cosmosDbApi).queryItems(argThat(new PredicateMatcher<SqlQuerySpec>(qs -> qs.getQueryText().equals(expectedQuery))));
+    }
+
     @Test
     void findAll_verifyFiltering() {
         var doc = generateDocument();
@@ -26,8 +26,23 @@ public interface CosmosDbApi extends ReadinessProvider {
 
     void saveItem(CosmosDocument<?> item);
 
+    /**
+     * Upserts all items in a single bulk execution, which groups the operations by partition key range instead of issuing
+     * one request per item.
+     *
+     * @throws org.eclipse.dataspaceconnector.spi.EdcException if one or more items could not be saved.
+     */
     void saveItems(Collection<CosmosDocument<?>> definitions);
 
+    /**
+     * Replaces an existing item, but only if it was not modified since the given ETag was issued.
+     *
+     * @param item the new version of the item.
+     * @param etag the ETag of the version the new one is based on.
+     * @return the ETag of the new version, or null if the item was modified in the meantime, i.e. the ETag did not match.
+     */
+    @Nullable String replaceItem(CosmosDocument<?> item, String etag);
+
     Object deleteItem(String id);
 
     @Nullable Object queryItemById(String id);
@@ -20,6 +20,10 @@ import com.azure.cosmos.CosmosDatabase;
 import com.azure.cosmos.CosmosException;
 import com.azure.cosmos.CosmosStoredProcedure;
 import com.azure.cosmos.implementation.NotFoundException;
+import com.azure.cosmos.implementation.PreconditionFailedException;
+import com.azure.cosmos.models.CosmosBulkOperationResponse;
+import com.azure.cosmos.models.CosmosBulkOperations;
+import com.azure.cosmos.models.CosmosItemOperation;
 import com.azure.cosmos.models.CosmosItemRequestOptions;
 import com.azure.cosmos.models.CosmosItemResponse;
 import com.azure.cosmos.models.CosmosQueryRequestOptions;
@@ -35,6 +39,7 @@ import org.eclipse.dataspaceconnector.spi.system.health.HealthCheckResult;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -85,7 +90,44 @@ public class CosmosDbApiImpl implements CosmosDbApi {
 
     @Override
     public void saveItems(Collection<CosmosDocument<?>> definitions) {
-        definitions.forEach(this::saveItem);
+        if (definitions.isEmpty()) {
+            return;
+        }
+        var operations = definitions.stream()
+                .map(item -> CosmosBulkOperations.getUpsertItemOperation(item, new PartitionKey(item.getPartitionKey())))
+                .collect(Collectors.<CosmosItemOperation>toList());
+        var failures = new ArrayList<String>();
+        try {
+            for (CosmosBulkOperationResponse<Object> response : container.<Object>executeBulkOperations(operations)) {
+                var itemResponse = response.getResponse();
+                if (response.getException() != null) {
+                    failures.add(response.getOperation().getId() + ": " + response.getException().getMessage());
+                } else if (itemResponse == null || !itemResponse.isSuccessStatusCode()) {
+                    failures.add(response.getOperation().getId() + ": status code " + (itemResponse == null ? "unknown" : itemResponse.getStatusCode()));
+                }
+            }
+        } catch (CosmosException e) {
+            throw new EdcException(e);
+        }
+        if (!failures.isEmpty()) {
+            throw new EdcException("Failed to save " + failures.size() + " of " + operations.size() + " items: " + String.join(", ", failures));
+        }
+    }
+
+    @Override
+    public @Nullable
+    String replaceItem(CosmosDocument<?> item, String etag) {
+        var options = new CosmosItemRequestOptions();
+        options.setIfMatchETag(etag);
+        try {
+            var response = container.replaceItem(item, item.getId(), new PartitionKey(item.getPartitionKey()), options);
+            handleResponse(response, "Failed to replace item");
+            return response.getETag();
+        } catch (PreconditionFailedException e) {
+            return null;
+        } catch (CosmosException e) {
+            throw new EdcException(e);
+        }
     }
 
     @Override
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.azure.cosmos.dialect;
+
+import com.azure.cosmos.models.SqlParameter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Represents in a structural way the condition of a keyset page, i.e. of the entities that follow the entity with a given
+ * id, when ordered by id. An empty id denotes the first page, for which no condition is required.
+ */
+class KeysetClause implements Clause {
+    private static final String CURSOR_PARAMETER = "@cursor";
+
+    private final String idField;
+    private final String cursorKey;
+    private final boolean sortAsc;
+    private final String objectPrefix;
+
+    KeysetClause(String idField, String cursorKey, boolean sortAsc, String objectPrefix) {
+        this.idField = idField;
+        this.cursorKey = cursorKey;
+        this.sortAsc = sortAsc;
+        this.objectPrefix = objectPrefix;
+    }
+
+    @Override
+    public String asString() {
+        return cursorKey.isEmpty() ? "" : format("%s.%s %s %s", objectPrefix, idField, sortAsc ? ">" : "<", CURSOR_PARAMETER);
+    }
+
+    @Override
+    public @NotNull List<SqlParameter> getParameters() {
+        return cursorKey.isEmpty() ? List.of() : List.of(new SqlParameter(CURSOR_PARAMETER, cursorKey));
+    }
+
+    /**
+     * The order of the pages, which is by id.
+     */
+    OrderByClause getOrderBy() {
+        return new OrderByClause(idField, sortAsc, objectPrefix);
+    }
+}
@@ -41,6 +41,7 @@ public class SqlStatement<T extends CosmosDocument<?>> {
     private LimitClause limit = new LimitClause();
     private boolean sortAscending = true;
     private OffsetClause offset = new OffsetClause();
+    private KeysetClause keyset;
 
     /**
      * Creates a new statement for a specific object type.
@@ -105,6 +106,20 @@ public class SqlStatement<T extends CosmosDocument<?>> {
         return this;
     }
 
+    /**
+     * Restricts the results to a keyset page, i.e. to the entities after the given id when ordered by the id field. This
+     * replaces any ORDER BY statement, see {@link org.eclipse.dataspaceconnector.spi.query.QuerySpec#getCursorKey()}.
+     *
+     * @param idField   The id field the pages are ordered by. This is just the field, so no prefix, no object type.
+     * @param cursorKey The id after which the page starts, empty for the first page. Can be null, in which case the page
+     *                  is not addressed by a cursor and the keyset is ignored.
+     * @param ascending Whether the results should be sorted in ascending or descending order.
+     */
+    public SqlStatement<T> cursor(String idField, @Nullable String cursorKey, boolean ascending) {
+        keyset = cursorKey != null ? new KeysetClause(idField, cursorKey, ascending, String.join(".", objectType.getSimpleName(), wrapperPrefix)) : null;
+        return this;
+    }
+
     /**
      * Returns the query text. This does not expand parameterized statements.
      */
@@ -117,7 +132,9 @@ public class SqlStatement<T extends CosmosDocument<?>> {
      * Returns the parameters of the query.
      */
     public List<SqlParameter> getParameters() {
-        return Stream.concat(whereClause.getParameters().stream(), orderClause.getParameters().stream())
+        var keysetParameters = keyset != null ? keyset.getParameters() : List.<SqlParameter>of();
+        return Stream.of(whereClause.getParameters(), keysetParameters, orderClause.getParameters())
+                .flatMap(List::stream)
                 .collect(toList());
     }
 
@@ -125,9 +142,18 @@ public class SqlStatement<T extends CosmosDocument<?>> {
      * Returns the entire SQL statement, potentially parameterized.
      */
     public SqlQuerySpec getQueryAsSqlQuerySpec() {
-        var queryText = format("SELECT * FROM %s %s %s %s %s", objectType.getSimpleName(), whereClause.asString(), orderClause.asString(), offset.asString(), limit.asString());
+        var order = keyset != null ? keyset.getOrderBy() : orderClause;
+        var queryText = format("SELECT * FROM %s %s %s %s %s", objectType.getSimpleName(), getWhere(), order.asString(), offset.asString(), limit.asString());
         queryText = queryText.strip().replaceAll(" +", " "); //remove all unnecessary whitespaces
-        var parameters = Stream.concat(whereClause.getParameters().stream(), orderClause.getParameters().stream()).collect(toList());
-        return new SqlQuerySpec(queryText, parameters);
+        return new SqlQuerySpec(queryText, getParameters());
+    }
+
+    private String getWhere() {
+        var where = whereClause.asString();
+        var keysetCondition = keyset != null ? keyset.asString() : "";
+        if (keysetCondition.isEmpty()) {
+            return where;
+        }
+        return where.isEmpty() ? "WHERE " + keysetCondition : where + " AND " + keysetCondition;
     }
 }
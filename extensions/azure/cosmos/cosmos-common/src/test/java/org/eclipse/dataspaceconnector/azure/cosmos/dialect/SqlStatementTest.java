@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspaceconnector.azure.cosmos.dialect;
 
+import com.azure.cosmos.models.SqlParameter;
 import org.eclipse.dataspaceconnector.cosmos.azure.TestCosmosDocument;
 import org.eclipse.dataspaceconnector.spi.query.Criterion;
 import org.junit.jupiter.api.Test;
@@ -88,4 +89,31 @@ class SqlStatementTest {
         stmt.orderBy("priority", false);
         assertThat(stmt.getQueryAsString()).isEqualTo("SELECT * FROM TestCosmosDocument ORDER BY TestCosmosDocument.wrappedInstance.priority DESC OFFSET 10 LIMIT 15");
     }
-}
\ No newline at end of file
+
+    @Test
+    void getQuerySpec_withWhereCursor() {
+        var stmt = new SqlStatement<>(TestCosmosDocument.class)
+                .where(List.of(new Criterion("priority", "=", "1")))
+                .orderBy("priority")
+                .cursor("id", "id-5", true)
+                .limit(15);
+        assertThat(stmt.getQueryAsString()).isEqualTo("SELECT * FROM TestCosmosDocument WHERE TestCosmosDocument.wrappedInstance.priority = @priority AND TestCosmosDocument.wrappedInstance.id > @cursor ORDER BY TestCosmosDocument.wrappedInstance.id ASC LIMIT 15");
+        assertThat(stmt.getParameters()).extracting(SqlParameter::getName).containsExactly("@priority", "@cursor");
+        assertThat(stmt.getParameters().get(1).getValue(String.class)).isEqualTo("id-5");
+
+        stmt.cursor("id", "id-5", false);
+        assertThat(stmt.getQueryAsString()).isEqualTo("SELECT * FROM TestCosmosDocument WHERE TestCosmosDocument.wrappedInstance.priority = @priority AND TestCosmosDocument.wrappedInstance.id < @cursor ORDER BY TestCosmosDocument.wrappedInstance.id DESC LIMIT 15");
+    }
+
+    @Test
+    void getQuerySpec_withCursor_firstPage() {
+        var stmt = new SqlStatement<>(TestCosmosDocument.class)
+                .cursor("id", "", true)
+                .limit(15);
+        assertThat(stmt.getQueryAsString()).isEqualTo("SELECT * FROM TestCosmosDocument ORDER BY TestCosmosDocument.wrappedInstance.id ASC LIMIT 15");
+        assertThat(stmt.getParameters()).isEmpty();
+
+        stmt.cursor("id", null, true);
+        assertThat(stmt.getQueryAsString()).isEqualTo("SELECT * FROM TestCosmosDocument LIMIT 15");
+    }
+}
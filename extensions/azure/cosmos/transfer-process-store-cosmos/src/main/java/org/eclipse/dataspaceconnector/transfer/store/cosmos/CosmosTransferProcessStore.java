@@ -15,7 +15,6 @@
 package org.eclipse.dataspaceconnector.transfer.store.cosmos;
 
 import com.azure.cosmos.CosmosException;
-import com.azure.cosmos.implementation.BadRequestException;
 import com.azure.cosmos.implementation.NotFoundException;
 import com.azure.cosmos.implementation.RequestRateTooLargeException;
 import com.azure.cosmos.models.CosmosQueryRequestOptions;
@@ -27,6 +26,7 @@ import org.eclipse.dataspaceconnector.azure.cosmos.CosmosDbApi;
 import org.eclipse.dataspaceconnector.azure.cosmos.CosmosDocument;
 import org.eclipse.dataspaceconnector.azure.cosmos.dialect.SqlStatement;
 import org.eclipse.dataspaceconnector.azure.cosmos.util.CosmosLeaseContext;
+import org.eclipse.dataspaceconnector.common.collection.LruCache;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.query.SortOrder;
@@ -40,16 +40,20 @@ import org.jetbrains.annotations.Nullable;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static dev.failsafe.Failsafe.with;
+import static java.lang.String.format;
 
 public class CosmosTransferProcessStore implements TransferProcessStore {
 
 
     private static final String NEXT_FOR_STATE_S_PROC_NAME = "nextForState";
+    private static final String ETAG_PROPERTY = "_etag";
+    private static final int ETAG_CACHE_SIZE = 10_000;
     private final CosmosDbApi cosmosDbApi;
     private final CosmosQueryRequestOptions tracingOptions;
     private final TypeManager typeManager;
@@ -59,6 +63,7 @@ public class CosmosTransferProcessStore implements TransferProcessStore {
     private final RetryPolicy<Object> rateLimitRetry;
     private final FailsafeExecutor<Object> failsafeExecutor;
     private final CosmosLeaseContext leaseContext;
+    private final Map<String, String> etags = Collections.synchronizedMap(new LruCache<>(ETAG_CACHE_SIZE));
 
     /**
      * Creates a new instance of the CosmosDB-based transfer process store.
@@ -120,15 +125,37 @@ public class CosmosTransferProcessStore implements TransferProcessStore {
         failsafeExecutor.run(() -> cosmosDbApi.saveItem(document));
     }
 
+    /**
+     * Updates the process with an optimistic, ETag-conditioned replace instead of acquiring and breaking a lease through
+     * stored procedures. The ETag of the last version written by this store is remembered, so that an update following
+     * another update of the same process takes a single request. Otherwise, or when the process was modified in the
+     * meantime (e.g. leased by {@link #nextForState(int, int)}), the current version is read first.
+     *
+     * @throws EdcException if the process is leased by another connector or was modified concurrently.
+     */
     @Override
     public void update(TransferProcess process) {
+        var id = process.getId();
         var document = new TransferProcessDocument(process, partitionKey);
-        try {
-            leaseContext.acquireLease(process.getId());
+
+        var etag = etags.get(id);
+        if (etag != null && replace(document, etag)) {
+            return;
+        }
+
+        var current = failsafeExecutor.get(() -> cosmosDbApi.queryItemById(id, partitionKey));
+        if (current == null) {
             failsafeExecutor.run(() -> cosmosDbApi.saveItem(document));
-            leaseContext.breakLease(process.getId());
-        } catch (BadRequestException ex) {
-            throw new EdcException(ex);
+            return;
+        }
+
+        var lease = convertToDocument(current).getLease();
+        if (lease != null && !leaseHolderName.equals(lease.getLeasedBy())) {
+            throw new EdcException(format("TransferProcess %s is leased by %s and cannot be updated", id, lease.getLeasedBy()));
+        }
+        // the new document carries no lease, so replacing the current version also breaks the lease held by this connector
+        if (!replace(document, (String) ((Map<?, ?>) current).get(ETAG_PROPERTY))) {
+            throw new EdcException(format("TransferProcess %s was modified concurrently", id));
         }
     }
 
@@ -136,6 +163,7 @@ public class CosmosTransferProcessStore implements TransferProcessStore {
     public void delete(String processId) {
         try {
             leaseContext.acquireLease(processId);
+            etags.remove(processId);
             failsafeExecutor.run(() -> cosmosDbApi.deleteItem(processId));
         } catch (NotFoundException ex) {
             //do nothing
@@ -151,6 +179,7 @@ public class CosmosTransferProcessStore implements TransferProcessStore {
                 .offset(querySpec.getOffset())
                 .limit(querySpec.getLimit())
                 .orderBy(querySpec.getSortField(), querySpec.getSortOrder() == SortOrder.ASC)
+                .cursor("id", querySpec.getCursorKey(), querySpec.getSortOrder() == SortOrder.ASC)
                 .getQueryAsSqlQuerySpec();
 
         var objects = failsafeExecutor.get(() -> cosmosDbApi.queryItems(query));
@@ -173,11 +202,29 @@ public class CosmosTransferProcessStore implements TransferProcessStore {
         };
         var l = typeManager.readValue(rawJson, typeRef);
 
-        return l.stream()
+        var processes = l.stream()
                 .map(this::convertToDocument)
                 .map(CosmosDocument::getWrappedInstance)
                 .collect(Collectors.toList());
 
+        // leasing modified the documents, so the remembered ETags are outdated
+        processes.forEach(process -> etags.remove(process.getId()));
+        return processes;
+    }
+
+    /**
+     * Replaces the document if its ETag still matches and remembers the new ETag.
+     *
+     * @return false if the document was modified since the ETag was issued.
+     */
+    private boolean replace(TransferProcessDocument document, String etag) {
+        var newEtag = (String) failsafeExecutor.get(() -> cosmosDbApi.replaceItem(document, etag));
+        if (newEtag == null) {
+            etags.remove(document.getId());
+            return false;
+        }
+        etags.put(document.getId(), newEtag);
+        return true;
     }
 
     private TransferProcessDocument convertToDocument(Object databaseDocument) {
@@ -437,7 +437,7 @@ class CosmosTransferProcessStoreIntegrationTest {
 
         //act
         tp.transitionProvisioning(ResourceManifest.Builder.newInstance().build());
-        assertThatThrownBy(() -> store.update(tp)).isInstanceOf(EdcException.class).hasRootCauseInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> store.update(tp)).isInstanceOf(EdcException.class).hasMessageContaining("another-connector");
     }
 
     @Test
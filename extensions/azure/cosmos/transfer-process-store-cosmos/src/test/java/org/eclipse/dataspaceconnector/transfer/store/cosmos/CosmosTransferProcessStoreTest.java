@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.transfer.store.cosmos;
+
+import dev.failsafe.RetryPolicy;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
+import org.eclipse.dataspaceconnector.transfer.store.cosmos.model.TransferProcessDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.dataspaceconnector.transfer.store.cosmos.FakeCosmosDbApi.READ_CHARGE;
+import static org.eclipse.dataspaceconnector.transfer.store.cosmos.FakeCosmosDbApi.WRITE_CHARGE;
+import static org.eclipse.dataspaceconnector.transfer.store.cosmos.TestHelper.createTransferProcess;
+
+class CosmosTransferProcessStoreTest {
+
+    private static final String PARTITION_KEY = "test-partition";
+    private static final String CONNECTOR_ID = "test-connector";
+
+    private final TypeManager typeManager = new TypeManager();
+    private FakeCosmosDbApi cosmosDbApi;
+    private CosmosTransferProcessStore store;
+
+    @BeforeEach
+    void setUp() {
+        typeManager.registerTypes(DataRequest.class);
+        cosmosDbApi = new FakeCosmosDbApi(typeManager);
+        store = new CosmosTransferProcessStore(cosmosDbApi, typeManager, PARTITION_KEY, CONNECTOR_ID, RetryPolicy.ofDefaults());
+    }
+
+    @Test
+    void update_shouldNotInvokeStoredProcedures() {
+        var process = createTransferProcess("process-id");
+        store.create(process);
+
+        process.transitionProvisioning(TestHelper.createManifest());
+        store.update(process);
+
+        assertThat(cosmosDbApi.requests("lease")).isZero();
+        assertThat(cosmosDbApi.requests("queryItemById")).isEqualTo(1);
+        assertThat(cosmosDbApi.requests("replaceItem")).isEqualTo(1);
+        assertThat(storedDocument("process-id").getWrappedInstance().getState()).isEqualTo(TransferProcessStates.PROVISIONING.code());
+    }
+
+    @Test
+    void update_consecutive_shouldTakeSingleRequest() {
+        var process = createTransferProcess("process-id");
+        store.create(process);
+        process.transitionProvisioning(TestHelper.createManifest());
+        store.update(process);
+        var requests = cosmosDbApi.requests();
+        var charge = cosmosDbApi.requestCharge();
+
+        process.transitionProvisioned();
+        store.update(process);
+
+        assertThat(cosmosDbApi.requests()).isEqualTo(requests + 1);
+        assertThat(cosmosDbApi.requestCharge()).isEqualTo(charge + WRITE_CHARGE);
+        assertThat(storedDocument("process-id").getWrappedInstance().getState()).isEqualTo(TransferProcessStates.PROVISIONED.code());
+    }
+
+    @Test
+    void update_modifiedInTheMeantime_shouldReadAndReplace() {
+        var process = createTransferProcess("process-id");
+        store.create(process);
+        process.transitionProvisioning(TestHelper.createManifest());
+        store.update(process);
+        var document = new TransferProcessDocument(process, PARTITION_KEY);
+        document.acquireLease(CONNECTOR_ID, Clock.systemUTC());
+        cosmosDbApi.put(document);
+        var charge = cosmosDbApi.requestCharge();
+
+        process.transitionProvisioned();
+        store.update(process);
+
+        assertThat(cosmosDbApi.requestCharge()).isEqualTo(charge + WRITE_CHARGE + READ_CHARGE + WRITE_CHARGE);
+        var stored = storedDocument("process-id");
+        assertThat(stored.getLease()).isNull();
+        assertThat(stored.getWrappedInstance().getState()).isEqualTo(TransferProcessStates.PROVISIONED.code());
+    }
+
+    @Test
+    void update_notExist_shouldCreate() {
+        var process = createTransferProcess("process-id");
+
+        store.update(process);
+
+        assertThat(cosmosDbApi.requests("saveItem")).isEqualTo(1);
+        assertThat(storedDocument("process-id").getWrappedInstance().getId()).isEqualTo("process-id");
+    }
+
+    @Test
+    void update_leasedByOther_shouldThrowException() {
+        var process = createTransferProcess("process-id");
+        var document = new TransferProcessDocument(process, PARTITION_KEY);
+        document.acquireLease("another-connector", Clock.systemUTC());
+        cosmosDbApi.put(document);
+
+        process.transitionProvisioning(TestHelper.createManifest());
+
+        assertThatThrownBy(() -> store.update(process)).isInstanceOf(EdcException.class).hasMessageContaining("another-connector");
+        assertThat(cosmosDbApi.requests("replaceItem")).isZero();
+        assertThat(storedDocument("process-id").getWrappedInstance().getState()).isEqualTo(TransferProcessStates.INITIAL.code());
+    }
+
+    private TransferProcessDocument storedDocument(String id) {
+        var item = cosmosDbApi.queryItemById(id, PARTITION_KEY);
+        return typeManager.readValue(typeManager.writeValueAsString(item), TransferProcessDocument.class);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.transfer.store.cosmos;
+
+import com.azure.cosmos.models.SqlQuerySpec;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.eclipse.dataspaceconnector.azure.cosmos.CosmosDbApi;
+import org.eclipse.dataspaceconnector.azure.cosmos.CosmosDocument;
+import org.eclipse.dataspaceconnector.spi.system.health.HealthCheckResult;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory {@link CosmosDbApi} that records the number of requests per operation and the request units (RU) they would
+ * have been charged. Items carry an {@code _etag} that changes on every write, like in CosmosDB.
+ */
+class FakeCosmosDbApi implements CosmosDbApi {
+    static final double READ_CHARGE = 1;
+    static final double WRITE_CHARGE = 10;
+    static final double STORED_PROCEDURE_CHARGE = 15;
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final TypeManager typeManager;
+    private final Map<String, Map<String, Object>> items = new ConcurrentHashMap<>();
+    private final Map<String, Integer> requests = new ConcurrentHashMap<>();
+    private double requestCharge;
+
+    FakeCosmosDbApi(TypeManager typeManager) {
+        this.typeManager = typeManager;
+    }
+
+    int requests() {
+        return requests.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    int requests(String operation) {
+        return requests.getOrDefault(operation, 0);
+    }
+
+    synchronized double requestCharge() {
+        return requestCharge;
+    }
+
+    /**
+     * Stores an item without recording a request, e.g. to simulate a write by another connector.
+     */
+    void put(CosmosDocument<?> item) {
+        write(item);
+    }
+
+    @Override
+    public void saveItem(CosmosDocument<?> item) {
+        record("saveItem", WRITE_CHARGE);
+        write(item);
+    }
+
+    @Override
+    public void saveItems(Collection<CosmosDocument<?>> definitions) {
+        record("saveItems", WRITE_CHARGE * definitions.size());
+        definitions.forEach(this::write);
+    }
+
+    @Override
+    public @Nullable String replaceItem(CosmosDocument<?> item, String etag) {
+        record("replaceItem", WRITE_CHARGE);
+        var current = items.get(item.getId());
+        if (current == null || !current.get("_etag").equals(etag)) {
+            return null;
+        }
+        return write(item);
+    }
+
+    @Override
+    public Object deleteItem(String id) {
+        record("deleteItem", WRITE_CHARGE);
+        return items.remove(id);
+    }
+
+    @Override
+    public @Nullable Object queryItemById(String id) {
+        return queryItemById(id, null);
+    }
+
+    @Override
+    public @Nullable Object queryItemById(String id, String partitionKey) {
+        record("queryItemById", READ_CHARGE);
+        return items.get(id);
+    }
+
+    @Override
+    public List<Object> queryAllItems(String partitionKey) {
+        return queryAllItems();
+    }
+
+    @Override
+    public List<Object> queryAllItems() {
+        record("queryAllItems", READ_CHARGE * items.size());
+        return new ArrayList<>(items.values());
+    }
+
+    @Override
+    public Stream<Object> queryItems(SqlQuerySpec querySpec) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Stream<Object> queryItems(String query) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String invokeStoredProcedure(String procedureName, String partitionKey, Object... args) {
+        record(procedureName, STORED_PROCEDURE_CHARGE);
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void uploadStoredProcedure(String name) {
+    }
+
+    @Override
+    public HealthCheckResult get() {
+        return HealthCheckResult.success();
+    }
+
+    private String write(CosmosDocument<?> item) {
+        var etag = UUID.randomUUID().toString();
+        var json = typeManager.readValue(typeManager.writeValueAsString(item), MAP_TYPE);
+        json.put("_etag", etag);
+        items.put(item.getId(), json);
+        return etag;
+    }
+
+    private synchronized void record(String operation, double charge) {
+        requests.merge(operation, 1, Integer::sum);
+        requestCharge += charge;
+    }
+}
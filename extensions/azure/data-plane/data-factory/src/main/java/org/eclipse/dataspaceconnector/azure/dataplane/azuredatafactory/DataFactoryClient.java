@@ -20,6 +20,15 @@ import com.azure.resourcemanager.datafactory.models.DatasetResource;
 import com.azure.resourcemanager.datafactory.models.LinkedServiceResource;
 import com.azure.resourcemanager.datafactory.models.PipelineResource;
 import com.azure.resourcemanager.datafactory.models.PipelineRun;
+import com.azure.resourcemanager.datafactory.models.RunFilterParameters;
+import com.azure.resourcemanager.datafactory.models.RunQueryFilter;
+import com.azure.resourcemanager.datafactory.models.RunQueryFilterOperand;
+import com.azure.resourcemanager.datafactory.models.RunQueryFilterOperator;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Client for Azure Data Factory, wrapping the Azure SDK.
@@ -97,6 +106,34 @@ class DataFactoryClient {
                 .get(resourceGroupName, factoryName, runId);
     }
 
+    /**
+     * Gets several pipeline runs with a single query. Runs that were not updated within the given time window are not
+     * returned.
+     *
+     * @param runIds           pipeline run identifiers.
+     * @param lastUpdatedAfter start of the time window.
+     * @param lastUpdatedBefore end of the time window.
+     * @return run representations.
+     */
+    List<PipelineRun> queryPipelineRuns(Collection<String> runIds, OffsetDateTime lastUpdatedAfter, OffsetDateTime lastUpdatedBefore) {
+        var filter = new RunQueryFilter()
+                .withOperand(RunQueryFilterOperand.RUN_ID)
+                .withOperator(RunQueryFilterOperator.IN)
+                .withValues(new ArrayList<>(runIds));
+        var parameters = new RunFilterParameters()
+                .withLastUpdatedAfter(lastUpdatedAfter)
+                .withLastUpdatedBefore(lastUpdatedBefore)
+                .withFilters(List.of(filter));
+
+        var runs = new ArrayList<PipelineRun>();
+        do {
+            var response = dataFactoryManager.pipelineRuns().queryByFactory(resourceGroupName, factoryName, parameters);
+            runs.addAll(response.value());
+            parameters.withContinuationToken(response.continuationToken());
+        } while (parameters.continuationToken() != null);
+        return runs;
+    }
+
     /**
      * Cancels a pipeline run.
      *
@@ -24,6 +24,7 @@ import org.eclipse.dataspaceconnector.azure.blob.core.api.BlobStoreApi;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.dataspaceconnector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.dataspaceconnector.spi.EdcSetting;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
@@ -64,6 +65,11 @@ public class DataPlaneAzureDataFactoryExtension implements ServiceExtension {
     @Inject
     private Clock clock;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private PipelineRunPoller pipelineRunPoller;
+
     @Override
     public String name() {
         return "Data Plane Azure Data Factory";
@@ -96,22 +102,34 @@ public class DataPlaneAzureDataFactoryExtension implements ServiceExtension {
                 dataFactoryClient,
                 context.getTypeManager());
         var pollDelay = Duration.ofMillis(context.getSetting(DATA_FACTORY_POLL_DELAY, 5000L));
+        pipelineRunPoller = new PipelineRunPoller(dataFactoryClient, pollDelay, clock, executorInstrumentation, monitor);
         var transferManager = new AzureDataFactoryTransferManager(
                 monitor,
                 dataFactoryClient,
                 pipelineFactory,
                 maxDuration,
-                clock,
                 blobStoreApi,
                 context.getTypeManager(),
                 keyVaultClient,
-                pollDelay);
+                pipelineRunPoller);
         var transferService = new AzureDataFactoryTransferService(
                 validator,
                 transferManager);
         registry.registerTransferService(transferService);
     }
 
+    @Override
+    public void start() {
+        pipelineRunPoller.start();
+    }
+
+    @Override
+    public void shutdown() {
+        if (pipelineRunPoller != null) {
+            pipelineRunPoller.stop();
+        }
+    }
+
     private static String requiredSetting(SettingResolver context, String s) {
         return Objects.requireNonNull(context.getSetting(s, null), s);
     }
@@ -0,0 +1,205 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.azure.dataplane.azuredatafactory;
+
+import com.azure.resourcemanager.datafactory.models.PipelineRun;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.response.StatusResult;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+import static java.time.ZoneOffset.UTC;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.ERROR_RETRY;
+
+/**
+ * Awaits the completion of Data Factory pipeline runs. Instead of a thread waiting for each run, a single scheduled thread
+ * queries the status of all active runs every {@code pollDelay}, with one request per {@value #MAX_RUNS_PER_QUERY} runs,
+ * and completes the futures of the runs that reached a terminal state or timed out.
+ * <p>
+ * Futures are completed on the polling thread, so their dependent stages should be short.
+ */
+class PipelineRunPoller {
+    static final int MAX_RUNS_PER_QUERY = 100;
+    // runs are queried by the time of their last update, which is set by Data Factory and not by the connector clock
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(5);
+
+    private final DataFactoryClient client;
+    private final Duration pollDelay;
+    private final Clock clock;
+    private final ExecutorInstrumentation executorInstrumentation;
+    private final Monitor monitor;
+    private final Map<String, ActiveRun> activeRuns = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService executorService;
+
+    PipelineRunPoller(DataFactoryClient client, Duration pollDelay, Clock clock, ExecutorInstrumentation executorInstrumentation, Monitor monitor) {
+        this.client = client;
+        this.pollDelay = pollDelay;
+        this.clock = clock;
+        this.executorInstrumentation = executorInstrumentation;
+        this.monitor = monitor;
+    }
+
+    void start() {
+        var delay = Math.max(1, pollDelay.toMillis());
+        executorService = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), getClass().getSimpleName());
+        executorService.scheduleWithFixedDelay(this::poll, delay, delay, MILLISECONDS);
+    }
+
+    /**
+     * Stops polling. Runs that are still active are not cancelled, but their futures complete with a failure.
+     */
+    void stop() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+        new ArrayList<>(activeRuns.values()).forEach(run -> complete(run, StatusResult.failure(ERROR_RETRY, "ADF run monitoring stopped")));
+    }
+
+    /**
+     * Awaits the completion of a pipeline run. If the run does not complete within {@code maxDuration}, it is cancelled.
+     *
+     * @param runId       pipeline run identifier.
+     * @param maxDuration time after which the run is cancelled.
+     * @return a future that completes when the run completes.
+     */
+    CompletableFuture<StatusResult<Void>> awaitCompletion(String runId, Duration maxDuration) {
+        monitor.debug("Awaiting ADF pipeline completion for run " + runId);
+        var run = new ActiveRun(runId, clock.instant(), maxDuration);
+        activeRuns.put(runId, run);
+        return run.future;
+    }
+
+    private void poll() {
+        try {
+            if (activeRuns.isEmpty()) {
+                return;
+            }
+            var now = clock.instant();
+            var runs = new ArrayList<>(activeRuns.values());
+            for (var i = 0; i < runs.size(); i += MAX_RUNS_PER_QUERY) {
+                queryStatus(runs.subList(i, Math.min(i + MAX_RUNS_PER_QUERY, runs.size())), now);
+            }
+            runs.stream()
+                    .filter(run -> !run.future.isDone() && !now.isBefore(run.deadline))
+                    .forEach(this::timeout);
+        } catch (Throwable e) {
+            // an exception would cancel the scheduled task, so that no run would ever complete
+            monitor.severe("Unexpected error polling ADF pipeline runs", e);
+        }
+    }
+
+    private void queryStatus(List<ActiveRun> runs, Instant now) {
+        var runIds = runs.stream().map(run -> run.runId).collect(Collectors.toList());
+        var earliestStart = runs.stream().map(run -> run.startedAt).min(Comparator.naturalOrder()).orElse(now);
+        try {
+            var pipelineRuns = client.queryPipelineRuns(runIds, earliestStart.minus(CLOCK_SKEW).atOffset(UTC), now.plus(CLOCK_SKEW).atOffset(UTC));
+            for (var pipelineRun : pipelineRuns) {
+                var run = activeRuns.get(pipelineRun.runId());
+                if (run != null) {
+                    update(run, pipelineRun);
+                }
+            }
+        } catch (Exception e) {
+            monitor.warning(format("Failed to query the status of %s ADF runs, retrying in %s", runIds.size(), pollDelay), e);
+        }
+    }
+
+    private void update(ActiveRun run, PipelineRun pipelineRun) {
+        var runStatusValue = pipelineRun.status();
+        var message = pipelineRun.message();
+        monitor.debug("ADF run status is " + runStatusValue + " with message [" + message + "] for run " + run.runId);
+        if (runStatusValue == null) {
+            return;
+        }
+
+        DataFactoryPipelineRunStates runStatus;
+        try {
+            runStatus = DataFactoryPipelineRunStates.valueOf(runStatusValue);
+        } catch (IllegalArgumentException e) {
+            complete(run, StatusResult.failure(ERROR_RETRY, format("ADF run in unexpected state %s with message: %s", runStatusValue, message)));
+            return;
+        }
+        if (runStatus.succeeded) {
+            complete(run, StatusResult.success());
+        } else if (runStatus.failed) {
+            complete(run, StatusResult.failure(ERROR_RETRY, format("ADF run in state %s with message: %s", runStatusValue, message)));
+        }
+    }
+
+    private void timeout(ActiveRun run) {
+        try {
+            client.cancelPipelineRun(run.runId);
+        } catch (Exception e) {
+            monitor.warning("Failed to cancel ADF run " + run.runId, e);
+        }
+        complete(run, StatusResult.failure(ERROR_RETRY, "ADF run timed out"));
+    }
+
+    private void complete(ActiveRun run, StatusResult<Void> result) {
+        activeRuns.remove(run.runId);
+        run.future.complete(result);
+    }
+
+    private static class ActiveRun {
+        private final String runId;
+        private final Instant startedAt;
+        private final Instant deadline;
+        private final CompletableFuture<StatusResult<Void>> future = new CompletableFuture<>();
+
+        ActiveRun(String runId, Instant startedAt, Duration maxDuration) {
+            this.runId = runId;
+            this.startedAt = startedAt;
+            this.deadline = startedAt.plus(maxDuration);
+        }
+    }
+
+    /**
+     * States of a pipeline run, as returned from the Data Factory API.
+     *
+     * @see <a href="https://docs.microsoft.com/rest/api/datafactory/pipeline-runs/get#pipelinerun">PipelineRun</a>
+     */
+    @SuppressWarnings("unused")
+    private enum DataFactoryPipelineRunStates {
+        Queued(false, false),
+        InProgress(false, false),
+        Succeeded(true, false),
+        Failed(false, true),
+        Canceling(false, true),
+        Cancelled(false, true);
+
+        final boolean succeeded;
+        final boolean failed;
+
+        DataFactoryPipelineRunStates(boolean succeeded, boolean failed) {
+            this.succeeded = succeeded;
+            this.failed = failed;
+        }
+    }
+}
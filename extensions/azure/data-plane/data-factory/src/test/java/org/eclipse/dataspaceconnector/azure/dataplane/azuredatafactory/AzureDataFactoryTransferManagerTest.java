@@ -15,9 +15,7 @@
 package org.eclipse.dataspaceconnector.azure.dataplane.azuredatafactory;
 
 import com.azure.core.credential.AzureSasCredential;
-import com.azure.resourcemanager.datafactory.models.CreateRunResponse;
 import com.azure.resourcemanager.datafactory.models.PipelineResource;
-import com.azure.resourcemanager.datafactory.models.PipelineRun;
 import com.azure.security.keyvault.secrets.models.KeyVaultSecret;
 import net.datafaker.Faker;
 import org.assertj.core.api.ObjectAssert;
@@ -28,8 +26,10 @@ import org.eclipse.dataspaceconnector.azure.blob.core.api.BlobStoreApi;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
 import org.eclipse.dataspaceconnector.spi.response.StatusResult;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -41,13 +41,14 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AzureDataFactoryTransferManagerTest {
@@ -56,7 +57,7 @@ class AzureDataFactoryTransferManagerTest {
     Monitor monitor = mock(Monitor.class);
     Clock clock = mock(Clock.class);
     Instant fixedInstant = Instant.EPOCH;
-    DataFactoryClient client = mock(DataFactoryClient.class);
+    FakeDataFactoryClient client = new FakeDataFactoryClient();
     DataFactoryPipelineFactory pipelineFactory = mock(DataFactoryPipelineFactory.class);
     BlobStoreApi blobStoreApi = mock(BlobStoreApi.class);
     TypeManager typeManager = new TypeManager();
@@ -65,23 +66,20 @@ class AzureDataFactoryTransferManagerTest {
     AzureSasToken sasToken = new AzureSasToken(FAKER.lorem().word(), FAKER.number().randomNumber());
     BlobAdapter blobAdapter = mock(BlobAdapter.class);
     Duration maxDuration = Duration.ofMillis(FAKER.number().numberBetween(1, 10));
+    PipelineRunPoller poller = new PipelineRunPoller(client, Duration.ofMillis(10), clock, ExecutorInstrumentation.noop(), monitor);
     AzureDataFactoryTransferManager transferManager = new AzureDataFactoryTransferManager(
             monitor,
             client,
             pipelineFactory,
             maxDuration,
-            clock,
             blobStoreApi,
             typeManager,
             keyVaultClient,
-            Duration.ofMillis(0));
+            poller);
 
     DataFlowRequest request = AzureDataFactoryTransferRequestValidatorTest.requestWithProperties;
 
     PipelineResource pipeline = mock(PipelineResource.class);
-    CreateRunResponse runResponse = mock(CreateRunResponse.class);
-    String runId = FAKER.lorem().characters();
-    PipelineRun run = mock(PipelineRun.class);
 
     @BeforeEach
     void setUp() {
@@ -89,8 +87,6 @@ class AzureDataFactoryTransferManagerTest {
                 .thenReturn(fixedInstant);
         when(pipelineFactory.createPipeline(request))
                 .thenReturn(pipeline);
-        when(client.runPipeline(pipeline))
-                .thenReturn(runResponse);
         when(keyVaultClient.getSecret(any()))
                 .thenReturn(keyVaultSecret);
         when(keyVaultSecret.getValue())
@@ -99,16 +95,19 @@ class AzureDataFactoryTransferManagerTest {
                 .thenReturn(blobAdapter);
         when(blobAdapter.getOutputStream())
                 .thenReturn(new ByteArrayOutputStream());
-        when(runResponse.runId())
-                .thenReturn(runId);
-        when(client.getPipelineRun(runId)).thenReturn(run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        poller.stop();
     }
 
     @ParameterizedTest
     @MethodSource("successStates")
     void transfer_success(List<String> states) {
         // Arrange
-        when(run.status()).thenReturn(states.get(0), states.stream().skip(1).toArray(String[]::new));
+        client.script(states.toArray(String[]::new));
+        poller.start();
 
         // Act & Assert
         assertThatTransferResult()
@@ -126,7 +125,8 @@ class AzureDataFactoryTransferManagerTest {
     @MethodSource("failureStates")
     void transfer_failure(List<String> states) {
         // Arrange
-        when(run.status()).thenReturn(states.get(0), states.stream().skip(1).toArray(String[]::new));
+        client.script(states.toArray(String[]::new));
+        poller.start();
 
         // Act & Assert
         assertThatTransferResult()
@@ -136,14 +136,16 @@ class AzureDataFactoryTransferManagerTest {
     @Test
     void transfer_failed_to_write_complete_blob_failure() {
         // Arrange
-        when(run.status()).thenReturn("Succeeded");
+        client.script("Succeeded");
+        poller.start();
         when(blobAdapter.getOutputStream()).thenReturn(new UncloseableOutputStream(new ByteArrayOutputStream()));
 
         // Act & Assert
         assertThatTransferResult()
-                .matches(StatusResult::failed);
-        assertThatTransferResult()
-                .satisfies(r -> assertThat(r.getFailure().status()).isEqualTo(ResponseStatus.ERROR_RETRY));
+                .satisfies(r -> {
+                    assertThat(r.failed()).isTrue();
+                    assertThat(r.getFailure().status()).isEqualTo(ResponseStatus.ERROR_RETRY);
+                });
     }
 
 
@@ -161,8 +163,9 @@ class AzureDataFactoryTransferManagerTest {
     void transfer_timeout() {
         // Arrange
         when(clock.instant())
-                .thenReturn(fixedInstant, fixedInstant, fixedInstant.plus(maxDuration));
-        when(run.status()).thenReturn("InProgress");
+                .thenReturn(fixedInstant, fixedInstant.plus(maxDuration));
+        client.script("InProgress");
+        poller.start();
 
         // Act & Assert
         assertThatTransferResult()
@@ -170,7 +173,37 @@ class AzureDataFactoryTransferManagerTest {
                     assertThat(r.failed()).isTrue();
                     assertThat(r.getFailureMessages()).containsOnly("ADF run timed out");
                 });
-        verify(client).cancelPipelineRun(runId);
+        assertThat(client.cancelledRuns()).hasSize(1);
+    }
+
+    @Test
+    void transfer_concurrentRuns_shareStatusQueries() {
+        // Arrange
+        var transfers = 5;
+        IntStream.range(0, transfers).forEach(i -> client.script("Queued", "InProgress", "Succeeded"));
+
+        // Act
+        var results = IntStream.range(0, transfers)
+                .mapToObj(i -> transferManager.transfer(request))
+                .collect(Collectors.toList());
+        poller.start();
+
+        // Assert
+        results.forEach(result -> assertThat(result).succeedsWithin(Duration.ofMinutes(1)).matches(StatusResult::succeeded, "is succeeded"));
+        assertThat(client.queries()).isEqualTo(3);
+    }
+
+    @Test
+    void transfer_queryFails_shouldRetry() {
+        // Arrange
+        client.script("Succeeded");
+        client.failQueries(2);
+        poller.start();
+
+        // Act & Assert
+        assertThatTransferResult()
+                .matches(StatusResult::succeeded, "is succeeded");
+        assertThat(client.queries()).isEqualTo(3);
     }
 
     ObjectAssert<StatusResult<Void>> assertThatTransferResult() {
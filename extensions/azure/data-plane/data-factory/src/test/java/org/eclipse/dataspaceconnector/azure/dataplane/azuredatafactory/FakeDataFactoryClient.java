@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.azure.dataplane.azuredatafactory;
+
+import com.azure.resourcemanager.datafactory.models.CreateRunResponse;
+import com.azure.resourcemanager.datafactory.models.PipelineResource;
+import com.azure.resourcemanager.datafactory.models.PipelineRun;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * In-process {@link DataFactoryClient} that runs pipelines through scripted sequences of run states.
+ */
+class FakeDataFactoryClient extends DataFactoryClient {
+    private final Queue<List<String>> scripts = new ConcurrentLinkedQueue<>();
+    private final Map<String, Queue<String>> runs = new ConcurrentHashMap<>();
+    private final List<String> cancelledRuns = new CopyOnWriteArrayList<>();
+    private final AtomicInteger queries = new AtomicInteger();
+    private final AtomicInteger failingQueries = new AtomicInteger();
+
+    FakeDataFactoryClient() {
+        super(null, "resource-group", "factory");
+    }
+
+    /**
+     * Defines the states that the next started run goes through, one state per query. The last state is kept.
+     */
+    void script(String... states) {
+        scripts.add(List.of(states));
+    }
+
+    /**
+     * Lets the next queries fail.
+     */
+    void failQueries(int count) {
+        failingQueries.set(count);
+    }
+
+    int queries() {
+        return queries.get();
+    }
+
+    List<String> cancelledRuns() {
+        return cancelledRuns;
+    }
+
+    @Override
+    CreateRunResponse runPipeline(PipelineResource pipeline) {
+        var runId = UUID.randomUUID().toString();
+        runs.put(runId, new ConcurrentLinkedQueue<>(scripts.remove()));
+        var response = mock(CreateRunResponse.class);
+        when(response.runId()).thenReturn(runId);
+        return response;
+    }
+
+    @Override
+    List<PipelineRun> queryPipelineRuns(Collection<String> runIds, OffsetDateTime lastUpdatedAfter, OffsetDateTime lastUpdatedBefore) {
+        queries.incrementAndGet();
+        if (failingQueries.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+            throw new IllegalStateException("query failed");
+        }
+        var result = new ArrayList<PipelineRun>();
+        for (var runId : runIds) {
+            var states = runs.get(runId);
+            if (states != null) {
+                var state = states.size() > 1 ? states.remove() : states.peek();
+                var run = mock(PipelineRun.class);
+                when(run.runId()).thenReturn(runId);
+                when(run.status()).thenReturn(state);
+                result.add(run);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    void cancelPipelineRun(String runId) {
+        cancelledRuns.add(runId);
+    }
+}
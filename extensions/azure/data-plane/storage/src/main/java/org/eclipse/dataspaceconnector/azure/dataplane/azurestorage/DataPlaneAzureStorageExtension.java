@@ -20,6 +20,7 @@ import org.eclipse.dataspaceconnector.azure.dataplane.azurestorage.pipeline.Azur
 import org.eclipse.dataspaceconnector.azure.dataplane.azurestorage.pipeline.AzureStorageDataSourceFactory;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
@@ -30,6 +31,14 @@ import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
  */
 public class DataPlaneAzureStorageExtension implements ServiceExtension {
 
+    @EdcSetting
+    private static final String SINK_BLOCK_SIZE = "edc.dataplane.azure.sink.block.size";
+    private static final long DEFAULT_SINK_BLOCK_SIZE = 8 * 1024 * 1024;
+
+    @EdcSetting
+    private static final String SINK_MAX_CONCURRENT_BLOCKS = "edc.dataplane.azure.sink.block.concurrency";
+    private static final int DEFAULT_SINK_MAX_CONCURRENT_BLOCKS = 4;
+
     @Inject
     private RetryPolicy retryPolicy;
 
@@ -57,7 +66,10 @@ public class DataPlaneAzureStorageExtension implements ServiceExtension {
         var sourceFactory = new AzureStorageDataSourceFactory(blobStoreApi, retryPolicy, monitor, vault);
         pipelineService.registerFactory(sourceFactory);
 
-        var sinkFactory = new AzureStorageDataSinkFactory(blobStoreApi, executorContainer.getExecutorService(), 5, monitor, vault, context.getTypeManager());
+        var blockSize = context.getSetting(SINK_BLOCK_SIZE, DEFAULT_SINK_BLOCK_SIZE);
+        var maxConcurrentBlocks = context.getSetting(SINK_MAX_CONCURRENT_BLOCKS, DEFAULT_SINK_MAX_CONCURRENT_BLOCKS);
+        var sinkFactory = new AzureStorageDataSinkFactory(blobStoreApi, executorContainer.getExecutorService(), 5, blockSize, maxConcurrentBlocks,
+                monitor, vault, context.getTypeManager());
         pipelineService.registerFactory(sinkFactory);
     }
 }
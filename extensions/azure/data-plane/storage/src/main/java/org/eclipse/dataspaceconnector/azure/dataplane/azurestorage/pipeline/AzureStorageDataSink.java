@@ -15,20 +15,30 @@
 package org.eclipse.dataspaceconnector.azure.dataplane.azurestorage.pipeline;
 
 import com.azure.core.credential.AzureSasCredential;
+import org.eclipse.dataspaceconnector.azure.blob.core.adapter.BlobAdapter;
 import org.eclipse.dataspaceconnector.azure.blob.core.api.BlobStoreApi;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.ChunkedWrite;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.ParallelSink;
 import org.eclipse.dataspaceconnector.spi.response.StatusResult;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.ERROR_RETRY;
 
 /**
  * Writes data into an Azure storage container.
+ * <p>
+ * Blobs are written as block blobs with blocks of {@code chunkSize} bytes. Parts that support random access are split
+ * into chunks by the {@link ParallelSink}, other parts are streamed and up to {@code maxConcurrentBlocks} of their
+ * blocks are staged concurrently.
  */
 public class AzureStorageDataSink extends ParallelSink {
     // Name of the empty blob used to indicate completion. Used by consumer-side status checker.
@@ -38,6 +48,7 @@ public class AzureStorageDataSink extends ParallelSink {
     private String containerName;
     private String sharedAccessSignature;
     private BlobStoreApi blobStoreApi;
+    private int maxConcurrentBlocks = 4;
 
     /**
      * Writes data into an Azure storage container.
@@ -48,7 +59,7 @@ public class AzureStorageDataSink extends ParallelSink {
             String blobName = part.name();
             try (var input = part.openStream()) {
                 try (var output = blobStoreApi.getBlobAdapter(accountName, containerName, blobName, new AzureSasCredential(sharedAccessSignature))
-                        .getOutputStream()) {
+                        .getOutputStream(chunkSize, maxConcurrentBlocks)) {
                     try {
                         input.transferTo(output);
                     } catch (Exception e) {
@@ -64,6 +75,20 @@ public class AzureStorageDataSink extends ParallelSink {
         return StatusResult.success();
     }
 
+    /**
+     * Large parts are written as block blobs, whose blocks are staged concurrently and committed at once.
+     */
+    @Override
+    protected boolean supportsChunkedWrites() {
+        return true;
+    }
+
+    @Override
+    protected ChunkedWrite openChunkedWrite(DataSource.Part part) {
+        var adapter = blobStoreApi.getBlobAdapter(accountName, containerName, part.name(), new AzureSasCredential(sharedAccessSignature));
+        return new BlockWrite(adapter);
+    }
+
     @Override
     protected StatusResult<Void> complete() {
         try {
@@ -86,6 +111,61 @@ public class AzureStorageDataSink extends ParallelSink {
     private AzureStorageDataSink() {
     }
 
+    /**
+     * Writes chunks as the blocks of a block blob. Block ids are derived from the offset of the chunk, so that a resumed
+     * write commits the uncommitted blocks staged by a previous write, and fails if they do not exist anymore.
+     */
+    private class BlockWrite implements ChunkedWrite {
+        private final BlobAdapter adapter;
+        private final Map<Integer, String> blockIds = new ConcurrentSkipListMap<>();
+
+        BlockWrite(BlobAdapter adapter) {
+            this.adapter = adapter;
+        }
+
+        @Override
+        public StatusResult<Void> write(int index, long offset, byte[] content) {
+            var blockId = blockId(offset);
+            try {
+                adapter.stageBlock(blockId, content);
+            } catch (Exception e) {
+                return getTransferResult(e, "Error staging block %d of blob %s on account %s", index, adapter.getBlobName(), accountName);
+            }
+            blockIds.put(index, blockId);
+            return StatusResult.success();
+        }
+
+        @Override
+        public boolean supportsResume() {
+            return true;
+        }
+
+        @Override
+        public void resume(int index, long offset) {
+            blockIds.put(index, blockId(offset));
+        }
+
+        @Override
+        public StatusResult<Void> commit() {
+            try {
+                adapter.commitBlockList(List.copyOf(blockIds.values()));
+            } catch (Exception e) {
+                return getTransferResult(e, "Error committing blob %s on account %s", adapter.getBlobName(), accountName);
+            }
+            return StatusResult.success();
+        }
+
+        @Override
+        public void abort() {
+            // uncommitted blocks are garbage collected by the storage service
+        }
+
+        private String blockId(long offset) {
+            // block ids must have the same length within a blob
+            return Base64.getEncoder().encodeToString(format("%016d", offset).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
     public static class Builder extends ParallelSink.Builder<Builder, AzureStorageDataSink> {
 
         public static Builder newInstance() {
@@ -112,6 +192,11 @@ public class AzureStorageDataSink extends ParallelSink {
             return this;
         }
 
+        public Builder maxConcurrentBlocks(int maxConcurrentBlocks) {
+            sink.maxConcurrentBlocks = maxConcurrentBlocks;
+            return this;
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.accountName, "accountName");
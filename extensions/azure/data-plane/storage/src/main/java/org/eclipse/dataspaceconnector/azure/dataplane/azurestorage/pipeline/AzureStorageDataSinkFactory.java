@@ -43,14 +43,19 @@ public class AzureStorageDataSinkFactory implements DataSinkFactory {
     private final BlobStoreApi blobStoreApi;
     private final ExecutorService executorService;
     private final int partitionSize;
+    private final long blockSize;
+    private final int maxConcurrentBlocks;
     private final Monitor monitor;
     private final Vault vault;
     private final TypeManager typeManager;
 
-    public AzureStorageDataSinkFactory(BlobStoreApi blobStoreApi, ExecutorService executorService, int partitionSize, Monitor monitor, Vault vault, TypeManager typeManager) {
+    public AzureStorageDataSinkFactory(BlobStoreApi blobStoreApi, ExecutorService executorService, int partitionSize, long blockSize, int maxConcurrentBlocks,
+                                       Monitor monitor, Vault vault, TypeManager typeManager) {
         this.blobStoreApi = blobStoreApi;
         this.executorService = executorService;
         this.partitionSize = partitionSize;
+        this.blockSize = blockSize;
+        this.maxConcurrentBlocks = maxConcurrentBlocks;
         this.monitor = monitor;
         this.vault = vault;
         this.typeManager = typeManager;
@@ -97,6 +102,8 @@ public class AzureStorageDataSinkFactory implements DataSinkFactory {
                 .sharedAccessSignature(token.getSas())
                 .requestId(requestId)
                 .partitionSize(partitionSize)
+                .chunkSize(blockSize)
+                .maxConcurrentBlocks(maxConcurrentBlocks)
                 .blobStoreApi(blobStoreApi)
                 .executorService(executorService)
                 .monitor(monitor)
@@ -22,6 +22,7 @@ import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -124,6 +125,7 @@ public class AzureStorageDataSource implements DataSource {
 
     private static class AzureStoragePart implements Part {
         private final BlobAdapter adapter;
+        private long size = SIZE_UNKNOWN;
 
         AzureStoragePart(BlobAdapter adapter) {
             this.adapter = adapter;
@@ -136,13 +138,30 @@ public class AzureStorageDataSource implements DataSource {
 
         @Override
         public long size() {
-            return adapter.getBlobSize();
+            if (size == SIZE_UNKNOWN) {
+                size = adapter.getBlobSize();
+            }
+            return size;
         }
 
         @Override
         public InputStream openStream() {
             return adapter.openInputStream();
         }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return true;
+        }
+
+        @Override
+        public byte[] read(long offset, long bytes) {
+            try (var input = adapter.openInputStream(offset, bytes)) {
+                return input.readAllBytes();
+            } catch (IOException e) {
+                throw new EdcException(e);
+            }
+        }
     }
 
 }
@@ -15,6 +15,7 @@
 package org.eclipse.dataspaceconnector.azure.dataplane.azurestorage;
 
 import com.azure.core.util.BinaryData;
+import com.azure.storage.blob.models.BlockListType;
 import dev.failsafe.RetryPolicy;
 import net.datafaker.Faker;
 import org.eclipse.dataspaceconnector.azure.blob.core.AzureSasToken;
@@ -34,6 +35,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.OffsetDateTime;
+import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -113,7 +115,7 @@ class AzureDataPlaneCopyIntegrationTest extends AbstractAzureBlobTest {
                 .createSource(request);
 
         int partitionSize = 5;
-        var dataSink = new AzureStorageDataSinkFactory(account2Api, executor, partitionSize, monitor, vault, new TypeManager())
+        var dataSink = new AzureStorageDataSinkFactory(account2Api, executor, partitionSize, 8 * 1024 * 1024, 4, monitor, vault, new TypeManager())
                 .createSink(request);
 
         assertThat(dataSink.transfer(dataSource))
@@ -130,4 +132,52 @@ class AzureDataPlaneCopyIntegrationTest extends AbstractAzureBlobTest {
                 .asString()
                 .isEqualTo(content);
     }
+
+    @Test
+    void transfer_largeBlob_uploadsBlocks() {
+        var bytes = new byte[4 * 1024 * 1024 + 17];
+        new Random().nextBytes(bytes);
+        blobServiceClient1.getBlobContainerClient(account1ContainerName)
+                .getBlobClient(blobName)
+                .upload(BinaryData.fromBytes(bytes));
+
+        var source = DataAddress.Builder.newInstance()
+                .type(TYPE)
+                .property(ACCOUNT_NAME, account1Name)
+                .property(CONTAINER_NAME, account1ContainerName)
+                .property(BLOB_NAME, blobName)
+                .keyName(account1KeyName)
+                .build();
+        when(vault.resolveSecret(account1KeyName)).thenReturn(account1Key);
+
+        var destination = DataAddress.Builder.newInstance()
+                .type(TYPE)
+                .property(ACCOUNT_NAME, account2Name)
+                .property(CONTAINER_NAME, sinkContainerName)
+                .keyName(account2KeyName)
+                .build();
+
+        when(vault.resolveSecret(account2Name + "-key1")).thenReturn(account2Key);
+        var account2SasToken = account2Api.createContainerSasToken(account2Name, sinkContainerName, "w", OffsetDateTime.MAX.minusDays(1));
+        when(vault.resolveSecret(account2KeyName)).thenReturn(typeManager.writeValueAsString(new AzureSasToken(account2SasToken, Long.MAX_VALUE)));
+
+        var request = DataFlowRequest.Builder.newInstance()
+                .sourceDataAddress(source)
+                .destinationDataAddress(destination)
+                .id(UUID.randomUUID().toString())
+                .processId(UUID.randomUUID().toString())
+                .build();
+
+        var dataSource = new AzureStorageDataSourceFactory(account1Api, policy, monitor, vault).createSource(request);
+        var dataSink = new AzureStorageDataSinkFactory(account2Api, executor, 5, 256 * 1024, 4, monitor, vault, new TypeManager())
+                .createSink(request);
+
+        assertThat(dataSink.transfer(dataSource))
+                .succeedsWithin(30, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        var destinationBlob = blobServiceClient2.getBlobContainerClient(sinkContainerName).getBlobClient(blobName);
+        assertThat(destinationBlob.downloadContent().toBytes()).isEqualTo(bytes);
+        assertThat(destinationBlob.getBlockBlobClient().listBlocks(BlockListType.COMMITTED).getCommittedBlocks()).hasSizeGreaterThan(1);
+    }
 }
@@ -26,7 +26,10 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -35,6 +38,8 @@ import static java.lang.String.format;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.azure.dataplane.azurestorage.pipeline.TestFunctions.sharedAccessSignatureMatcher;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -191,7 +196,7 @@ class AzureDataSourceToDataSinkTest {
 
         // sink endpoint raises an exception
         var blobAdapter = mock(BlobAdapter.class);
-        when(blobAdapter.getOutputStream()).thenThrow(new RuntimeException());
+        when(blobAdapter.getOutputStream(anyLong(), anyInt())).thenThrow(new RuntimeException());
         var fakeSinkFactory = mock(BlobStoreApi.class);
         when(fakeSinkFactory.getBlobAdapter(anyString(), anyString(), anyString(), anyString()))
                 .thenReturn(blobAdapter);
@@ -214,6 +219,7 @@ class AzureDataSourceToDataSinkTest {
         final String content = faker.lorem().sentence();
         final long length = faker.random().nextLong(1_000_000_000_000_000L);
         final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final Map<String, byte[]> stagedBlocks = new ConcurrentHashMap<>();
 
         @Override
         public OutputStream getOutputStream() {
@@ -234,5 +240,21 @@ class AzureDataSourceToDataSinkTest {
         public long getBlobSize() {
             return length;
         }
+
+        @Override
+        public InputStream openInputStream(long offset, long count) {
+            return new ByteArrayInputStream(content.getBytes(UTF_8), (int) offset, (int) count);
+        }
+
+        @Override
+        public void stageBlock(String blockId, byte[] block) {
+            stagedBlocks.put(blockId, block);
+        }
+
+        @Override
+        public void commitBlockList(List<String> blockIds) {
+            out.reset();
+            blockIds.forEach(blockId -> out.writeBytes(stagedBlocks.get(blockId)));
+        }
     }
 }
@@ -41,7 +41,7 @@ class AzureStorageDataSinkFactoryTest {
     BlobStoreApi blobStoreApi = mock(BlobStoreApi.class);
     Vault vault = mock(Vault.class);
     TypeManager typeManager = new TypeManager();
-    AzureStorageDataSinkFactory factory = new AzureStorageDataSinkFactory(blobStoreApi, Executors.newFixedThreadPool(1), 5, mock(Monitor.class), vault, typeManager);
+    AzureStorageDataSinkFactory factory = new AzureStorageDataSinkFactory(blobStoreApi, Executors.newFixedThreadPool(1), 5, 1024, 2, mock(Monitor.class), vault, typeManager);
     DataFlowRequest.Builder request = createRequest(AzureBlobStoreSchema.TYPE);
     DataFlowRequest.Builder invalidRequest = createRequest(faker.lorem().word());
     DataAddress.Builder dataAddress = DataAddress.Builder.newInstance().type(AzureBlobStoreSchema.TYPE);
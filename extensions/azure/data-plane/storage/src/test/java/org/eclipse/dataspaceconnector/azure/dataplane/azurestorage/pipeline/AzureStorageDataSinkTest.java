@@ -20,6 +20,8 @@ import org.eclipse.dataspaceconnector.azure.blob.core.adapter.BlobAdapter;
 import org.eclipse.dataspaceconnector.azure.blob.core.api.BlobStoreApi;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource.Part;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.TransferCheckpoints;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.PartProgress;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,9 +32,13 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -43,9 +49,14 @@ import static org.eclipse.dataspaceconnector.azure.blob.core.AzureStorageTestFix
 import static org.eclipse.dataspaceconnector.azure.blob.core.AzureStorageTestFixtures.createRequest;
 import static org.eclipse.dataspaceconnector.azure.blob.core.AzureStorageTestFixtures.createSharedAccessSignature;
 import static org.eclipse.dataspaceconnector.azure.dataplane.azurestorage.pipeline.TestFunctions.sharedAccessSignatureMatcher;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -83,7 +94,7 @@ class AzureStorageDataSinkTest {
 
     @BeforeEach
     void setUp() {
-        when(destination.getOutputStream()).thenReturn(output);
+        when(destination.getOutputStream(anyLong(), anyInt())).thenReturn(output);
         when(blobStoreApi.getBlobAdapter(
                 eq(accountName),
                 eq(containerName),
@@ -107,6 +118,26 @@ class AzureStorageDataSinkTest {
         assertThat(output.toString(UTF_8)).isEqualTo(content);
     }
 
+    @Test
+    void transferParts_uploadsStreamInBlocksOfChunkSize() {
+        var blockSink = AzureStorageDataSink.Builder.newInstance()
+                .accountName(accountName)
+                .containerName(containerName)
+                .sharedAccessSignature(sharedAccessSignature)
+                .requestId(request.build().getId())
+                .blobStoreApi(blobStoreApi)
+                .executorService(executor)
+                .monitor(monitor)
+                .chunkSize(1024)
+                .maxConcurrentBlocks(3)
+                .build();
+
+        var result = blockSink.transferParts(List.of(part));
+
+        assertThat(result.succeeded()).isTrue();
+        verify(destination).getOutputStream(1024, 3);
+    }
+
     @Test
     void transferParts_whenBlobClientCreationFails_fails() {
         when(blobStoreApi.getBlobAdapter(
@@ -120,12 +151,12 @@ class AzureStorageDataSinkTest {
 
     @Test
     void transferParts_whenWriteFails_fails() {
-        when(destination.getOutputStream()).thenThrow(exception);
+        when(destination.getOutputStream(anyLong(), anyInt())).thenThrow(exception);
     }
 
     @Test
     void transferParts_whenReadFails_fails() {
-        when(destination.getOutputStream()).thenThrow(exception);
+        when(destination.getOutputStream(anyLong(), anyInt())).thenThrow(exception);
         Part part = mock(Part.class);
         when(part.openStream()).thenThrow(exception);
         when(part.name()).thenReturn(blobName);
@@ -142,6 +173,66 @@ class AzureStorageDataSinkTest {
         assertThatTransferPartsFails(part, "Error transferring blob for %s on account %s", blobName, accountName);
     }
 
+    @Test
+    void transfer_whenPartSupportsRandomAccess_stagesAndCommitsBlocks() {
+        var chunkedSink = AzureStorageDataSink.Builder.newInstance()
+                .accountName(accountName)
+                .containerName(containerName)
+                .sharedAccessSignature(sharedAccessSignature)
+                .requestId(request.build().getId())
+                .blobStoreApi(blobStoreApi)
+                .executorService(executor)
+                .monitor(monitor)
+                .chunkSize(4)
+                .build();
+        var bytes = "0123456789".getBytes(UTF_8);
+        Part part = mock(Part.class);
+        when(part.name()).thenReturn(blobName);
+        when(part.size()).thenReturn((long) bytes.length);
+        when(part.supportsRandomAccess()).thenReturn(true);
+        when(part.read(anyLong(), anyLong())).thenAnswer(i -> Arrays.copyOfRange(bytes, i.getArgument(0, Long.class).intValue(),
+                i.getArgument(0, Long.class).intValue() + i.getArgument(1, Long.class).intValue()));
+
+        assertThat(chunkedSink.transfer(() -> Stream.of(part))).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(result -> assertThat(result.succeeded()).isTrue());
+
+        verify(destination, times(3)).stageBlock(any(), any());
+        verify(destination).stageBlock(blockId(0), "0123".getBytes(UTF_8));
+        verify(destination).stageBlock(blockId(8), "89".getBytes(UTF_8));
+        verify(destination).commitBlockList(List.of(blockId(0), blockId(4), blockId(8)));
+        verify(completionMarkerOutput, atLeastOnce()).close();
+    }
+
+    @Test
+    void transfer_whenResumed_stagesRemainingBlocksAndCommitsAll() {
+        var chunkedSink = AzureStorageDataSink.Builder.newInstance()
+                .accountName(accountName)
+                .containerName(containerName)
+                .sharedAccessSignature(sharedAccessSignature)
+                .requestId(request.build().getId())
+                .blobStoreApi(blobStoreApi)
+                .executorService(executor)
+                .monitor(monitor)
+                .chunkSize(4)
+                .build();
+        var bytes = "0123456789".getBytes(UTF_8);
+        Part part = mock(Part.class);
+        when(part.name()).thenReturn(blobName);
+        when(part.size()).thenReturn((long) bytes.length);
+        when(part.supportsRandomAccess()).thenReturn(true);
+        when(part.read(8, 2)).thenReturn("89".getBytes(UTF_8));
+        var checkpoints = mock(TransferCheckpoints.class);
+        when(checkpoints.progress(blobName)).thenReturn(new PartProgress(blobName, 8, false));
+
+        assertThat(chunkedSink.transfer(() -> Stream.of(part), checkpoints)).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(result -> assertThat(result.succeeded()).isTrue());
+
+        verify(destination).stageBlock(any(), any());
+        verify(destination).stageBlock(blockId(8), "89".getBytes(UTF_8));
+        verify(destination).commitBlockList(List.of(blockId(0), blockId(4), blockId(8)));
+        verify(checkpoints).checkpoint(new PartProgress(blobName, 10, true));
+    }
+
     @Test
     void complete() throws IOException {
         dataSink.complete();
@@ -153,6 +244,10 @@ class AzureStorageDataSinkTest {
         verify(completionMarkerOutput).close();
     }
 
+    private String blockId(long offset) {
+        return Base64.getEncoder().encodeToString(format("%016d", offset).getBytes(UTF_8));
+    }
+
     private void assertThatTransferPartsFails(Part part, String logMessage, Object... args) {
         String message = format(logMessage, args);
         var result = dataSink.transferParts(List.of(part));
@@ -35,6 +35,7 @@ dependencies {
 
     testImplementation(project(":extensions:data-plane-selector:selector-core")) //for the selector impl
     testImplementation(project(":extensions:data-plane-selector:selector-store"))
+    testImplementation(project(":extensions:data-plane:data-plane-framework")) //for the load reporter
 
     testImplementation("com.squareup.okhttp3:okhttp:${okHttpVersion}")
     testImplementation(project(":extensions:http"))
@@ -18,10 +18,12 @@ import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import org.eclipse.dataspaceconnector.dataplane.selector.DataPlaneSelectorService;
 import org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstance;
+import org.eclipse.dataspaceconnector.spi.exception.ObjectNotFoundException;
 
 import java.util.List;
 
@@ -52,6 +54,14 @@ public class DataplaneSelectorApiController implements DataplaneSelectorApi {
         selectionService.addInstance(instance);
     }
 
+    @POST
+    @Path("{id}/heartbeat")
+    public void heartbeat(@PathParam("id") String id, HeartbeatRequest request) {
+        if (!selectionService.heartbeat(id, request.getOutstandingTransfers())) {
+            throw new ObjectNotFoundException(DataPlaneInstance.class, id);
+        }
+    }
+
     @GET
     public List<DataPlaneInstance> getAll() {
         return selectionService.getAll();
@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.selector.api;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the request body that the {@link DataplaneSelectorApiController#heartbeat(String, HeartbeatRequest)} endpoint requires.
+ * Contains the number of transfers the data plane instance has in progress.
+ */
+public class HeartbeatRequest {
+    private final int outstandingTransfers;
+
+    @JsonCreator
+    public HeartbeatRequest(@JsonProperty("outstandingTransfers") int outstandingTransfers) {
+        this.outstandingTransfers = outstandingTransfers;
+    }
+
+    public int getOutstandingTransfers() {
+        return outstandingTransfers;
+    }
+}
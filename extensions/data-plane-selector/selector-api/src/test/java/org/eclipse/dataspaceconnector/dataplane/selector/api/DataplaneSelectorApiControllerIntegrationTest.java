@@ -21,12 +21,14 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import org.eclipse.dataspaceconnector.dataplane.framework.selector.DataPlaneLoadReporter;
 import org.eclipse.dataspaceconnector.dataplane.selector.DataPlaneSelectorServiceImpl;
 import org.eclipse.dataspaceconnector.dataplane.selector.core.DataPlaneSelectorImpl;
 import org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstance;
 import org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstanceImpl;
 import org.eclipse.dataspaceconnector.dataplane.selector.store.DefaultDataPlaneInstanceStore;
 import org.eclipse.dataspaceconnector.dataplane.selector.strategy.DefaultSelectionStrategyRegistry;
+import org.eclipse.dataspaceconnector.dataplane.selector.strategy.LeastOutstandingTransfersSelectionStrategy;
 import org.eclipse.dataspaceconnector.dataplane.selector.strategy.SelectionStrategy;
 import org.eclipse.dataspaceconnector.dataplane.selector.strategy.SelectionStrategyRegistry;
 import org.eclipse.dataspaceconnector.extension.jersey.JerseyConfiguration;
@@ -36,6 +38,7 @@ import org.eclipse.dataspaceconnector.extension.jetty.JettyService;
 import org.eclipse.dataspaceconnector.extension.jetty.PortMapping;
 import org.eclipse.dataspaceconnector.junit.testfixtures.TestUtils;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 import org.jetbrains.annotations.NotNull;
@@ -45,7 +48,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.dataplane.selector.TestFunctions.createInstance;
@@ -271,6 +276,69 @@ class DataplaneSelectorApiControllerIntegrationTest {
         }
     }
 
+    @Test
+    void heartbeat() throws IOException {
+        store.save(createInstance("test-id"));
+
+        var body = RequestBody.create(objectMapper.writeValueAsString(new HeartbeatRequest(3)), JSON_TYPE);
+        try (var response = post(basePath() + "/test-id/heartbeat", body)) {
+            assertThat(response.isSuccessful()).isTrue();
+            assertThat(store.findById("test-id").getOutstandingTransfers()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void heartbeat_notExists_shouldReturnNotFound() throws IOException {
+        var body = RequestBody.create(objectMapper.writeValueAsString(new HeartbeatRequest(3)), JSON_TYPE);
+        try (var response = post(basePath() + "/not-exist/heartbeat", body)) {
+            assertThat(response.code()).isEqualTo(404);
+        }
+    }
+
+    @Test
+    void heartbeat_reportedByDataPlane_drivesLeastOutstandingSelection() throws IOException {
+        var busy = createInstanceBuilder("busy").allowedSourceType("test-src1").allowedDestType("test-dst1").build();
+        var idle = createInstanceBuilder("idle").allowedSourceType("test-src1").allowedDestType("test-dst1").build();
+        store.saveAll(List.of(busy, idle));
+        selectionStrategyRegistry.add(new LeastOutstandingTransfersSelectionStrategy());
+        var busyLoad = new AtomicInteger(4);
+        var idleLoad = new AtomicInteger(0);
+        var busyReporter = new DataPlaneLoadReporter(client, basePath(), "busy", busyLoad::get, Duration.ofSeconds(10), ExecutorInstrumentation.noop(), monitor);
+        var idleReporter = new DataPlaneLoadReporter(client, basePath(), "idle", idleLoad::get, Duration.ofSeconds(10), ExecutorInstrumentation.noop(), monitor);
+
+        assertThat(busyReporter.report()).isTrue();
+        assertThat(idleReporter.report()).isTrue();
+        assertThat(select("least-outstanding")).isEqualTo("idle");
+        assertThat(select("least-outstanding")).isEqualTo("idle");
+
+        // the transfers of "idle" completed, the data plane reports that it has none left
+        assertThat(idleReporter.report()).isTrue();
+        assertThat(store.findById("idle").getOutstandingTransfers()).isEqualTo(0);
+        assertThat(select("least-outstanding")).isEqualTo("idle");
+
+        busyLoad.set(0);
+        idleLoad.set(3);
+        assertThat(busyReporter.report()).isTrue();
+        assertThat(idleReporter.report()).isTrue();
+        assertThat(select("least-outstanding")).isEqualTo("busy");
+    }
+
+    @Test
+    void heartbeat_reportedByUnknownDataPlane_fails() {
+        var reporter = new DataPlaneLoadReporter(client, basePath(), "not-exist", () -> 1, Duration.ofSeconds(10), ExecutorInstrumentation.noop(), monitor);
+
+        assertThat(reporter.report()).isFalse();
+    }
+
+    private String select(String strategy) throws IOException {
+        var src = DataAddress.Builder.newInstance().type("test-src1").build();
+        var dest = DataAddress.Builder.newInstance().type("test-dst1").build();
+        var body = RequestBody.create(objectMapper.writeValueAsString(new SelectionRequest(src, dest, strategy)), JSON_TYPE);
+        try (var response = post(basePath() + "/select", body)) {
+            assertThat(response.isSuccessful()).isTrue();
+            return objectMapper.readValue(response.body().string(), DataPlaneInstance.class).getId();
+        }
+    }
 
     @NotNull
     private String basePath() {
@@ -63,4 +63,9 @@ public class DataPlaneSelectorServiceImpl implements DataPlaneSelectorService {
     public void addInstance(DataPlaneInstance instance) {
         store.save(instance);
     }
+
+    @Override
+    public boolean heartbeat(String id, int outstandingTransfers) {
+        return store.heartbeat(id, outstandingTransfers);
+    }
 }
@@ -19,28 +19,74 @@ import org.eclipse.dataspaceconnector.dataplane.selector.DataPlaneSelectorServic
 import org.eclipse.dataspaceconnector.dataplane.selector.DataPlaneSelectorServiceImpl;
 import org.eclipse.dataspaceconnector.dataplane.selector.store.DataPlaneInstanceStore;
 import org.eclipse.dataspaceconnector.dataplane.selector.strategy.DefaultSelectionStrategyRegistry;
+import org.eclipse.dataspaceconnector.dataplane.selector.strategy.LeastOutstandingTransfersSelectionStrategy;
 import org.eclipse.dataspaceconnector.dataplane.selector.strategy.RandomSelectionStrategy;
 import org.eclipse.dataspaceconnector.dataplane.selector.strategy.SelectionStrategyRegistry;
+import org.eclipse.dataspaceconnector.dataplane.selector.strategy.WeightedRoundRobinSelectionStrategy;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
 import org.eclipse.dataspaceconnector.spi.system.Provides;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
 @Provides({ DataPlaneSelector.class, SelectionStrategyRegistry.class, DataPlaneSelectorService.class })
 public class DataPlaneSelectorExtension implements ServiceExtension {
 
+    /**
+     * Seconds after their last heartbeat after which instances are removed, 0 disables the eviction.
+     */
+    @EdcSetting
+    private static final String HEARTBEAT_TIMEOUT = "edc.dataplane.selector.heartbeat.timeout";
+    private static final long DEFAULT_HEARTBEAT_TIMEOUT = 60;
+
     @Inject
     private DataPlaneInstanceStore instanceStore;
 
+    private ScheduledExecutorService evictionExecutor;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         DataPlaneSelectorImpl selector = new DataPlaneSelectorImpl(instanceStore);
 
         DefaultSelectionStrategyRegistry strategy = new DefaultSelectionStrategyRegistry();
         strategy.add(new RandomSelectionStrategy());
+        strategy.add(new LeastOutstandingTransfersSelectionStrategy());
+        strategy.add(new WeightedRoundRobinSelectionStrategy());
 
         context.registerService(DataPlaneSelector.class, selector);
         context.registerService(SelectionStrategyRegistry.class, strategy);
         context.registerService(DataPlaneSelectorService.class, new DataPlaneSelectorServiceImpl(selector, instanceStore, strategy));
+
+        var heartbeatTimeout = context.getSetting(HEARTBEAT_TIMEOUT, DEFAULT_HEARTBEAT_TIMEOUT);
+        if (heartbeatTimeout > 0) {
+            var monitor = context.getMonitor();
+            evictionExecutor = Executors.newSingleThreadScheduledExecutor();
+            var period = Math.max(1, heartbeatTimeout / 2);
+            evictionExecutor.scheduleWithFixedDelay(() -> evictInactive(heartbeatTimeout, monitor), period, period, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (evictionExecutor != null) {
+            evictionExecutor.shutdownNow();
+        }
+    }
+
+    private void evictInactive(long heartbeatTimeout, Monitor monitor) {
+        try {
+            instanceStore.evictInactive(Instant.now().minusSeconds(heartbeatTimeout))
+                    .forEach(instance -> monitor.warning(format("Removed data plane instance %s, no heartbeat for %d seconds", instance.getId(), heartbeatTimeout)));
+        } catch (Exception e) {
+            monitor.severe("Error evicting inactive data plane instances", e);
+        }
     }
 }
@@ -32,6 +32,10 @@ public class DataPlaneSelectorImpl implements DataPlaneSelector {
 
     @Override
     public DataPlaneInstance select(DataAddress sourceAddress, DataAddress destinationAddress, SelectionStrategy strategy) {
-        return strategy.apply(instanceStore.getAll().filter(di -> di.canHandle(sourceAddress, destinationAddress)).collect(Collectors.toList()));
+        var selected = strategy.apply(instanceStore.findCandidates(sourceAddress, destinationAddress).collect(Collectors.toList()));
+        if (selected != null) {
+            selected.recordSelection();
+        }
+        return selected;
     }
 }
@@ -27,6 +27,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.dataplane.selector.TestFunctions.createAddress;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class DataPlaneSelectorImplTest {
@@ -37,6 +39,7 @@ class DataPlaneSelectorImplTest {
     @BeforeEach
     void setUp() {
         storeMock = mock(DataPlaneInstanceStore.class);
+        when(storeMock.findCandidates(any(), any())).thenCallRealMethod();
         selector = new DataPlaneSelectorImpl(storeMock);
     }
 
@@ -102,6 +105,18 @@ class DataPlaneSelectorImplTest {
         assertThat(result).isNotNull().extracting(DataPlaneInstance::getId).isEqualTo("instance1");
     }
 
+    @Test
+    void select_recordsSelection() {
+        var selected = createInstanceMock("instance0", true);
+        var other = createInstanceMock("instance1", true);
+        when(storeMock.getAll()).thenReturn(Stream.of(selected, other));
+
+        selector.select(createAddress("AzureStorage"), createAddress("http"), instances -> instances.get(0));
+
+        verify(selected).recordSelection();
+        verify(other, never()).recordSelection();
+    }
+
     @Test
     void select_verifyDefaultRandomSelection() {
 
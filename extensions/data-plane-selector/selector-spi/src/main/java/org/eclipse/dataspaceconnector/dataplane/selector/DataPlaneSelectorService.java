@@ -34,4 +34,11 @@ public interface DataPlaneSelectorService {
     Collection<String> getAllStrategies();
 
     void addInstance(DataPlaneInstance instance);
+
+    /**
+     * Records a heartbeat of an instance, see {@link org.eclipse.dataspaceconnector.dataplane.selector.store.DataPlaneInstanceStore#heartbeat(String, int)}.
+     *
+     * @return false if the instance is not known.
+     */
+    boolean heartbeat(String id, int outstandingTransfers);
 }
@@ -19,6 +19,7 @@ import org.eclipse.dataspaceconnector.spi.types.domain.Polymorphic;
 
 import java.net.URL;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Representations of a data plane instance. Every DPF has an ID and a URL as well as a number, how often it was selected,
@@ -59,4 +60,46 @@ public interface DataPlaneInstance extends Polymorphic {
      * A list of extensible properties, for example this could contain a DPF's public-facing API.
      */
     Map<String, Object> getProperties();
+
+    /**
+     * The source types this instance can handle. Stores use them to index instances, an empty set means that the instance does
+     * not declare its types and {@link #canHandle(DataAddress, DataAddress)} has to be evaluated for every request.
+     */
+    default Set<String> getAllowedSourceTypes() {
+        return Set.of();
+    }
+
+    /**
+     * The destination types this instance can handle, see {@link #getAllowedSourceTypes()}.
+     */
+    default Set<String> getAllowedDestTypes() {
+        return Set.of();
+    }
+
+    /**
+     * The number of transfers the instance has in progress, as last reported by the instance itself plus the selections since.
+     */
+    default int getOutstandingTransfers() {
+        return 0;
+    }
+
+    /**
+     * The relative capacity of this instance compared to the others, used by load-aware selection strategies.
+     */
+    default int getWeight() {
+        return 1;
+    }
+
+    /**
+     * Records that this instance has been selected to handle a transfer, i.e. increments the turn count and the outstanding
+     * transfers and updates the last active time.
+     */
+    default void recordSelection() {
+    }
+
+    /**
+     * Updates the number of transfers in progress with the value reported by the instance.
+     */
+    default void updateLoad(int outstandingTransfers) {
+    }
 }
@@ -46,13 +46,16 @@ public class DataPlaneInstanceImpl implements DataPlaneInstance {
     private Set<String> allowedSourceTypes;
     @JsonProperty("allowedDestTypes")
     private Set<String> allowedDestTypes;
-    private int turnCount;
-    private long lastActive;
+    private volatile int turnCount;
+    private volatile long lastActive;
+    private volatile int outstandingTransfers;
+    private int weight;
     private URL url;
     private String id;
 
     private DataPlaneInstanceImpl() {
         turnCount = 0;
+        weight = 1;
         lastActive = Instant.now().toEpochMilli();
         properties = new HashMap<>();
         url = null;
@@ -101,6 +104,38 @@ public class DataPlaneInstanceImpl implements DataPlaneInstance {
         return properties;
     }
 
+    @Override
+    public Set<String> getAllowedSourceTypes() {
+        return allowedSourceTypes;
+    }
+
+    @Override
+    public Set<String> getAllowedDestTypes() {
+        return allowedDestTypes;
+    }
+
+    @Override
+    public int getOutstandingTransfers() {
+        return outstandingTransfers;
+    }
+
+    @Override
+    public int getWeight() {
+        return weight;
+    }
+
+    @Override
+    public synchronized void recordSelection() {
+        turnCount++;
+        outstandingTransfers++;
+        lastActive = Instant.now().toEpochMilli();
+    }
+
+    @Override
+    public void updateLoad(int outstandingTransfers) {
+        this.outstandingTransfers = outstandingTransfers;
+    }
+
 
     @JsonPOJOBuilder(withPrefix = "")
     public static final class Builder {
@@ -125,6 +160,16 @@ public class DataPlaneInstanceImpl implements DataPlaneInstance {
             return this;
         }
 
+        public Builder outstandingTransfers(int outstandingTransfers) {
+            instance.outstandingTransfers = outstandingTransfers;
+            return this;
+        }
+
+        public Builder weight(int weight) {
+            instance.weight = weight;
+            return this;
+        }
+
         public Builder id(String id) {
             instance.id = id;
             return this;
@@ -159,6 +204,9 @@ public class DataPlaneInstanceImpl implements DataPlaneInstance {
                 instance.id = UUID.randomUUID().toString();
             }
             Objects.requireNonNull(instance.url, "DataPlaneInstance must have an URL");
+            if (instance.weight < 1) {
+                throw new IllegalArgumentException("DataPlaneInstance weight must be positive");
+            }
 
             return instance;
         }
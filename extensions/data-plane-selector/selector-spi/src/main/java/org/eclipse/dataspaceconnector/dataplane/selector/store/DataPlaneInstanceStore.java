@@ -15,8 +15,11 @@
 package org.eclipse.dataspaceconnector.dataplane.selector.store;
 
 import org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstance;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 
+import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +35,25 @@ public interface DataPlaneInstanceStore {
 
     Stream<DataPlaneInstance> getAll();
 
+    /**
+     * Returns the instances that can handle a source and destination {@link DataAddress}. Implementations should override
+     * this to look the instances up by type instead of evaluating every instance.
+     */
+    default Stream<DataPlaneInstance> findCandidates(DataAddress source, DataAddress destination) {
+        return getAll().filter(instance -> instance.canHandle(source, destination));
+    }
+
+    /**
+     * Records a heartbeat of an instance, together with the number of transfers it has in progress.
+     *
+     * @return false if the instance is not known, i.e. it has to register again.
+     */
+    boolean heartbeat(String id, int outstandingTransfers);
+
+    /**
+     * Removes the instances whose last heartbeat is older than the given time. Instances that never sent a heartbeat are kept.
+     *
+     * @return the removed instances.
+     */
+    List<DataPlaneInstance> evictInactive(Instant lastHeartbeatBefore);
 }
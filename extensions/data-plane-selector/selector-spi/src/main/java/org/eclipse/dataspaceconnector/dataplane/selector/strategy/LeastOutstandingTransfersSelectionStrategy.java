@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.selector.strategy;
+
+import org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstance;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selects the {@link DataPlaneInstance} with the fewest outstanding transfers relative to its weight. Ties are broken by the
+ * turn count and then at random, so that instances that do not report their load are selected in turns.
+ */
+public class LeastOutstandingTransfersSelectionStrategy implements SelectionStrategy {
+    public static final String NAME = "least-outstanding";
+
+    @Override
+    public DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        DataPlaneInstance selected = null;
+        var ties = 0;
+        for (var instance : instances) {
+            var comparison = selected == null ? -1 : compare(instance, selected);
+            if (comparison < 0) {
+                selected = instance;
+                ties = 1;
+            } else if (comparison == 0 && ThreadLocalRandom.current().nextInt(++ties) == 0) {
+                selected = instance;
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    private int compare(DataPlaneInstance instance, DataPlaneInstance other) {
+        var load = Long.compare((long) instance.getOutstandingTransfers() * other.getWeight(), (long) other.getOutstandingTransfers() * instance.getWeight());
+        return load != 0 ? load : Integer.compare(instance.getTurnCount(), other.getTurnCount());
+    }
+}
@@ -23,11 +23,6 @@ import java.util.concurrent.ThreadLocalRandom;
  * Selects one {@link org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstance} at random.
  */
 public class RandomSelectionStrategy implements SelectionStrategy {
-    private final ThreadLocalRandom random;
-
-    public RandomSelectionStrategy() {
-        random = ThreadLocalRandom.current();
-    }
 
     /**
      * Guaranteed to always produce a non-null result given that the instances list is not empty
@@ -37,7 +32,7 @@ public class RandomSelectionStrategy implements SelectionStrategy {
         if (instances.isEmpty()) {
             return null;
         }
-        var index = random.nextInt(instances.size());
+        var index = ThreadLocalRandom.current().nextInt(instances.size());
         return instances.get(index);
     }
 
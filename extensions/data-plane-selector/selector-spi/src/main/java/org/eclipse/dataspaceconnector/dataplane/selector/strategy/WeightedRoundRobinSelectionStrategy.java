@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.selector.strategy;
+
+import org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstance;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Selects the {@link DataPlaneInstance}s in turns, proportionally to their weight. Uses the smooth weighted round-robin
+ * algorithm, which interleaves the instances instead of selecting the heaviest one several times in a row. The weights of
+ * instances that are no longer candidates, e.g. because they were evicted from the store, are dropped.
+ */
+public class WeightedRoundRobinSelectionStrategy implements SelectionStrategy {
+    public static final String NAME = "weighted-round-robin";
+    private final Map<String, Long> currentWeights = new HashMap<>();
+
+    @Override
+    public synchronized DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        var candidates = instances.stream().map(DataPlaneInstance::getId).collect(Collectors.toSet());
+        currentWeights.keySet().retainAll(candidates);
+
+        DataPlaneInstance selected = null;
+        long selectedWeight = 0;
+        long totalWeight = 0;
+        for (var instance : instances) {
+            var weight = currentWeights.merge(instance.getId(), (long) instance.getWeight(), Long::sum);
+            totalWeight += instance.getWeight();
+            if (selected == null || weight > selectedWeight) {
+                selected = instance;
+                selectedWeight = weight;
+            }
+        }
+        if (selected != null) {
+            currentWeights.put(selected.getId(), selectedWeight - totalWeight);
+        }
+        return selected;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.selector.strategy;
+
+import org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstance;
+import org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstanceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeastOutstandingTransfersSelectionStrategyTest {
+
+    private final LeastOutstandingTransfersSelectionStrategy strategy = new LeastOutstandingTransfersSelectionStrategy();
+
+    @Test
+    void apply_selectsInstanceWithFewestOutstandingTransfers() {
+        var busy = createInstance("busy", 5, 1);
+        var idle = createInstance("idle", 1, 1);
+
+        assertThat(strategy.apply(List.of(busy, idle))).isSameAs(idle);
+    }
+
+    @Test
+    void apply_considersWeight() {
+        var small = createInstance("small", 2, 1);
+        var large = createInstance("large", 4, 4);
+
+        assertThat(strategy.apply(List.of(small, large))).isSameAs(large);
+    }
+
+    @Test
+    void apply_withRecordedSelections_spreadsTransfers() {
+        var instances = List.<DataPlaneInstance>of(createInstance("a", 0, 1), createInstance("b", 0, 1), createInstance("c", 0, 1));
+
+        for (var i = 0; i < 9; i++) {
+            strategy.apply(instances).recordSelection();
+        }
+
+        assertThat(instances).allSatisfy(instance -> assertThat(instance.getOutstandingTransfers()).isEqualTo(3));
+    }
+
+    @Test
+    void apply_empty() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+
+    private DataPlaneInstance createInstance(String id, int outstandingTransfers, int weight) {
+        return DataPlaneInstanceImpl.Builder.newInstance()
+                .id(id)
+                .url("http://somewhere.com:1234/api/v1")
+                .outstandingTransfers(outstandingTransfers)
+                .weight(weight)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.selector.strategy;
+
+import org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstance;
+import org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstanceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeightedRoundRobinSelectionStrategyTest {
+
+    private final WeightedRoundRobinSelectionStrategy strategy = new WeightedRoundRobinSelectionStrategy();
+
+    @Test
+    void apply_selectsProportionallyToWeight() {
+        var instances = List.of(createInstance("a", 5), createInstance("b", 1), createInstance("c", 1));
+
+        var selected = IntStream.range(0, 7).mapToObj(i -> strategy.apply(instances).getId()).collect(Collectors.toList());
+
+        assertThat(selected).containsExactly("a", "a", "b", "a", "c", "a", "a");
+    }
+
+    @Test
+    void apply_forgetsInstancesThatAreNoLongerCandidates() {
+        var a = createInstance("a", 1);
+        var b = createInstance("b", 1);
+        assertThat(strategy.apply(List.of(a, b)).getId()).isEqualTo("a");
+        assertThat(strategy.apply(List.of(a, b)).getId()).isEqualTo("b");
+
+        strategy.apply(List.of(b));
+
+        // a was dropped and starts over, instead of resuming with the weight it had before
+        assertThat(strategy.apply(List.of(a, b)).getId()).isEqualTo("a");
+    }
+
+    @Test
+    void apply_empty() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+
+    private DataPlaneInstance createInstance(String id, int weight) {
+        return DataPlaneInstanceImpl.Builder.newInstance()
+                .id(id)
+                .url("http://somewhere.com:1234/api/v1")
+                .weight(weight)
+                .build();
+    }
+}
@@ -12,51 +12,124 @@
  *
  */
 
+
 package org.eclipse.dataspaceconnector.dataplane.selector.store;
 
-import org.eclipse.dataspaceconnector.common.concurrency.LockManager;
 import org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstance;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
- * Default (=in-memory) implementation for the {@link DataPlaneInstanceStore}. All r/w access is secured with a {@link LockManager}.
+ * Default (=in-memory) implementation for the {@link DataPlaneInstanceStore}. The instances are held in an immutable snapshot
+ * that is replaced on every write, so reads do not take a lock. The snapshot indexes the instances by their allowed source and
+ * destination types, instances that do not declare them are evaluated with {@link DataPlaneInstance#canHandle(DataAddress, DataAddress)}.
  */
 public class DefaultDataPlaneInstanceStore implements DataPlaneInstanceStore {
 
-    private final LockManager lockManager;
-    private final List<DataPlaneInstance> list;
+    private final Clock clock;
+    private final Object writeLock = new Object();
+    private final Map<String, Instant> heartbeats = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(List.of());
 
     public DefaultDataPlaneInstanceStore() {
-        lockManager = new LockManager(new ReentrantReadWriteLock(true));
-        list = new ArrayList<>();
+        this(Clock.systemUTC());
+    }
+
+    public DefaultDataPlaneInstanceStore(Clock clock) {
+        this.clock = clock;
     }
 
     @Override
     public void save(DataPlaneInstance instance) {
-        lockManager.writeLock(() -> {
-            list.removeIf(i -> Objects.equals(i.getId(), instance.getId()));
-            return list.add(instance);
-        });
+        saveAll(List.of(instance));
     }
 
     @Override
     public void saveAll(Collection<DataPlaneInstance> instances) {
-        lockManager.writeLock(() -> list.addAll(instances));
+        synchronized (writeLock) {
+            var ids = instances.stream().map(DataPlaneInstance::getId).collect(Collectors.toSet());
+            var list = snapshot.instances.stream().filter(i -> !ids.contains(i.getId())).collect(Collectors.toCollection(ArrayList::new));
+            list.addAll(instances);
+            snapshot = new Snapshot(list);
+        }
     }
 
     @Override
     public DataPlaneInstance findById(String id) {
-        return lockManager.readLock(() -> list.stream().filter(dpi -> Objects.equals(dpi.getId(), id)).findFirst().orElse(null));
+        return snapshot.byId.get(id);
     }
 
     @Override
     public Stream<DataPlaneInstance> getAll() {
-        return lockManager.readLock(list::stream);
+        return snapshot.instances.stream();
+    }
+
+    @Override
+    public Stream<DataPlaneInstance> findCandidates(DataAddress source, DataAddress destination) {
+        var current = snapshot;
+        var indexed = current.byType.getOrDefault(source.getType(), Map.of()).getOrDefault(destination.getType(), List.of());
+        return Stream.concat(indexed.stream(), current.undeclared.stream()).filter(instance -> instance.canHandle(source, destination));
+    }
+
+    @Override
+    public boolean heartbeat(String id, int outstandingTransfers) {
+        var instance = findById(id);
+        if (instance == null) {
+            return false;
+        }
+        instance.updateLoad(outstandingTransfers);
+        heartbeats.put(id, clock.instant());
+        return true;
+    }
+
+    @Override
+    public List<DataPlaneInstance> evictInactive(Instant lastHeartbeatBefore) {
+        synchronized (writeLock) {
+            var evicted = snapshot.instances.stream()
+                    .filter(i -> {
+                        var lastHeartbeat = heartbeats.get(i.getId());
+                        return lastHeartbeat != null && lastHeartbeat.isBefore(lastHeartbeatBefore);
+                    })
+                    .collect(Collectors.toList());
+            if (!evicted.isEmpty()) {
+                evicted.forEach(i -> heartbeats.remove(i.getId()));
+                snapshot = new Snapshot(snapshot.instances.stream().filter(i -> !evicted.contains(i)).collect(Collectors.toList()));
+            }
+            return evicted;
+        }
+    }
+
+    private static final class Snapshot {
+        private final List<DataPlaneInstance> instances;
+        private final Map<String, DataPlaneInstance> byId = new HashMap<>();
+        private final Map<String, Map<String, List<DataPlaneInstance>>> byType = new HashMap<>();
+        private final List<DataPlaneInstance> undeclared = new ArrayList<>();
+
+        Snapshot(List<DataPlaneInstance> instances) {
+            this.instances = List.copyOf(instances);
+            for (var instance : instances) {
+                byId.putIfAbsent(instance.getId(), instance);
+                var sourceTypes = instance.getAllowedSourceTypes();
+                var destTypes = instance.getAllowedDestTypes();
+                if (sourceTypes.isEmpty() || destTypes.isEmpty()) {
+                    undeclared.add(instance);
+                    continue;
+                }
+                for (var sourceType : sourceTypes) {
+                    var byDestType = byType.computeIfAbsent(sourceType, t -> new HashMap<>());
+                    destTypes.forEach(destType -> byDestType.computeIfAbsent(destType, t -> new ArrayList<>()).add(instance));
+                }
+            }
+        }
     }
 }
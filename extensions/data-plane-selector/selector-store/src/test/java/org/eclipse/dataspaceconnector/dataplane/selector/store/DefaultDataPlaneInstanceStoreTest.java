@@ -16,14 +16,21 @@ package org.eclipse.dataspaceconnector.dataplane.selector.store;
 
 import org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstance;
 import org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstanceImpl;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.dataplane.selector.TestFunctions.createInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class DefaultDataPlaneInstanceStoreTest {
 
@@ -76,4 +83,73 @@ class DefaultDataPlaneInstanceStoreTest {
         assertThat(store.findById("not-exist")).isNull();
     }
 
+    @Test
+    void findCandidates() {
+        var s3ToHttp = instance("s3-http", "AmazonS3", "HttpData");
+        var blobToHttp = instance("blob-http", "AzureStorage", "HttpData");
+        var undeclared = mock(DataPlaneInstance.class);
+        when(undeclared.getId()).thenReturn("undeclared");
+        when(undeclared.canHandle(any(), any())).thenReturn(true);
+        store.saveAll(List.of(s3ToHttp, blobToHttp, undeclared));
+
+        assertThat(store.findCandidates(address("AmazonS3"), address("HttpData"))).containsExactlyInAnyOrder(s3ToHttp, undeclared);
+        assertThat(store.findCandidates(address("AmazonS3"), address("AzureStorage"))).containsExactly(undeclared);
+    }
+
+    @Test
+    void findCandidates_whenInstanceReplaced_shouldUseNewTypes() {
+        store.save(instance("test-id", "AmazonS3", "HttpData"));
+        var replaced = instance("test-id", "AzureStorage", "HttpData");
+        store.save(replaced);
+
+        assertThat(store.findCandidates(address("AmazonS3"), address("HttpData"))).isEmpty();
+        assertThat(store.findCandidates(address("AzureStorage"), address("HttpData"))).containsExactly(replaced);
+    }
+
+    @Test
+    void heartbeat_shouldUpdateLoad() {
+        store.save(createInstance("test-id"));
+
+        assertThat(store.heartbeat("test-id", 5)).isTrue();
+        assertThat(store.findById("test-id").getOutstandingTransfers()).isEqualTo(5);
+    }
+
+    @Test
+    void heartbeat_notExists() {
+        assertThat(store.heartbeat("not-exist", 5)).isFalse();
+    }
+
+    @Test
+    void evictInactive_shouldRemoveInstancesWithExpiredHeartbeat() {
+        var now = Instant.now();
+        var clock = mock(Clock.class);
+        store = new DefaultDataPlaneInstanceStore(clock);
+        var stale = createInstance("stale");
+        var alive = createInstance("alive");
+        var silent = createInstance("silent");
+        store.saveAll(List.of(stale, alive, silent));
+        when(clock.instant()).thenReturn(now.minusSeconds(120));
+        store.heartbeat("stale", 0);
+        when(clock.instant()).thenReturn(now);
+        store.heartbeat("alive", 0);
+
+        var evicted = store.evictInactive(now.minusSeconds(60));
+
+        assertThat(evicted).containsExactly(stale);
+        assertThat(store.getAll()).containsExactlyInAnyOrder(alive, silent);
+    }
+
+    private DataPlaneInstance instance(String id, String sourceType, String destType) {
+        return DataPlaneInstanceImpl.Builder.newInstance()
+                .id(id)
+                .url("http://somewhere.com:1234/api/v1")
+                .allowedSourceType(sourceType)
+                .allowedDestType(destType)
+                .build();
+    }
+
+    private DataAddress address(String type) {
+        return DataAddress.Builder.newInstance().type(type).build();
+    }
+
 }
\ No newline at end of file
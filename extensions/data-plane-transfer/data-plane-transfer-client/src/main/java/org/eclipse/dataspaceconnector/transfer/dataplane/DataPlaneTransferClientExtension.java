@@ -29,6 +29,7 @@ import org.eclipse.dataspaceconnector.transfer.dataplane.client.RemoteDataPlaneT
 import org.eclipse.dataspaceconnector.transfer.dataplane.flow.DataPlaneTransferFlowController;
 import org.eclipse.dataspaceconnector.transfer.dataplane.spi.client.DataPlaneTransferClient;
 
+import java.time.Duration;
 import java.util.Objects;
 
 /**
@@ -39,6 +40,14 @@ public class DataPlaneTransferClientExtension implements ServiceExtension {
     @EdcSetting
     private static final String DPF_SELECTOR_STRATEGY = "edc.transfer.client.selector.strategy";
 
+    /**
+     * Seconds for which the data plane instance selected for a source and destination type is reused, 0 disables the cache.
+     * The cache is not used with the load-aware selection strategies.
+     */
+    @EdcSetting
+    private static final String DPF_SELECTOR_CACHE_TTL = "edc.transfer.client.selector.cache.ttl";
+    private static final long DEFAULT_DPF_SELECTOR_CACHE_TTL = 0;
+
     @Inject(required = false)
     private DataPlaneSelectorClient selectorClient;
 
@@ -73,7 +82,8 @@ public class DataPlaneTransferClientExtension implements ServiceExtension {
             Objects.requireNonNull(retryPolicy, "If no DataPlaneManager is embedded, a RetryPolicy instance must be provided");
             Objects.requireNonNull(selectorClient, "If no DataPlaneManager is embedded, a DataPlaneSelector instance must be provided");
             var selectionStrategy = context.getSetting(DPF_SELECTOR_STRATEGY, "random");
-            client = new RemoteDataPlaneTransferClient(okHttpClient, selectorClient, selectionStrategy, retryPolicy, context.getTypeManager().getMapper());
+            var cacheTtl = Duration.ofSeconds(context.getSetting(DPF_SELECTOR_CACHE_TTL, DEFAULT_DPF_SELECTOR_CACHE_TTL));
+            client = new RemoteDataPlaneTransferClient(okHttpClient, selectorClient, selectionStrategy, retryPolicy, context.getTypeManager().getMapper(), cacheTtl);
         }
 
         var flowController = new DataPlaneTransferFlowController(client);
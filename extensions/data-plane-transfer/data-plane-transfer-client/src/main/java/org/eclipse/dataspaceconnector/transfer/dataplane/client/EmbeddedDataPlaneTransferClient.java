@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.transfer.dataplane.client;
 
 import io.opentelemetry.extension.annotations.WithSpan;
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneOverloadedException;
 import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
 import org.eclipse.dataspaceconnector.spi.response.StatusResult;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
@@ -40,7 +41,11 @@ public class EmbeddedDataPlaneTransferClient implements DataPlaneTransferClient
         if (result.failed()) {
             return StatusResult.failure(ResponseStatus.FATAL_ERROR, String.join(", ", result.getFailureMessages()));
         }
-        dataPlaneManager.initiateTransfer(request);
+        try {
+            dataPlaneManager.initiateTransfer(request);
+        } catch (DataPlaneOverloadedException e) {
+            return StatusResult.failure(ResponseStatus.ERROR_RETRY, e.getMessage());
+        }
         return StatusResult.success();
     }
 }
@@ -19,6 +19,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.failsafe.Failsafe;
 import dev.failsafe.RetryPolicy;
 import io.opentelemetry.extension.annotations.WithSpan;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -26,6 +28,9 @@ import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.eclipse.dataspaceconnector.dataplane.selector.client.DataPlaneSelectorClient;
+import org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstance;
+import org.eclipse.dataspaceconnector.dataplane.selector.strategy.LeastOutstandingTransfersSelectionStrategy;
+import org.eclipse.dataspaceconnector.dataplane.selector.strategy.WeightedRoundRobinSelectionStrategy;
 import org.eclipse.dataspaceconnector.dataplane.spi.response.TransferErrorResponse;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
@@ -33,56 +38,138 @@ import org.eclipse.dataspaceconnector.spi.response.StatusResult;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 import org.eclipse.dataspaceconnector.transfer.dataplane.spi.client.DataPlaneTransferClient;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 
 /**
  * Implementation of a {@link DataPlaneTransferClient} that uses a remote {@link org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager}, that is
- * accessible via REST API.
+ * accessible via REST API. The data plane instance selected for a source and destination type is cached for the given time,
+ * and selected again when a transfer to it fails. Instances are never cached for the load-aware selection strategies, since
+ * they must see every transfer to spread the load.
  */
 public class RemoteDataPlaneTransferClient implements DataPlaneTransferClient {
     public static final MediaType TYPE_JSON = MediaType.parse("application/json");
+    private static final int SERVICE_UNAVAILABLE = 503;
+    private static final Set<String> LOAD_AWARE_STRATEGIES = Set.of(LeastOutstandingTransfersSelectionStrategy.NAME, WeightedRoundRobinSelectionStrategy.NAME);
     private final DataPlaneSelectorClient selectorClient;
     private final String selectorStrategy;
     private final RetryPolicy<Object> retryStrategy;
     private final OkHttpClient client;
     private final ObjectMapper mapper;
+    private final SelectionCache selectionCache;
 
     public RemoteDataPlaneTransferClient(OkHttpClient client, DataPlaneSelectorClient selectorClient, String selectorStrategy, RetryPolicy<Object> retryPolicy, ObjectMapper mapper) {
+        this(client, selectorClient, selectorStrategy, retryPolicy, mapper, Duration.ZERO);
+    }
+
+    public RemoteDataPlaneTransferClient(OkHttpClient client, DataPlaneSelectorClient selectorClient, String selectorStrategy, RetryPolicy<Object> retryPolicy, ObjectMapper mapper,
+                                         Duration selectionCacheTtl) {
         this.selectorClient = selectorClient;
         this.selectorStrategy = selectorStrategy;
         retryStrategy = retryPolicy;
         this.client = client;
         this.mapper = mapper;
+        selectionCache = new SelectionCache(LOAD_AWARE_STRATEGIES.contains(selectorStrategy) ? Duration.ZERO : selectionCacheTtl, Clock.systemUTC());
     }
 
     @WithSpan
     @Override
     public StatusResult<Void> transfer(DataFlowRequest request) {
-        var instance = selectorClient.find(request.getSourceDataAddress(), request.getDestinationDataAddress(), selectorStrategy);
+        var instance = select(request);
         if (instance == null) {
-            return StatusResult.failure(ResponseStatus.FATAL_ERROR, "Failed to find data plane instance supporting request: " + request.getId());
+            return noInstanceFound(request);
+        }
+
+        var rq = createRequest(instance, request);
+        try (var response = Failsafe.with(retryStrategy).get(() -> client.newCall(rq).execute())) {
+            return invalidateOnFailure(request, handleResponse(response, request.getId()));
+        } catch (RuntimeException e) {
+            invalidate(request);
+            throw e;
+        }
+    }
+
+    /**
+     * Sends the request to the data plane without blocking the calling thread. Failures to reach the data plane complete
+     * the future with an {@link ResponseStatus#ERROR_RETRY} result, so that the transfer is attempted again, possibly on
+     * another instance.
+     */
+    @WithSpan
+    @Override
+    public CompletableFuture<StatusResult<Void>> transferAsync(DataFlowRequest request) {
+        var instance = select(request);
+        if (instance == null) {
+            return CompletableFuture.completedFuture(noInstanceFound(request));
+        }
+
+        var rq = createRequest(instance, request);
+        return Failsafe.with(retryStrategy).getStageAsync(() -> executeAsync(rq))
+                .handle((response, throwable) -> {
+                    if (throwable != null) {
+                        return StatusResult.<Void>failure(ResponseStatus.ERROR_RETRY,
+                                format("Transfer request failed for request %s: %s", request.getId(), throwable.getMessage()));
+                    }
+                    try (response) {
+                        return handleResponse(response, request.getId());
+                    }
+                })
+                .thenApply(result -> invalidateOnFailure(request, result));
+    }
+
+    @Nullable
+    private DataPlaneInstance select(DataFlowRequest request) {
+        return selectionCache.get(request.getSourceDataAddress(), request.getDestinationDataAddress(),
+                () -> selectorClient.find(request.getSourceDataAddress(), request.getDestinationDataAddress(), selectorStrategy));
+    }
+
+    private StatusResult<Void> noInstanceFound(DataFlowRequest request) {
+        return StatusResult.failure(ResponseStatus.FATAL_ERROR, "Failed to find data plane instance supporting request: " + request.getId());
+    }
+
+    private StatusResult<Void> invalidateOnFailure(DataFlowRequest request, StatusResult<Void> result) {
+        if (result.failed()) {
+            invalidate(request);
         }
+        return result;
+    }
 
+    private void invalidate(DataFlowRequest request) {
+        selectionCache.invalidate(request.getSourceDataAddress(), request.getDestinationDataAddress());
+    }
+
+    @NotNull
+    private Request createRequest(DataPlaneInstance instance, DataFlowRequest request) {
         RequestBody body;
         try {
             body = RequestBody.create(mapper.writeValueAsString(request), TYPE_JSON);
         } catch (JsonProcessingException e) {
             throw new EdcException(e);
         }
-        var rq = new Request.Builder().post(body).url(instance.getUrl()).build();
-
-        try (var response = executeRequest(rq)) {
-            return handleResponse(response, request.getId());
-        }
+        return new Request.Builder().post(body).url(instance.getUrl()).build();
     }
 
-    @NotNull
-    private Response executeRequest(Request rq) {
-        return Failsafe.with(retryStrategy).get(() -> client.newCall(rq).execute());
+    private CompletableFuture<Response> executeAsync(Request rq) {
+        var future = new CompletableFuture<Response>();
+        client.newCall(rq).enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                future.complete(response);
+            }
+        });
+        return future;
     }
 
     private StatusResult<Void> handleResponse(Response response, String requestId) {
@@ -97,7 +184,9 @@ public class RemoteDataPlaneTransferClient implements DataPlaneTransferClient {
         var errorMsg = Optional.ofNullable(response.body())
                 .map(this::formatErrorMessage)
                 .orElse("null response body");
-        return StatusResult.failure(ResponseStatus.FATAL_ERROR, format("Transfer request failed with status code %s for request %s: %s", response.code(), requestId, errorMsg));
+        // the data plane is at capacity, the request can be sent again later
+        var status = response.code() == SERVICE_UNAVAILABLE ? ResponseStatus.ERROR_RETRY : ResponseStatus.FATAL_ERROR;
+        return StatusResult.failure(status, format("Transfer request failed with status code %s for request %s: %s", response.code(), requestId, errorMsg));
     }
 
     private String formatErrorMessage(ResponseBody body) {
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.transfer.dataplane.client;
+
+import org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstance;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the {@link DataPlaneInstance} selected for a source and destination type, so that the selector is not called for
+ * every transfer. Entries expire after a fixed time and are invalidated when a transfer to the selected instance fails.
+ * A time-to-live of zero disables the cache.
+ */
+class SelectionCache {
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<List<String>, Entry> entries = new ConcurrentHashMap<>();
+
+    SelectionCache(Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached instance for the types of the addresses, or selects one if there is no valid entry. Instances
+     * that could not be selected are not cached.
+     */
+    @Nullable
+    DataPlaneInstance get(DataAddress source, DataAddress destination, Supplier<DataPlaneInstance> selector) {
+        if (ttl.isZero()) {
+            return selector.get();
+        }
+        var key = key(source, destination);
+        var now = clock.instant();
+        var entry = entries.get(key);
+        if (entry != null && now.isBefore(entry.expiresAt)) {
+            return entry.instance;
+        }
+        var instance = selector.get();
+        if (instance != null) {
+            entries.put(key, new Entry(instance, now.plus(ttl)));
+        } else {
+            entries.remove(key);
+        }
+        return instance;
+    }
+
+    void invalidate(DataAddress source, DataAddress destination) {
+        entries.remove(key(source, destination));
+    }
+
+    private List<String> key(DataAddress source, DataAddress destination) {
+        return Arrays.asList(source.getType(), destination.getType());
+    }
+
+    private static class Entry {
+        private final DataPlaneInstance instance;
+        private final Instant expiresAt;
+
+        Entry(DataPlaneInstance instance, Instant expiresAt) {
+            this.instance = instance;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -16,7 +16,6 @@ package org.eclipse.dataspaceconnector.transfer.dataplane.flow;
 
 import org.eclipse.dataspaceconnector.common.string.StringUtils;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
-import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
 import org.eclipse.dataspaceconnector.spi.response.StatusResult;
 import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowController;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
@@ -27,6 +26,7 @@ import org.eclipse.dataspaceconnector.transfer.dataplane.spi.client.DataPlaneTra
 import org.jetbrains.annotations.NotNull;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.eclipse.dataspaceconnector.transfer.dataplane.spi.DataPlaneTransferConstants.HTTP_PROXY;
 
@@ -55,9 +55,19 @@ public class DataPlaneTransferFlowController implements DataFlowController {
     @Override
     public @NotNull StatusResult<Void> initiateFlow(DataRequest dataRequest, DataAddress contentAddress, Policy policy) {
         var dataFlowRequest = createRequest(dataRequest, contentAddress);
-        var result = client.transfer(dataFlowRequest);
+        return toFlowResult(client.transfer(dataFlowRequest));
+    }
+
+    @Override
+    public @NotNull CompletableFuture<StatusResult<Void>> initiateFlowAsync(DataRequest dataRequest, DataAddress contentAddress, Policy policy) {
+        var dataFlowRequest = createRequest(dataRequest, contentAddress);
+        return client.transferAsync(dataFlowRequest).thenApply(this::toFlowResult);
+    }
+
+    private StatusResult<Void> toFlowResult(StatusResult<Void> result) {
         if (result.failed()) {
-            return StatusResult.failure(ResponseStatus.FATAL_ERROR,
+            // keep the status, so that a Data Plane that is at capacity or cannot be reached is retried
+            return StatusResult.failure(result.getFailure().status(),
                     "Failed to delegate data transfer to Data Plane: " + String.join(", ", result.getFailureMessages()));
         }
         return StatusResult.success();
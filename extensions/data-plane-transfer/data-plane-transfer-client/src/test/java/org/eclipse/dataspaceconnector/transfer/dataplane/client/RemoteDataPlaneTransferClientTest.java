@@ -20,6 +20,7 @@ import dev.failsafe.RetryPolicy;
 import net.datafaker.Faker;
 import org.eclipse.dataspaceconnector.dataplane.selector.client.DataPlaneSelectorClient;
 import org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstance;
+import org.eclipse.dataspaceconnector.dataplane.selector.strategy.LeastOutstandingTransfersSelectionStrategy;
 import org.eclipse.dataspaceconnector.dataplane.spi.response.TransferErrorResponse;
 import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
 import org.eclipse.dataspaceconnector.transfer.dataplane.spi.client.DataPlaneTransferClient;
@@ -37,6 +38,7 @@ import org.mockserver.verify.VerificationTimes;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.List;
 
 import static java.lang.String.format;
@@ -45,7 +47,10 @@ import static org.eclipse.dataspaceconnector.junit.testfixtures.TestUtils.getFre
 import static org.eclipse.dataspaceconnector.junit.testfixtures.TestUtils.testOkHttpClient;
 import static org.eclipse.dataspaceconnector.transfer.dataplane.TestFixtures.createDataFlowRequest;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockserver.integration.ClientAndServer.startClientAndServer;
 import static org.mockserver.matchers.Times.once;
@@ -159,6 +164,25 @@ class RemoteDataPlaneTransferClientTest {
                 );
     }
 
+    @Test
+    void transferFailure_whenDataPlaneIsOverloaded_shouldReturnFailedResultWithRetryError() throws MalformedURLException, JsonProcessingException {
+        var flowRequest = createDataFlowRequest();
+
+        // mock data plane selector
+        var instance = mock(DataPlaneInstance.class);
+        when(instance.getUrl()).thenReturn(new URL(DATA_PLANE_API_URI));
+        when(selectorClientMock.find(any(), any(), any())).thenReturn(instance);
+
+        // config data plane mock server
+        var httpRequest = new HttpRequest().withPath(DATA_PLANE_PATH).withBody(MAPPER.writeValueAsString(flowRequest));
+        dataPlaneClientAndServer.when(httpRequest, once()).respond(response().withStatusCode(HttpStatusCode.SERVICE_UNAVAILABLE_503.code()));
+
+        var result = transferClient.transfer(flowRequest);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailure().status()).isEqualTo(ResponseStatus.ERROR_RETRY);
+    }
+
     @Test
     void successTransfer() throws JsonProcessingException, MalformedURLException {
         var flowRequest = createDataFlowRequest();
@@ -179,6 +203,75 @@ class RemoteDataPlaneTransferClientTest {
         assertThat(result.succeeded()).isTrue();
     }
 
+    @Test
+    void transfer_withSelectionCache_shouldSelectInstanceOnce() throws MalformedURLException {
+        var cachingClient = new RemoteDataPlaneTransferClient(testOkHttpClient(), selectorClientMock, "random", RetryPolicy.ofDefaults(), MAPPER, Duration.ofMinutes(1));
+        var instance = mock(DataPlaneInstance.class);
+        when(instance.getUrl()).thenReturn(new URL(DATA_PLANE_API_URI));
+        when(selectorClientMock.find(any(), any(), any())).thenReturn(instance);
+        dataPlaneClientAndServer.when(new HttpRequest().withPath(DATA_PLANE_PATH)).respond(response().withStatusCode(HttpStatusCode.OK_200.code()));
+
+        assertThat(cachingClient.transfer(createDataFlowRequest()).succeeded()).isTrue();
+        assertThat(cachingClient.transfer(createDataFlowRequest()).succeeded()).isTrue();
+
+        verify(selectorClientMock, times(1)).find(any(), any(), any());
+    }
+
+    @Test
+    void transfer_withSelectionCacheAndLoadAwareStrategy_shouldSelectInstanceForEveryTransfer() throws MalformedURLException {
+        var cachingClient = new RemoteDataPlaneTransferClient(testOkHttpClient(), selectorClientMock, LeastOutstandingTransfersSelectionStrategy.NAME, RetryPolicy.ofDefaults(), MAPPER, Duration.ofMinutes(1));
+        var instance = mock(DataPlaneInstance.class);
+        when(instance.getUrl()).thenReturn(new URL(DATA_PLANE_API_URI));
+        when(selectorClientMock.find(any(), any(), any())).thenReturn(instance);
+        dataPlaneClientAndServer.when(new HttpRequest().withPath(DATA_PLANE_PATH)).respond(response().withStatusCode(HttpStatusCode.OK_200.code()));
+
+        assertThat(cachingClient.transfer(createDataFlowRequest()).succeeded()).isTrue();
+        assertThat(cachingClient.transfer(createDataFlowRequest()).succeeded()).isTrue();
+
+        verify(selectorClientMock, times(2)).find(any(), any(), eq(LeastOutstandingTransfersSelectionStrategy.NAME));
+    }
+
+    @Test
+    void transferFailure_withSelectionCache_shouldSelectInstanceAgain() throws MalformedURLException {
+        var cachingClient = new RemoteDataPlaneTransferClient(testOkHttpClient(), selectorClientMock, "random", RetryPolicy.ofDefaults(), MAPPER, Duration.ofMinutes(1));
+        var instance = mock(DataPlaneInstance.class);
+        when(instance.getUrl()).thenReturn(new URL(DATA_PLANE_API_URI));
+        when(selectorClientMock.find(any(), any(), any())).thenReturn(instance);
+        dataPlaneClientAndServer.when(new HttpRequest().withPath(DATA_PLANE_PATH)).respond(response().withStatusCode(HttpStatusCode.SERVICE_UNAVAILABLE_503.code()));
+
+        assertThat(cachingClient.transfer(createDataFlowRequest()).failed()).isTrue();
+        assertThat(cachingClient.transfer(createDataFlowRequest()).failed()).isTrue();
+
+        verify(selectorClientMock, times(2)).find(any(), any(), any());
+    }
+
+    @Test
+    void transferAsync_success() throws MalformedURLException, JsonProcessingException {
+        var flowRequest = createDataFlowRequest();
+        var instance = mock(DataPlaneInstance.class);
+        when(instance.getUrl()).thenReturn(new URL(DATA_PLANE_API_URI));
+        when(selectorClientMock.find(any(), any(), any())).thenReturn(instance);
+        var httpRequest = new HttpRequest().withPath(DATA_PLANE_PATH).withBody(MAPPER.writeValueAsString(flowRequest));
+        dataPlaneClientAndServer.when(httpRequest, once()).respond(response().withStatusCode(HttpStatusCode.OK_200.code()));
+
+        var result = transferClient.transferAsync(flowRequest).join();
+
+        dataPlaneClientAndServer.verify(httpRequest, VerificationTimes.once());
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    void transferAsync_whenDataPlaneIsNotReachable_shouldReturnFailedResultWithRetryError() throws MalformedURLException {
+        var instance = mock(DataPlaneInstance.class);
+        when(instance.getUrl()).thenReturn(new URL("http://localhost:" + getFreePort() + DATA_PLANE_PATH));
+        when(selectorClientMock.find(any(), any(), any())).thenReturn(instance);
+
+        var result = transferClient.transferAsync(createDataFlowRequest()).join();
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailure().status()).isEqualTo(ResponseStatus.ERROR_RETRY);
+    }
+
     private HttpResponse withResponse(String errorMsg) throws JsonProcessingException {
         return response().withStatusCode(HttpStatusCode.BAD_REQUEST_400.code())
                 .withBody(MAPPER.writeValueAsString(new TransferErrorResponse(List.of(errorMsg))), MediaType.APPLICATION_JSON);
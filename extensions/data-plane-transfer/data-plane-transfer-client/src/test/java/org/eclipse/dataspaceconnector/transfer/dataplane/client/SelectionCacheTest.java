@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.transfer.dataplane.client;
+
+import org.eclipse.dataspaceconnector.dataplane.selector.instance.DataPlaneInstance;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SelectionCacheTest {
+
+    private final DataAddress source = DataAddress.Builder.newInstance().type("source").build();
+    private final DataAddress destination = DataAddress.Builder.newInstance().type("destination").build();
+    private final AtomicInteger selections = new AtomicInteger();
+    private final Supplier<DataPlaneInstance> selector = () -> {
+        selections.incrementAndGet();
+        return mock(DataPlaneInstance.class);
+    };
+    private Clock clock;
+    private SelectionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        cache = new SelectionCache(Duration.ofSeconds(5), clock);
+    }
+
+    @Test
+    void get_shouldReturnCachedInstanceUntilExpired() {
+        var instance = cache.get(source, destination, selector);
+
+        assertThat(cache.get(source, destination, selector)).isSameAs(instance);
+        assertThat(selections).hasValue(1);
+
+        when(clock.instant()).thenReturn(Instant.EPOCH.plusSeconds(5));
+
+        assertThat(cache.get(source, destination, selector)).isNotSameAs(instance);
+        assertThat(selections).hasValue(2);
+    }
+
+    @Test
+    void get_shouldSelectAgain_whenInvalidated() {
+        cache.get(source, destination, selector);
+
+        cache.invalidate(source, destination);
+        cache.get(source, destination, selector);
+
+        assertThat(selections).hasValue(2);
+    }
+
+    @Test
+    void get_shouldNotCacheMissingInstance() {
+        assertThat(cache.get(source, destination, () -> null)).isNull();
+
+        cache.get(source, destination, selector);
+
+        assertThat(selections).hasValue(1);
+    }
+
+    @Test
+    void get_shouldNotCache_whenDisabled() {
+        cache = new SelectionCache(Duration.ZERO, clock);
+
+        cache.get(source, destination, selector);
+        cache.get(source, destination, selector);
+
+        assertThat(selections).hasValue(2);
+    }
+}
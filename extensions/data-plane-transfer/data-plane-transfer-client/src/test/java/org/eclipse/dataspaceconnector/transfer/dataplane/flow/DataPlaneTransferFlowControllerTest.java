@@ -26,10 +26,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.transfer.dataplane.spi.DataPlaneTransferConstants.HTTP_PROXY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -72,6 +74,18 @@ class DataPlaneTransferFlowControllerTest {
         assertThat(result.getFailureMessages()).allSatisfy(s -> assertThat(s).contains(errorMsg));
     }
 
+    @Test
+    void transferAsync_whenDataPlaneIsOverloaded_shouldReturnRetryError() {
+        var request = createDataRequest();
+        when(transferClientMock.transferAsync(any())).thenReturn(completedFuture(StatusResult.failure(ResponseStatus.ERROR_RETRY, "overloaded")));
+
+        var result = flowController.initiateFlowAsync(request, testDataAddress(), Policy.Builder.newInstance().build()).join();
+
+        verify(transferClientMock, never()).transfer(any());
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailure().status()).isEqualTo(ResponseStatus.ERROR_RETRY);
+    }
+
     @Test
     void transferSuccess() {
         var request = createDataRequest();
@@ -17,6 +17,8 @@ package org.eclipse.dataspaceconnector.transfer.dataplane.spi.client;
 import org.eclipse.dataspaceconnector.spi.response.StatusResult;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Client to interact with Data Plane.
  */
@@ -27,4 +29,12 @@ public interface DataPlaneTransferClient {
      * Validate incoming data request and, if valid, initiates data transfer.
      */
     StatusResult<Void> transfer(DataFlowRequest request);
+
+    /**
+     * Same as {@link #transfer(DataFlowRequest)}, but does not block the caller while the Data Plane is contacted.
+     * The default implementation completes with the result of {@link #transfer(DataFlowRequest)}.
+     */
+    default CompletableFuture<StatusResult<Void>> transferAsync(DataFlowRequest request) {
+        return CompletableFuture.completedFuture(transfer(request));
+    }
 }
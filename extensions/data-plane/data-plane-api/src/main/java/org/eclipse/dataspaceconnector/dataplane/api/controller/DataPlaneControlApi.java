@@ -32,6 +32,7 @@ public interface DataPlaneControlApi {
             responses = {
                     @ApiResponse(responseCode = "400", description = "Failed to validate request"),
                     @ApiResponse(responseCode = "200", description = "Data transfer initiated"),
+                    @ApiResponse(responseCode = "503", description = "Data plane is at capacity, the request can be retried later"),
             }
     )
     void initiateTransfer(DataFlowRequest request, AsyncResponse response);
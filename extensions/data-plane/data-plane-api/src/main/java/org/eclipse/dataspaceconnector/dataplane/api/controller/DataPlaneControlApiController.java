@@ -25,10 +25,12 @@ import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneOverloadedException;
 import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 
 import static java.lang.String.format;
+import static org.eclipse.dataspaceconnector.dataplane.api.response.ResponseFunctions.unavailableError;
 import static org.eclipse.dataspaceconnector.dataplane.api.response.ResponseFunctions.validationError;
 import static org.eclipse.dataspaceconnector.dataplane.api.response.ResponseFunctions.validationErrors;
 
@@ -48,8 +50,12 @@ public class DataPlaneControlApiController implements DataPlaneControlApi {
         // TODO token authentication
         var result = dataPlaneManager.validate(request);
         if (result.succeeded()) {
-            dataPlaneManager.initiateTransfer(request);
-            response.resume(Response.ok().build());
+            try {
+                dataPlaneManager.initiateTransfer(request);
+                response.resume(Response.ok().build());
+            } catch (DataPlaneOverloadedException e) {
+                response.resume(unavailableError(e.getMessage()));
+            }
         } else {
             var resp = result.getFailureMessages().isEmpty() ?
                     validationError(format("Failed to validate request: %s", request.getId())) :
@@ -22,6 +22,7 @@ import java.util.List;
 import static jakarta.ws.rs.core.Response.Status.BAD_REQUEST;
 import static jakarta.ws.rs.core.Response.Status.FORBIDDEN;
 import static jakarta.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
+import static jakarta.ws.rs.core.Response.Status.SERVICE_UNAVAILABLE;
 import static jakarta.ws.rs.core.Response.status;
 
 /**
@@ -69,6 +70,16 @@ public final class ResponseFunctions {
         return validationErrors(List.of(error));
     }
 
+    /**
+     * Returns a response for a request that cannot be accepted because the service is overloaded.
+     *
+     * @param error Error description.
+     * @return Error response.
+     */
+    public static Response unavailableError(String error) {
+        return createErrorResponse(SERVICE_UNAVAILABLE, List.of(error));
+    }
+
     /**
      * Returns a sucess response containing the data retrieved from the data source.
      *
@@ -21,6 +21,7 @@ import io.restassured.http.ContentType;
 import jakarta.ws.rs.core.Response;
 import net.datafaker.Faker;
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneOverloadedException;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.OutputStreamDataSinkFactory;
 import org.eclipse.dataspaceconnector.junit.extensions.EdcExtension;
@@ -58,6 +59,7 @@ import static org.eclipse.dataspaceconnector.junit.testfixtures.TestUtils.getFre
 import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -153,6 +155,29 @@ class DataPlaneApiIntegrationTest {
         verify(dataPlaneManager, never()).initiateTransfer(any());
     }
 
+    @Test
+    void controlApi_should_returnServiceUnavailable_if_dataPlaneIsOverloaded() {
+        var errorMsg = FAKER.lorem().word();
+        var flowRequest = DataFlowRequest.Builder.newInstance()
+                .id(FAKER.internet().uuid())
+                .processId(FAKER.internet().uuid())
+                .sourceDataAddress(testDestAddress())
+                .destinationDataAddress(testDestAddress())
+                .build();
+
+        when(dataPlaneManager.validate(isA(DataFlowRequest.class))).thenReturn(Result.success(Boolean.TRUE));
+        doThrow(new DataPlaneOverloadedException(errorMsg)).when(dataPlaneManager).initiateTransfer(isA(DataFlowRequest.class));
+
+        given().port(CONTROL_API_PORT)
+                .when()
+                .contentType(ContentType.JSON)
+                .body(flowRequest)
+                .post("/control/transfer")
+                .then()
+                .statusCode(Response.Status.SERVICE_UNAVAILABLE.getStatusCode())
+                .body("errors", CoreMatchers.equalTo(List.of(errorMsg)));
+    }
+
     @Test
     void publicApi_should_returnBadRequest_if_missingAuthorizationHeader() {
         given().port(PUBLIC_API_PORT)
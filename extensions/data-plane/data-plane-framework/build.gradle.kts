@@ -13,6 +13,7 @@
  */
 
 val openTelemetryVersion: String by project
+val okHttpVersion: String by project
 
 plugins {
     `java-library`
@@ -23,6 +24,7 @@ dependencies {
     api(project(":extensions:data-plane:data-plane-spi"))
     implementation(project(":common:util"))
     implementation("io.opentelemetry:opentelemetry-extension-annotations:${openTelemetryVersion}")
+    implementation("com.squareup.okhttp3:okhttp:${okHttpVersion}")
     testImplementation(project(":extensions:junit"))
 }
 
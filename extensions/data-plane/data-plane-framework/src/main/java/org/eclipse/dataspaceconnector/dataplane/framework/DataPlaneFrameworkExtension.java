@@ -14,29 +14,43 @@
 
 package org.eclipse.dataspaceconnector.dataplane.framework;
 
+import okhttp3.OkHttpClient;
 import org.eclipse.dataspaceconnector.dataplane.framework.manager.DataPlaneManagerImpl;
 import org.eclipse.dataspaceconnector.dataplane.framework.pipeline.PipelineServiceImpl;
 import org.eclipse.dataspaceconnector.dataplane.framework.pipeline.PipelineServiceTransferServiceImpl;
+import org.eclipse.dataspaceconnector.dataplane.framework.ratelimit.ConfiguredRateLimitPolicy;
 import org.eclipse.dataspaceconnector.dataplane.framework.registry.TransferServiceRegistryImpl;
 import org.eclipse.dataspaceconnector.dataplane.framework.registry.TransferServiceSelectionStrategy;
+import org.eclipse.dataspaceconnector.dataplane.framework.selector.DataPlaneLoadReporter;
+import org.eclipse.dataspaceconnector.dataplane.framework.store.FileDataPlaneStore;
 import org.eclipse.dataspaceconnector.dataplane.framework.store.InMemoryDataPlaneStore;
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.OutputStreamDataSinkFactory;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.dataspaceconnector.dataplane.spi.ratelimit.RateLimitPolicy;
 import org.eclipse.dataspaceconnector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Provides;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.system.configuration.Config;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
 
 /**
  * Provides core services for the Data Plane Framework.
@@ -45,6 +59,12 @@ import java.util.concurrent.Executors;
 public class DataPlaneFrameworkExtension implements ServiceExtension {
     private static final int IN_MEMORY_STORE_CAPACITY = 1000;
 
+    @EdcSetting
+    private static final String STORE_DIRECTORY = "edc.dataplane.store.directory";
+
+    @EdcSetting
+    private static final String STORE_CAPACITY = "edc.dataplane.store.capacity";
+
     @EdcSetting
     private static final String QUEUE_CAPACITY = "edc.dataplane.queue.capacity";
     private static final int DEFAULT_QUEUE_CAPACITY = 10000;
@@ -57,11 +77,55 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     private static final String WAIT_TIMEOUT = "edc.dataplane.wait";
     private static final long DEFAULT_WAIT_TIMEOUT = 1000;
 
+    /**
+     * Prefix of the settings that limit the concurrent transfers of a transfer service, e.g.
+     * {@code edc.dataplane.transfer.concurrency.PipelineServiceTransferServiceImpl=10}.
+     */
+    @EdcSetting
+    private static final String TRANSFER_CONCURRENCY = "edc.dataplane.transfer.concurrency";
+
+    @EdcSetting
+    private static final String TRANSFER_RETRIES = "edc.dataplane.transfer.retries";
+    private static final int DEFAULT_TRANSFER_RETRIES = 0;
+
     @EdcSetting
     private static final String TRANSFER_THREADS = "edc.dataplane.transfer.threads";
     private static final int DEFAULT_TRANSFER_THREADS = 10;
 
+    @EdcSetting
+    private static final String RATE_LIMIT_TRANSFER = "edc.dataplane.ratelimit.transfer";
+
+    @EdcSetting
+    private static final String RATE_LIMIT_TENANT = "edc.dataplane.ratelimit.tenant";
+
+    /**
+     * Prefix of the settings that limit the bytes per second of specific tenants, e.g. {@code edc.dataplane.ratelimit.tenants.consumer-a=1048576}.
+     */
+    @EdcSetting
+    private static final String RATE_LIMIT_TENANTS = "edc.dataplane.ratelimit.tenants";
+
+    /**
+     * Prefix of the settings that limit the bytes per second to a destination type, e.g. {@code edc.dataplane.ratelimit.destination.HttpData=1048576}.
+     */
+    @EdcSetting
+    private static final String RATE_LIMIT_DESTINATION = "edc.dataplane.ratelimit.destination";
+
+    /**
+     * URL of the instances endpoint of a remote data plane selector, e.g. {@code http://selector:8181/api/instances}. If
+     * set, the data plane reports its load to the selector with periodic heartbeats.
+     */
+    @EdcSetting
+    private static final String SELECTOR_URL = "edc.dataplane.selector.url";
+
+    @EdcSetting
+    private static final String SELECTOR_INSTANCE_ID = "edc.dataplane.selector.instance.id";
+
+    @EdcSetting
+    private static final String SELECTOR_HEARTBEAT_PERIOD = "edc.dataplane.selector.heartbeat.period";
+    private static final long DEFAULT_SELECTOR_HEARTBEAT_PERIOD = 10;
+
     private DataPlaneManagerImpl dataPlaneManager;
+    private DataPlaneLoadReporter loadReporter;
 
     @Inject(required = false)
     private TransferServiceSelectionStrategy transferServiceSelectionStrategy;
@@ -69,9 +133,21 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Inject(required = false)
     private DataPlaneStore store;
 
+    @Inject(required = false)
+    private RateLimitPolicy rateLimitPolicy;
+
+    @Inject(required = false)
+    private OkHttpClient httpClient;
+
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private MetricsInstrumentation metricsInstrumentation;
+
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return "Data Plane Framework";
@@ -79,7 +155,8 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var pipelineService = new PipelineServiceImpl();
+        var dataPlaneStore = registerStore(context);
+        var pipelineService = new PipelineServiceImpl(metricsInstrumentation, dataPlaneStore, Objects.requireNonNullElseGet(rateLimitPolicy, () -> createRateLimitPolicy(context)));
         pipelineService.registerFactory(new OutputStreamDataSinkFactory()); // Added by default to support synchronous data transfer, i.e. pull data
         context.registerService(PipelineService.class, pipelineService);
         var transferService = new PipelineServiceTransferServiceImpl(pipelineService);
@@ -101,20 +178,45 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         var queueCapacity = context.getSetting(QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY);
         var workers = context.getSetting(WORKERS, DEFAULT_WORKERS);
         var waitTimeout = context.getSetting(WAIT_TIMEOUT, DEFAULT_WAIT_TIMEOUT);
+        var transferRetries = context.getSetting(TRANSFER_RETRIES, DEFAULT_TRANSFER_RETRIES);
+        var concurrencyLimits = context.getConfig(TRANSFER_CONCURRENCY).getRelativeEntries().entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> Integer.parseInt(entry.getValue())));
 
         dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
                 .queueCapacity(queueCapacity)
                 .executorInstrumentation(executorInstrumentation)
+                .metricsInstrumentation(metricsInstrumentation)
                 .workers(workers)
                 .waitTimeout(waitTimeout)
+                .transferRetries(transferRetries)
+                .concurrencyLimits(concurrencyLimits)
                 .pipelineService(pipelineService)
                 .transferServiceRegistry(transferServiceRegistry)
-                .store(registerStore(context))
+                .store(dataPlaneStore)
                 .monitor(monitor)
                 .telemetry(telemetry)
                 .build();
 
         context.registerService(DataPlaneManager.class, dataPlaneManager);
+
+        var selectorUrl = context.getSetting(SELECTOR_URL, null);
+        if (selectorUrl != null) {
+            var instanceId = context.getConfig().getString(SELECTOR_INSTANCE_ID);
+            Objects.requireNonNull(httpClient, format("If [%s] is specified, a OkHttpClient instance must be provided", SELECTOR_URL));
+            var period = Duration.ofSeconds(context.getSetting(SELECTOR_HEARTBEAT_PERIOD, DEFAULT_SELECTOR_HEARTBEAT_PERIOD));
+            loadReporter = new DataPlaneLoadReporter(httpClient, selectorUrl, instanceId, dataPlaneManager::getOutstandingTransfers, period, executorInstrumentation, monitor);
+        }
+    }
+
+    private RateLimitPolicy createRateLimitPolicy(ServiceExtensionContext context) {
+        var transferLimit = context.getConfig().getLong(RATE_LIMIT_TRANSFER, null);
+        var tenantLimit = context.getConfig().getLong(RATE_LIMIT_TENANT, null);
+        return new ConfiguredRateLimitPolicy(transferLimit, tenantLimit, longEntries(context.getConfig(RATE_LIMIT_TENANTS)), longEntries(context.getConfig(RATE_LIMIT_DESTINATION)));
+    }
+
+    private Map<String, Long> longEntries(Config config) {
+        return config.getRelativeEntries().entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> Long.parseLong(entry.getValue())));
     }
 
     @NotNull
@@ -122,18 +224,28 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         if (store != null) {
             return store;
         }
-        var inMemoryStore = new InMemoryDataPlaneStore(IN_MEMORY_STORE_CAPACITY);
-        context.registerService(DataPlaneStore.class, inMemoryStore);
-        return inMemoryStore;
+        var capacity = context.getSetting(STORE_CAPACITY, IN_MEMORY_STORE_CAPACITY);
+        var directory = context.getSetting(STORE_DIRECTORY, null);
+        var defaultStore = directory != null ?
+                new FileDataPlaneStore(Path.of(directory), capacity, context.getTypeManager().getMapper(), context.getMonitor(), clock) :
+                new InMemoryDataPlaneStore(capacity, clock);
+        context.registerService(DataPlaneStore.class, defaultStore);
+        return defaultStore;
     }
 
     @Override
     public void start() {
         dataPlaneManager.start();
+        if (loadReporter != null) {
+            loadReporter.start();
+        }
     }
 
     @Override
     public void shutdown() {
+        if (loadReporter != null) {
+            loadReporter.stop();
+        }
         if (dataPlaneManager != null) {
             dataPlaneManager.forceStop();
         }
@@ -15,9 +15,11 @@
 package org.eclipse.dataspaceconnector.dataplane.framework.manager;
 
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneOverloadedException;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.dataspaceconnector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.State;
@@ -25,46 +27,67 @@ import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.response.StatusResult;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.telemetry.Telemetry;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 
 /**
  * Default data manager implementation.
  * <p>
- * This implementation uses a simple bounded queue to support backpressure when the system is overloaded. This should support sufficient performance since data transfers
- * generally do not require low-latency. If low-latency operation becomes a requirement, a concurrent queuing mechanism can be used.
+ * This implementation uses a bounded {@link TransferScheduler} to support backpressure when the system is overloaded: requests that do not fit are rejected with a
+ * {@link DataPlaneOverloadedException}. The scheduler serves requests by priority and the tenants of a priority in round-robin order. The number of concurrent
+ * transfers of a {@link TransferService} can be limited, requests for a transfer service at its limit wait in the scheduler without blocking other requests.
+ * <p>
+ * Requests are stored in the {@link DataPlaneStore} before they are queued. On start, the requests that the store reports as pending, i.e. received but not
+ * completed before the previous shutdown, are queued again. Whether they survive a restart depends on the store implementation.
+ * <p>
+ * Transfers that fail with a retryable error are queued again up to the configured number of retries. The progress that the pipeline recorded in the store
+ * is kept, so that a retried transfer skips the parts that were already transferred.
  */
 public class DataPlaneManagerImpl implements DataPlaneManager {
+    private static final String QUEUE_SIZE_METRIC = "edc.dataplane.queue.size";
+    private static final String TRANSFER_METRIC = "edc.dataplane.transfer";
+
     private int queueCapacity = 10000;
     private int workers = 1;
     private long waitTimeout = 100;
+    private int transferRetries;
 
     private PipelineService pipelineService;
     private ExecutorInstrumentation executorInstrumentation;
+    private MetricsInstrumentation metricsInstrumentation;
     private Monitor monitor;
     private Telemetry telemetry;
 
-    private BlockingQueue<DataFlowRequest> queue;
+    private Map<String, Integer> concurrencyLimits = Map.of();
+    private TransferScheduler scheduler;
     private ExecutorService executorService;
 
     private AtomicBoolean active = new AtomicBoolean();
     private DataPlaneStore store;
     private TransferServiceRegistry transferServiceRegistry;
+    private final Map<String, Integer> retries = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> running = new ConcurrentHashMap<>();
 
     public void start() {
-        queue = new ArrayBlockingQueue<>(queueCapacity);
+        scheduler = new TransferScheduler(queueCapacity);
+        metricsInstrumentation.gauge(QUEUE_SIZE_METRIC, () -> scheduler.size());
         active.set(true);
         executorService = executorInstrumentation.instrument(Executors.newFixedThreadPool(workers), getClass().getSimpleName());
+        recover();
         for (var i = 0; i < workers; i++) {
             executorService.submit(this::run);
         }
@@ -98,8 +121,11 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         DataFlowRequest dataRequestWithTraceContext = dataRequest.toBuilder()
                 .traceContext(telemetry.getCurrentTraceContext())
                 .build();
-        queue.add(dataRequestWithTraceContext);
-        store.received(dataRequestWithTraceContext.getProcessId());
+        store.received(dataRequestWithTraceContext);
+        if (!scheduler.offer(dataRequestWithTraceContext)) {
+            fail(dataRequestWithTraceContext.getProcessId(), "Data plane queue is full");
+            throw new DataPlaneOverloadedException(format("Cannot accept data request %s, the data plane queue is full", dataRequestWithTraceContext.getProcessId()));
+        }
     }
 
     @Override
@@ -117,11 +143,19 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         return store.getState(processId);
     }
 
+    /**
+     * Returns the number of requests that are queued or being transferred.
+     */
+    public int getOutstandingTransfers() {
+        var queued = scheduler != null ? scheduler.size() : 0;
+        return queued + running.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
     private void run() {
         while (active.get()) {
             DataFlowRequest request = null;
             try {
-                request = queue.poll(waitTimeout, TimeUnit.MILLISECONDS);
+                request = scheduler.poll(this::admit, waitTimeout, TimeUnit.MILLISECONDS);
                 if (request == null) {
                     continue;
                 }
@@ -137,8 +171,7 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
                     monitor.severe("Unable to dequeue data request", e);
                 } else {
                     monitor.severe("Error processing data request: " + request.getProcessId(), e);
-                    // TODO persist error details
-                    store.completed(request.getProcessId());
+                    fail(request.getProcessId(), "Error processing data request: " + e.getMessage());
                 }
             }
         }
@@ -148,18 +181,99 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         var transferService = transferServiceRegistry.resolveTransferService(request);
         if (transferService == null) {
             // Should not happen since resolving a transferService is part of payload validation
-            // TODO persist error details
-            store.completed(request.getProcessId());
+            fail(request.getProcessId(), format("Cannot find a transfer Service that can handle %s source and %s destination",
+                    request.getSourceDataAddress().getType(), request.getDestinationDataAddress().getType()));
         } else {
-            transferService.transfer(request).whenComplete((result, exception) -> {
-                if (request.isTrackable()) {
-                    // TODO persist TransferResult or error details
+            var transferServiceName = transferService.getClass().getSimpleName();
+            CompletableFuture<StatusResult<Void>> transfer;
+            try {
+                transfer = metricsInstrumentation.timeAsync(TRANSFER_METRIC, () -> transferService.transfer(request), "transferService", transferServiceName);
+            } catch (RuntimeException e) {
+                release(transferServiceName);
+                throw e;
+            }
+            transfer.whenComplete((result, exception) -> {
+                release(transferServiceName);
+                if (!request.isTrackable()) {
+                    // the outcome of an untracked request is not recorded, but it must not stay pending and be recovered on restart
+                    store.completed(request.getProcessId());
+                } else if (exception != null) {
+                    fail(request.getProcessId(), "Error transferring data: " + exception.getMessage());
+                } else if (result.failed()) {
+                    if (!result.fatalError() && retry(request)) {
+                        return;
+                    }
+                    fail(request.getProcessId(), result.getFailureDetail());
+                } else {
+                    retries.remove(request.getProcessId());
                     store.completed(request.getProcessId());
                 }
             });
         }
     }
 
+    /**
+     * Queues a failed request again if it has retries left and fits into the queue.
+     */
+    private boolean retry(DataFlowRequest request) {
+        var attempt = retries.merge(request.getProcessId(), 1, Integer::sum);
+        if (attempt <= transferRetries && scheduler.offer(request)) {
+            monitor.debug(format("Retrying data request %s, attempt %s of %s", request.getProcessId(), attempt, transferRetries));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Admits a request if its transfer service is below its concurrency limit, and reserves a slot for it. Requests without a transfer service are admitted, so
+     * that they are failed.
+     */
+    private boolean admit(DataFlowRequest request) {
+        var transferService = transferServiceRegistry.resolveTransferService(request);
+        if (transferService == null) {
+            return true;
+        }
+        var name = transferService.getClass().getSimpleName();
+        var limit = concurrencyLimits.get(name.toLowerCase(Locale.ROOT));
+        var count = running.computeIfAbsent(name, n -> new AtomicInteger());
+        if (limit != null && count.get() >= limit) {
+            return false;
+        }
+        count.incrementAndGet();
+        return true;
+    }
+
+    private void release(String transferServiceName) {
+        var count = running.get(transferServiceName);
+        if (count != null) {
+            count.decrementAndGet();
+        }
+        scheduler.signal();
+    }
+
+    private void fail(String processId, String errorDetail) {
+        retries.remove(processId);
+        store.recordError(processId, errorDetail);
+        store.completed(processId);
+    }
+
+    /**
+     * Queues the requests that were received but did not complete before the last shutdown. Requests that do not fit into the queue remain pending in the
+     * store and are recovered on the next start.
+     */
+    private void recover() {
+        var pending = store.pending();
+        if (pending.isEmpty()) {
+            return;
+        }
+        var recovered = pending.stream().takeWhile(scheduler::offer).count();
+        if (recovered < pending.size()) {
+            monitor.warning(format("Recovered %s of %s pending data requests, the others do not fit into the queue", recovered, pending.size()));
+        } else {
+            monitor.info(format("Recovered %s pending data requests", recovered));
+        }
+    }
+
     public static class Builder {
         private DataPlaneManagerImpl manager;
 
@@ -177,6 +291,11 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
             return this;
         }
 
+        public Builder metricsInstrumentation(MetricsInstrumentation metricsInstrumentation) {
+            manager.metricsInstrumentation = metricsInstrumentation;
+            return this;
+        }
+
         public Builder transferServiceRegistry(TransferServiceRegistry transferServiceRegistry) {
             manager.transferServiceRegistry = transferServiceRegistry;
             return this;
@@ -207,6 +326,21 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
             return this;
         }
 
+        /**
+         * Limits the number of concurrent transfers per {@link TransferService}, keyed by the case-insensitive simple class name of the transfer service.
+         * Transfer services without a limit are not limited.
+         */
+        public Builder concurrencyLimits(Map<String, Integer> concurrencyLimits) {
+            manager.concurrencyLimits = concurrencyLimits.entrySet().stream()
+                    .collect(Collectors.toMap(entry -> entry.getKey().toLowerCase(Locale.ROOT), Map.Entry::getValue));
+            return this;
+        }
+
+        public Builder transferRetries(int transferRetries) {
+            manager.transferRetries = transferRetries;
+            return this;
+        }
+
         public Builder store(DataPlaneStore store) {
             manager.store = store;
             return this;
@@ -219,6 +353,7 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         private Builder() {
             manager = new DataPlaneManagerImpl();
             this.manager.telemetry = new Telemetry(); // default noop implementation
+            this.manager.metricsInstrumentation = MetricsInstrumentation.noop(); // default noop implementation
         }
     }
 
@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.manager;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.schema.DataFlowRequestSchema;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Bounded queue of data flow requests that serves requests by priority and, within a priority, the tenants in round-robin order. A tenant with
+ * many queued requests therefore does not delay the requests of other tenants, while the requests of a single tenant keep their order.
+ * <p>
+ * The priority and the tenant of a request are read from its {@link DataFlowRequestSchema#PRIORITY} and {@link DataFlowRequestSchema#TENANT}
+ * properties. Higher priorities are served first, requests without a valid priority have priority {@value #DEFAULT_PRIORITY} and requests without a
+ * tenant share one queue.
+ */
+class TransferScheduler {
+    static final int DEFAULT_PRIORITY = 0;
+    private static final String DEFAULT_TENANT = "";
+
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final NavigableMap<Integer, Map<String, Deque<DataFlowRequest>>> queues = new TreeMap<>(Comparator.reverseOrder());
+    private int size;
+
+    TransferScheduler(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Queues the request if the capacity permits.
+     *
+     * @return true if the request was queued, false if the scheduler is full.
+     */
+    boolean offer(DataFlowRequest request) {
+        lock.lock();
+        try {
+            if (size >= capacity) {
+                return false;
+            }
+            queues.computeIfAbsent(priority(request), p -> new LinkedHashMap<>())
+                    .computeIfAbsent(tenant(request), t -> new ArrayDeque<>())
+                    .add(request);
+            size++;
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the next request that is admitted, waiting up to the timeout for one to become available.
+     * <p>
+     * Only the oldest request of each tenant is considered. The admission is tested while holding the scheduler lock, so it can reserve resources for
+     * the request it admits.
+     *
+     * @param admission decides whether a request can be started now.
+     * @return the request, or null if none was admitted before the timeout elapsed.
+     */
+    @Nullable
+    DataFlowRequest poll(Predicate<DataFlowRequest> admission, long timeout, TimeUnit unit) throws InterruptedException {
+        var remaining = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                var request = next(admission);
+                if (request != null) {
+                    return request;
+                }
+                if (remaining <= 0) {
+                    return null;
+                }
+                remaining = notEmpty.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wakes up the waiting consumers, e.g. because a request that was not admitted before may be admitted now.
+     */
+    void signal() {
+        lock.lock();
+        try {
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Nullable
+    private DataFlowRequest next(Predicate<DataFlowRequest> admission) {
+        for (var priorityIterator = queues.values().iterator(); priorityIterator.hasNext(); ) {
+            var tenants = priorityIterator.next();
+            for (var tenantIterator = tenants.entrySet().iterator(); tenantIterator.hasNext(); ) {
+                var entry = tenantIterator.next();
+                var queue = entry.getValue();
+                if (!admission.test(queue.peek())) {
+                    continue;
+                }
+                var request = queue.poll();
+                size--;
+                // move the tenant to the end of the round
+                tenantIterator.remove();
+                if (!queue.isEmpty()) {
+                    tenants.put(entry.getKey(), queue);
+                } else if (tenants.isEmpty()) {
+                    priorityIterator.remove();
+                }
+                return request;
+            }
+        }
+        return null;
+    }
+
+    private int priority(DataFlowRequest request) {
+        var priority = property(request, DataFlowRequestSchema.PRIORITY);
+        if (priority == null) {
+            return DEFAULT_PRIORITY;
+        }
+        try {
+            return Integer.parseInt(priority.trim());
+        } catch (NumberFormatException e) {
+            return DEFAULT_PRIORITY;
+        }
+    }
+
+    private String tenant(DataFlowRequest request) {
+        var tenant = property(request, DataFlowRequestSchema.TENANT);
+        return tenant != null ? tenant : DEFAULT_TENANT;
+    }
+
+    @Nullable
+    private String property(DataFlowRequest request, String key) {
+        var properties = request.getProperties();
+        return properties != null ? properties.get(key) : null;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.pipeline;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.stream.Stream;
+
+/**
+ * Decorates a {@link DataSource} to count the bytes read from its parts. The count of a part is reported when its stream is closed,
+ * so that no metric is recorded per read operation.
+ */
+class MeteredDataSource implements DataSource {
+    static final String BYTES_METRIC = "edc.dataplane.bytes";
+
+    private final DataSource delegate;
+    private final MetricsInstrumentation metricsInstrumentation;
+    private final String[] tags;
+
+    MeteredDataSource(DataSource delegate, MetricsInstrumentation metricsInstrumentation, String... tags) {
+        this.delegate = delegate;
+        this.metricsInstrumentation = metricsInstrumentation;
+        this.tags = tags;
+    }
+
+    @Override
+    public Stream<Part> openPartStream() {
+        return delegate.openPartStream().map(MeteredPart::new);
+    }
+
+    private class MeteredPart implements Part {
+        private final Part part;
+
+        MeteredPart(Part part) {
+            this.part = part;
+        }
+
+        @Override
+        public String name() {
+            return part.name();
+        }
+
+        @Override
+        public long size() {
+            return part.size();
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new CountingInputStream(part.openStream());
+        }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return part.supportsRandomAccess();
+        }
+
+        @Override
+        public byte[] read(long offset, long bytes) {
+            var content = part.read(offset, bytes);
+            metricsInstrumentation.increment(BYTES_METRIC, content.length, tags);
+            return content;
+        }
+
+        @Override
+        public void close() throws Exception {
+            part.close();
+        }
+    }
+
+    private class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            var b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            var read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            metricsInstrumentation.increment(BYTES_METRIC, count, tags);
+            count = 0;
+        }
+    }
+}
@@ -20,8 +20,11 @@ import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSinkFactory;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSourceFactory;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.dataspaceconnector.dataplane.spi.ratelimit.RateLimitPolicy;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.dataspaceconnector.spi.response.StatusResult;
 import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -35,10 +38,36 @@ import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.FATAL_E
 
 /**
  * Default pipeline service implementation.
+ * <p>
+ * When a {@link DataPlaneStore} is provided, transfers of a {@link DataFlowRequest} that is resolved through the registered factories record their
+ * progress in the store, and a transfer that is started again for the same process resumes from the recorded progress.
+ * <p>
+ * The bytes read from the sources are throttled by the rate limiters that the {@link RateLimitPolicy} returns for the request.
  */
 public class PipelineServiceImpl implements PipelineService {
     private final List<DataSourceFactory> sourceFactories = new ArrayList<>();
     private final List<DataSinkFactory> sinkFactories = new ArrayList<>();
+    private final MetricsInstrumentation metricsInstrumentation;
+    private final DataPlaneStore store;
+    private final RateLimitPolicy rateLimitPolicy;
+
+    public PipelineServiceImpl() {
+        this(MetricsInstrumentation.noop());
+    }
+
+    public PipelineServiceImpl(MetricsInstrumentation metricsInstrumentation) {
+        this(metricsInstrumentation, null);
+    }
+
+    public PipelineServiceImpl(MetricsInstrumentation metricsInstrumentation, @Nullable DataPlaneStore store) {
+        this(metricsInstrumentation, store, RateLimitPolicy.unlimited());
+    }
+
+    public PipelineServiceImpl(MetricsInstrumentation metricsInstrumentation, @Nullable DataPlaneStore store, RateLimitPolicy rateLimitPolicy) {
+        this.metricsInstrumentation = metricsInstrumentation;
+        this.store = store;
+        this.rateLimitPolicy = rateLimitPolicy;
+    }
 
     @Override
     public boolean canHandle(DataFlowRequest request) {
@@ -86,7 +115,10 @@ public class PipelineServiceImpl implements PipelineService {
         }
         var source = sourceFactory.createSource(request);
         var sink = sinkFactory.createSink(request);
-        return sink.transfer(source);
+        if (store == null || !request.isTrackable()) {
+            return sink.transfer(decorate(source, request));
+        }
+        return sink.transfer(decorate(source, request), new StoreTransferCheckpoints(store, request.getProcessId()));
     }
 
     @Override
@@ -96,7 +128,7 @@ public class PipelineServiceImpl implements PipelineService {
             return noSinkFactory(request);
         }
         var sink = sinkFactory.createSink(request);
-        return sink.transfer(source);
+        return sink.transfer(decorate(source, request));
     }
 
     @Override
@@ -106,7 +138,7 @@ public class PipelineServiceImpl implements PipelineService {
             return noSourceFactory(request);
         }
         var source = sourceFactory.createSource(request);
-        return sink.transfer(source);
+        return sink.transfer(decorate(source, request));
     }
 
     @Override
@@ -119,6 +151,16 @@ public class PipelineServiceImpl implements PipelineService {
         sinkFactories.add(factory);
     }
 
+    private DataSource decorate(DataSource source, DataFlowRequest request) {
+        var limiters = rateLimitPolicy.limitersFor(request);
+        if (limiters.isEmpty() && !metricsInstrumentation.isEnabled()) {
+            return source;
+        }
+        var tags = new String[]{ "source", request.getSourceDataAddress().getType(), "destination", request.getDestinationDataAddress().getType() };
+        var throttled = limiters.isEmpty() ? source : new ThrottledDataSource(source, limiters, metricsInstrumentation, tags);
+        return metricsInstrumentation.isEnabled() ? new MeteredDataSource(throttled, metricsInstrumentation, tags) : throttled;
+    }
+
     @Nullable
     private DataSourceFactory getSourceFactory(DataFlowRequest request) {
         return sourceFactories.stream().filter(s -> s.canHandle(request)).findFirst().orElse(null);
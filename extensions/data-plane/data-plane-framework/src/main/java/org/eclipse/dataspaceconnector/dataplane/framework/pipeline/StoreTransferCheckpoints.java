@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.pipeline;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.TransferCheckpoints;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.PartProgress;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads and records the checkpoints of a data flow in the {@link DataPlaneStore}. The progress recorded by a previous attempt is loaded once, when the
+ * transfer starts.
+ */
+class StoreTransferCheckpoints implements TransferCheckpoints {
+    private final DataPlaneStore store;
+    private final String processId;
+    private final Map<String, PartProgress> previous = new ConcurrentHashMap<>();
+
+    StoreTransferCheckpoints(DataPlaneStore store, String processId) {
+        this.store = store;
+        this.processId = processId;
+        store.getProgress(processId).forEach(progress -> previous.put(progress.getName(), progress));
+    }
+
+    @Override
+    public @Nullable PartProgress progress(String partName) {
+        return previous.get(partName);
+    }
+
+    @Override
+    public void checkpoint(PartProgress progress) {
+        store.checkpoint(processId, progress);
+    }
+}
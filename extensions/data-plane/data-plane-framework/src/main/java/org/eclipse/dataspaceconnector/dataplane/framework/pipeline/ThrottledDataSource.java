@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.pipeline;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.dataspaceconnector.dataplane.spi.ratelimit.RateLimiter;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Decorates a {@link DataSource} to throttle the bytes read from its parts with {@link RateLimiter}s. The bytes of a read are acquired once they have
+ * been read, so a read is never split and the following reads are delayed instead. The time a part was throttled is reported when its stream is closed.
+ */
+class ThrottledDataSource implements DataSource {
+    static final String THROTTLED_METRIC = "edc.dataplane.throttled";
+
+    private final DataSource delegate;
+    private final List<RateLimiter> limiters;
+    private final MetricsInstrumentation metricsInstrumentation;
+    private final String[] tags;
+
+    ThrottledDataSource(DataSource delegate, List<RateLimiter> limiters, MetricsInstrumentation metricsInstrumentation, String... tags) {
+        this.delegate = delegate;
+        this.limiters = limiters;
+        this.metricsInstrumentation = metricsInstrumentation;
+        this.tags = tags;
+    }
+
+    @Override
+    public Stream<Part> openPartStream() {
+        return delegate.openPartStream().map(ThrottledPart::new);
+    }
+
+    private long acquire(long bytes) throws InterruptedException {
+        var throttled = 0L;
+        for (var limiter : limiters) {
+            throttled += limiter.acquire(bytes);
+        }
+        return throttled;
+    }
+
+    private void recordThrottled(long nanos) {
+        if (nanos > 0) {
+            metricsInstrumentation.record(THROTTLED_METRIC, Duration.ofNanos(nanos), tags);
+        }
+    }
+
+    private class ThrottledPart implements Part {
+        private final Part part;
+
+        ThrottledPart(Part part) {
+            this.part = part;
+        }
+
+        @Override
+        public String name() {
+            return part.name();
+        }
+
+        @Override
+        public long size() {
+            return part.size();
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ThrottledInputStream(part.openStream());
+        }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return part.supportsRandomAccess();
+        }
+
+        @Override
+        public byte[] read(long offset, long bytes) {
+            var content = part.read(offset, bytes);
+            try {
+                recordThrottled(acquire(content.length));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new EdcException("Interrupted while throttling part " + part.name(), e);
+            }
+            return content;
+        }
+
+        @Override
+        public void close() throws Exception {
+            part.close();
+        }
+    }
+
+    private class ThrottledInputStream extends FilterInputStream {
+        private long throttled;
+
+        ThrottledInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            var b = super.read();
+            if (b != -1) {
+                throttle(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            var read = super.read(b, off, len);
+            if (read > 0) {
+                throttle(read);
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            recordThrottled(throttled);
+            throttled = 0;
+        }
+
+        private void throttle(int bytes) throws InterruptedIOException {
+            try {
+                throttled += acquire(bytes);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while throttling");
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.ratelimit;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.ratelimit.RateLimitPolicy;
+import org.eclipse.dataspaceconnector.dataplane.spi.ratelimit.RateLimiter;
+import org.eclipse.dataspaceconnector.dataplane.spi.schema.DataFlowRequestSchema;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Rate limit policy with limits in bytes per second for:
+ * <ul>
+ *     <li>each data flow</li>
+ *     <li>all data flows to a destination type</li>
+ *     <li>all data flows of a tenant, i.e. the {@link DataFlowRequestSchema#TENANT} property of the request, with a default limit that applies to
+ *     each tenant and limits for specific tenants</li>
+ * </ul>
+ * Destination types and tenants are matched case-insensitively. Limits that are not set do not apply.
+ */
+public class ConfiguredRateLimitPolicy implements RateLimitPolicy {
+    private final Long transferLimit;
+    private final Long tenantLimit;
+    private final Map<String, Long> tenantLimits;
+    private final Map<String, Long> destinationLimits;
+    private final LongFunction<RateLimiter> limiterFactory;
+    private final Map<String, RateLimiter> tenantLimiters = new ConcurrentHashMap<>();
+    private final Map<String, RateLimiter> destinationLimiters = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param transferLimit     the limit of each data flow, null if not limited.
+     * @param tenantLimit       the limit of each tenant without a specific limit, null if not limited.
+     * @param tenantLimits      the limits of specific tenants.
+     * @param destinationLimits the limits of destination types.
+     */
+    public ConfiguredRateLimitPolicy(@Nullable Long transferLimit, @Nullable Long tenantLimit, Map<String, Long> tenantLimits, Map<String, Long> destinationLimits) {
+        this(transferLimit, tenantLimit, tenantLimits, destinationLimits, TokenBucketRateLimiter::new);
+    }
+
+    ConfiguredRateLimitPolicy(@Nullable Long transferLimit, @Nullable Long tenantLimit, Map<String, Long> tenantLimits, Map<String, Long> destinationLimits,
+                              LongFunction<RateLimiter> limiterFactory) {
+        this.transferLimit = transferLimit;
+        this.tenantLimit = tenantLimit;
+        this.tenantLimits = lowerCaseKeys(tenantLimits);
+        this.destinationLimits = lowerCaseKeys(destinationLimits);
+        this.limiterFactory = limiterFactory;
+    }
+
+    @Override
+    public List<RateLimiter> limitersFor(DataFlowRequest request) {
+        var limiters = new ArrayList<RateLimiter>();
+        if (transferLimit != null) {
+            limiters.add(limiterFactory.apply(transferLimit));
+        }
+        var destinationType = request.getDestinationDataAddress().getType();
+        if (destinationType != null) {
+            var key = destinationType.toLowerCase(Locale.ROOT);
+            var limit = destinationLimits.get(key);
+            if (limit != null) {
+                limiters.add(destinationLimiters.computeIfAbsent(key, k -> limiterFactory.apply(limit)));
+            }
+        }
+        var tenant = request.getProperties() != null ? request.getProperties().get(DataFlowRequestSchema.TENANT) : null;
+        if (tenant != null) {
+            var key = tenant.toLowerCase(Locale.ROOT);
+            var limit = tenantLimits.getOrDefault(key, tenantLimit);
+            if (limit != null) {
+                limiters.add(tenantLimiters.computeIfAbsent(key, k -> limiterFactory.apply(limit)));
+            }
+        }
+        return limiters;
+    }
+
+    private static Map<String, Long> lowerCaseKeys(Map<String, Long> limits) {
+        return limits.entrySet().stream().collect(Collectors.toMap(entry -> entry.getKey().toLowerCase(Locale.ROOT), Map.Entry::getValue));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.ratelimit;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.ratelimit.RateLimiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket that refills at a constant number of bytes per second and holds at most one second worth of bytes, so that an idle transfer can burst
+ * for one second.
+ * <p>
+ * A caller may acquire more bytes than the bucket holds. The bucket then goes into debt and the caller waits until the debt is paid off, so callers
+ * that acquire concurrently are served in the order in which they acquired and the rate is kept regardless of the size of the acquired chunks.
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double bytesPerSecond;
+    private final double capacity;
+    private final LongSupplier nanoTime;
+    private final Sleeper sleeper;
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucketRateLimiter(long bytesPerSecond) {
+        this(bytesPerSecond, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+    }
+
+    TokenBucketRateLimiter(long bytesPerSecond, LongSupplier nanoTime, Sleeper sleeper) {
+        if (bytesPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit must be positive: " + bytesPerSecond);
+        }
+        this.bytesPerSecond = bytesPerSecond;
+        capacity = bytesPerSecond;
+        this.nanoTime = nanoTime;
+        this.sleeper = sleeper;
+        tokens = capacity;
+        refilledAt = nanoTime.getAsLong();
+    }
+
+    @Override
+    public long acquire(long bytes) throws InterruptedException {
+        long wait;
+        synchronized (this) {
+            var now = nanoTime.getAsLong();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * bytesPerSecond / NANOS_PER_SECOND);
+            refilledAt = now;
+            tokens -= bytes;
+            wait = tokens < 0 ? (long) Math.ceil(-tokens * NANOS_PER_SECOND / bytesPerSecond) : 0;
+        }
+        if (wait > 0) {
+            sleeper.sleep(wait);
+        }
+        return wait;
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+}
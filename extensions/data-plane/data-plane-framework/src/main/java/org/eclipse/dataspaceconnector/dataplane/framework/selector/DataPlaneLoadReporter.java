@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.selector;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import static java.lang.String.format;
+
+/**
+ * Reports the load of this data plane to a remote data plane selector. The number of outstanding transfers is posted
+ * periodically to the heartbeat endpoint of the instance, {@code POST <instances url>/<instance id>/heartbeat}, so that
+ * load-aware selection strategies see the transfers that completed, and the selector evicts the instance when the data
+ * plane stops.
+ */
+public class DataPlaneLoadReporter {
+    private static final MediaType JSON_TYPE = MediaType.parse("application/json");
+
+    private final OkHttpClient httpClient;
+    private final String heartbeatUrl;
+    private final String instanceId;
+    private final IntSupplier outstandingTransfers;
+    private final Duration period;
+    private final ExecutorInstrumentation executorInstrumentation;
+    private final Monitor monitor;
+    private ScheduledExecutorService executorService;
+
+    /**
+     * Constructor.
+     *
+     * @param httpClient              the client used to post the heartbeats.
+     * @param instancesUrl            the URL of the instances endpoint of the selector API.
+     * @param instanceId              the id under which this data plane is registered with the selector.
+     * @param outstandingTransfers    supplies the number of transfers that are queued or running.
+     * @param period                  the time between two heartbeats.
+     * @param executorInstrumentation instruments the executor that posts the heartbeats.
+     * @param monitor                 the monitor.
+     */
+    public DataPlaneLoadReporter(OkHttpClient httpClient, String instancesUrl, String instanceId, IntSupplier outstandingTransfers,
+                                 Duration period, ExecutorInstrumentation executorInstrumentation, Monitor monitor) {
+        this.httpClient = httpClient;
+        this.heartbeatUrl = format("%s/%s/heartbeat", instancesUrl.replaceAll("/+$", ""), instanceId);
+        this.instanceId = instanceId;
+        this.outstandingTransfers = outstandingTransfers;
+        this.period = period;
+        this.executorInstrumentation = executorInstrumentation;
+        this.monitor = monitor;
+    }
+
+    public void start() {
+        executorService = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "DataPlaneLoadReporter");
+            thread.setDaemon(true);
+            return thread;
+        }), getClass().getSimpleName());
+        executorService.scheduleAtFixedRate(this::report, 0, period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Posts a single heartbeat.
+     *
+     * @return true if the selector accepted it.
+     */
+    public boolean report() {
+        var body = RequestBody.create(format("{\"outstandingTransfers\":%d}", outstandingTransfers.getAsInt()), JSON_TYPE);
+        var request = new Request.Builder().post(body).url(heartbeatUrl).build();
+        try (var response = httpClient.newCall(request).execute()) {
+            if (response.code() == 404) {
+                monitor.warning(format("Data plane instance %s is not registered with the data plane selector", instanceId));
+            } else if (!response.isSuccessful()) {
+                monitor.warning(format("Data plane selector rejected the heartbeat of instance %s, HTTP status %d", instanceId, response.code()));
+            }
+            return response.isSuccessful();
+        } catch (IOException | RuntimeException e) {
+            // the next heartbeat is attempted anyway, the exception must not cancel the schedule
+            monitor.warning(format("Cannot send the heartbeat of data plane instance %s to the data plane selector", instanceId), e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.dataplane.framework.store;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.State;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.PartProgress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The record a store keeps for a single process. Not thread-safe, stores guard their entries.
+ */
+class DataFlowEntry {
+    private final String processId;
+    private final long receivedAt;
+    private State state;
+    private DataFlowRequest request;
+    private String errorDetail;
+    private final Map<String, PartProgress> progress = new LinkedHashMap<>();
+
+    DataFlowEntry(String processId, State state, @Nullable DataFlowRequest request, long receivedAt) {
+        this.processId = processId;
+        this.state = state;
+        this.request = request;
+        this.receivedAt = receivedAt;
+    }
+
+    @JsonCreator
+    DataFlowEntry(@JsonProperty("processId") String processId,
+                  @JsonProperty("state") State state,
+                  @JsonProperty("request") @Nullable DataFlowRequest request,
+                  @JsonProperty("receivedAt") long receivedAt,
+                  @JsonProperty("errorDetail") @Nullable String errorDetail,
+                  @JsonProperty("progress") @Nullable List<PartProgress> progress) {
+        this(processId, state, request, receivedAt);
+        this.errorDetail = errorDetail;
+        if (progress != null) {
+            progress.forEach(this::checkpoint);
+        }
+    }
+
+    /**
+     * Creates the entry of a received process, which keeps the progress of the previous entry of the process, if any.
+     */
+    static DataFlowEntry received(@Nullable DataFlowEntry previous, String processId, @Nullable DataFlowRequest request, long receivedAt) {
+        var entry = new DataFlowEntry(processId, State.RECEIVED, request, receivedAt);
+        if (previous != null) {
+            entry.progress.putAll(previous.progress);
+        }
+        return entry;
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public long getReceivedAt() {
+        return receivedAt;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    @Nullable
+    public DataFlowRequest getRequest() {
+        return request;
+    }
+
+    @Nullable
+    public String getErrorDetail() {
+        return errorDetail;
+    }
+
+    public List<PartProgress> getProgress() {
+        return new ArrayList<>(progress.values());
+    }
+
+    void completed() {
+        state = State.COMPLETED;
+    }
+
+    void errorDetail(String errorDetail) {
+        this.errorDetail = errorDetail;
+    }
+
+    void checkpoint(PartProgress partProgress) {
+        progress.put(partProgress.getName(), partProgress);
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.dataplane.framework.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspaceconnector.common.concurrency.LockManager;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.PartProgress;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.persistence.EdcPersistenceException;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Embedded, durable store that keeps one JSON file per process in a directory. Files are replaced atomically, so a
+ * crash never leaves a partially written entry behind, and the requests that had not completed are returned by
+ * {@link #pending()} after a restart.
+ * <p>
+ * At most {@code completedCapacity} completed processes are retained: when more processes complete, the files of the
+ * processes that completed first are deleted.
+ */
+public class FileDataPlaneStore implements DataPlaneStore {
+    private static final String SUFFIX = ".json";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final int completedCapacity;
+    private final ObjectMapper mapper;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock());
+    private final LinkedHashSet<String> completed = new LinkedHashSet<>();
+
+    public FileDataPlaneStore(Path directory, int completedCapacity, ObjectMapper mapper, Monitor monitor, Clock clock) {
+        this.directory = directory;
+        this.completedCapacity = completedCapacity;
+        this.mapper = mapper;
+        this.monitor = monitor;
+        this.clock = clock;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new EdcPersistenceException(format("Cannot create data plane store directory %s", directory), e);
+        }
+        entries().filter(entry -> entry.getState() == State.COMPLETED)
+                .sorted(Comparator.comparingLong(DataFlowEntry::getReceivedAt))
+                .forEach(entry -> completed.add(entry.getProcessId()));
+    }
+
+    @Override
+    public void received(String processId) {
+        lockManager.writeLock(() -> {
+            write(DataFlowEntry.received(read(processId), processId, null, clock.millis()));
+            completed.remove(processId);
+            return null;
+        });
+    }
+
+    @Override
+    public void received(DataFlowRequest request) {
+        var processId = request.getProcessId();
+        lockManager.writeLock(() -> {
+            write(DataFlowEntry.received(read(processId), processId, request, clock.millis()));
+            completed.remove(processId);
+            return null;
+        });
+    }
+
+    @Override
+    public void completed(String processId) {
+        lockManager.writeLock(() -> {
+            var entry = read(processId);
+            if (entry == null) {
+                entry = new DataFlowEntry(processId, State.COMPLETED, null, clock.millis());
+            }
+            entry.completed();
+            write(entry);
+            completed.remove(processId);
+            completed.add(processId);
+            evictCompleted();
+            return null;
+        });
+    }
+
+    @Override
+    public State getState(String processId) {
+        return lockManager.readLock(() -> {
+            var entry = read(processId);
+            return entry != null ? entry.getState() : State.NOT_TRACKED;
+        });
+    }
+
+    @Override
+    public void recordError(String processId, String errorDetail) {
+        update(processId, entry -> entry.errorDetail(errorDetail));
+    }
+
+    @Override
+    public @Nullable String getErrorDetail(String processId) {
+        return lockManager.readLock(() -> {
+            var entry = read(processId);
+            return entry != null ? entry.getErrorDetail() : null;
+        });
+    }
+
+    @Override
+    public void checkpoint(String processId, PartProgress progress) {
+        update(processId, entry -> entry.checkpoint(progress));
+    }
+
+    @Override
+    public List<PartProgress> getProgress(String processId) {
+        return lockManager.readLock(() -> {
+            var entry = read(processId);
+            return entry != null ? entry.getProgress() : List.of();
+        });
+    }
+
+    @Override
+    public List<DataFlowRequest> pending() {
+        return lockManager.readLock(() -> entries()
+                .filter(entry -> entry.getState() == State.RECEIVED && entry.getRequest() != null)
+                .sorted(Comparator.comparingLong(DataFlowEntry::getReceivedAt))
+                .map(DataFlowEntry::getRequest)
+                .collect(Collectors.toList()));
+    }
+
+    private void update(String processId, Consumer<DataFlowEntry> change) {
+        lockManager.writeLock(() -> {
+            var entry = read(processId);
+            if (entry != null) {
+                change.accept(entry);
+                write(entry);
+            }
+            return null;
+        });
+    }
+
+    private void evictCompleted() {
+        var iterator = completed.iterator();
+        while (completed.size() > completedCapacity && iterator.hasNext()) {
+            var processId = iterator.next();
+            iterator.remove();
+            try {
+                Files.deleteIfExists(file(processId));
+            } catch (IOException e) {
+                monitor.warning(format("Cannot delete completed data flow %s from %s", processId, directory), e);
+            }
+        }
+    }
+
+    private Stream<DataFlowEntry> entries() {
+        var entries = new ArrayList<DataFlowEntry>();
+        try (var files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(SUFFIX)).forEach(file -> {
+                try {
+                    entries.add(mapper.readValue(file.toFile(), DataFlowEntry.class));
+                } catch (IOException e) {
+                    monitor.warning(format("Skipping unreadable data flow entry %s", file), e);
+                }
+            });
+        } catch (IOException e) {
+            throw new EdcPersistenceException(format("Cannot list data plane store directory %s", directory), e);
+        }
+        return entries.stream();
+    }
+
+    @Nullable
+    private DataFlowEntry read(String processId) {
+        try {
+            return mapper.readValue(Files.readString(file(processId), UTF_8), DataFlowEntry.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new EdcPersistenceException(format("Cannot read data flow %s", processId), e);
+        }
+    }
+
+    private void write(DataFlowEntry entry) {
+        var file = file(entry.getProcessId());
+        var temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+        try {
+            try (var channel = FileChannel.open(temp, CREATE, TRUNCATE_EXISTING, WRITE)) {
+                var buffer = ByteBuffer.wrap(mapper.writeValueAsBytes(entry));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                // the content must be on disk before the rename makes it visible, otherwise a crash can leave an empty file
+                channel.force(false);
+            }
+            Files.move(temp, file, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new EdcPersistenceException(format("Cannot write data flow %s", entry.getProcessId()), e);
+        }
+    }
+
+    private Path file(String processId) {
+        Objects.requireNonNull(processId, "processId");
+        // encode the id so that any process id results in a single, valid file name
+        return directory.resolve(Base64.getUrlEncoder().withoutPadding().encodeToString(processId.getBytes(UTF_8)) + SUFFIX);
+    }
+}
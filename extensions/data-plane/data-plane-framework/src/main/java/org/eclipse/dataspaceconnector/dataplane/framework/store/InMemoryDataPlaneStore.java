@@ -17,34 +17,113 @@ package org.eclipse.dataspaceconnector.dataplane.framework.store;
 import org.eclipse.dataspaceconnector.common.collection.LruCache;
 import org.eclipse.dataspaceconnector.common.concurrency.LockManager;
 import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.PartProgress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
 
 /**
  * Implements an in-memory, ephemeral store with a maximum capacity. If the store grows beyond capacity, the oldest entry will be evicted.
+ * <p>
+ * Since the store does not survive a restart, {@link #pending()} only returns the requests received by the running data plane.
  */
 public class InMemoryDataPlaneStore implements DataPlaneStore {
-    private final LruCache<String, State> cache;
+    private final LruCache<String, DataFlowEntry> cache;
     private final LockManager lockManager;
+    private final Clock clock;
 
     public InMemoryDataPlaneStore(int capacity) {
+        this(capacity, Clock.systemUTC());
+    }
+
+    public InMemoryDataPlaneStore(int capacity, Clock clock) {
         cache = new LruCache<>(capacity);
         lockManager = new LockManager(new ReentrantReadWriteLock());
+        this.clock = clock;
     }
 
     @Override
     public void received(String processId) {
-        lockManager.writeLock(() -> cache.put(processId, State.RECEIVED));
+        lockManager.writeLock(() -> cache.put(processId, DataFlowEntry.received(cache.get(processId), processId, null, clock.millis())));
+    }
+
+    @Override
+    public void received(DataFlowRequest request) {
+        var processId = request.getProcessId();
+        lockManager.writeLock(() -> cache.put(processId, DataFlowEntry.received(cache.get(processId), processId, request, clock.millis())));
     }
 
     @Override
     public void completed(String processId) {
-        lockManager.writeLock(() -> cache.put(processId, State.COMPLETED));
+        lockManager.writeLock(() -> {
+            var entry = cache.get(processId);
+            if (entry == null) {
+                entry = new DataFlowEntry(processId, State.COMPLETED, null, clock.millis());
+                cache.put(processId, entry);
+            }
+            entry.completed();
+            return null;
+        });
     }
 
     @Override
     public State getState(String processId) {
-        return lockManager.readLock(() -> cache.getOrDefault(processId, State.NOT_TRACKED));
+        return lockManager.readLock(() -> {
+            var entry = cache.get(processId);
+            return entry != null ? entry.getState() : State.NOT_TRACKED;
+        });
+    }
+
+    @Override
+    public void recordError(String processId, String errorDetail) {
+        lockManager.writeLock(() -> {
+            var entry = cache.get(processId);
+            if (entry != null) {
+                entry.errorDetail(errorDetail);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public @Nullable String getErrorDetail(String processId) {
+        return lockManager.readLock(() -> {
+            var entry = cache.get(processId);
+            return entry != null ? entry.getErrorDetail() : null;
+        });
+    }
+
+    @Override
+    public void checkpoint(String processId, PartProgress progress) {
+        lockManager.writeLock(() -> {
+            var entry = cache.get(processId);
+            if (entry != null) {
+                entry.checkpoint(progress);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public List<PartProgress> getProgress(String processId) {
+        return lockManager.readLock(() -> {
+            var entry = cache.get(processId);
+            return entry != null ? entry.getProgress() : List.of();
+        });
+    }
+
+    @Override
+    public List<DataFlowRequest> pending() {
+        return lockManager.readLock(() -> cache.values().stream()
+                .filter(entry -> entry.getState() == State.RECEIVED && entry.getRequest() != null)
+                .sorted(Comparator.comparingLong(DataFlowEntry::getReceivedAt))
+                .map(DataFlowEntry::getRequest)
+                .collect(Collectors.toList()));
     }
 
 }
@@ -15,10 +15,13 @@
 package org.eclipse.dataspaceconnector.dataplane.framework.manager;
 
 import org.eclipse.dataspaceconnector.dataplane.framework.store.InMemoryDataPlaneStore;
+import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneOverloadedException;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.dataspaceconnector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
+import org.eclipse.dataspaceconnector.spi.response.StatusResult;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
@@ -26,15 +29,19 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -124,12 +131,142 @@ class DataPlaneManagerImplTest {
         performTransfer(dataPlaneManager);
     }
 
+    @Test
+    void verifyWorkDispatch_onFailedTransfer_recordsError() throws InterruptedException {
+        var trackableRequest = request.toBuilder().trackable(true).build();
+        when(registry.resolveTransferService(trackableRequest)).thenReturn(transferService);
+        when(transferService.transfer(isA(DataFlowRequest.class))).thenReturn(completedFuture(StatusResult.failure(ResponseStatus.FATAL_ERROR, "transfer error")));
+        store = spy(store);
+        doAnswer(i -> {
+            i.callRealMethod();
+            latch.countDown();
+            return null;
+        }).when(store).completed(trackableRequest.getProcessId());
+        var dataPlaneManager = createDataPlaneManager();
+
+        dataPlaneManager.start();
+        dataPlaneManager.initiateTransfer(trackableRequest);
+
+        assertThat(latch.await(10000, TimeUnit.MILLISECONDS)).isTrue();
+        dataPlaneManager.stop();
+        assertThat(store.getState(trackableRequest.getProcessId())).isEqualTo(DataPlaneStore.State.COMPLETED);
+        assertThat(store.getErrorDetail(trackableRequest.getProcessId())).isEqualTo("transfer error");
+    }
+
+    @Test
+    void verifyWorkDispatch_onUntrackedRequest_completesRequest() throws InterruptedException {
+        when(transferService.transfer(isA(DataFlowRequest.class))).thenReturn(completedFuture(StatusResult.success()));
+        store = spy(store);
+        doAnswer(i -> {
+            i.callRealMethod();
+            latch.countDown();
+            return null;
+        }).when(store).completed(request.getProcessId());
+        var dataPlaneManager = createDataPlaneManager();
+
+        dataPlaneManager.start();
+        dataPlaneManager.initiateTransfer(request);
+
+        assertThat(latch.await(10000, TimeUnit.MILLISECONDS)).isTrue();
+        dataPlaneManager.stop();
+        assertThat(store.getState(request.getProcessId())).isEqualTo(DataPlaneStore.State.COMPLETED);
+        assertThat(store.pending()).isEmpty();
+    }
+
+    @Test
+    void verifyStart_recoversPendingRequests() throws InterruptedException {
+        store.received(request);
+        when(transferService.transfer(request)).thenAnswer(i -> {
+            latch.countDown();
+            return completedFuture(StatusResult.success());
+        });
+        var dataPlaneManager = createDataPlaneManager();
+
+        dataPlaneManager.start();
+
+        assertThat(latch.await(10000, TimeUnit.MILLISECONDS)).isTrue();
+        dataPlaneManager.stop();
+    }
+
+    @Test
+    void verifyWorkDispatch_onRetryableFailure_retriesTransfer() throws InterruptedException {
+        var trackableRequest = request.toBuilder().trackable(true).build();
+        when(registry.resolveTransferService(trackableRequest)).thenReturn(transferService);
+        when(transferService.transfer(trackableRequest))
+                .thenReturn(completedFuture(StatusResult.failure(ResponseStatus.ERROR_RETRY, "transient error")))
+                .thenAnswer(i -> {
+                    latch.countDown();
+                    return completedFuture(StatusResult.success());
+                });
+        var dataPlaneManager = createDataPlaneManager(1);
+
+        dataPlaneManager.start();
+        dataPlaneManager.initiateTransfer(trackableRequest);
+
+        assertThat(latch.await(10000, TimeUnit.MILLISECONDS)).isTrue();
+        dataPlaneManager.stop();
+        verify(transferService, times(2)).transfer(trackableRequest);
+    }
+
+    @Test
+    void initiateTransfer_whenQueueIsFull_throwsOverloadedException() {
+        var dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
+                .queueCapacity(0)
+                .executorInstrumentation(ExecutorInstrumentation.noop())
+                .transferServiceRegistry(registry)
+                .store(store)
+                .monitor(mock(Monitor.class))
+                .build();
+        dataPlaneManager.start();
+
+        assertThatThrownBy(() -> dataPlaneManager.initiateTransfer(request)).isInstanceOf(DataPlaneOverloadedException.class);
+
+        dataPlaneManager.stop();
+        assertThat(store.getState(request.getProcessId())).isEqualTo(DataPlaneStore.State.COMPLETED);
+    }
+
+    @Test
+    void verifyWorkDispatch_limitsConcurrentTransfersOfTransferService() throws InterruptedException {
+        var second = createRequest("2");
+        when(registry.resolveTransferService(second)).thenReturn(transferService);
+        var firstTransfer = new CompletableFuture<StatusResult<Void>>();
+        when(transferService.transfer(request)).thenReturn(firstTransfer);
+        when(transferService.transfer(second)).thenAnswer(i -> {
+            latch.countDown();
+            return completedFuture(StatusResult.success());
+        });
+        var dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
+                .queueCapacity(100)
+                .workers(2)
+                .executorInstrumentation(ExecutorInstrumentation.noop())
+                .waitTimeout(10)
+                .concurrencyLimits(Map.of(transferService.getClass().getSimpleName(), 1))
+                .transferServiceRegistry(registry)
+                .store(store)
+                .monitor(mock(Monitor.class))
+                .build();
+
+        dataPlaneManager.start();
+        dataPlaneManager.initiateTransfer(request);
+        dataPlaneManager.initiateTransfer(second);
+
+        assertThat(latch.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        firstTransfer.complete(StatusResult.success());
+        assertThat(latch.await(10000, TimeUnit.MILLISECONDS)).isTrue();
+        dataPlaneManager.stop();
+    }
+
     private DataPlaneManagerImpl createDataPlaneManager() {
+        return createDataPlaneManager(0);
+    }
+
+    private DataPlaneManagerImpl createDataPlaneManager(int transferRetries) {
         return DataPlaneManagerImpl.Builder.newInstance()
                 .queueCapacity(100)
                 .workers(1)
                 .executorInstrumentation(ExecutorInstrumentation.noop())
                 .waitTimeout(10)
+                .transferRetries(transferRetries)
                 .transferServiceRegistry(registry)
                 .store(store)
                 .monitor(mock(Monitor.class))
@@ -137,9 +274,13 @@ class DataPlaneManagerImplTest {
     }
 
     DataFlowRequest createRequest() {
+        return createRequest("1");
+    }
+
+    DataFlowRequest createRequest(String id) {
         return DataFlowRequest.Builder.newInstance()
-                .id("1")
-                .processId("1")
+                .id(id)
+                .processId(id)
                 .sourceDataAddress(DataAddress.Builder.newInstance().type("type").build())
                 .destinationDataAddress(DataAddress.Builder.newInstance().type("type").build())
                 .build();
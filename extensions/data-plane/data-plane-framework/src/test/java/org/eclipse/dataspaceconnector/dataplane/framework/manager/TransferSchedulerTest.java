@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.manager;
+
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.dataplane.spi.schema.DataFlowRequestSchema.PRIORITY;
+import static org.eclipse.dataspaceconnector.dataplane.spi.schema.DataFlowRequestSchema.TENANT;
+
+class TransferSchedulerTest {
+
+    private final TransferScheduler scheduler = new TransferScheduler(10);
+
+    @Test
+    void offer_whenFull_rejectsRequest() {
+        var scheduler = new TransferScheduler(1);
+
+        assertThat(scheduler.offer(createRequest("1", null, null))).isTrue();
+        assertThat(scheduler.offer(createRequest("2", null, null))).isFalse();
+        assertThat(scheduler.size()).isEqualTo(1);
+    }
+
+    @Test
+    void poll_servesHigherPriorityFirst() throws InterruptedException {
+        scheduler.offer(createRequest("low", null, "-1"));
+        scheduler.offer(createRequest("default", null, null));
+        scheduler.offer(createRequest("high", null, "5"));
+
+        assertThat(pollAll()).containsExactly("high", "default", "low");
+    }
+
+    @Test
+    void poll_servesTenantsInRoundRobin() throws InterruptedException {
+        scheduler.offer(createRequest("a1", "a", null));
+        scheduler.offer(createRequest("a2", "a", null));
+        scheduler.offer(createRequest("a3", "a", null));
+        scheduler.offer(createRequest("b1", "b", null));
+        scheduler.offer(createRequest("c1", "c", null));
+
+        assertThat(pollAll()).containsExactly("a1", "b1", "c1", "a2", "a3");
+    }
+
+    @Test
+    void poll_skipsTenantWhoseNextRequestIsNotAdmitted() throws InterruptedException {
+        scheduler.offer(createRequest("a1", "a", null));
+        scheduler.offer(createRequest("a2", "a", null));
+        scheduler.offer(createRequest("b1", "b", null));
+
+        var request = scheduler.poll(r -> !r.getProcessId().equals("a1"), 0, TimeUnit.MILLISECONDS);
+
+        assertThat(request).isNotNull().extracting(DataFlowRequest::getProcessId).isEqualTo("b1");
+        assertThat(scheduler.size()).isEqualTo(2);
+    }
+
+    @Test
+    void poll_whenEmpty_returnsNullAfterTimeout() throws InterruptedException {
+        assertThat(scheduler.poll(r -> true, 10, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    private List<String> pollAll() throws InterruptedException {
+        var processIds = new ArrayList<String>();
+        DataFlowRequest request;
+        while ((request = scheduler.poll(r -> true, 0, TimeUnit.MILLISECONDS)) != null) {
+            processIds.add(request.getProcessId());
+        }
+        return processIds;
+    }
+
+    private DataFlowRequest createRequest(String processId, String tenant, String priority) {
+        var properties = new HashMap<String, String>();
+        if (tenant != null) {
+            properties.put(TENANT, tenant);
+        }
+        if (priority != null) {
+            properties.put(PRIORITY, priority);
+        }
+        return DataFlowRequest.Builder.newInstance()
+                .id(processId)
+                .processId(processId)
+                .sourceDataAddress(DataAddress.Builder.newInstance().type("type").build())
+                .destinationDataAddress(DataAddress.Builder.newInstance().type("type").build())
+                .properties(properties)
+                .build();
+    }
+}
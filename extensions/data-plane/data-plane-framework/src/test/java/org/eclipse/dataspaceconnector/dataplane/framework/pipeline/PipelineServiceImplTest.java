@@ -18,7 +18,10 @@ import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSinkFactory;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSourceFactory;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.dataspaceconnector.dataplane.spi.ratelimit.RateLimiter;
 import org.eclipse.dataspaceconnector.spi.response.StatusResult;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.Test;
@@ -26,6 +29,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -67,6 +75,27 @@ class PipelineServiceImplTest {
         verify(sink).transfer(eq(source));
     }
 
+    @Test
+    void transfer_withRateLimiters_throttlesSourceReads() throws Exception {
+        var limiter = mock(RateLimiter.class);
+        var throttledService = new PipelineServiceImpl(MetricsInstrumentation.noop(), null, r -> List.of(limiter));
+        var content = "content".getBytes();
+        var read = new ByteArrayOutputStream();
+        DataSink readingSink = dataSource -> {
+            dataSource.openPartStream().forEach(part -> read.writeBytes(readAll(part)));
+            return completedFuture(StatusResult.success());
+        };
+
+        throttledService.registerFactory(sourceFactory);
+        when(sourceFactory.canHandle(request)).thenReturn(true);
+        when(sourceFactory.createSource(request)).thenReturn(new InputStreamDataSource("part", new ByteArrayInputStream(content)));
+
+        throttledService.transfer(readingSink, request);
+
+        assertThat(read.toByteArray()).isEqualTo(content);
+        verify(limiter).acquire(content.length);
+    }
+
     @ParameterizedTest
     @MethodSource("canHandleArguments")
     void canHandle_returnsTrue_onlyIfSourceAndSinkCanHandle(
@@ -81,6 +110,14 @@ class PipelineServiceImplTest {
                 .isEqualTo(expectedResult);
     }
 
+    private static byte[] readAll(DataSource.Part part) {
+        try (var stream = part.openStream()) {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private static Stream<Arguments> canHandleArguments() {
         return Stream.of(
                 arguments(true, true, true),
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.ratelimit;
+
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.dataplane.spi.schema.DataFlowRequestSchema.TENANT;
+
+class ConfiguredRateLimitPolicyTest {
+
+    @Test
+    void limitersFor_withoutLimits_returnsEmpty() {
+        var policy = new ConfiguredRateLimitPolicy(null, null, Map.of(), Map.of());
+
+        assertThat(policy.limitersFor(createRequest("1", "HttpData", "tenant"))).isEmpty();
+    }
+
+    @Test
+    void limitersFor_createsLimiterPerTransfer() {
+        var policy = new ConfiguredRateLimitPolicy(100L, null, Map.of(), Map.of());
+
+        var first = policy.limitersFor(createRequest("1", "HttpData", null));
+        var second = policy.limitersFor(createRequest("2", "HttpData", null));
+
+        assertThat(first).hasSize(1);
+        assertThat(second).hasSize(1);
+        assertThat(first.get(0)).isNotSameAs(second.get(0));
+    }
+
+    @Test
+    void limitersFor_sharesLimiterPerDestinationType() {
+        var policy = new ConfiguredRateLimitPolicy(null, null, Map.of(), Map.of("httpdata", 100L));
+
+        var first = policy.limitersFor(createRequest("1", "HttpData", null));
+        var second = policy.limitersFor(createRequest("2", "HttpData", null));
+
+        assertThat(first).hasSize(1).isEqualTo(second);
+        assertThat(policy.limitersFor(createRequest("3", "AmazonS3", null))).isEmpty();
+    }
+
+    @Test
+    void limitersFor_sharesLimiterPerTenant() {
+        var policy = new ConfiguredRateLimitPolicy(null, 100L, Map.of("Consumer-A", 50L), Map.of());
+
+        var tenantA = policy.limitersFor(createRequest("1", "HttpData", "consumer-a"));
+        var tenantB = policy.limitersFor(createRequest("2", "HttpData", "consumer-b"));
+
+        assertThat(tenantA).hasSize(1).isEqualTo(policy.limitersFor(createRequest("3", "HttpData", "consumer-a")));
+        assertThat(tenantB).hasSize(1);
+        assertThat(tenantA.get(0)).isNotSameAs(tenantB.get(0));
+        assertThat(policy.limitersFor(createRequest("4", "HttpData", null))).isEmpty();
+    }
+
+    private DataFlowRequest createRequest(String processId, String destinationType, String tenant) {
+        return DataFlowRequest.Builder.newInstance()
+                .id(processId)
+                .processId(processId)
+                .sourceDataAddress(DataAddress.Builder.newInstance().type("test").build())
+                .destinationDataAddress(DataAddress.Builder.newInstance().type(destinationType).build())
+                .properties(tenant != null ? Map.of(TENANT, tenant) : Map.of())
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketRateLimiterTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<Long> sleeps = new ArrayList<>();
+    private final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100, now::get, nanos -> {
+        sleeps.add(nanos);
+        now.addAndGet(nanos);
+    });
+
+    @Test
+    void acquire_withinBurst_doesNotWait() throws InterruptedException {
+        assertThat(limiter.acquire(60)).isZero();
+        assertThat(limiter.acquire(40)).isZero();
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    void acquire_beyondBurst_waitsForRefill() throws InterruptedException {
+        limiter.acquire(100);
+
+        assertThat(limiter.acquire(50)).isEqualTo(SECOND / 2);
+        assertThat(sleeps).containsExactly(SECOND / 2);
+    }
+
+    @Test
+    void acquire_moreThanCapacity_waitsForDebt() throws InterruptedException {
+        assertThat(limiter.acquire(300)).isEqualTo(2 * SECOND);
+    }
+
+    @Test
+    void acquire_afterIdlePeriod_refillsUpToCapacity() throws InterruptedException {
+        limiter.acquire(100);
+        now.addAndGet(10 * SECOND);
+
+        assertThat(limiter.acquire(100)).isZero();
+        assertThat(limiter.acquire(100)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void verifyLimitMustBePositive() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.dataplane.framework.store;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.store.PartProgress;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.State.COMPLETED;
+import static org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.State.NOT_TRACKED;
+import static org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.State.RECEIVED;
+import static org.mockito.Mockito.mock;
+
+class FileDataPlaneStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void verifyOperations() {
+        var store = createStore(10);
+
+        assertThat(store.getState("1")).isEqualTo(NOT_TRACKED);
+        store.received("1");
+        assertThat(store.getState("1")).isEqualTo(RECEIVED);
+        store.completed("1");
+        assertThat(store.getState("1")).isEqualTo(COMPLETED);
+    }
+
+    @Test
+    void verifyStateSurvivesRestart() {
+        var store = createStore(10);
+        store.received(createRequest("1"));
+        store.checkpoint("1", new PartProgress("part", 10, false));
+        store.received(createRequest("2"));
+        store.recordError("2", "error");
+        store.completed("2");
+
+        var restarted = createStore(10);
+
+        assertThat(restarted.getState("1")).isEqualTo(RECEIVED);
+        assertThat(restarted.getProgress("1")).containsExactly(new PartProgress("part", 10, false));
+        assertThat(restarted.getState("2")).isEqualTo(COMPLETED);
+        assertThat(restarted.getErrorDetail("2")).isEqualTo("error");
+        assertThat(restarted.pending()).hasSize(1).first().satisfies(request -> {
+            assertThat(request.getProcessId()).isEqualTo("1");
+            assertThat(request.getProperties()).containsEntry("key", "value");
+        });
+    }
+
+    @Test
+    void verifyReceivedResetsErrorAndKeepsProgress() {
+        var store = createStore(10);
+        store.received(createRequest("1"));
+        store.checkpoint("1", new PartProgress("part", 10, true));
+        store.recordError("1", "error");
+
+        store.received(createRequest("1"));
+
+        assertThat(store.getProgress("1")).containsExactly(new PartProgress("part", 10, true));
+        assertThat(store.getErrorDetail("1")).isNull();
+    }
+
+    @Test
+    void verifyEvictsOldestCompleted() {
+        var store = createStore(1);
+        store.received("1");
+        store.completed("1");
+        store.received("2");
+        store.completed("2");
+
+        assertThat(store.getState("1")).isEqualTo(NOT_TRACKED);
+        assertThat(store.getState("2")).isEqualTo(COMPLETED);
+        assertThat(directory.toFile().list()).hasSize(1);
+    }
+
+    @Test
+    void verifyProcessIdIsEncoded() {
+        var store = createStore(10);
+
+        store.received("../some/process:id");
+
+        assertThat(store.getState("../some/process:id")).isEqualTo(RECEIVED);
+        assertThat(directory.toFile().list()).hasSize(1);
+    }
+
+    private FileDataPlaneStore createStore(int completedCapacity) {
+        return new FileDataPlaneStore(directory, completedCapacity, new TypeManager().getMapper(), mock(Monitor.class), Clock.fixed(Instant.now(), ZoneOffset.UTC));
+    }
+
+    private DataFlowRequest createRequest(String processId) {
+        return DataFlowRequest.Builder.newInstance()
+                .id(processId)
+                .processId(processId)
+                .properties(Map.of("key", "value"))
+                .sourceDataAddress(DataAddress.Builder.newInstance().type("type").build())
+                .destinationDataAddress(DataAddress.Builder.newInstance().type("type").build())
+                .build();
+    }
+}
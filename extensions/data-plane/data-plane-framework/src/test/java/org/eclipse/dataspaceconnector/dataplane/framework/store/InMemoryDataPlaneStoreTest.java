@@ -14,6 +14,9 @@
 
 package org.eclipse.dataspaceconnector.dataplane.framework.store;
 
+import org.eclipse.dataspaceconnector.dataplane.spi.store.PartProgress;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -47,8 +50,40 @@ class InMemoryDataPlaneStoreTest {
         assertThat(store.getState("1")).isEqualTo(COMPLETED);
     }
 
+    @Test
+    void verifyErrorAndProgress() {
+        store.received(createRequest("1"));
+        store.checkpoint("1", new PartProgress("part", 10, false));
+        store.checkpoint("1", new PartProgress("part", 20, true));
+        store.recordError("1", "error");
+        store.completed("1");
+
+        assertThat(store.getState("1")).isEqualTo(COMPLETED);
+        assertThat(store.getErrorDetail("1")).isEqualTo("error");
+        assertThat(store.getProgress("1")).containsExactly(new PartProgress("part", 20, true));
+    }
+
+    @Test
+    void verifyPending() {
+        var request = createRequest("1");
+        store.received(request);
+        store.received(createRequest("2"));
+        store.completed("2");
+
+        assertThat(store.pending()).containsExactly(request);
+    }
+
     @BeforeEach
     void setUp() {
         store = new InMemoryDataPlaneStore(2);
     }
+
+    private DataFlowRequest createRequest(String processId) {
+        return DataFlowRequest.Builder.newInstance()
+                .id(processId)
+                .processId(processId)
+                .sourceDataAddress(DataAddress.Builder.newInstance().type("type").build())
+                .destinationDataAddress(DataAddress.Builder.newInstance().type("type").build())
+                .build();
+    }
 }
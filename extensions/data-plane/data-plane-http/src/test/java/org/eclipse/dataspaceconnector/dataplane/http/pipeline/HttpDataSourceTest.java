@@ -75,6 +75,8 @@ class HttpDataSourceTest {
         try (var is = part.openStream()) {
             assertThat(new String(is.readAllBytes())).isEqualTo(json);
         }
+        // the body is read once, resumed transfers start over instead of reading a buffered copy
+        assertThat(part.supportsRandomAccess()).isFalse();
 
         verify(params).toRequest();
     }
@@ -35,6 +35,8 @@ public interface DataPlaneManager {
 
     /**
      * Initiates a transfer for the data flow request. This method is non-blocking with respect to processing the request.
+     *
+     * @throws DataPlaneOverloadedException if the request cannot be admitted because the data plane is at capacity.
      */
     void initiateTransfer(DataFlowRequest dataRequest);
 
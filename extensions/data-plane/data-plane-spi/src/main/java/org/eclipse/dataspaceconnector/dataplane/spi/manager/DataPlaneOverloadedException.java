@@ -0,0 +1,27 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.spi.manager;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+
+/**
+ * Thrown when the data plane cannot admit a request because it is at capacity. The request was not accepted and can be
+ * submitted again later.
+ */
+public class DataPlaneOverloadedException extends EdcException {
+    public DataPlaneOverloadedException(String message) {
+        super(message);
+    }
+}
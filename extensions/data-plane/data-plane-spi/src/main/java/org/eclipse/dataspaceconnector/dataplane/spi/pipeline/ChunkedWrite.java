@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.dataplane.spi.pipeline;
+
+import org.eclipse.dataspaceconnector.spi.response.StatusResult;
+
+/**
+ * Writes a single part in chunks, e.g. as the parts of an S3 multipart upload or the blocks of an Azure block blob.
+ * Chunks become visible at the destination only when the write is committed.
+ */
+public interface ChunkedWrite {
+
+    /**
+     * Writes a chunk. Chunks are written concurrently and in any order.
+     *
+     * @param index   the zero-based index of the chunk. Chunks are contiguous, so the index defines their order.
+     * @param offset  the offset of the chunk in the part.
+     * @param content the content of the chunk.
+     */
+    StatusResult<Void> write(int index, long offset, byte[] content);
+
+    /**
+     * Returns true if the chunks written by a previous, uncommitted write of the same part are retained at the
+     * destination and can be committed with this write. A resumed transfer then does not write these chunks again,
+     * but reports them with {@link #resume(int, long)}.
+     */
+    default boolean supportsResume() {
+        return false;
+    }
+
+    /**
+     * Adds a chunk written by a previous write of the part to this write. Invoked only if {@link #supportsResume()}
+     * returns true. The commit fails if the chunk does not exist at the destination.
+     *
+     * @param index  the zero-based index of the chunk.
+     * @param offset the offset of the chunk in the part.
+     */
+    default void resume(int index, long offset) {
+        throw new UnsupportedOperationException("Resume not supported");
+    }
+
+    /**
+     * Makes the written chunks visible at the destination. Invoked once, after all chunks were written successfully.
+     */
+    StatusResult<Void> commit();
+
+    /**
+     * Discards the written chunks. Invoked once, if a chunk could not be written or the transfer failed.
+     */
+    void abort();
+}
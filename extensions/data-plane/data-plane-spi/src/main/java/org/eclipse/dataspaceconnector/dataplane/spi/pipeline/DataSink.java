@@ -27,4 +27,12 @@ public interface DataSink {
      * Transfers the data to the sink, returning a future to obtain the result. Implementations may be non-blocking.
      */
     CompletableFuture<StatusResult<Void>> transfer(DataSource source);
+
+    /**
+     * Transfers the data to the sink, skipping the work that previous attempts of the transfer recorded in the checkpoints and recording the progress
+     * of this attempt. Sinks that cannot resume a transfer ignore the checkpoints and transfer all the data.
+     */
+    default CompletableFuture<StatusResult<Void>> transfer(DataSource source, TransferCheckpoints checkpoints) {
+        return transfer(source);
+    }
 }
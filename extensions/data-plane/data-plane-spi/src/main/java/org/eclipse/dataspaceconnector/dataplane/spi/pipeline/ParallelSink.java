@@ -16,60 +16,82 @@ package org.eclipse.dataspaceconnector.dataplane.spi.pipeline;
 
 import io.opentelemetry.extension.annotations.WithSpan;
 import org.eclipse.dataspaceconnector.common.stream.PartitionIterator;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.PartProgress;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.response.StatusResult;
-import org.eclipse.dataspaceconnector.spi.result.AbstractResult;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.telemetry.Telemetry;
 import org.eclipse.dataspaceconnector.spi.telemetry.TraceCarrier;
-import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
-import static java.util.stream.Collectors.toList;
-import static org.eclipse.dataspaceconnector.common.async.AsyncUtils.asyncAllOf;
 import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.ERROR_RETRY;
 
 /**
  * Writes data in parallel.
+ * <p>
+ * Parts are pulled lazily from the source in partitions of {@code partitionSize} parts, and at most
+ * {@code maxConcurrentPartitions} partitions are transferred at the same time. A new partition is pulled only when a
+ * running one completes, so the number of parts held in memory and of tasks queued in the executor stays bounded
+ * regardless of the size of the source. Once a partition fails, no further partitions are pulled and partitions that
+ * have not started yet are skipped. The part stream is closed when all the running partitions have completed.
+ * <p>
+ * Sinks that support ranged or block writes can implement {@link #supportsChunkedWrites()} and {@link #openChunkedWrite(DataSource.Part)}.
+ * Parts that support random access and are larger than {@code chunkSize} are then split into chunks, which are read
+ * with {@link DataSource.Part#read(long, long)} and written concurrently, sharing the {@code maxConcurrentPartitions}
+ * limit with the partitions. The part is committed once all its chunks have been written, or aborted if one failed.
+ * <p>
+ * When transferring with {@link TransferCheckpoints}, every transferred part is checkpointed as complete, and parts that
+ * a previous attempt completed are skipped. If the chunked write of the sink {@link ChunkedWrite#supportsResume() supports resume},
+ * the written prefix of a chunked part is checkpointed as well, and a retried transfer resumes the part from there.
+ * <p>
+ * The number of transferred parts and the bytes of the parts with a known size are recorded as {@value #PARTS_METRIC}
+ * and {@value #BYTES_METRIC}, tagged with the sink class name.
  */
 public abstract class ParallelSink implements DataSink {
+    public static final String PARTS_METRIC = "edc.dataplane.sink.parts";
+    public static final String BYTES_METRIC = "edc.dataplane.sink.bytes";
+
     protected String requestId;
     protected int partitionSize = 5;
+    protected int maxConcurrentPartitions = 10;
+    protected long chunkSize = 8 * 1024 * 1024;
     protected ExecutorService executorService;
     protected Monitor monitor;
     protected Telemetry telemetry;
+    protected MetricsInstrumentation metricsInstrumentation = MetricsInstrumentation.noop();
 
-    @WithSpan
     @Override
     public CompletableFuture<StatusResult<Void>> transfer(DataSource source) {
-        try (var partStream = source.openPartStream()) {
-            var partitioned = PartitionIterator.streamOf(partStream, partitionSize);
-            var traceCarrier = telemetry.getTraceCarrierWithCurrentContext();
-
-            var futures = partitioned.map(parts -> processPartsAsync(parts, traceCarrier)).collect(toList());
-            return futures.stream()
-                    .collect(asyncAllOf())
-                    .thenApply(results -> results.stream()
-                            .filter(AbstractResult::failed)
-                            .findFirst()
-                            .map(r -> StatusResult.<Void>failure(ERROR_RETRY, String.join(",", r.getFailureMessages())))
-                            .orElseGet(this::complete))
-                    .exceptionally(throwable -> StatusResult.failure(ERROR_RETRY, "Unhandled exception raised when transferring data: " + throwable.getMessage()));
+        return transfer(source, TransferCheckpoints.none());
+    }
+
+    @WithSpan
+    @Override
+    public CompletableFuture<StatusResult<Void>> transfer(DataSource source, TransferCheckpoints checkpoints) {
+        Stream<DataSource.Part> partStream;
+        try {
+            partStream = source.openPartStream();
         } catch (Exception e) {
             monitor.severe("Error processing data transfer request: " + requestId, e);
             return CompletableFuture.completedFuture(StatusResult.failure(ERROR_RETRY, "Error processing data transfer request"));
         }
-    }
-
-    @NotNull
-    private CompletableFuture<StatusResult<Void>> processPartsAsync(List<DataSource.Part> parts, TraceCarrier traceCarrier) {
-        Supplier<StatusResult<Void>> supplier = () -> transferParts(parts);
-        return supplyAsync(telemetry.contextPropagationMiddleware(supplier, traceCarrier), executorService);
+        return new StreamingTransfer(partStream, checkpoints, telemetry.getTraceCarrierWithCurrentContext()).start();
     }
 
     protected abstract StatusResult<Void> transferParts(List<DataSource.Part> parts);
@@ -85,6 +107,403 @@ public abstract class ParallelSink implements DataSink {
         return StatusResult.success();
     }
 
+    /**
+     * Returns true if the sink can write a single part in chunks, see {@link #openChunkedWrite(DataSource.Part)}.
+     */
+    protected boolean supportsChunkedWrites() {
+        return false;
+    }
+
+    /**
+     * Starts writing a part in chunks. Invoked only if {@link #supportsChunkedWrites()} returns true, for parts that
+     * support random access and are larger than {@code chunkSize}. The chunks are read with {@link DataSource.Part#read(long, long)}
+     * and written concurrently. Sinks that support chunked writes must override this method, the default is never invoked.
+     */
+    protected ChunkedWrite openChunkedWrite(DataSource.Part part) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " supports chunked writes but does not open them");
+    }
+
+    /**
+     * Returns the size of the chunks of a part written in chunks, {@code chunkSize} by default. Sinks whose destination
+     * limits the number of chunks of a part can return a larger size for large parts.
+     */
+    protected long chunkSizeOf(long partSize) {
+        return chunkSize;
+    }
+
+    /**
+     * Tracks the work of a single transfer: partitions of parts and chunks of large parts. All the mutable state is
+     * guarded by the instance monitor, except for the iterator and the pending chunks, which are only accessed by the
+     * pulling thread.
+     */
+    private class StreamingTransfer {
+        private final Stream<DataSource.Part> partStream;
+        private final Iterator<List<DataSource.Part>> partitions;
+        private final TransferCheckpoints checkpoints;
+        private final TraceCarrier traceCarrier;
+        private final CompletableFuture<StatusResult<Void>> result = new CompletableFuture<>();
+        private final Deque<Work> pending = new ArrayDeque<>();
+        private final Set<ChunkedPart> openChunkedParts = ConcurrentHashMap.newKeySet();
+        private int inFlight;
+        private boolean exhausted;
+        private boolean done;
+        private boolean pulling;
+        private boolean pullRequested;
+        private StatusResult<Void> failure;
+
+        StreamingTransfer(Stream<DataSource.Part> partStream, TransferCheckpoints checkpoints, TraceCarrier traceCarrier) {
+            this.partStream = partStream;
+            this.partitions = new PartitionIterator<>(partStream.filter(this::notCompleted).iterator(), partitionSize);
+            this.checkpoints = checkpoints;
+            this.traceCarrier = traceCarrier;
+        }
+
+        CompletableFuture<StatusResult<Void>> start() {
+            pullNext();
+            return result;
+        }
+
+        /**
+         * Pulls work until the concurrency limit is reached. Only one thread pulls at a time: a completion that happens
+         * meanwhile, possibly inline on the same thread, asks the pulling thread for another round instead of recursing.
+         */
+        private void pullNext() {
+            synchronized (this) {
+                if (pulling) {
+                    pullRequested = true;
+                    return;
+                }
+                pulling = true;
+            }
+            while (true) {
+                int slots;
+                synchronized (this) {
+                    pullRequested = false;
+                    slots = failure == null && !exhausted ? maxConcurrentPartitions - inFlight : 0;
+                    inFlight += slots;
+                }
+                // the source may block while pulling, e.g. when listing objects, so completions must not wait for it
+                var pulled = new ArrayList<Work>(slots);
+                var end = false;
+                StatusResult<Void> pullFailure = null;
+                try {
+                    while (pulled.size() < slots && !end) {
+                        var work = nextWork();
+                        if (work != null) {
+                            pulled.add(work);
+                        } else {
+                            end = true;
+                        }
+                    }
+                } catch (Exception e) {
+                    monitor.severe("Error processing data transfer request: " + requestId, e);
+                    pullFailure = StatusResult.failure(ERROR_RETRY, "Error processing data transfer request");
+                }
+                synchronized (this) {
+                    inFlight -= slots - pulled.size();
+                    exhausted |= end;
+                    if (pullFailure != null) {
+                        fail(pullFailure);
+                    }
+                }
+                pulled.forEach(this::runAsync);
+                synchronized (this) {
+                    if (!pullRequested) {
+                        pulling = false;
+                        break;
+                    }
+                }
+            }
+            completeIfDone();
+        }
+
+        /**
+         * Returns the next unit of work: a pending chunk, or else the next partition. Large parts of the partition are
+         * split into chunks, the others are transferred together.
+         */
+        private Work nextWork() {
+            while (pending.isEmpty()) {
+                if (!partitions.hasNext()) {
+                    return null;
+                }
+                var parts = new ArrayList<DataSource.Part>();
+                for (var part : partitions.next()) {
+                    if (supportsChunkedWrites() && part.supportsRandomAccess() && part.size() > chunkSize) {
+                        var chunkedPart = new ChunkedPart(part, part.size(), openChunkedWrite(part));
+                        openChunkedParts.add(chunkedPart);
+                        chunkedPart.chunks(checkpoints.progress(part.name())).forEach(pending::add);
+                    } else {
+                        parts.add(part);
+                    }
+                }
+                if (!parts.isEmpty()) {
+                    pending.addFirst(new PartitionWork(parts));
+                }
+            }
+            return pending.poll();
+        }
+
+        /**
+         * Returns false for a part that a previous attempt completed, which is then closed without being transferred.
+         */
+        private boolean notCompleted(DataSource.Part part) {
+            var progress = checkpoints.progress(part.name());
+            if (progress == null || !progress.isComplete()) {
+                return true;
+            }
+            try {
+                part.close();
+            } catch (Exception e) {
+                monitor.warning(format("Error closing skipped part %s", part.name()), e);
+            }
+            return false;
+        }
+
+        private void runAsync(Work work) {
+            Supplier<StatusResult<Void>> supplier = () -> work.run(isCancelled());
+            try {
+                supplyAsync(telemetry.contextPropagationMiddleware(supplier, traceCarrier), executorService)
+                        .whenComplete(this::onCompleted);
+            } catch (Exception e) {
+                onCompleted(null, e);
+            }
+        }
+
+        private void onCompleted(StatusResult<Void> workResult, Throwable throwable) {
+            synchronized (this) {
+                inFlight--;
+                if (throwable != null) {
+                    fail(StatusResult.failure(ERROR_RETRY, "Unhandled exception raised when transferring data: " + throwable.getMessage()));
+                } else if (workResult.failed()) {
+                    fail(StatusResult.failure(ERROR_RETRY, String.join(",", workResult.getFailureMessages())));
+                }
+            }
+            pullNext();
+        }
+
+        private void fail(StatusResult<Void> workFailure) {
+            if (failure == null) {
+                failure = workFailure;
+            }
+        }
+
+        private synchronized boolean isCancelled() {
+            return failure != null;
+        }
+
+        private void completeIfDone() {
+            StatusResult<Void> transferFailure;
+            synchronized (this) {
+                if (done || inFlight > 0 || (!exhausted && failure == null)) {
+                    return;
+                }
+                done = true;
+                transferFailure = failure;
+            }
+            partStream.close();
+            if (transferFailure != null) {
+                // chunks that were never scheduled leave their parts uncommitted
+                List.copyOf(openChunkedParts).forEach(ChunkedPart::abort);
+                result.complete(transferFailure);
+                return;
+            }
+            try {
+                result.complete(complete());
+            } catch (Exception e) {
+                result.complete(StatusResult.failure(ERROR_RETRY, "Unhandled exception raised when transferring data: " + e.getMessage()));
+            }
+        }
+
+        private void recordProgress(int parts, long bytes) {
+            if (!metricsInstrumentation.isEnabled()) {
+                return;
+            }
+            var sink = ParallelSink.this.getClass().getSimpleName();
+            metricsInstrumentation.increment(PARTS_METRIC, parts, "sink", sink);
+            metricsInstrumentation.increment(BYTES_METRIC, bytes, "sink", sink);
+        }
+
+        private abstract class Work {
+            abstract StatusResult<Void> run(boolean cancelled);
+        }
+
+        private class PartitionWork extends Work {
+            private final List<DataSource.Part> parts;
+
+            PartitionWork(List<DataSource.Part> parts) {
+                this.parts = parts;
+            }
+
+            @Override
+            StatusResult<Void> run(boolean cancelled) {
+                if (cancelled) {
+                    return StatusResult.failure(ERROR_RETRY, "Transfer cancelled");
+                }
+                var partitionResult = transferParts(parts);
+                if (partitionResult.succeeded()) {
+                    var bytes = parts.stream().mapToLong(DataSource.Part::size).filter(size -> size != DataSource.Part.SIZE_UNKNOWN).sum();
+                    recordProgress(parts.size(), bytes);
+                    parts.forEach(part -> checkpoints.checkpoint(new PartProgress(part.name(), Math.max(part.size(), 0), true)));
+                }
+                return partitionResult;
+            }
+        }
+
+        private class ChunkWork extends Work {
+            private final ChunkedPart part;
+            private final int index;
+            private final long offset;
+            private final long length;
+
+            ChunkWork(ChunkedPart part, int index, long offset, long length) {
+                this.part = part;
+                this.index = index;
+                this.offset = offset;
+                this.length = length;
+            }
+
+            @Override
+            StatusResult<Void> run(boolean cancelled) {
+                return part.write(index, offset, length, cancelled);
+            }
+        }
+
+        /**
+         * A part written in chunks. The write is committed by the last chunk to complete if all chunks succeeded, and
+         * aborted otherwise. If the write supports resume, the longest prefix of written chunks is checkpointed.
+         */
+        private class ChunkedPart {
+            private final DataSource.Part part;
+            private final long size;
+            private final ChunkedWrite write;
+            private final long chunkLength;
+            private final int count;
+            private final AtomicInteger remaining = new AtomicInteger();
+            private final BitSet written = new BitSet();
+            private int prefix;
+            private boolean resumed;
+            private volatile boolean failed;
+            private boolean finished;
+
+            ChunkedPart(DataSource.Part part, long size, ChunkedWrite write) {
+                this.part = part;
+                this.size = size;
+                this.write = write;
+                this.chunkLength = chunkSizeOf(size);
+                this.count = (int) ((size + chunkLength - 1) / chunkLength);
+            }
+
+            /**
+             * Returns the chunks to write, skipping the prefix of chunks that a previous write checkpointed.
+             */
+            List<Work> chunks(PartProgress progress) {
+                var first = 0;
+                if (progress != null && progress.getBytes() > 0 && write.supportsResume()) {
+                    first = (int) Math.min(progress.getBytes() / chunkLength, count - 1);
+                    for (var index = 0; index < first; index++) {
+                        write.resume(index, index * chunkLength);
+                    }
+                    resumed = first > 0;
+                }
+                synchronized (this) {
+                    prefix = first;
+                }
+                remaining.set(count - first);
+                var chunks = new ArrayList<Work>(count - first);
+                for (var index = first; index < count; index++) {
+                    var offset = index * chunkLength;
+                    chunks.add(new ChunkWork(this, index, offset, Math.min(chunkLength, size - offset)));
+                }
+                return chunks;
+            }
+
+            StatusResult<Void> write(int index, long offset, long length, boolean cancelled) {
+                StatusResult<Void> chunkResult;
+                if (cancelled || failed) {
+                    chunkResult = StatusResult.failure(ERROR_RETRY, "Transfer cancelled");
+                } else {
+                    try {
+                        chunkResult = write.write(index, offset, part.read(offset, length));
+                    } catch (Exception e) {
+                        monitor.severe(format("Error writing chunk %d of part %s", index, part.name()), e);
+                        chunkResult = StatusResult.failure(ERROR_RETRY, format("Error writing chunk %d of part %s: %s", index, part.name(), e.getMessage()));
+                    }
+                }
+                if (chunkResult.failed()) {
+                    failed = true;
+                } else {
+                    written(index);
+                }
+                if (remaining.decrementAndGet() > 0) {
+                    return chunkResult;
+                }
+                if (failed) {
+                    abort();
+                    return chunkResult;
+                }
+                return commit();
+            }
+
+            void abort() {
+                if (!finish()) {
+                    return;
+                }
+                try {
+                    write.abort();
+                } catch (Exception e) {
+                    monitor.warning(format("Error aborting chunked write of part %s", part.name()), e);
+                }
+            }
+
+            private StatusResult<Void> commit() {
+                if (!finish()) {
+                    return StatusResult.failure(ERROR_RETRY, "Transfer cancelled");
+                }
+                StatusResult<Void> committed;
+                try {
+                    committed = write.commit();
+                } catch (Exception e) {
+                    monitor.severe(format("Error committing part %s", part.name()), e);
+                    committed = StatusResult.failure(ERROR_RETRY, format("Error committing part %s: %s", part.name(), e.getMessage()));
+                }
+                if (committed.succeeded()) {
+                    recordProgress(1, size);
+                    checkpoints.checkpoint(new PartProgress(part.name(), size, true));
+                } else if (resumed) {
+                    // the chunks of the previous write may not exist anymore, so the next attempt starts over
+                    checkpoints.checkpoint(new PartProgress(part.name(), 0, false));
+                }
+                return committed;
+            }
+
+            private void written(int index) {
+                if (!write.supportsResume()) {
+                    return;
+                }
+                // checkpoints are recorded while holding the lock, so that they never go backwards
+                synchronized (this) {
+                    written.set(index);
+                    var next = written.nextClearBit(prefix);
+                    if (next == prefix || next >= count) {
+                        // the last chunk is checkpointed by the commit
+                        return;
+                    }
+                    prefix = next;
+                    checkpoints.checkpoint(new PartProgress(part.name(), prefix * chunkLength, false));
+                }
+            }
+
+            private synchronized boolean finish() {
+                if (finished) {
+                    return false;
+                }
+                finished = true;
+                openChunkedParts.remove(this);
+                return true;
+            }
+        }
+    }
+
     protected abstract static class Builder<B extends Builder<B, T>, T extends ParallelSink> {
         protected T sink;
 
@@ -103,6 +522,21 @@ public abstract class ParallelSink implements DataSink {
             return self();
         }
 
+        public B maxConcurrentPartitions(int maxConcurrentPartitions) {
+            sink.maxConcurrentPartitions = maxConcurrentPartitions;
+            return self();
+        }
+
+        public B chunkSize(long chunkSize) {
+            sink.chunkSize = chunkSize;
+            return self();
+        }
+
+        public B metricsInstrumentation(MetricsInstrumentation metricsInstrumentation) {
+            sink.metricsInstrumentation = metricsInstrumentation;
+            return self();
+        }
+
         public B executorService(ExecutorService executorService) {
             sink.executorService = executorService;
             return self();
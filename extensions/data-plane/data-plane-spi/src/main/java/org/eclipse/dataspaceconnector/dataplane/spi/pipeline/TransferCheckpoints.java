@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.dataplane.spi.pipeline;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.store.PartProgress;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Gives a sink access to the progress that previous attempts of a transfer made, and records the progress of the
+ * current attempt, so that a retried transfer skips the work that was already done.
+ */
+public interface TransferCheckpoints {
+
+    /**
+     * Returns the last progress recorded for a part, or null if none was recorded.
+     */
+    @Nullable
+    PartProgress progress(String partName);
+
+    /**
+     * Records the progress of a part. Sinks invoke this method only once the progress is durable at the destination.
+     */
+    void checkpoint(PartProgress progress);
+
+    /**
+     * Returns checkpoints that have no previous progress and do not record any.
+     */
+    static TransferCheckpoints none() {
+        return new TransferCheckpoints() {
+            @Override
+            public @Nullable PartProgress progress(String partName) {
+                return null;
+            }
+
+            @Override
+            public void checkpoint(PartProgress progress) {
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.spi.ratelimit;
+
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+
+import java.util.List;
+
+/**
+ * Determines the {@link RateLimiter}s that apply to the bytes read from the source of a data flow. A transfer is throttled by all the limiters
+ * returned for it, limiters that are shared by several data flows limit their combined rate.
+ * <p>
+ * An implementation can be registered as a service to replace the default, setting-based policy of the data plane framework.
+ */
+@FunctionalInterface
+public interface RateLimitPolicy {
+
+    /**
+     * Returns the rate limiters of the data flow, empty if the data flow is not limited.
+     */
+    List<RateLimiter> limitersFor(DataFlowRequest request);
+
+    /**
+     * Returns a policy that does not limit any data flow.
+     */
+    static RateLimitPolicy unlimited() {
+        return request -> List.of();
+    }
+}
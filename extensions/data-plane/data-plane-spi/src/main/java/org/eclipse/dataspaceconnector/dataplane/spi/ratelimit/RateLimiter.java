@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.spi.ratelimit;
+
+/**
+ * Limits the rate at which bytes are transferred.
+ */
+@FunctionalInterface
+public interface RateLimiter {
+
+    /**
+     * Blocks until the given number of bytes may be transferred.
+     *
+     * @param bytes the number of bytes.
+     * @return the time in nanoseconds the caller was blocked.
+     */
+    long acquire(long bytes) throws InterruptedException;
+}
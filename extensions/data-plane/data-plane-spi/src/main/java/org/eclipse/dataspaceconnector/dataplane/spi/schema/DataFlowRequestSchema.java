@@ -43,4 +43,15 @@ public interface DataFlowRequestSchema {
      * The request body.
      */
     String BODY = "body";
+
+    /**
+     * Priority of the transfer, an integer where higher values are scheduled first (optional, defaults to 0).
+     */
+    String PRIORITY = "priority";
+
+    /**
+     * Tenant the transfer is performed for, e.g. the counterparty. Queued transfers of different tenants are scheduled
+     * fairly (optional).
+     */
+    String TENANT = "tenant";
 }
@@ -14,8 +14,16 @@
 
 package org.eclipse.dataspaceconnector.dataplane.spi.store;
 
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
 /**
  * Stores states of data flow requests.
+ * <p>
+ * Durable implementations also store the received requests, their error details and the progress of their parts, so
+ * that the data plane can resume the requests that had not completed when it was stopped.
  */
 public interface DataPlaneStore {
 
@@ -44,6 +52,14 @@ public interface DataPlaneStore {
      */
     void received(String processId);
 
+    /**
+     * Mark the process of the request as received and store the request, so that it can be resumed after a restart.
+     * Receiving a request again resets its error detail but keeps the progress of its parts, so that the transfer resumes from it.
+     */
+    default void received(DataFlowRequest request) {
+        received(request.getProcessId());
+    }
+
     /**
      * Mark the process as completed.
      */
@@ -54,4 +70,39 @@ public interface DataPlaneStore {
      */
     State getState(String processId);
 
+    /**
+     * Records the error that caused the process to fail. The process still has to be marked as completed.
+     */
+    default void recordError(String processId, String errorDetail) {
+    }
+
+    /**
+     * Returns the error recorded for the process, or null if there is none.
+     */
+    @Nullable
+    default String getErrorDetail(String processId) {
+        return null;
+    }
+
+    /**
+     * Records the progress of a part of the process, replacing the previous progress of a part with the same name.
+     */
+    default void checkpoint(String processId, PartProgress progress) {
+    }
+
+    /**
+     * Returns the progress recorded for the parts of the process.
+     */
+    default List<PartProgress> getProgress(String processId) {
+        return List.of();
+    }
+
+    /**
+     * Returns the requests that have been received but not completed, in the order in which they were received.
+     * Stores that do not survive a restart return an empty list.
+     */
+    default List<DataFlowRequest> pending() {
+        return List.of();
+    }
+
 }
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.dataplane.spi.store;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+/**
+ * Checkpoint of the progress of a single part of a data flow, i.e. the number of bytes of the part that have been
+ * durably written to the destination and whether the part has been written completely.
+ */
+public class PartProgress {
+    private final String name;
+    private final long bytes;
+    private final boolean complete;
+
+    @JsonCreator
+    public PartProgress(@JsonProperty("name") String name, @JsonProperty("bytes") long bytes, @JsonProperty("complete") boolean complete) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.bytes = bytes;
+        this.complete = complete;
+    }
+
+    /**
+     * The name of the part, as returned by {@link org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource.Part#name()}.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The number of bytes of the part that have been written.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * True if the part has been written completely.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        var that = (PartProgress) o;
+        return bytes == that.bytes && complete == that.complete && name.equals(that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, bytes, complete);
+    }
+}
@@ -15,23 +15,37 @@
 package org.eclipse.dataspaceconnector.dataplane.spi.pipeline;
 
 import net.datafaker.Faker;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.PartProgress;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
 import org.eclipse.dataspaceconnector.spi.response.StatusResult;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.telemetry.Telemetry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ParallelSinkTest {
@@ -114,13 +128,237 @@ class ParallelSinkTest {
         assertThat(fakeSink.complete).isEqualTo(0);
     }
 
-    private static class FakeParallelSink extends ParallelSink {
+    @Test
+    void transfer_limitsConcurrentPartitionsAndClosesPartStream() {
+        var pulled = new AtomicInteger();
+        var closed = new AtomicBoolean();
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        fakeSink.executorService = Executors.newFixedThreadPool(8);
+        fakeSink.partitionSize = 2;
+        fakeSink.maxConcurrentPartitions = 3;
+        fakeSink.transferResultSupplier = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            running.decrementAndGet();
+            return StatusResult.success();
+        };
+
+        assertThat(fakeSink.transfer(partsSource(1000, pulled, closed))).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        assertThat(pulled).hasValue(1000);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+        assertThat(closed).isTrue();
+        assertThat(fakeSink.complete).isEqualTo(1);
+    }
+
+    @Test
+    void transfer_whenFailureDuringTransfer_stopsPullingParts() {
+        var pulled = new AtomicInteger();
+        var closed = new AtomicBoolean();
+        fakeSink.partitionSize = 1;
+        fakeSink.maxConcurrentPartitions = 1;
+        fakeSink.transferResultSupplier = () -> StatusResult.failure(ResponseStatus.FATAL_ERROR, errorMessage);
+
+        assertThat(fakeSink.transfer(partsSource(1000, pulled, closed))).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.getFailureMessages()).containsExactly(errorMessage));
+
+        assertThat(pulled).hasValue(1);
+        assertThat(closed).isTrue();
+        assertThat(fakeSink.complete).isEqualTo(0);
+    }
+
+    @Test
+    void transfer_recordsProgressMetrics() {
+        var metrics = mock(MetricsInstrumentation.class);
+        when(metrics.isEnabled()).thenReturn(true);
+        fakeSink.metricsInstrumentation = metrics;
+        var part = mock(DataSource.Part.class);
+        when(part.size()).thenReturn(42L);
+        DataSource source = () -> Stream.of(part, dataSource);
+
+        assertThat(fakeSink.transfer(source)).succeedsWithin(500, TimeUnit.MILLISECONDS);
+
+        verify(metrics).increment(ParallelSink.PARTS_METRIC, 2, "sink", "FakeParallelSink");
+        verify(metrics).increment(ParallelSink.BYTES_METRIC, 42, "sink", "FakeParallelSink");
+    }
+
+    @Test
+    void transfer_whenPartSupportsRandomAccess_writesChunksAndCommits() {
+        var content = faker.lorem().characters(100).getBytes();
+        fakeSink.chunkedWrites = true;
+        fakeSink.chunkSize = 7;
+
+        assertThat(fakeSink.transfer(() -> Stream.of(randomAccessPart(content)))).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        assertThat(fakeSink.chunkedOutput.toByteArray()).isEqualTo(content);
+        assertThat(fakeSink.commits).hasValue(1);
+        assertThat(fakeSink.aborts).hasValue(0);
+        assertThat(fakeSink.parts).isNull();
+        assertThat(fakeSink.complete).isEqualTo(1);
+    }
+
+    @Test
+    void transfer_whenChunkFails_abortsAndFails() {
+        var content = faker.lorem().characters(100).getBytes();
+        fakeSink.chunkedWrites = true;
+        fakeSink.chunkSize = 7;
+        fakeSink.failingChunk = 3;
+
+        assertThat(fakeSink.transfer(() -> Stream.of(randomAccessPart(content)))).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.getFailureMessages()).containsExactly(errorMessage));
+
+        assertThat(fakeSink.commits).hasValue(0);
+        assertThat(fakeSink.aborts).hasValue(1);
+        assertThat(fakeSink.complete).isEqualTo(0);
+    }
+
+    @Test
+    void transfer_whenSinkLimitsChunks_writesLargerChunks() {
+        var content = faker.lorem().characters(100).getBytes();
+        fakeSink.chunkedWrites = true;
+        fakeSink.chunkSize = 7;
+        fakeSink.maxChunks = 4;
+
+        assertThat(fakeSink.transfer(() -> Stream.of(randomAccessPart(content)))).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        assertThat(fakeSink.writtenChunks).containsExactlyInAnyOrder(0, 1, 2, 3);
+        assertThat(fakeSink.chunkedOutput.toByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    void transfer_skipsCompletedPartsAndCheckpointsTransferredParts() {
+        var checkpoints = new FakeCheckpoints();
+        checkpoints.checkpoint(new PartProgress("part0", 0, true));
+
+        assertThat(fakeSink.transfer(partsSource(2, new AtomicInteger(), new AtomicBoolean()), checkpoints)).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        assertThat(fakeSink.parts).extracting(DataSource.Part::name).containsExactly("part1");
+        assertThat(checkpoints.progress("part1")).isEqualTo(new PartProgress("part1", 0, true));
+    }
+
+    @Test
+    void transfer_whenChunkedPartWasCheckpointed_resumesFromCheckpoint() {
+        var content = faker.lorem().characters(100).getBytes();
+        fakeSink.chunkedWrites = true;
+        fakeSink.resumable = true;
+        fakeSink.chunkSize = 7;
+        var checkpoints = new FakeCheckpoints();
+        checkpoints.checkpoint(new PartProgress("large", 21, false));
+
+        assertThat(fakeSink.transfer(() -> Stream.of(randomAccessPart(content)), checkpoints)).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        assertThat(fakeSink.resumedChunks).containsExactly(0, 1, 2);
+        assertThat(fakeSink.chunkedOutput.toByteArray()).isEqualTo(Arrays.copyOfRange(content, 21, 100));
+        assertThat(checkpoints.progress("large")).isEqualTo(new PartProgress("large", 100, true));
+    }
+
+    private DataSource.Part randomAccessPart(byte[] content) {
+        return new DataSource.Part() {
+            @Override
+            public String name() {
+                return "large";
+            }
+
+            @Override
+            public long size() {
+                return content.length;
+            }
+
+            @Override
+            public InputStream openStream() {
+                return new ByteArrayInputStream(content);
+            }
+
+            @Override
+            public boolean supportsRandomAccess() {
+                return true;
+            }
+
+            @Override
+            public byte[] read(long offset, long bytes) {
+                return Arrays.copyOfRange(content, (int) offset, (int) (offset + bytes));
+            }
+        };
+    }
+
+    private DataSource partsSource(int count, AtomicInteger pulled, AtomicBoolean closed) {
+        return () -> IntStream.range(0, count)
+                .mapToObj(i -> {
+                    pulled.incrementAndGet();
+                    return (DataSource.Part) new InputStreamDataSource("part" + i, new ByteArrayInputStream(new byte[0]));
+                })
+                .onClose(() -> closed.set(true));
+    }
+
+    private class FakeParallelSink extends ParallelSink {
 
         List<DataSource.Part> parts;
         Supplier<StatusResult<Void>> transferResultSupplier = StatusResult::success;
+        boolean chunkedWrites;
+        boolean resumable;
+        List<Integer> resumedChunks = new CopyOnWriteArrayList<>();
+        List<Integer> writtenChunks = new CopyOnWriteArrayList<>();
+        int failingChunk = -1;
+        int maxChunks = Integer.MAX_VALUE;
+        ByteArrayOutputStream chunkedOutput = new ByteArrayOutputStream();
+        AtomicInteger commits = new AtomicInteger();
+        AtomicInteger aborts = new AtomicInteger();
         private int complete;
         private StatusResult<Void> completeResponse = StatusResult.success();
 
+        @Override
+        protected boolean supportsChunkedWrites() {
+            return chunkedWrites;
+        }
+
+        @Override
+        protected long chunkSizeOf(long partSize) {
+            return Math.max(chunkSize, (partSize + maxChunks - 1) / maxChunks);
+        }
+
+        @Override
+        protected ChunkedWrite openChunkedWrite(DataSource.Part part) {
+            var chunks = new ConcurrentSkipListMap<Integer, byte[]>();
+            return new ChunkedWrite() {
+                @Override
+                public StatusResult<Void> write(int index, long offset, byte[] content) {
+                    if (index == failingChunk) {
+                        return StatusResult.failure(ResponseStatus.FATAL_ERROR, errorMessage);
+                    }
+                    chunks.put(index, content);
+                    writtenChunks.add(index);
+                    return StatusResult.success();
+                }
+
+                @Override
+                public boolean supportsResume() {
+                    return resumable;
+                }
+
+                @Override
+                public void resume(int index, long offset) {
+                    resumedChunks.add(index);
+                }
+
+                @Override
+                public StatusResult<Void> commit() {
+                    commits.incrementAndGet();
+                    chunks.values().forEach(chunkedOutput::writeBytes);
+                    return StatusResult.success();
+                }
+
+                @Override
+                public void abort() {
+                    aborts.incrementAndGet();
+                }
+            };
+        }
+
         @Override
         protected StatusResult<Void> transferParts(List<DataSource.Part> parts) {
             this.parts = parts;
@@ -133,4 +371,18 @@ class ParallelSinkTest {
             return completeResponse;
         }
     }
+
+    private static class FakeCheckpoints implements TransferCheckpoints {
+        private final Map<String, PartProgress> progress = new ConcurrentHashMap<>();
+
+        @Override
+        public PartProgress progress(String partName) {
+            return progress.get(partName);
+        }
+
+        @Override
+        public void checkpoint(PartProgress partProgress) {
+            progress.put(partProgress.getName(), partProgress);
+        }
+    }
 }
@@ -0,0 +1,217 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.events.cloudevents.http;
+
+import io.cloudevents.CloudEvent;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Bounded buffer between the event subscriber and the delivery thread. When the buffer is full, the {@link OverflowPolicy}
+ * decides whether the publisher waits, the oldest event is dropped or the event is spilled to disk.
+ * <p>
+ * Events are delivered in the order in which they were offered, also when they are spilled: once an event was spilled,
+ * all subsequent events are spilled as well until the spill file has been delivered completely, and the spill file is
+ * only read once the queued events, which are older, have been taken. Spilled events are acknowledged with
+ * {@link #complete(Batch, boolean)} after they were delivered and are returned again otherwise, so they are delivered at
+ * least once, also across restarts. Queued events that cannot be delivered are dropped.
+ */
+class CloudEventsBuffer {
+    static final String QUEUE_SIZE_METRIC = "edc.events.cloudevents.queue.size";
+    static final String DROPPED_METRIC = "edc.events.cloudevents.dropped";
+    static final String SPILLED_METRIC = "edc.events.cloudevents.spilled";
+
+    private final BlockingQueue<CloudEvent> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final SpillFile spillFile;
+    private final Monitor monitor;
+    private final MetricsInstrumentation metrics;
+    private final Object spillLock = new Object();
+
+    private volatile boolean spilling;
+
+    CloudEventsBuffer(int capacity, OverflowPolicy overflowPolicy, @Nullable SpillFile spillFile, Monitor monitor, MetricsInstrumentation metrics) {
+        if (overflowPolicy == OverflowPolicy.SPILL_TO_DISK) {
+            Objects.requireNonNull(spillFile, "spillFile");
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.spillFile = spillFile;
+        this.monitor = monitor;
+        this.metrics = metrics;
+        metrics.gauge(QUEUE_SIZE_METRIC, queue::size);
+        // events spilled by a previous run are older than any new event
+        spilling = spillFile != null && !spillFile.isEmpty();
+    }
+
+    /**
+     * Adds an event to the buffer, applying the overflow policy if the buffer is full.
+     */
+    void offer(CloudEvent event) {
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                while (!queue.offer(event)) {
+                    var dropped = queue.poll();
+                    if (dropped != null) {
+                        monitor.debug(format("CloudEvents queue full, dropped event %s", dropped.getId()));
+                        metrics.increment(DROPPED_METRIC, 1);
+                    }
+                }
+                break;
+            case SPILL_TO_DISK:
+                synchronized (spillLock) {
+                    if (spilling || !queue.offer(event)) {
+                        spillFile.append(event);
+                        spilling = true;
+                        metrics.increment(SPILLED_METRIC, 1);
+                    }
+                }
+                break;
+            case BLOCK:
+            default:
+                try {
+                    queue.put(event);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    monitor.warning(format("Interrupted while waiting for room in the CloudEvents queue, dropped event %s", event.getId()));
+                    metrics.increment(DROPPED_METRIC, 1);
+                }
+                break;
+        }
+    }
+
+    /**
+     * Waits for the next batch of events. The batch is complete when it contains {@code batchSize} events or when
+     * {@code flushInterval} elapsed since its first event was taken. Spilled events are returned only once the queue is
+     * empty.
+     *
+     * @return the batch, empty if no event arrived within {@code flushInterval}.
+     */
+    Batch nextBatch(int batchSize, Duration flushInterval) throws InterruptedException {
+        if (spilling && queue.isEmpty()) {
+            var spilled = readSpilled(batchSize);
+            if (!spilled.isEmpty()) {
+                return new Batch(spilled, true);
+            }
+        }
+        var first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return spilling ? new Batch(readSpilled(batchSize), true) : new Batch(List.of(), false);
+        }
+        var batch = new ArrayList<CloudEvent>(batchSize);
+        batch.add(first);
+        var deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            var remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return new Batch(batch, false);
+    }
+
+    /**
+     * Completes the delivery of a batch. Spilled events are removed from the spill file only if they were delivered,
+     * otherwise they are returned by the next call to {@link #nextBatch(int, Duration)}.
+     */
+    void complete(Batch batch, boolean delivered) {
+        if (batch.isSpilled() && delivered) {
+            spillFile.commit();
+        }
+    }
+
+    /**
+     * Removes all the queued events, used when shutting down.
+     */
+    List<CloudEvent> drain() {
+        var events = new ArrayList<CloudEvent>(queue.size());
+        queue.drainTo(events);
+        return events;
+    }
+
+    /**
+     * Persists the queued events to the spill file, if one is configured, so that they can be delivered after a restart.
+     *
+     * @return true if the events were persisted.
+     */
+    boolean spillRemaining() {
+        if (spillFile == null) {
+            return false;
+        }
+        synchronized (spillLock) {
+            // the queued events are older than the spilled ones
+            spillFile.prepend(drain());
+        }
+        return true;
+    }
+
+    private List<CloudEvent> readSpilled(int batchSize) {
+        var events = spillFile.read(batchSize);
+        if (events.isEmpty()) {
+            synchronized (spillLock) {
+                // events may have been spilled since the file was read
+                events = spillFile.read(batchSize);
+                if (events.isEmpty()) {
+                    spilling = false;
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Events taken from the buffer for delivery.
+     */
+    static class Batch {
+        private final List<CloudEvent> events;
+        private final boolean spilled;
+
+        Batch(List<CloudEvent> events, boolean spilled) {
+            this.events = events;
+            this.spilled = spilled;
+        }
+
+        List<CloudEvent> getEvents() {
+            return events;
+        }
+
+        /**
+         * Whether the events were read from the spill file.
+         */
+        boolean isSpilled() {
+            return spilled;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.events.cloudevents.http;
+
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ * Takes batches of events from the {@link CloudEventsBuffer} and hands them to the {@link CloudEventsSender} on a
+ * dedicated thread, so that slow or unavailable endpoints do not hold up the threads that publish events.
+ */
+class CloudEventsDelivery {
+    private final CloudEventsBuffer buffer;
+    private final CloudEventsSender sender;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final ExecutorInstrumentation executorInstrumentation;
+    private final Monitor monitor;
+    private final AtomicBoolean active = new AtomicBoolean();
+
+    private ExecutorService executorService;
+
+    CloudEventsDelivery(CloudEventsBuffer buffer, CloudEventsSender sender, int batchSize, Duration flushInterval,
+                        ExecutorInstrumentation executorInstrumentation, Monitor monitor) {
+        this.buffer = buffer;
+        this.sender = sender;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.executorInstrumentation = executorInstrumentation;
+        this.monitor = monitor;
+    }
+
+    void start() {
+        active.set(true);
+        executorService = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), getClass().getSimpleName());
+        executorService.submit(this::run);
+    }
+
+    /**
+     * Stops the delivery thread. Events still queued are spilled to disk if a spill file is configured, otherwise a last
+     * attempt is made to send them.
+     */
+    void stop() {
+        active.set(false);
+        if (executorService == null) {
+            return;
+        }
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(flushInterval.toMillis() * 2, TimeUnit.MILLISECONDS)) {
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executorService.shutdownNow();
+        }
+        if (!buffer.spillRemaining()) {
+            sender.send(buffer.drain());
+        }
+    }
+
+    private void run() {
+        while (active.get()) {
+            try {
+                var batch = buffer.nextBatch(batchSize, flushInterval);
+                var delivered = sender.send(batch.getEvents());
+                buffer.complete(batch, delivered);
+                if (!delivered && batch.isSpilled()) {
+                    // the events stay in the spill file, give the endpoint time to recover before sending them again
+                    Thread.sleep(flushInterval.toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                active.set(false);
+            } catch (Throwable e) {
+                monitor.severe(format("Unexpected error delivering CloudEvents: %s", e.getMessage()), e);
+            }
+        }
+    }
+}
@@ -16,21 +16,47 @@ package org.eclipse.dataspaceconnector.events.cloudevents.http;
 
 import dev.failsafe.RetryPolicy;
 import okhttp3.OkHttpClient;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.event.EventRouter;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Hostname;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 
+import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
+
+import static java.lang.String.format;
 
 public class CloudEventsHttpExtension implements ServiceExtension {
 
     @EdcSetting(required = true)
     static final String EDC_EVENTS_CLOUDEVENTS_ENDPOINT = "edc.events.cloudevents.endpoint";
 
+    @EdcSetting
+    static final String EDC_EVENTS_CLOUDEVENTS_QUEUE_CAPACITY = "edc.events.cloudevents.queue.capacity";
+
+    @EdcSetting
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_SIZE = "edc.events.cloudevents.batch.size";
+
+    @EdcSetting
+    static final String EDC_EVENTS_CLOUDEVENTS_FLUSH_INTERVAL = "edc.events.cloudevents.flush.interval.ms";
+
+    @EdcSetting
+    static final String EDC_EVENTS_CLOUDEVENTS_OVERFLOW_POLICY = "edc.events.cloudevents.overflow.policy";
+
+    @EdcSetting
+    static final String EDC_EVENTS_CLOUDEVENTS_SPILL_DIRECTORY = "edc.events.cloudevents.spill.directory";
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    private static final int DEFAULT_BATCH_SIZE = 1;
+    private static final long DEFAULT_FLUSH_INTERVAL = 1000;
+
     @Inject
     private OkHttpClient okHttpClient;
 
@@ -49,11 +75,63 @@ public class CloudEventsHttpExtension implements ServiceExtension {
     @Inject
     private RetryPolicy<Object> retryPolicy;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private MetricsInstrumentation metricsInstrumentation;
+
+    private CloudEventsDelivery delivery;
+    private SpillFile spillFile;
+
+    @Override
+    public String name() {
+        return "CloudEvents HTTP";
+    }
+
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var endpoint = context.getConfig().getString(EDC_EVENTS_CLOUDEVENTS_ENDPOINT);
+        var config = context.getConfig();
+        var monitor = context.getMonitor();
+        var endpoint = config.getString(EDC_EVENTS_CLOUDEVENTS_ENDPOINT);
+        var capacity = config.getInteger(EDC_EVENTS_CLOUDEVENTS_QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY);
+        var batchSize = config.getInteger(EDC_EVENTS_CLOUDEVENTS_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        var flushInterval = Duration.ofMillis(config.getLong(EDC_EVENTS_CLOUDEVENTS_FLUSH_INTERVAL, DEFAULT_FLUSH_INTERVAL));
+        var overflowPolicy = overflowPolicy(config.getString(EDC_EVENTS_CLOUDEVENTS_OVERFLOW_POLICY, OverflowPolicy.BLOCK.name()));
+
+        var json = new CloudEventsJson(typeManager);
+        if (overflowPolicy == OverflowPolicy.SPILL_TO_DISK) {
+            var directory = config.getString(EDC_EVENTS_CLOUDEVENTS_SPILL_DIRECTORY, Path.of(System.getProperty("java.io.tmpdir"), "edc-cloudevents").toString());
+            spillFile = new SpillFile(Path.of(directory), json, typeManager, monitor);
+        }
+
+        var buffer = new CloudEventsBuffer(capacity, overflowPolicy, spillFile, monitor, metricsInstrumentation);
+        var sender = new CloudEventsSender(endpoint, batchSize > 1, json, typeManager, okHttpClient, retryPolicy, clock, monitor, metricsInstrumentation);
+        delivery = new CloudEventsDelivery(buffer, sender, batchSize, flushInterval, executorInstrumentation, monitor);
+
+        eventRouter.register(new CloudEventsPublisher(typeManager, clock, hostname, buffer));
+    }
+
+    @Override
+    public void start() {
+        delivery.start();
+    }
 
-        eventRouter.register(new CloudEventsPublisher(endpoint, context.getMonitor(), typeManager, okHttpClient, clock, hostname, retryPolicy));
+    @Override
+    public void shutdown() {
+        if (delivery != null) {
+            delivery.stop();
+        }
+        if (spillFile != null) {
+            spillFile.close();
+        }
     }
 
+    private OverflowPolicy overflowPolicy(String value) {
+        try {
+            return OverflowPolicy.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new EdcException(format("Invalid value for %s: %s", EDC_EVENTS_CLOUDEVENTS_OVERFLOW_POLICY, value));
+        }
+    }
 }
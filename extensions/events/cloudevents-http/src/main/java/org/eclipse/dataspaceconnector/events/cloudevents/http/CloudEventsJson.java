@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.events.cloudevents.http;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.v1.CloudEventBuilder;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Converts {@link CloudEvent}s from and to the JSON structured format, which is used for batches and for events spilled to disk.
+ */
+class CloudEventsJson {
+    private static final String SPEC_VERSION = "specversion";
+    private static final String ID = "id";
+    private static final String SOURCE = "source";
+    private static final String TYPE = "type";
+    private static final String TIME = "time";
+    private static final String DATA_CONTENT_TYPE = "datacontenttype";
+    private static final String DATA = "data";
+
+    private final TypeManager typeManager;
+
+    CloudEventsJson(TypeManager typeManager) {
+        this.typeManager = typeManager;
+    }
+
+    Map<String, Object> toStructured(CloudEvent event) {
+        var structured = new LinkedHashMap<String, Object>();
+        structured.put(SPEC_VERSION, event.getSpecVersion().toString());
+        structured.put(ID, event.getId());
+        structured.put(SOURCE, event.getSource().toString());
+        structured.put(TYPE, event.getType());
+        if (event.getTime() != null) {
+            structured.put(TIME, event.getTime().toString());
+        }
+        structured.put(DATA_CONTENT_TYPE, event.getDataContentType());
+        if (event.getData() != null) {
+            structured.put(DATA, typeManager.readValue(event.getData().toBytes(), Object.class));
+        }
+        return structured;
+    }
+
+    CloudEvent fromStructured(Map<String, Object> structured) {
+        var builder = new CloudEventBuilder()
+                .withId((String) structured.get(ID))
+                .withSource(URI.create((String) structured.get(SOURCE)))
+                .withType((String) structured.get(TYPE))
+                .withDataContentType((String) structured.get(DATA_CONTENT_TYPE));
+        var time = (String) structured.get(TIME);
+        if (time != null) {
+            builder.withTime(OffsetDateTime.parse(time));
+        }
+        if (structured.containsKey(DATA)) {
+            builder.withData(typeManager.writeValueAsBytes(structured.get(DATA)));
+        }
+        return builder.build();
+    }
+}
@@ -14,50 +14,36 @@
 
 package org.eclipse.dataspaceconnector.events.cloudevents.http;
 
-import dev.failsafe.FailsafeException;
-import dev.failsafe.RetryPolicy;
 import io.cloudevents.core.v1.CloudEventBuilder;
-import io.cloudevents.http.HttpMessageFactory;
-import io.cloudevents.http.impl.HttpMessageWriter;
-import okhttp3.MediaType;
-import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.RequestBody;
 import org.eclipse.dataspaceconnector.spi.event.Event;
 import org.eclipse.dataspaceconnector.spi.event.EventSubscriber;
-import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.system.Hostname;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
-import org.jetbrains.annotations.NotNull;
 
 import java.net.URI;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDateTime;
 
-import static dev.failsafe.Failsafe.with;
-import static java.lang.String.format;
 import static java.time.ZoneOffset.UTC;
 
+/**
+ * Converts events to CloudEvents and puts them into the {@link CloudEventsBuffer}, from where they are delivered by the
+ * {@link CloudEventsDelivery}.
+ */
 class CloudEventsPublisher implements EventSubscriber {
     private static final String APPLICATION_JSON = "application/json";
 
-    private final String endpoint;
-    private final Monitor monitor;
     private final TypeManager typeManager;
-    private final OkHttpClient okHttpClient;
     private final Clock clock;
     private final Hostname hostname;
-    private final RetryPolicy<Object> retryPolicy;
+    private final CloudEventsBuffer buffer;
 
-    CloudEventsPublisher(String endpoint, Monitor monitor, TypeManager typeManager, OkHttpClient okHttpClient, Clock clock, Hostname hostname, RetryPolicy<Object> retryPolicy) {
-        this.endpoint = endpoint;
-        this.monitor = monitor;
+    CloudEventsPublisher(TypeManager typeManager, Clock clock, Hostname hostname, CloudEventsBuffer buffer) {
         this.typeManager = typeManager;
-        this.okHttpClient = okHttpClient;
         this.clock = clock;
         this.hostname = hostname;
-        this.retryPolicy = retryPolicy;
+        this.buffer = buffer;
     }
 
     @Override
@@ -74,25 +60,7 @@ class CloudEventsPublisher implements EventSubscriber {
                 .withData(json)
                 .build();
 
-        createWriter().writeBinary(cloudEvent);
-    }
-
-    @NotNull
-    private HttpMessageWriter createWriter() {
-        var requestBuilder = new Request.Builder();
-        return HttpMessageFactory.createWriter(requestBuilder::addHeader, body -> {
-            var request = requestBuilder
-                    .url(endpoint)
-                    .post(RequestBody.create(body, MediaType.get(APPLICATION_JSON)))
-                    .build();
-            try (var response = with(retryPolicy).get(() -> okHttpClient.newCall(request).execute())) {
-                if (!response.isSuccessful()) {
-                    monitor.severe(format("Error sending cloud event to endpoint %s, response status: %d", endpoint, response.code()));
-                }
-            } catch (FailsafeException e) {
-                monitor.severe(format("Error sending event to endpoint %s", endpoint), e);
-            }
-        });
+        buffer.offer(cloudEvent);
     }
 
 }
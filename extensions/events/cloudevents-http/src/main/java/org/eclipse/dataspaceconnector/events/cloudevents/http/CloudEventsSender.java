@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.events.cloudevents.http;
+
+import dev.failsafe.FailsafeException;
+import dev.failsafe.RetryPolicy;
+import io.cloudevents.CloudEvent;
+import io.cloudevents.http.HttpMessageFactory;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static dev.failsafe.Failsafe.with;
+import static java.lang.String.format;
+
+/**
+ * Sends events to the configured endpoint. A single event is sent in binary content mode, several events are sent
+ * together in batched content mode ({@value #BATCH_CONTENT_TYPE}) when batching is enabled.
+ * <p>
+ * The delay between the occurrence of an event and its delivery is recorded as {@value #DELIVERY_LAG_METRIC}.
+ */
+class CloudEventsSender {
+    static final String DELIVERY_LAG_METRIC = "edc.events.cloudevents.delivery.lag";
+    static final String FAILED_METRIC = "edc.events.cloudevents.failed";
+    static final String BATCH_CONTENT_TYPE = "application/cloudevents-batch+json";
+    private static final String APPLICATION_JSON = "application/json";
+
+    private final String endpoint;
+    private final boolean batchMode;
+    private final CloudEventsJson json;
+    private final TypeManager typeManager;
+    private final OkHttpClient okHttpClient;
+    private final RetryPolicy<Object> retryPolicy;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final MetricsInstrumentation metrics;
+
+    CloudEventsSender(String endpoint, boolean batchMode, CloudEventsJson json, TypeManager typeManager, OkHttpClient okHttpClient,
+                      RetryPolicy<Object> retryPolicy, Clock clock, Monitor monitor, MetricsInstrumentation metrics) {
+        this.endpoint = endpoint;
+        this.batchMode = batchMode;
+        this.json = json;
+        this.typeManager = typeManager;
+        this.okHttpClient = okHttpClient;
+        this.retryPolicy = retryPolicy;
+        this.clock = clock;
+        this.monitor = monitor;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Sends the events.
+     *
+     * @return true if all the events were delivered.
+     */
+    boolean send(List<CloudEvent> events) {
+        if (events.isEmpty()) {
+            return true;
+        }
+        if (batchMode) {
+            var batch = events.stream().map(json::toStructured).collect(Collectors.toList());
+            var request = new Request.Builder()
+                    .url(endpoint)
+                    .post(RequestBody.create(typeManager.writeValueAsBytes(batch), MediaType.get(BATCH_CONTENT_TYPE)))
+                    .build();
+            var success = execute(request);
+            completed(events, success);
+            return success;
+        } else {
+            var success = true;
+            for (var event : events) {
+                success &= sendBinary(event);
+            }
+            return success;
+        }
+    }
+
+    private boolean sendBinary(CloudEvent event) {
+        var requestBuilder = new Request.Builder();
+        var success = new AtomicBoolean();
+        HttpMessageFactory.createWriter(requestBuilder::addHeader, body -> {
+            var request = requestBuilder
+                    .url(endpoint)
+                    .post(RequestBody.create(body, MediaType.get(APPLICATION_JSON)))
+                    .build();
+            success.set(execute(request));
+        }).writeBinary(event);
+        completed(List.of(event), success.get());
+        return success.get();
+    }
+
+    private boolean execute(Request request) {
+        try (var response = with(retryPolicy).get(() -> okHttpClient.newCall(request).execute())) {
+            if (!response.isSuccessful()) {
+                monitor.severe(format("Error sending cloud event to endpoint %s, response status: %d", endpoint, response.code()));
+                return false;
+            }
+            return true;
+        } catch (FailsafeException e) {
+            monitor.severe(format("Error sending event to endpoint %s", endpoint), e);
+            return false;
+        }
+    }
+
+    private void completed(List<CloudEvent> events, boolean success) {
+        if (!success) {
+            metrics.increment(FAILED_METRIC, events.size());
+            return;
+        }
+        if (!metrics.isEnabled()) {
+            return;
+        }
+        var now = clock.instant();
+        events.stream()
+                .filter(event -> event.getTime() != null)
+                .forEach(event -> metrics.record(DELIVERY_LAG_METRIC, Duration.between(event.getTime().toInstant(), now)));
+    }
+}
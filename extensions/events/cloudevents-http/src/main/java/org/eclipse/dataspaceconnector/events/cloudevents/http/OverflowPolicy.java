@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.events.cloudevents.http;
+
+/**
+ * Defines what happens to an event when the publishing queue is full.
+ */
+enum OverflowPolicy {
+    /**
+     * The publishing thread waits until the queue has room for the event.
+     */
+    BLOCK,
+
+    /**
+     * The oldest queued event is discarded to make room for the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The event is appended to a file on disk and delivered once the queue has been drained.
+     */
+    SPILL_TO_DISK
+}
@@ -0,0 +1,315 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.events.cloudevents.http;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.cloudevents.CloudEvent;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Stores events that do not fit into the publishing queue as JSON lines in a file.
+ * <p>
+ * Events are appended to {@value #SPILL_FILE}. When the events are read back, the file is atomically renamed to
+ * {@value #DRAINING_FILE}, so that new events can be appended while the renamed file is read in chunks. Reading does not
+ * remove the events: {@link #read(int)} returns the first events that were not acknowledged yet, and {@link #commit()}
+ * acknowledges them once they were delivered, by storing their end offset in {@value #OFFSET_FILE}. The renamed file is
+ * deleted once all of its events were acknowledged. Events that were read but not acknowledged, e.g. because the delivery
+ * failed or the process stopped, are read again, also after a restart, so every event is delivered at least once.
+ * <p>
+ * Appending is thread-safe, reading is expected to happen from a single thread.
+ */
+class SpillFile implements AutoCloseable {
+    static final String SPILL_FILE = "events.jsonl";
+    static final String DRAINING_FILE = "events.draining.jsonl";
+    static final String OFFSET_FILE = "events.draining.offset";
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final Path spillFile;
+    private final Path drainingFile;
+    private final Path offsetFile;
+    private final CloudEventsJson json;
+    private final TypeManager typeManager;
+    private final Monitor monitor;
+    private final Object lock = new Object();
+
+    private BufferedWriter writer;
+    private FileChannel reader;
+    private InputStream input;
+    private long readOffset;
+    private long committedOffset;
+
+    SpillFile(Path directory, CloudEventsJson json, TypeManager typeManager, Monitor monitor) {
+        this.spillFile = directory.resolve(SPILL_FILE);
+        this.drainingFile = directory.resolve(DRAINING_FILE);
+        this.offsetFile = directory.resolve(OFFSET_FILE);
+        this.json = json;
+        this.typeManager = typeManager;
+        this.monitor = monitor;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new EdcException(format("Cannot create spill directory %s", directory), e);
+        }
+    }
+
+    void append(CloudEvent event) {
+        var line = serialize(event);
+        synchronized (lock) {
+            try {
+                if (writer == null) {
+                    var tornLine = endsWithTornLine(spillFile);
+                    writer = Files.newBufferedWriter(spillFile, UTF_8, CREATE, APPEND);
+                    if (tornLine) {
+                        // the last append of a previous run was interrupted, do not continue its line
+                        writer.newLine();
+                    }
+                }
+                writer.write(line);
+                writer.newLine();
+                writer.flush();
+            } catch (IOException e) {
+                throw new EdcException(format("Cannot spill event %s to %s", event.getId(), spillFile), e);
+            }
+        }
+    }
+
+    /**
+     * Places events before all the events that were appended to the spill file, but after the ones that are already being
+     * read, e.g. to persist events that are older than the spilled ones.
+     */
+    void prepend(List<CloudEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        synchronized (lock) {
+            closeQuietly(writer);
+            writer = null;
+            var temporaryFile = spillFile.resolveSibling(SPILL_FILE + ".tmp");
+            try {
+                try (var stream = Files.newOutputStream(temporaryFile)) {
+                    var eventWriter = new BufferedWriter(new OutputStreamWriter(stream, UTF_8));
+                    for (var event : events) {
+                        eventWriter.write(serialize(event));
+                        eventWriter.newLine();
+                    }
+                    eventWriter.flush();
+                    if (Files.exists(spillFile)) {
+                        Files.copy(spillFile, stream);
+                    }
+                }
+                Files.move(temporaryFile, spillFile, ATOMIC_MOVE, REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw new EdcException(format("Cannot spill %d events to %s", events.size(), spillFile), e);
+            }
+        }
+    }
+
+    /**
+     * Reads the first spilled events that were not acknowledged with {@link #commit()} yet, in the order in which they
+     * were appended. Calling this method again without committing returns the same events.
+     *
+     * @param max the maximum number of events to read.
+     * @return the events, empty if there are no spilled events.
+     */
+    List<CloudEvent> read(int max) {
+        try {
+            while (input != null || openForReading()) {
+                if (readOffset != committedOffset) {
+                    // the previously read events were not delivered
+                    seek(committedOffset);
+                }
+                var events = readEvents(max);
+                if (!events.isEmpty()) {
+                    return events;
+                }
+                // all the events of the file were acknowledged, so the file is not needed anymore
+                closeReader();
+                Files.deleteIfExists(offsetFile);
+                Files.deleteIfExists(drainingFile);
+            }
+            return List.of();
+        } catch (IOException e) {
+            throw new EdcException(format("Cannot read spilled events from %s", drainingFile), e);
+        }
+    }
+
+    /**
+     * Acknowledges the events returned by the last {@link #read(int)}, so that they are not read again.
+     */
+    void commit() {
+        if (readOffset == committedOffset) {
+            return;
+        }
+        var temporaryFile = offsetFile.resolveSibling(OFFSET_FILE + ".tmp");
+        try {
+            Files.writeString(temporaryFile, Long.toString(readOffset), UTF_8);
+            Files.move(temporaryFile, offsetFile, ATOMIC_MOVE, REPLACE_EXISTING);
+            committedOffset = readOffset;
+        } catch (IOException e) {
+            throw new EdcException(format("Cannot acknowledge spilled events in %s", drainingFile), e);
+        }
+    }
+
+    /**
+     * Whether there are spilled events that were not acknowledged yet.
+     */
+    boolean isEmpty() {
+        synchronized (lock) {
+            try {
+                return input == null && !Files.exists(drainingFile) && (!Files.exists(spillFile) || Files.size(spillFile) == 0);
+            } catch (IOException e) {
+                throw new EdcException(format("Cannot access spill file %s", spillFile), e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closeQuietly(writer);
+            writer = null;
+        }
+        closeReader();
+    }
+
+    private boolean openForReading() throws IOException {
+        if (!Files.exists(drainingFile)) {
+            synchronized (lock) {
+                if (!Files.exists(spillFile) || Files.size(spillFile) == 0) {
+                    return false;
+                }
+                if (writer != null) {
+                    writer.close();
+                    writer = null;
+                }
+                Files.deleteIfExists(offsetFile);
+                Files.move(spillFile, drainingFile, ATOMIC_MOVE);
+            }
+        }
+        reader = FileChannel.open(drainingFile, READ);
+        committedOffset = readCommittedOffset();
+        seek(committedOffset);
+        return true;
+    }
+
+    private long readCommittedOffset() throws IOException {
+        if (!Files.exists(offsetFile)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(Files.readString(offsetFile, UTF_8).trim());
+        } catch (NumberFormatException e) {
+            monitor.warning(format("Invalid offset in %s, reading all spilled events again", offsetFile), e);
+            return 0;
+        }
+    }
+
+    private void seek(long offset) throws IOException {
+        reader.position(offset);
+        input = new BufferedInputStream(Channels.newInputStream(reader));
+        readOffset = offset;
+    }
+
+    private List<CloudEvent> readEvents(int max) throws IOException {
+        var events = new ArrayList<CloudEvent>();
+        String line;
+        while (events.size() < max && (line = readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                events.add(json.fromStructured(typeManager.readValue(line, MAP_TYPE)));
+            } catch (EdcException | IllegalArgumentException e) {
+                monitor.warning(format("Skipping malformed spilled event in %s", drainingFile), e);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Reads the next line and advances the read offset by its length in bytes.
+     */
+    private String readLine() throws IOException {
+        var line = new ByteArrayOutputStream();
+        int b;
+        while ((b = input.read()) != -1) {
+            readOffset++;
+            if (b == '\n') {
+                return line.toString(UTF_8);
+            }
+            line.write(b);
+        }
+        return line.size() > 0 ? line.toString(UTF_8) : null;
+    }
+
+    private boolean endsWithTornLine(Path file) throws IOException {
+        if (!Files.exists(file) || Files.size(file) == 0) {
+            return false;
+        }
+        try (var channel = FileChannel.open(file, READ)) {
+            var last = ByteBuffer.allocate(1);
+            channel.read(last, channel.size() - 1);
+            return last.get(0) != '\n';
+        }
+    }
+
+    private String serialize(CloudEvent event) {
+        return typeManager.writeValueAsString(json.toStructured(event));
+    }
+
+    private void closeReader() {
+        closeQuietly(input != null ? input : reader);
+        input = null;
+        reader = null;
+    }
+
+    private void closeQuietly(AutoCloseable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            monitor.debug(format("Error closing spill file: %s", e.getMessage()));
+        }
+    }
+}
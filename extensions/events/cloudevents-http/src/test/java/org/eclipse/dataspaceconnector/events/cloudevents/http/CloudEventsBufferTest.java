@@ -0,0 +1,186 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.events.cloudevents.http;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.v1.CloudEventBuilder;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CloudEventsBufferTest {
+
+    private final TypeManager typeManager = new TypeManager();
+    private final Monitor monitor = mock(Monitor.class);
+    private final MetricsInstrumentation metrics = mock(MetricsInstrumentation.class);
+
+    @Test
+    void nextBatch_shouldReturnUpToBatchSize() throws InterruptedException {
+        var buffer = new CloudEventsBuffer(10, OverflowPolicy.BLOCK, null, monitor, metrics);
+        IntStream.range(0, 5).forEach(i -> buffer.offer(event("id" + i)));
+
+        assertThat(ids(buffer.nextBatch(3, Duration.ofMillis(10)))).containsExactly("id0", "id1", "id2");
+        assertThat(ids(buffer.nextBatch(3, Duration.ofMillis(10)))).containsExactly("id3", "id4");
+        assertThat(buffer.nextBatch(3, Duration.ofMillis(10)).getEvents()).isEmpty();
+    }
+
+    @Test
+    void block_shouldWaitUntilRoomIsAvailable() throws Exception {
+        var buffer = new CloudEventsBuffer(1, OverflowPolicy.BLOCK, null, monitor, metrics);
+        buffer.offer(event("id0"));
+
+        var blocked = CompletableFuture.runAsync(() -> buffer.offer(event("id1")));
+
+        assertThat(blocked).isNotCompleted();
+        assertThat(ids(buffer.nextBatch(1, Duration.ofMillis(10)))).containsExactly("id0");
+        blocked.get(5, TimeUnit.SECONDS);
+        assertThat(ids(buffer.nextBatch(1, Duration.ofMillis(10)))).containsExactly("id1");
+    }
+
+    @Test
+    void dropOldest_shouldDiscardOldestEvents() {
+        var buffer = new CloudEventsBuffer(2, OverflowPolicy.DROP_OLDEST, null, monitor, metrics);
+
+        IntStream.range(0, 4).forEach(i -> buffer.offer(event("id" + i)));
+
+        assertThat(ids(buffer.drain())).containsExactly("id2", "id3");
+        verify(metrics, times(2)).increment(CloudEventsBuffer.DROPPED_METRIC, 1);
+    }
+
+    @Test
+    void spillToDisk_shouldDeliverSpilledEventsOnceQueueIsEmpty(@TempDir Path directory) throws InterruptedException {
+        var json = new CloudEventsJson(typeManager);
+        var spillFile = new SpillFile(directory, json, typeManager, monitor);
+        var buffer = new CloudEventsBuffer(2, OverflowPolicy.SPILL_TO_DISK, spillFile, monitor, metrics);
+
+        IntStream.range(0, 5).forEach(i -> buffer.offer(event("id" + i)));
+
+        assertThat(ids(buffer.nextBatch(10, Duration.ofMillis(10)))).containsExactly("id0", "id1");
+        var spilled = buffer.nextBatch(10, Duration.ofMillis(10));
+        assertThat(ids(spilled)).containsExactly("id2", "id3", "id4");
+        assertThat(typeManager.readValue(spilled.getEvents().get(0).getData().toBytes(), Map.class)).containsEntry("value", "id2");
+        buffer.complete(spilled, true);
+        assertThat(buffer.nextBatch(10, Duration.ofMillis(10)).getEvents()).isEmpty();
+        assertThat(directory).isEmptyDirectory();
+        verify(metrics, times(3)).increment(CloudEventsBuffer.SPILLED_METRIC, 1);
+    }
+
+    @Test
+    void spillToDisk_shouldResumeFromPreviousRun(@TempDir Path directory) throws InterruptedException {
+        var json = new CloudEventsJson(typeManager);
+        var previousSpillFile = new SpillFile(directory, json, typeManager, monitor);
+        var previous = new CloudEventsBuffer(1, OverflowPolicy.SPILL_TO_DISK, previousSpillFile, monitor, metrics);
+        IntStream.range(0, 3).forEach(i -> previous.offer(event("id" + i)));
+        previous.spillRemaining();
+        previousSpillFile.close();
+
+        var buffer = new CloudEventsBuffer(1, OverflowPolicy.SPILL_TO_DISK, new SpillFile(directory, json, typeManager, monitor), monitor, metrics);
+
+        assertThat(ids(buffer.nextBatch(10, Duration.ofMillis(10)))).containsExactly("id0", "id1", "id2");
+    }
+
+    @Test
+    void spillToDisk_shouldKeepOrder_whenQueueHasRoomAgain(@TempDir Path directory) throws InterruptedException {
+        var buffer = new CloudEventsBuffer(2, OverflowPolicy.SPILL_TO_DISK, new SpillFile(directory, new CloudEventsJson(typeManager), typeManager, monitor), monitor, metrics);
+        IntStream.range(0, 3).forEach(i -> buffer.offer(event("id" + i)));
+
+        assertThat(ids(buffer.nextBatch(10, Duration.ofMillis(10)))).containsExactly("id0", "id1");
+        buffer.offer(event("id3"));
+
+        assertThat(ids(buffer.nextBatch(10, Duration.ofMillis(10)))).containsExactly("id2", "id3");
+    }
+
+    @Test
+    void spillToDisk_shouldReturnSpilledEventsAgain_whenNotDelivered(@TempDir Path directory) throws InterruptedException {
+        var buffer = new CloudEventsBuffer(1, OverflowPolicy.SPILL_TO_DISK, new SpillFile(directory, new CloudEventsJson(typeManager), typeManager, monitor), monitor, metrics);
+        IntStream.range(0, 4).forEach(i -> buffer.offer(event("id" + i)));
+        assertThat(ids(buffer.nextBatch(10, Duration.ofMillis(10)))).containsExactly("id0");
+
+        var failed = buffer.nextBatch(2, Duration.ofMillis(10));
+        buffer.complete(failed, false);
+        var retried = buffer.nextBatch(2, Duration.ofMillis(10));
+        buffer.complete(retried, true);
+
+        assertThat(ids(failed)).containsExactly("id1", "id2");
+        assertThat(ids(retried)).containsExactly("id1", "id2");
+        assertThat(ids(buffer.nextBatch(2, Duration.ofMillis(10)))).containsExactly("id3");
+    }
+
+    @Test
+    void spillToDisk_shouldReturnUndeliveredEventsAfterRestart(@TempDir Path directory) throws InterruptedException {
+        var json = new CloudEventsJson(typeManager);
+        var previousSpillFile = new SpillFile(directory, json, typeManager, monitor);
+        var previous = new CloudEventsBuffer(1, OverflowPolicy.SPILL_TO_DISK, previousSpillFile, monitor, metrics);
+        IntStream.range(0, 4).forEach(i -> previous.offer(event("id" + i)));
+        assertThat(ids(previous.nextBatch(10, Duration.ofMillis(10)))).containsExactly("id0");
+        previous.complete(previous.nextBatch(1, Duration.ofMillis(10)), true);
+        assertThat(ids(previous.nextBatch(1, Duration.ofMillis(10)))).containsExactly("id2");
+        previousSpillFile.close(); // stopped before "id2" was delivered
+
+        var buffer = new CloudEventsBuffer(1, OverflowPolicy.SPILL_TO_DISK, new SpillFile(directory, json, typeManager, monitor), monitor, metrics);
+
+        assertThat(ids(buffer.nextBatch(10, Duration.ofMillis(10)))).containsExactly("id2", "id3");
+    }
+
+    @Test
+    void spillFile_shouldNotContinueTornLine(@TempDir Path directory) throws IOException {
+        Files.writeString(directory.resolve(SpillFile.SPILL_FILE), "{\"specversion\":\"1.0\",\"id\":");
+        var spillFile = new SpillFile(directory, new CloudEventsJson(typeManager), typeManager, monitor);
+
+        spillFile.append(event("id0"));
+
+        assertThat(ids(spillFile.read(10))).containsExactly("id0");
+    }
+
+    private CloudEvent event(String id) {
+        return new CloudEventBuilder()
+                .withId(id)
+                .withSource(URI.create("localhost"))
+                .withType("type")
+                .withTime(OffsetDateTime.now())
+                .withDataContentType("application/json")
+                .withData(typeManager.writeValueAsBytes(Map.of("value", id)))
+                .build();
+    }
+
+    private List<String> ids(CloudEventsBuffer.Batch batch) {
+        return ids(batch.getEvents());
+    }
+
+    private List<String> ids(List<CloudEvent> events) {
+        return events.stream().map(CloudEvent::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.events.cloudevents.http;
+
+import org.eclipse.dataspaceconnector.junit.extensions.EdcExtension;
+import org.eclipse.dataspaceconnector.spi.event.EventRouter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.JsonBody;
+import org.mockserver.verify.VerificationTimes;
+
+import java.util.Map;
+
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.dataspaceconnector.junit.testfixtures.TestUtils.getFreePort;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+
+@ExtendWith(EdcExtension.class)
+public class CloudEventsHttpExtensionBatchTest {
+
+    private final int port = getFreePort();
+    private final ClientAndServer server = startClientAndServer(port);
+
+    @BeforeEach
+    void setUp(EdcExtension extension) {
+        extension.setConfiguration(Map.of(
+                CloudEventsHttpExtension.EDC_EVENTS_CLOUDEVENTS_ENDPOINT, "http://localhost:" + port,
+                CloudEventsHttpExtension.EDC_EVENTS_CLOUDEVENTS_BATCH_SIZE, "2",
+                CloudEventsHttpExtension.EDC_EVENTS_CLOUDEVENTS_FLUSH_INTERVAL, "60000"
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void shouldSendEventsInBatchedContentMode(EventRouter eventRouter) {
+        eventRouter.publish(TestEvent.Builder.newInstance().id("event-1").data("first").at(1655903853723L).build());
+        eventRouter.publish(TestEvent.Builder.newInstance().id("event-2").data("second").at(1655903853724L).build());
+
+        await().untilAsserted(() -> {
+            var expectedRequest = HttpRequest.request()
+                    .withHeader("Content-Type", CloudEventsSender.BATCH_CONTENT_TYPE)
+                    .withBody(new JsonBody("[" +
+                            "{\"specversion\":\"1.0\",\"source\":\"localhost\",\"type\":\"org.eclipse.dataspaceconnector.events.cloudevents.http.TestEvent\",\"datacontenttype\":\"application/json\",\"data\":{\"data\":\"first\"}}," +
+                            "{\"specversion\":\"1.0\",\"source\":\"localhost\",\"type\":\"org.eclipse.dataspaceconnector.events.cloudevents.http.TestEvent\",\"datacontenttype\":\"application/json\",\"data\":{\"data\":\"second\"}}" +
+                            "]"));
+            server.verify(expectedRequest, VerificationTimes.exactly(1));
+        });
+    }
+
+}
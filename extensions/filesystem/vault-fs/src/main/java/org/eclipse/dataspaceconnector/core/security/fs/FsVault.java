@@ -21,75 +21,275 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.Writer;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.util.Base64;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 
 /**
  * Implements a vault backed by a properties file.
+ * <p>
+ * When the vault is persistent, stored and deleted secrets are appended to a journal next to the properties file, so that
+ * a change does not rewrite all secrets. Once the journal holds a number of changes, the secrets are compacted into a new
+ * properties file that atomically replaces the old one, and the journal is truncated. On startup, the journal is replayed
+ * on top of the properties file. Replaying is idempotent, so a crash at any point of the compaction leaves a consistent
+ * vault. Every journal entry carries a checksum, so that an incomplete last entry left by a crash is ignored. An existing
+ * journal is always compacted on startup, so that new entries are never appended to an incomplete one.
+ * <p>
+ * Journal entries and the compacted properties file are forced to the storage device before a change is acknowledged.
  */
-public class FsVault implements Vault {
-    private final AtomicReference<Map<String, String>> secrets;
+public class FsVault implements Vault, AutoCloseable {
+    static final String JOURNAL_SUFFIX = ".journal";
+    static final String COMPACTION_SUFFIX = ".compacting";
+    static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    private static final String STORE = "S";
+    private static final String DELETE = "D";
+
+    private final Map<String, String> secrets = new ConcurrentHashMap<>();
     private final Path vaultFile;
+    private final Path journalFile;
     private final boolean persistent;
+    private final int compactionThreshold;
+    private final Object lock = new Object();
+
+    private FileChannel journal;
+    private int journalEntries;
 
     public FsVault(Path vaultFile, boolean persistent) {
-        this.persistent = persistent;
-        secrets = new AtomicReference<>(new HashMap<>());
+        this(vaultFile, persistent, DEFAULT_COMPACTION_THRESHOLD);
+    }
 
+    /**
+     * Constructor.
+     *
+     * @param vaultFile           the properties file holding the secrets.
+     * @param persistent          whether changes are written to the file system.
+     * @param compactionThreshold the number of journal entries after which the journal is compacted into the properties file.
+     */
+    public FsVault(Path vaultFile, boolean persistent, int compactionThreshold) {
+        if (compactionThreshold < 1) {
+            throw new IllegalArgumentException("The compaction threshold must be at least 1");
+        }
         this.vaultFile = vaultFile;
+        this.journalFile = vaultFile.resolveSibling(vaultFile.getFileName() + JOURNAL_SUFFIX);
+        this.persistent = persistent;
+        this.compactionThreshold = compactionThreshold;
+
         try (InputStream is = Files.newInputStream(vaultFile)) {
             var properties = new Properties();
             properties.load(is);
             for (String name : properties.stringPropertyNames()) {
-                secrets.get().put(name, properties.getProperty(name));
+                secrets.put(name, properties.getProperty(name));
             }
         } catch (IOException e) {
             throw new EdcException(e);
         }
+
+        if (persistent) {
+            try {
+                Files.deleteIfExists(compactionFile());
+                if (Files.exists(journalFile)) {
+                    replayJournal();
+                    compact();
+                }
+            } catch (IOException e) {
+                throw new EdcException(e);
+            }
+        }
     }
 
     @Override
     public @Nullable
     String resolveSecret(String key) {
-        return secrets.get().get(key);
+        return secrets.get(key);
     }
 
     @Override
-    public synchronized Result<Void> storeSecret(String key, String value) {
-        var newSecrets = new HashMap<>(secrets.get());
-        newSecrets.put(key, value);
-        var properties = new Properties();
-        properties.putAll(newSecrets);
-        if (persistent) {
-            try (Writer writer = Files.newBufferedWriter(vaultFile)) {
-                properties.store(writer, null);
-            } catch (IOException e) {
-                return Result.failure(e.getMessage());
+    public Result<Void> storeSecret(String key, String value) {
+        synchronized (lock) {
+            var result = append(STORE + " " + encode(key) + " " + encode(value));
+            if (result.succeeded()) {
+                secrets.put(key, value);
+                compactIfNeeded();
             }
+            return result;
         }
-        secrets.set(newSecrets);
-        return Result.success();
     }
 
     @Override
     public Result<Void> deleteSecret(String key) {
-        var newSecrets = new HashMap<>(secrets.get());
-        newSecrets.remove(key);
-        var properties = new Properties();
-        properties.putAll(newSecrets);
-        if (persistent) {
-            try (Writer writer = Files.newBufferedWriter(vaultFile)) {
-                properties.store(writer, null);
-            } catch (IOException e) {
-                return Result.failure(e.getMessage());
+        synchronized (lock) {
+            var result = append(DELETE + " " + encode(key));
+            if (result.succeeded()) {
+                secrets.remove(key);
+                compactIfNeeded();
+            }
+            return result;
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closeJournal();
+        }
+    }
+
+    private Result<Void> append(String entry) {
+        if (!persistent) {
+            return Result.success();
+        }
+        try {
+            if (journal == null) {
+                openJournal();
+            }
+            var buffer = ByteBuffer.wrap((entry + " " + checksum(entry) + "\n").getBytes(UTF_8));
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
             }
+            journal.force(false);
+        } catch (IOException e) {
+            closeJournal();
+            return Result.failure(e.getMessage());
         }
-        secrets.set(newSecrets);
+        journalEntries++;
         return Result.success();
     }
+
+    private void compactIfNeeded() {
+        if (journalEntries < compactionThreshold) {
+            return;
+        }
+        try {
+            compact();
+        } catch (IOException e) {
+            // the change is in the journal, compaction is retried with the next change
+            closeJournal();
+        }
+    }
+
+    /**
+     * Opens the journal for appending. If a failed write left an incomplete entry at the end, it is terminated, so that it
+     * does not corrupt the next entry.
+     */
+    private void openJournal() throws IOException {
+        var created = !Files.exists(journalFile);
+        journal = FileChannel.open(journalFile, CREATE, READ, WRITE);
+        var size = journal.size();
+        if (size > 0) {
+            var last = ByteBuffer.allocate(1);
+            journal.read(last, size - 1);
+            if (last.get(0) != '\n') {
+                journal.write(ByteBuffer.wrap(new byte[]{ '\n' }), size);
+            }
+        }
+        journal.position(journal.size());
+        if (created) {
+            forceDirectory();
+        }
+    }
+
+    /**
+     * Applies the journal to the secrets loaded from the properties file. Entries that do not match their checksum are skipped.
+     */
+    private void replayJournal() throws IOException {
+        try (var reader = Files.newBufferedReader(journalFile, UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                apply(line);
+            }
+        }
+    }
+
+    private void apply(String line) {
+        // an entry written partially before a crash does not match its checksum
+        var checksumStart = line.lastIndexOf(' ');
+        if (checksumStart < 0 || !line.substring(checksumStart + 1).equals(checksum(line.substring(0, checksumStart)))) {
+            return;
+        }
+        var parts = line.substring(0, checksumStart).split(" ", -1);
+        if (STORE.equals(parts[0]) && parts.length == 3) {
+            secrets.put(decode(parts[1]), decode(parts[2]));
+        } else if (DELETE.equals(parts[0]) && parts.length == 2) {
+            secrets.remove(decode(parts[1]));
+        }
+    }
+
+    /**
+     * Writes all secrets to a new properties file that atomically replaces the current one, then truncates the journal.
+     */
+    private void compact() throws IOException {
+        closeJournal();
+
+        var properties = new Properties();
+        properties.putAll(secrets);
+        var compactionFile = compactionFile();
+        try (var channel = FileChannel.open(compactionFile, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            OutputStream os = Channels.newOutputStream(channel);
+            properties.store(os, null);
+            channel.force(true);
+        }
+        Files.move(compactionFile, vaultFile, ATOMIC_MOVE, REPLACE_EXISTING);
+        // the rename must be durable before the journal is deleted
+        forceDirectory();
+
+        Files.deleteIfExists(journalFile);
+        journalEntries = 0;
+    }
+
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            // the journal is reopened with the next change
+        }
+        journal = null;
+    }
+
+    /**
+     * Forces the directory of the vault file to the storage device, so that created and renamed files survive a crash.
+     */
+    private void forceDirectory() {
+        try (var directory = FileChannel.open(vaultFile.toAbsolutePath().getParent(), READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            // directories cannot be opened or forced on some platforms, e.g. Windows
+        }
+    }
+
+    private Path compactionFile() {
+        return vaultFile.resolveSibling(vaultFile.getFileName() + COMPACTION_SUFFIX);
+    }
+
+    private static String encode(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(UTF_8));
+    }
+
+    private static String checksum(String entry) {
+        var crc = new CRC32();
+        crc.update(entry.getBytes(UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static String decode(String value) {
+        return new String(Base64.getDecoder().decode(value), UTF_8);
+    }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.dataspaceconnector.core.security.fs;
 
 import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.security.CachingVault;
 import org.eclipse.dataspaceconnector.spi.security.CertificateResolver;
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
@@ -33,6 +34,7 @@ import java.security.KeyStore;
 import static org.eclipse.dataspaceconnector.core.security.fs.FsConfiguration.KEYSTORE_LOCATION;
 import static org.eclipse.dataspaceconnector.core.security.fs.FsConfiguration.KEYSTORE_PASSWORD;
 import static org.eclipse.dataspaceconnector.core.security.fs.FsConfiguration.PERSISTENT_VAULT;
+import static org.eclipse.dataspaceconnector.core.security.fs.FsConfiguration.VAULT_COMPACTION_THRESHOLD;
 import static org.eclipse.dataspaceconnector.core.security.fs.FsConfiguration.VAULT_LOCATION;
 
 /**
@@ -42,6 +44,8 @@ import static org.eclipse.dataspaceconnector.core.security.fs.FsConfiguration.VA
 @Provides({ Vault.class, PrivateKeyResolver.class, CertificateResolver.class })
 public class FsVaultExtension implements ServiceExtension {
 
+    private FsVault vault;
+
     @Override
     public String name() {
         return "FS Vault";
@@ -49,8 +53,8 @@ public class FsVaultExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var vault = initializeVault();
-        context.registerService(Vault.class, vault);
+        vault = initializeVault();
+        context.registerService(Vault.class, CachingVault.decorate(vault, context));
 
         KeyStore keyStore = loadKeyStore();
         var privateKeyResolver = new FsPrivateKeyResolver(KEYSTORE_PASSWORD, keyStore);
@@ -60,12 +64,19 @@ public class FsVaultExtension implements ServiceExtension {
         context.registerService(CertificateResolver.class, certificateResolver);
     }
 
-    private Vault initializeVault() {
+    @Override
+    public void shutdown() {
+        if (vault != null) {
+            vault.close();
+        }
+    }
+
+    private FsVault initializeVault() {
         var vaultPath = Paths.get(VAULT_LOCATION);
         if (!Files.exists(vaultPath)) {
             throw new EdcException("Vault file does not exist: " + VAULT_LOCATION);
         }
-        return new FsVault(vaultPath, PERSISTENT_VAULT);
+        return new FsVault(vaultPath, PERSISTENT_VAULT, VAULT_COMPACTION_THRESHOLD);
     }
 
     private KeyStore loadKeyStore() {
@@ -16,11 +16,19 @@ package org.eclipse.dataspaceconnector.core.security.fs;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Properties;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class FsVaultTest {
     private static final String TEST_VAULT = "test-vault.properties";
@@ -33,9 +41,113 @@ class FsVaultTest {
         assertEquals("secretvalue2", vault.resolveSecret("secret2"));
     }
 
+    @Test
+    void verifyChangesAreReplayedFromJournal(@TempDir Path tempDir) throws IOException {
+        var vaultFile = Files.writeString(tempDir.resolve("vault.properties"), "secret1=secretvalue1\n");
+
+        var persistentVault = new FsVault(vaultFile, true, 10);
+        persistentVault.storeSecret("secret2", "secret value\n2");
+        persistentVault.storeSecret("secret3", "");
+        persistentVault.deleteSecret("secret1");
+        persistentVault.close();
+
+        assertTrue(Files.exists(journal(vaultFile)));
+        assertEquals("secret1=secretvalue1\n", Files.readString(vaultFile));
+
+        var reopened = new FsVault(vaultFile, true, 10);
+        assertNull(reopened.resolveSecret("secret1"));
+        assertEquals("secret value\n2", reopened.resolveSecret("secret2"));
+        assertEquals("", reopened.resolveSecret("secret3"));
+        // the replayed journal is compacted on startup
+        assertFalse(Files.exists(journal(vaultFile)));
+        reopened.close();
+    }
+
+    @Test
+    void verifyCompaction(@TempDir Path tempDir) throws IOException {
+        var vaultFile = Files.writeString(tempDir.resolve("vault.properties"), "");
+
+        var persistentVault = new FsVault(vaultFile, true, 3);
+        persistentVault.storeSecret("secret1", "value1");
+        persistentVault.storeSecret("secret2", "value2");
+        persistentVault.storeSecret("secret3", "value3");
+
+        assertFalse(Files.exists(journal(vaultFile)));
+        var properties = new Properties();
+        try (var reader = Files.newBufferedReader(vaultFile)) {
+            properties.load(reader);
+        }
+        assertEquals(3, properties.size());
+        assertEquals("value3", properties.getProperty("secret3"));
+
+        persistentVault.deleteSecret("secret1");
+        persistentVault.close();
+
+        var reopened = new FsVault(vaultFile, true, 3);
+        assertNull(reopened.resolveSecret("secret1"));
+        assertEquals("value2", reopened.resolveSecret("secret2"));
+        reopened.close();
+    }
+
+    @Test
+    void verifyIncompleteJournalEntryIsIgnored(@TempDir Path tempDir) throws IOException {
+        var vaultFile = Files.writeString(tempDir.resolve("vault.properties"), "");
+        var persistentVault = new FsVault(vaultFile, true, 10);
+        persistentVault.storeSecret("secret1", "value1");
+        persistentVault.storeSecret("secret2", "value2");
+        persistentVault.close();
+
+        // simulate a crash while the last entry was written
+        var journal = Files.readString(journal(vaultFile));
+        Files.writeString(journal(vaultFile), journal.substring(0, journal.length() - 4));
+
+        var reopened = new FsVault(vaultFile, true, 10);
+        assertEquals("value1", reopened.resolveSecret("secret1"));
+        assertNull(reopened.resolveSecret("secret2"));
+        reopened.close();
+    }
+
+    @Test
+    void verifyChangesAfterIncompleteJournalEntrySurviveRestarts(@TempDir Path tempDir) throws IOException {
+        var vaultFile = Files.writeString(tempDir.resolve("vault.properties"), "");
+        // simulate a crash while the only entry was written
+        Files.writeString(journal(vaultFile), "S c2VjcmV0MQ==");
+
+        var reopened = new FsVault(vaultFile, true, 10);
+        assertNull(reopened.resolveSecret("secret1"));
+        reopened.storeSecret("secret2", "value2");
+        reopened.close();
+
+        var reopenedAgain = new FsVault(vaultFile, true, 10);
+        assertEquals("value2", reopenedAgain.resolveSecret("secret2"));
+        reopenedAgain.storeSecret("secret3", "value3");
+        reopenedAgain.close();
+
+        var last = new FsVault(vaultFile, true, 10);
+        assertEquals("value2", last.resolveSecret("secret2"));
+        assertEquals("value3", last.resolveSecret("secret3"));
+        last.close();
+    }
+
+    @Test
+    void verifyNonPersistentVaultDoesNotWrite(@TempDir Path tempDir) throws IOException {
+        var vaultFile = Files.writeString(tempDir.resolve("vault.properties"), "secret1=secretvalue1\n");
+
+        var inMemoryVault = new FsVault(vaultFile, false, 1);
+        inMemoryVault.storeSecret("secret2", "value2");
+
+        assertEquals("value2", inMemoryVault.resolveSecret("secret2"));
+        assertFalse(Files.exists(journal(vaultFile)));
+        assertEquals("secret1=secretvalue1\n", Files.readString(vaultFile));
+    }
+
     @BeforeEach
     void setUp() throws URISyntaxException {
         var uri = getClass().getClassLoader().getResource(TEST_VAULT).toURI();
         vault = new FsVault(Paths.get(uri), false);
     }
+
+    private Path journal(Path vaultFile) {
+        return vaultFile.resolveSibling(vaultFile.getFileName() + FsVault.JOURNAL_SUFFIX);
+    }
 }
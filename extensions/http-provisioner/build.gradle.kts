@@ -22,6 +22,7 @@ val failsafeVersion: String by project
 val rsApi: String by project
 val restAssured: String by project
 val jerseyVersion: String by project
+val httpMockServer: String by project
 
 
 dependencies {
@@ -40,6 +41,7 @@ dependencies {
     testImplementation(project(":extensions:http"))
     testImplementation(project(":extensions:junit"))
     testImplementation("io.rest-assured:rest-assured:${restAssured}")
+    testImplementation("org.mock-server:mockserver-netty:${httpMockServer}:shaded")
     testRuntimeOnly("org.glassfish.jersey.ext:jersey-bean-validation:${jerseyVersion}") //for validation
 }
 
@@ -34,6 +34,8 @@ import static java.util.stream.Collectors.toList;
 public class ConfigParser {
     private static final String DEFAULT_POLICY_SCOPE = "http.provisioner";
 
+    private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 10;
+
     private static final String CONFIG_PREFIX = "provisioner.http";
 
     private static final String HTTP_PROVISIONER_ENTRIES = CONFIG_PREFIX + ".entries";
@@ -50,6 +52,9 @@ public class ConfigParser {
     @EdcSetting
     private static final String POLICY_SCOPE = "policy.scope";
 
+    @EdcSetting
+    private static final String MAX_CONCURRENT_REQUESTS = "max.concurrent.requests";
+
     private ConfigParser() {
     }
 
@@ -72,12 +77,15 @@ public class ConfigParser {
 
                     var dataAddressType = config.getString(DATA_ADDRESS_TYPE);
 
+                    var maxConcurrentRequests = config.getInteger(MAX_CONCURRENT_REQUESTS, DEFAULT_MAX_CONCURRENT_REQUESTS);
+
                     return ProvisionerConfiguration.Builder.newInstance()
                             .name(provisionerName)
                             .provisionerType(provisionerType)
                             .dataAddressType(dataAddressType)
                             .policyScope(policyScope)
                             .endpoint(endpoint)
+                            .maxConcurrentRequests(maxConcurrentRequests)
                             .build();
                 }).collect(toList());
     }
@@ -30,6 +30,7 @@ public class ProvisionerConfiguration {
     private String dataAddressType;
     private String policyScope;
     private URL endpoint;
+    private int maxConcurrentRequests = 10;
 
     private ProvisionerConfiguration() {
     }
@@ -54,6 +55,13 @@ public class ProvisionerConfiguration {
         return endpoint;
     }
 
+    /**
+     * Returns the maximum number of requests that are sent to the endpoint concurrently.
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
     public enum ProvisionerType {
         CLIENT,
         PROVIDER
@@ -97,10 +105,18 @@ public class ProvisionerConfiguration {
             return this;
         }
 
+        public Builder maxConcurrentRequests(int maxConcurrentRequests) {
+            configuration.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
         public ProvisionerConfiguration build() {
             requireNonNull(configuration.name, "name");
             requireNonNull(configuration.provisionerType, "type");
             requireNonNull(configuration.policyScope, "policyScope");
+            if (configuration.maxConcurrentRequests < 1) {
+                throw new IllegalArgumentException("maxConcurrentRequests must be greater than 0");
+            }
             return configuration;
         }
 
@@ -16,10 +16,14 @@ package org.eclipse.dataspaceconnector.transfer.provision.http.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
+import okhttp3.Response;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.policy.PolicyEngine;
@@ -35,6 +39,7 @@ import org.eclipse.dataspaceconnector.transfer.provision.http.config.Provisioner
 import java.io.IOException;
 import java.net.URL;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.eclipse.dataspaceconnector.transfer.provision.http.impl.HttpProvisionerRequest.Type.DEPROVISION;
@@ -43,6 +48,10 @@ import static org.eclipse.dataspaceconnector.transfer.provision.http.impl.HttpPr
 /**
  * Invokes an HTTP endpoint to provision asset data. The endpoint will asynchronously return a content data address to a
  * callback supplied with the address that can be used to resolve the provisioned data.
+ * <p>
+ * Requests are sent asynchronously. Each provisioner uses its own {@link Dispatcher}, so that at most
+ * {@link ProvisionerConfiguration#getMaxConcurrentRequests()} requests are in flight to its endpoint; further requests are
+ * queued by the dispatcher without blocking the caller.
  */
 public class HttpProviderProvisioner implements Provisioner<HttpProviderResourceDefinition, HttpProvisionedContentResource> {
     private static final MediaType JSON = MediaType.get("application/json");
@@ -70,7 +79,10 @@ public class HttpProviderProvisioner implements Provisioner<HttpProviderResource
         endpoint = configuration.getEndpoint();
         this.callbackAddress = callbackAddress;
         this.policyEngine = policyEngine;
-        this.httpClient = httpClient;
+        var dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(configuration.getMaxConcurrentRequests());
+        dispatcher.setMaxRequestsPerHost(configuration.getMaxConcurrentRequests());
+        this.httpClient = httpClient.newBuilder().dispatcher(dispatcher).build();
         mapper = objectMapper;
         this.monitor = monitor;
     }
@@ -98,20 +110,17 @@ public class HttpProviderProvisioner implements Provisioner<HttpProviderResource
             return completedFuture(StatusResult.failure(ResponseStatus.FATAL_ERROR, "HttpProviderProvisioner: fatal error serializing request: " + e.getMessage()));
         }
 
-        try (var response = httpClient.newCall(request).execute()) {
+        return send(request, response -> {
             if (response.isSuccessful()) {
-                return completedFuture(StatusResult.success(new ProvisionResponse()));   // in-process
+                return StatusResult.success(new ProvisionResponse());   // in-process
             } else if (response.code() >= 500 && response.code() <= 504) {
                 // retry
-                return completedFuture(StatusResult.failure(ResponseStatus.ERROR_RETRY, "HttpProviderProvisioner: received error code: " + response.code()));
+                return StatusResult.failure(ResponseStatus.ERROR_RETRY, "HttpProviderProvisioner: received error code: " + response.code());
             } else {
                 // fatal error
-                return completedFuture(StatusResult.failure(ResponseStatus.FATAL_ERROR, "HttpProviderProvisioner: received fatal error code: " + response.code()));
+                return StatusResult.failure(ResponseStatus.FATAL_ERROR, "HttpProviderProvisioner: received fatal error code: " + response.code());
             }
-        } catch (IOException e) {
-            monitor.severe("Error invoking provisioner: " + name, e);
-            return completedFuture(StatusResult.failure(ResponseStatus.ERROR_RETRY, "HttpProviderProvisioner: received error: " + e.getMessage()));
-        }
+        }, e -> StatusResult.failure(ResponseStatus.ERROR_RETRY, "HttpProviderProvisioner: received error: " + e.getMessage()));
     }
 
     @Override
@@ -127,25 +136,45 @@ public class HttpProviderProvisioner implements Provisioner<HttpProviderResource
             return completedFuture(StatusResult.failure(ResponseStatus.FATAL_ERROR, "Fatal error serializing request: " + e.getMessage()));
         }
 
-        try (var response = httpClient.newCall(request).execute()) {
+        return send(request, response -> {
             if (response.code() == 200) {
                 var deprovisionedResource = DeprovisionedResource.Builder.newInstance()
                         .provisionedResourceId(provisionedResource.getTransferProcessId())
                         .inProcess(true)
                         .build();
-                return completedFuture(StatusResult.success(deprovisionedResource));
+                return StatusResult.success(deprovisionedResource);
             } else if (response.code() >= 500 && response.code() <= 504) {
                 // retry
-                return completedFuture(StatusResult.failure(ResponseStatus.ERROR_RETRY, "Received error code: " + response.code()));
+                return StatusResult.failure(ResponseStatus.ERROR_RETRY, "Received error code: " + response.code());
             } else {
                 // fatal error
-                return completedFuture(StatusResult.failure(ResponseStatus.FATAL_ERROR, "Received fatal error code: " + response.code()));
+                return StatusResult.failure(ResponseStatus.FATAL_ERROR, "Received fatal error code: " + response.code());
             }
-        } catch (IOException e) {
-            monitor.severe("Error invoking provisioner: " + name, e);
-            return completedFuture(StatusResult.failure(ResponseStatus.ERROR_RETRY, "Received error: " + e.getMessage()));
-        }
+        }, e -> StatusResult.failure(ResponseStatus.ERROR_RETRY, "Received error: " + e.getMessage()));
+    }
 
+    /**
+     * Enqueues the request and completes the returned future from the OkHttp callback.
+     */
+    private <T> CompletableFuture<StatusResult<T>> send(Request request, Function<Response, StatusResult<T>> onResponse, Function<IOException, StatusResult<T>> onFailure) {
+        var future = new CompletableFuture<StatusResult<T>>();
+        httpClient.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    future.complete(onResponse.apply(response));
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Call call, IOException e) {
+                monitor.severe("Error invoking provisioner: " + name, e);
+                future.complete(onFailure.apply(e));
+            }
+        });
+        return future;
     }
 
     private Request createRequest(HttpProvisionerRequest.Type type, String resourceDefinitionId, String processId, String assetId, Policy scopedPolicy) throws JsonProcessingException {
@@ -36,6 +36,7 @@ class ConfigParserTest {
         assertThat(configuration.getPolicyScope()).isEqualTo("provision1.scope");
         assertThat(configuration.getEndpoint().toString()).isEqualTo("http://foo.com");
         assertThat(configuration.getDataAddressType()).isEqualTo(TEST_DATA_TYPE);
+        assertThat(configuration.getMaxConcurrentRequests()).isEqualTo(10);
     }
 
 
@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.transfer.provision.http.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.policy.PolicyEngine;
@@ -26,17 +27,30 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ResourceDefiniti
 import org.eclipse.dataspaceconnector.transfer.provision.http.config.ProvisionerConfiguration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.junit.testfixtures.TestUtils.getFreePort;
 import static org.eclipse.dataspaceconnector.junit.testfixtures.TestUtils.testOkHttpClient;
 import static org.eclipse.dataspaceconnector.transfer.provision.http.HttpProvisionerFixtures.createResponse;
 import static org.eclipse.dataspaceconnector.transfer.provision.http.config.ProvisionerConfiguration.ProvisionerType.PROVIDER;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.stop.Stop.stopQuietly;
+import static org.mockserver.verify.VerificationTimes.exactly;
 
 class HttpProviderProvisionerTest {
     private HttpProviderProvisioner provisioner;
@@ -161,6 +175,58 @@ class HttpProviderProvisionerTest {
     }
 
 
+    @Test
+    void verifyProvisionAgainstServer() throws Exception {
+        var port = getFreePort();
+        ClientAndServer server = startClientAndServer(port);
+        try {
+            server.when(HttpRequest.request().withMethod("POST").withPath("/provision"))
+                    .respond(HttpResponse.response().withStatusCode(200));
+
+            var provisioner = createProvisioner(new URL("http://localhost:" + port + "/provision"), 1, testOkHttpClient());
+
+            var results = IntStream.range(0, 3)
+                    .mapToObj(i -> provisioner.provision(createResourceDefinition(), Policy.Builder.newInstance().build()))
+                    .collect(toList());
+
+            assertThat(CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))).succeedsWithin(10, SECONDS);
+            assertThat(results).allSatisfy(result -> assertThat(result.join().succeeded()).isTrue());
+            server.verify(HttpRequest.request().withPath("/provision"), exactly(3));
+        } finally {
+            stopQuietly(server);
+        }
+    }
+
+    @Test
+    void verifyConcurrentRequestsAreBounded() throws Exception {
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        var started = new CountDownLatch(2);
+        var release = new CountDownLatch(1);
+        when(delegate.intercept(any())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            started.countDown();
+            release.await(10, SECONDS);
+            inFlight.decrementAndGet();
+            return createResponse(200, invocation);
+        });
+        var provisioner = createProvisioner(new URL("http://bar.com"), 2, testOkHttpClient().newBuilder().addInterceptor(delegate).build());
+
+        var results = IntStream.range(0, 5)
+                .mapToObj(i -> provisioner.provision(createResourceDefinition(), Policy.Builder.newInstance().build()))
+                .collect(toList());
+
+        assertThat(started.await(10, SECONDS)).isTrue();
+        Thread.sleep(200);
+        assertThat(inFlight.get()).isEqualTo(2);
+        assertThat(results).noneMatch(CompletableFuture::isDone);
+
+        release.countDown();
+
+        assertThat(CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))).succeedsWithin(10, SECONDS);
+        assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+
     @BeforeEach
     void setUp() throws MalformedURLException {
         var configuration = ProvisionerConfiguration.Builder.newInstance()
@@ -176,6 +242,18 @@ class HttpProviderProvisionerTest {
         provisioner = new HttpProviderProvisioner(configuration, new URL("http://foo.com"), mock(PolicyEngine.class), httpClient, new ObjectMapper(), mock(Monitor.class));
     }
 
+    private HttpProviderProvisioner createProvisioner(URL endpoint, int maxConcurrentRequests, OkHttpClient httpClient) throws MalformedURLException {
+        var configuration = ProvisionerConfiguration.Builder.newInstance()
+                .name("test")
+                .provisionerType(PROVIDER)
+                .dataAddressType("test")
+                .policyScope("test")
+                .endpoint(endpoint)
+                .maxConcurrentRequests(maxConcurrentRequests)
+                .build();
+        return new HttpProviderProvisioner(configuration, new URL("http://foo.com"), mock(PolicyEngine.class), httpClient, new ObjectMapper(), mock(Monitor.class));
+    }
+
     private HttpProviderResourceDefinition createResourceDefinition() {
         return HttpProviderResourceDefinition.Builder.newInstance()
                 .assetId("1")
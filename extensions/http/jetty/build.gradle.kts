@@ -23,6 +23,8 @@ val okHttpVersion: String by project
 
 dependencies {
     implementation("org.eclipse.jetty.websocket:websocket-jakarta-server:${jettyVersion}")
+    implementation("org.eclipse.jetty.http2:http2-server:${jettyVersion}")
+    implementation("org.eclipse.jetty:jetty-alpn-java-server:${jettyVersion}")
 
     api(project(":spi:core-spi"))
     api(project(":spi:web-spi"))
@@ -36,6 +38,7 @@ dependencies {
     testImplementation("org.glassfish.jersey.inject:jersey-hk2:${jerseyVersion}")
     testImplementation("org.glassfish.jersey.containers:jersey-container-servlet:${jerseyVersion}")
     testImplementation(project(":extensions:junit"))
+    testImplementation(testFixtures(project(":common:util")))
 }
 
 publishing {
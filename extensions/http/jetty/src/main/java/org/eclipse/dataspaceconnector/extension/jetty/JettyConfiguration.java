@@ -30,11 +30,26 @@ public class JettyConfiguration {
     public static final String DEFAULT_PATH = "/api";
     public static final String DEFAULT_CONTEXT_NAME = "default";
     public static final int DEFAULT_PORT = 8181;
+    public static final int DEFAULT_MIN_THREADS = 8;
+    public static final int DEFAULT_MAX_THREADS = 200;
+    public static final int DEFAULT_THREAD_IDLE_TIMEOUT = 60_000;
     @EdcSetting
     private static final String HTTP_PORT = "web.http.port";
+    @EdcSetting
+    private static final String MIN_THREADS = "edc.web.http.threads.min";
+    @EdcSetting
+    private static final String MAX_THREADS = "edc.web.http.threads.max";
+    @EdcSetting
+    private static final String THREAD_IDLE_TIMEOUT = "edc.web.http.threads.idle-timeout";
+    @EdcSetting
+    private static final String VIRTUAL_THREADS = "edc.web.http.threads.virtual";
     private final String keystorePassword;
     private final String keymanagerPassword;
     private final Set<PortMapping> portMappings;
+    private int minThreads = DEFAULT_MIN_THREADS;
+    private int maxThreads = DEFAULT_MAX_THREADS;
+    private int threadIdleTimeout = DEFAULT_THREAD_IDLE_TIMEOUT;
+    private boolean virtualThreads;
 
     public JettyConfiguration(String keystorePassword, String keymanagerPassword) {
         this.keystorePassword = keystorePassword;
@@ -53,11 +68,14 @@ public class JettyConfiguration {
                 .forEach(e -> split(tempMappings, e));
 
         var portMappings = tempMappings.entrySet().stream()
-                .map(e -> new PortMapping(e.getKey(), Integer.parseInt(e.getValue().getOrDefault("port", "" + DEFAULT_PORT)), e.getValue().getOrDefault("path", DEFAULT_PATH)))
+                .map(e -> new PortMapping(e.getKey(), Integer.parseInt(e.getValue().getOrDefault("port", "" + DEFAULT_PORT)), e.getValue().getOrDefault("path", DEFAULT_PATH),
+                        Boolean.parseBoolean(e.getValue().getOrDefault("http2", "false")), Boolean.parseBoolean(e.getValue().getOrDefault("gzip", "false"))))
                 .collect(Collectors.toSet());
 
         jettyConfig.portMappings.addAll(portMappings);
 
+        jettyConfig.threadPool(config.getInteger(MIN_THREADS, DEFAULT_MIN_THREADS), config.getInteger(MAX_THREADS, DEFAULT_MAX_THREADS), config.getInteger(THREAD_IDLE_TIMEOUT, DEFAULT_THREAD_IDLE_TIMEOUT));
+        jettyConfig.virtualThreads(config.getBoolean(VIRTUAL_THREADS, false));
 
         if (jettyConfig.getPortMappings().isEmpty()) {
             jettyConfig.portMapping(PortMapping.getDefault());
@@ -75,7 +93,7 @@ public class JettyConfiguration {
         var key = entry.getKey();
         var value = entry.getValue();
 
-        // only <alias>.[port|path] is accepted
+        // only <alias>.[port|path|http2|gzip] is accepted
         if (key.split("\\.").length != 2) {
             return;
         }
@@ -106,6 +124,45 @@ public class JettyConfiguration {
         portMappings.add(mapping);
     }
 
+    /**
+     * Sizes the thread pool that serves the requests of all port mappings.
+     *
+     * @param minThreads  the number of threads that are kept even when idle.
+     * @param maxThreads  the maximum number of threads.
+     * @param idleTimeout the time in milliseconds after which idle threads above the minimum are released.
+     */
+    public void threadPool(int minThreads, int maxThreads, int idleTimeout) {
+        if (minThreads < 1 || maxThreads < minThreads) {
+            throw new IllegalArgumentException(String.format("Invalid thread pool size, min: %s, max: %s", minThreads, maxThreads));
+        }
+        this.minThreads = minThreads;
+        this.maxThreads = maxThreads;
+        this.threadIdleTimeout = idleTimeout;
+    }
+
+    /**
+     * Serves requests on virtual threads instead of the bounded thread pool, if the JVM supports them.
+     */
+    public void virtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public int getMinThreads() {
+        return minThreads;
+    }
+
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    public int getThreadIdleTimeout() {
+        return threadIdleTimeout;
+    }
+
+    public boolean useVirtualThreads() {
+        return virtualThreads;
+    }
+
     public String getKeystorePassword() {
         return keystorePassword;
     }
@@ -19,7 +19,11 @@ import jakarta.servlet.Servlet;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.WebServer;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
 import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.http2.HTTP2Cipher;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.SecureRequestCustomizer;
@@ -27,10 +31,13 @@ import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.SslConnectionFactory;
 import org.eclipse.jetty.server.handler.ContextHandlerCollection;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.eclipse.jetty.servlet.Source;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
 import org.jetbrains.annotations.NotNull;
 
 import java.security.KeyStore;
@@ -73,7 +80,7 @@ public class JettyService implements WebServer {
 
     public void start() {
         try {
-            server = new Server();
+            server = new Server(createThreadPool());
             //create a connector for every port mapping
             configuration.getPortMappings().forEach(mapping -> {
 
@@ -82,10 +89,10 @@ public class JettyService implements WebServer {
                     throw new IllegalArgumentException("A binding for port " + mapping.getPort() + " already exists");
                 }
                 if (keyStore != null) {
-                    connector = httpsServerConnector(mapping.getPort());
+                    connector = httpsServerConnector(mapping);
                     monitor.info("HTTPS context '" + mapping.getName() + "' listening on port " + mapping.getPort());
                 } else {
-                    connector = httpServerConnector(mapping.getPort());
+                    connector = httpServerConnector(mapping);
                     monitor.info("HTTP context '" + mapping.getName() + "' listening on port " + mapping.getPort());
                 }
                 connector.setName(mapping.getName());
@@ -155,11 +162,28 @@ public class JettyService implements WebServer {
     private ServletContextHandler createHandler(PortMapping mapping) {
         var handler = new ServletContextHandler(null, mapping.getPath(), NO_SESSIONS);
         handler.setVirtualHosts(new String[]{ "@" + mapping.getName() });
+        if (mapping.isGzip()) {
+            handler.insertHandler(new GzipHandler());
+        }
         return handler;
     }
 
     @NotNull
-    private ServerConnector httpsServerConnector(int port) {
+    private ThreadPool createThreadPool() {
+        if (configuration.useVirtualThreads()) {
+            var virtualThreadPool = VirtualThreadPool.create();
+            if (virtualThreadPool.isPresent()) {
+                monitor.info("Jetty serves requests on virtual threads");
+                return virtualThreadPool.get();
+            }
+            monitor.warning("Virtual threads are not supported by this JVM, Jetty falls back to a bounded thread pool");
+        }
+        return new QueuedThreadPool(configuration.getMaxThreads(), configuration.getMinThreads(), configuration.getThreadIdleTimeout());
+    }
+
+    @NotNull
+    private ServerConnector httpsServerConnector(PortMapping mapping) {
+        var port = mapping.getPort();
         var storePassword = configuration.getKeystorePassword();
         var managerPassword = configuration.getKeymanagerPassword();
 
@@ -176,17 +200,34 @@ public class JettyService implements WebServer {
         httpsConfiguration.addCustomizer(new SecureRequestCustomizer());
 
         var httpConnectionFactory = new HttpConnectionFactory(httpsConfiguration);
-        var sslConnectionFactory = new SslConnectionFactory(contextFactory, HttpVersion.HTTP_1_1.asString());
-        var sslConnector = new ServerConnector(server, sslConnectionFactory, httpConnectionFactory);
+        ServerConnector sslConnector;
+        if (mapping.isHttp2()) {
+            // negotiate h2 via ALPN, clients that do not support it keep using HTTP/1.1
+            contextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+            var alpnConnectionFactory = new ALPNServerConnectionFactory();
+            alpnConnectionFactory.setDefaultProtocol(httpConnectionFactory.getProtocol());
+            var sslConnectionFactory = new SslConnectionFactory(contextFactory, alpnConnectionFactory.getProtocol());
+            sslConnector = new ServerConnector(server, sslConnectionFactory, alpnConnectionFactory, new HTTP2ServerConnectionFactory(httpsConfiguration), httpConnectionFactory);
+        } else {
+            var sslConnectionFactory = new SslConnectionFactory(contextFactory, HttpVersion.HTTP_1_1.asString());
+            sslConnector = new ServerConnector(server, sslConnectionFactory, httpConnectionFactory);
+        }
         sslConnector.setPort(port);
         configure(sslConnector);
         return sslConnector;
     }
 
     @NotNull
-    private ServerConnector httpServerConnector(int port) {
-        ServerConnector connector = new ServerConnector(server, httpConnectionFactory());
-        connector.setPort(port);
+    private ServerConnector httpServerConnector(PortMapping mapping) {
+        ServerConnector connector;
+        if (mapping.isHttp2()) {
+            // h2c with prior knowledge or via upgrade from HTTP/1.1 on the same port
+            var httpConfiguration = new HttpConfiguration();
+            connector = new ServerConnector(server, new HttpConnectionFactory(httpConfiguration), new HTTP2CServerConnectionFactory(httpConfiguration));
+        } else {
+            connector = new ServerConnector(server, httpConnectionFactory());
+        }
+        connector.setPort(mapping.getPort());
         configure(connector);
         return connector;
     }
@@ -15,7 +15,8 @@
 package org.eclipse.dataspaceconnector.extension.jetty;
 
 /**
- * POJO that contains portmappings for Jetty, consisting of a context alias, a port and a path.
+ * POJO that contains portmappings for Jetty, consisting of a context alias, a port and a path. Optionally, the context
+ * can accept HTTP/2 connections and compress its responses.
  *
  * @see JettyConfiguration
  * @see JettyService
@@ -24,6 +25,8 @@ public class PortMapping {
     private final String alias;
     private final int port;
     private final String path;
+    private final boolean http2;
+    private final boolean gzip;
 
     public static PortMapping getDefault() {
         return getDefault(JettyConfiguration.DEFAULT_PORT);
@@ -34,9 +37,24 @@ public class PortMapping {
     }
 
     public PortMapping(String name, int port, String path) {
+        this(name, port, path, false, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name  the context alias.
+     * @param port  the port.
+     * @param path  the path.
+     * @param http2 whether HTTP/2 is offered next to HTTP/1.1, i.e. h2c on plain connectors and h2 via ALPN on TLS connectors.
+     * @param gzip  whether responses are gzip-compressed for clients that accept it.
+     */
+    public PortMapping(String name, int port, String path, boolean http2, boolean gzip) {
         alias = name;
         this.port = port;
         this.path = path;
+        this.http2 = http2;
+        this.gzip = gzip;
     }
 
     public String getName() {
@@ -51,12 +69,22 @@ public class PortMapping {
         return path;
     }
 
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
     @Override
     public String toString() {
         return "{" +
                 "alias='" + alias + '\'' +
                 ", port=" + port +
                 ", path='" + path + '\'' +
+                ", http2=" + http2 +
+                ", gzip=" + gzip +
                 '}';
     }
 }
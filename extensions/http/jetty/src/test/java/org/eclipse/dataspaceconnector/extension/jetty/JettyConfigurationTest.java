@@ -132,4 +132,59 @@ class JettyConfigurationTest {
         assertThat(result.getPortMappings()).hasSize(2).allMatch(pm -> pm.getPort() == 8888);
 
     }
+
+    @Test
+    void createFromConfig_http2AndGzip() {
+        var res = JettyConfiguration.createFromConfig(null, null, ConfigFactory.fromMap(Map.of(
+                "web.http.port", "1234",
+                "web.http.gzip", "true",
+                "web.http.another.port", "8888",
+                "web.http.another.http2", "true"
+        )));
+
+        assertThat(res.getPortMappings()).hasSize(2).anySatisfy(pm -> {
+            assertThat(pm.getName()).isEqualTo("default");
+            assertThat(pm.isGzip()).isTrue();
+            assertThat(pm.isHttp2()).isFalse();
+        }).anySatisfy(pm -> {
+            assertThat(pm.getName()).isEqualTo("another");
+            assertThat(pm.isGzip()).isFalse();
+            assertThat(pm.isHttp2()).isTrue();
+        });
+    }
+
+    @Test
+    void createFromConfig_threadPool() {
+        var res = JettyConfiguration.createFromConfig(null, null, ConfigFactory.fromMap(Map.of(
+                "edc.web.http.threads.min", "4",
+                "edc.web.http.threads.max", "50",
+                "edc.web.http.threads.idle-timeout", "1000",
+                "edc.web.http.threads.virtual", "true"
+        )));
+
+        assertThat(res.getMinThreads()).isEqualTo(4);
+        assertThat(res.getMaxThreads()).isEqualTo(50);
+        assertThat(res.getThreadIdleTimeout()).isEqualTo(1000);
+        assertThat(res.useVirtualThreads()).isTrue();
+        // thread pool settings are not mistaken for a port mapping
+        assertThat(res.getPortMappings()).hasSize(1).allSatisfy(pm -> assertThat(pm.getName()).isEqualTo("default"));
+    }
+
+    @Test
+    void createFromConfig_threadPoolDefaults() {
+        var res = JettyConfiguration.createFromConfig(null, null, ConfigFactory.fromMap(Map.of()));
+
+        assertThat(res.getMinThreads()).isEqualTo(JettyConfiguration.DEFAULT_MIN_THREADS);
+        assertThat(res.getMaxThreads()).isEqualTo(JettyConfiguration.DEFAULT_MAX_THREADS);
+        assertThat(res.getThreadIdleTimeout()).isEqualTo(JettyConfiguration.DEFAULT_THREAD_IDLE_TIMEOUT);
+        assertThat(res.useVirtualThreads()).isFalse();
+    }
+
+    @Test
+    void createFromConfig_invalidThreadPool() {
+        assertThatThrownBy(() -> JettyConfiguration.createFromConfig(null, null, ConfigFactory.fromMap(Map.of(
+                "edc.web.http.threads.min", "10",
+                "edc.web.http.threads.max", "5"
+        )))).isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.extension.jetty;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import org.eclipse.dataspaceconnector.common.util.junit.annotations.IntegrationTest;
+import org.eclipse.dataspaceconnector.common.util.junit.annotations.PerformanceTest;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.configuration.ConfigFactory;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.servlet.ServletContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.junit.testfixtures.TestUtils.getFreePort;
+import static org.eclipse.dataspaceconnector.junit.testfixtures.TestUtils.testOkHttpClient;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Local load test that compares the request latency of a Jetty context with the default settings against a context that
+ * uses HTTP/2, response compression and a larger thread pool. Run it with {@code -DincludeTags="PerformanceTest"}.
+ */
+@IntegrationTest
+@PerformanceTest
+class JettyServiceLoadTest {
+    private static final int CONCURRENCY = 32;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int REQUESTS = 5000;
+
+    private JettyService jettyService;
+
+    @Test
+    void compareLatency(TestReporter reporter) throws Exception {
+        var baseline = run(Map.of(), testOkHttpClient());
+
+        var tuned = run(Map.of(
+                "web.http.http2", "true",
+                "web.http.gzip", "true",
+                "edc.web.http.threads.min", "" + CONCURRENCY,
+                "edc.web.http.threads.max", "400"
+        ), testOkHttpClient().newBuilder().protocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE)).build());
+
+        reporter.publishEntry(Map.of(
+                "default settings", baseline.toString(),
+                "HTTP/2, gzip and tuned thread pool", tuned.toString()));
+        assertThat(tuned.sorted).hasSize(REQUESTS).hasSameSizeAs(baseline.sorted);
+    }
+
+    @AfterEach
+    void teardown() {
+        if (jettyService != null) {
+            jettyService.shutdown();
+        }
+    }
+
+    private Latencies run(Map<String, String> settings, OkHttpClient client) throws Exception {
+        var port = getFreePort();
+        var config = new HashMap<>(settings);
+        config.put("web.http.port", "" + port);
+        jettyService = new JettyService(JettyConfiguration.createFromConfig(null, null, ConfigFactory.fromMap(config)), mock(Monitor.class));
+        jettyService.start();
+        jettyService.registerServlet("default", new ServletContainer(new ResourceConfig().registerClasses(PayloadController.class)));
+
+        var request = new Request.Builder().url(format("http://localhost:%s/api/payload", port)).build();
+        execute(client, request, WARMUP_REQUESTS);
+        var latencies = execute(client, request, REQUESTS);
+
+        jettyService.shutdown();
+        jettyService = null;
+        client.connectionPool().evictAll();
+        return new Latencies(latencies);
+    }
+
+    private List<Long> execute(OkHttpClient client, Request request, int count) throws Exception {
+        var executor = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            var tasks = IntStream.range(0, count)
+                    .mapToObj(i -> (Callable<Long>) () -> timed(client, request))
+                    .collect(Collectors.toList());
+            var latencies = new ArrayList<Long>();
+            for (var future : executor.invokeAll(tasks)) {
+                latencies.add(future.get());
+            }
+            return latencies;
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private long timed(OkHttpClient client, Request request) throws IOException {
+        var start = System.nanoTime();
+        try (var response = client.newCall(request).execute()) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.body()).isNotNull();
+            response.body().bytes();
+        }
+        return System.nanoTime() - start;
+    }
+
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("/payload")
+    public static class PayloadController { //needs to be public, otherwise it won't get picked up
+        private static final String PAYLOAD = IntStream.range(0, 200)
+                .mapToObj(i -> format("{\"id\":\"asset-%s\",\"contentType\":\"application/json\"}", i))
+                .collect(Collectors.joining(",", "[", "]"));
+
+        @GET
+        public String payload() {
+            return PAYLOAD;
+        }
+    }
+
+    private static class Latencies {
+        private final List<Long> sorted;
+
+        Latencies(List<Long> latencies) {
+            sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+        }
+
+        private double percentile(double percentile) {
+            var index = (int) Math.ceil(percentile / 100 * sorted.size()) - 1;
+            return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return format("p50=%.2fms, p95=%.2fms, p99=%.2fms", percentile(50), percentile(95), percentile(99));
+        }
+    }
+}
@@ -18,6 +18,8 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
 import org.eclipse.dataspaceconnector.spi.EdcException;
@@ -36,6 +38,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.net.ConnectException;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -157,6 +160,62 @@ class JettyServiceTest {
                 .hasRootCauseMessage("A binding for port 7171 already exists");
     }
 
+    @Test
+    void verifyGzipCompression() {
+        var config = ConfigFactory.fromMap(Map.of(
+                "web.http.port", "7171",
+                "web.http.gzip", "true",
+                "web.http.another.port", "9191",
+                "web.http.another.path", "/another"));
+        jettyService = new JettyService(JettyConfiguration.createFromConfig(null, null, config), monitor);
+
+        jettyService.start();
+
+        jettyService.registerServlet("default", new ServletContainer(createTestResource()));
+        jettyService.registerServlet("another", new ServletContainer(createTestResource()));
+
+        var compressed = executeRequest(new Request.Builder().url("http://localhost:7171/api/test/large").header("Accept-Encoding", "gzip").build(), testOkHttpClient());
+        assertThat(compressed.code()).isEqualTo(200);
+        assertThat(compressed.header("Content-Encoding")).isEqualTo("gzip");
+        var uncompressed = executeRequest(new Request.Builder().url("http://localhost:9191/another/test/large").header("Accept-Encoding", "gzip").build(), testOkHttpClient());
+        assertThat(uncompressed.code()).isEqualTo(200);
+        assertThat(uncompressed.header("Content-Encoding")).isNull();
+    }
+
+    @Test
+    void verifyHttp2CleartextConnector() {
+        var config = ConfigFactory.fromMap(Map.of(
+                "web.http.port", "7171",
+                "web.http.http2", "true"));
+        jettyService = new JettyService(JettyConfiguration.createFromConfig(null, null, config), monitor);
+
+        jettyService.start();
+
+        jettyService.registerServlet("default", new ServletContainer(createTestResource()));
+
+        var http2Client = testOkHttpClient().newBuilder().protocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE)).build();
+        var response = executeRequest(new Request.Builder().url("http://localhost:7171/api/test/resource").build(), http2Client);
+        assertThat(response.code()).isEqualTo(200);
+        assertThat(response.protocol()).isEqualTo(Protocol.H2_PRIOR_KNOWLEDGE);
+        // HTTP/1.1 is still served on the same port
+        assertThat(executeRequest("http://localhost:7171/api/test/resource").protocol()).isEqualTo(Protocol.HTTP_1_1);
+    }
+
+    @Test
+    void verifyVirtualThreadsOption() {
+        var config = ConfigFactory.fromMap(Map.of(
+                "web.http.port", "7171",
+                "edc.web.http.threads.virtual", "true"));
+        jettyService = new JettyService(JettyConfiguration.createFromConfig(null, null, config), monitor);
+
+        jettyService.start();
+
+        jettyService.registerServlet("default", new ServletContainer(createTestResource()));
+
+        // runs on virtual threads where the JVM supports them, on the bounded thread pool otherwise
+        assertThat(executeRequest("http://localhost:7171/api/test/resource").code()).isEqualTo(200);
+    }
+
     @AfterEach
     void teardown() {
         jettyService.shutdown();
@@ -172,10 +231,12 @@ class JettyServiceTest {
 
     @NotNull
     private Response executeRequest(String url) {
+        return executeRequest(new Request.Builder().url(url).build(), testOkHttpClient());
+    }
 
+    @NotNull
+    private Response executeRequest(Request rq, OkHttpClient client) {
         try {
-            var client = testOkHttpClient();
-            var rq = new Request.Builder().url(url).build();
             return client.newCall(rq).execute();
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -191,6 +252,12 @@ class JettyServiceTest {
         public String foo() {
             return "exists";
         }
+
+        @GET
+        @Path("/large")
+        public String large() {
+            return "exists".repeat(100);
+        }
     }
 
     private static class JettyListener extends AbstractLifeCycle implements Connection.Listener {
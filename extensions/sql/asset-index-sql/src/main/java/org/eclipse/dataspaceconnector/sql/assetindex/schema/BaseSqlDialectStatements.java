@@ -17,6 +17,7 @@ package org.eclipse.dataspaceconnector.sql.assetindex.schema;
 
 import org.eclipse.dataspaceconnector.spi.query.Criterion;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
+import org.eclipse.dataspaceconnector.spi.query.SortOrder;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.sql.dialect.BaseSqlDialect;
 import org.eclipse.dataspaceconnector.sql.translation.SqlConditionExpression;
@@ -112,10 +113,23 @@ public class BaseSqlDialectStatements implements AssetStatements {
             throw new IllegalArgumentException(message);
         }
         var subSelects = conditions.stream().map(this::toSubSelect).collect(Collectors.toList());
-
-        var query = getSelectAssetTemplate() + " " + concatSubSelects(subSelects);
         var params = conditions.stream().flatMap(SqlConditionExpression::toStatementParameter).collect(Collectors.toList());
 
+        // keyset pagination: seek to the asset after the cursor through the primary key instead of skipping rows
+        var orderBy = "";
+        var cursorKey = querySpec.getCursorKey();
+        if (cursorKey != null) {
+            var ascending = querySpec.getSortOrder() == SortOrder.ASC;
+            var idColumn = "a." + getAssetIdColumn();
+            if (!cursorKey.isEmpty()) {
+                subSelects.add(format("%s %s ?", idColumn, ascending ? ">" : "<"));
+                params.add(cursorKey);
+            }
+            orderBy = format(" ORDER BY %s %s", idColumn, ascending ? "ASC" : "DESC");
+        }
+
+        var query = getSelectAssetTemplate() + " " + concatSubSelects(subSelects) + orderBy;
+
         var stmt = new SqlQueryStatement(query);
         params.forEach(stmt::addParameter);
         stmt.addParameter(querySpec.getLimit());
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.sql.assetindex;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspaceconnector.common.util.junit.annotations.IntegrationTest;
+import org.eclipse.dataspaceconnector.common.util.junit.annotations.PerformanceTest;
+import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
+import org.eclipse.dataspaceconnector.spi.transaction.NoopTransactionContext;
+import org.eclipse.dataspaceconnector.spi.transaction.datasource.DataSourceRegistry;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.sql.assetindex.schema.BaseSqlDialectStatements;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuery;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the latency of fetching a deep page by offset with fetching the same page by cursor on an embedded H2
+ * database. Run it with {@code -DincludeTags="PerformanceTest"}.
+ */
+@IntegrationTest
+@PerformanceTest
+class SqlAssetIndexPagingPerformanceTest {
+
+    private static final String DATASOURCE_NAME = "asset";
+    private static final int ASSET_COUNT = 20_000;
+    private static final int PAGE_SIZE = 10;
+    private static final int RUNS = 20;
+
+    private SqlAssetIndex sqlAssetIndex;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        var transactionContext = new NoopTransactionContext();
+        var jdbcDataSource = new JdbcDataSource();
+        jdbcDataSource.setURL("jdbc:h2:mem:");
+
+        // do not actually close
+        connection = spy(jdbcDataSource.getConnection());
+        doNothing().when(connection).close();
+
+        var dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        var dataSourceRegistry = mock(DataSourceRegistry.class);
+        when(dataSourceRegistry.resolve(DATASOURCE_NAME)).thenReturn(dataSource);
+
+        var statements = new BaseSqlDialectStatements();
+        sqlAssetIndex = new SqlAssetIndex(dataSourceRegistry, DATASOURCE_NAME, transactionContext, new ObjectMapper(), statements);
+
+        var schema = Files.readString(Paths.get("./docs/schema.sql"));
+        transactionContext.execute(() -> executeQuery(connection, schema));
+        transactionContext.execute(() -> {
+            for (var i = 0; i < ASSET_COUNT; i++) {
+                executeQuery(connection, statements.getInsertAssetTemplate(), assetId(i));
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        doCallRealMethod().when(connection).close();
+        connection.close();
+    }
+
+    @Test
+    void lastPage_cursorIsFasterThanOffset() {
+        var offsetSpec = QuerySpec.Builder.newInstance().offset(ASSET_COUNT - PAGE_SIZE).limit(PAGE_SIZE).build();
+        var cursorSpec = QuerySpec.Builder.newInstance().cursor(QuerySpec.cursorAfter(assetId(ASSET_COUNT - PAGE_SIZE - 1))).limit(PAGE_SIZE).build();
+
+        var offsetLatency = medianNanos(() -> sqlAssetIndex.queryAssets(offsetSpec).count());
+        var cursorLatency = medianNanos(() -> sqlAssetIndex.queryAssets(cursorSpec).count());
+
+        assertThat(sqlAssetIndex.queryAssets(cursorSpec).map(Asset::getId).collect(Collectors.toList()))
+                .hasSize(PAGE_SIZE)
+                .startsWith(assetId(ASSET_COUNT - PAGE_SIZE))
+                .endsWith(assetId(ASSET_COUNT - 1));
+        assertThat(cursorLatency)
+                .as("page %s of %s assets, by offset: %.2fms, by cursor: %.2fms", ASSET_COUNT / PAGE_SIZE, ASSET_COUNT,
+                        offsetLatency / 1_000_000.0, cursorLatency / 1_000_000.0)
+                .isLessThan(offsetLatency);
+    }
+
+    private long medianNanos(Supplier<Long> query) {
+        query.get(); // warm up
+        var latencies = new ArrayList<Long>();
+        for (var i = 0; i < RUNS; i++) {
+            var start = System.nanoTime();
+            assertThat(query.get()).isEqualTo(PAGE_SIZE);
+            latencies.add(System.nanoTime() - start);
+        }
+        Collections.sort(latencies);
+        return latencies.get(RUNS / 2);
+    }
+
+    private String assetId(int i) {
+        return format("asset-%06d", i);
+    }
+}
@@ -23,6 +23,7 @@ import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
 import org.eclipse.dataspaceconnector.spi.persistence.EdcPersistenceException;
 import org.eclipse.dataspaceconnector.spi.query.Criterion;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
+import org.eclipse.dataspaceconnector.spi.query.SortOrder;
 import org.eclipse.dataspaceconnector.spi.transaction.NoopTransactionContext;
 import org.eclipse.dataspaceconnector.spi.transaction.TransactionContext;
 import org.eclipse.dataspaceconnector.spi.transaction.datasource.DataSourceRegistry;
@@ -364,6 +365,36 @@ public class SqlAssetIndexTest {
         assertThat(assetsFound.count()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("Query assets page by page with a cursor")
+    void queryAsset_cursor() {
+        IntStream.range(0, 10).forEach(i -> sqlAssetIndex.accept(getAsset("id" + i), getDataAddress()));
+
+        var firstPage = sqlAssetIndex.queryAssets(QuerySpec.Builder.newInstance().cursor("").limit(4).build()).collect(Collectors.toList());
+        assertThat(firstPage).extracting(Asset::getId).containsExactly("id0", "id1", "id2", "id3");
+
+        var cursor = QuerySpec.cursorAfter(firstPage.get(3).getId());
+        var nextPage = sqlAssetIndex.queryAssets(QuerySpec.Builder.newInstance().cursor(cursor).limit(4).build());
+        assertThat(nextPage).extracting(Asset::getId).containsExactly("id4", "id5", "id6", "id7");
+    }
+
+    @Test
+    @DisplayName("Query assets with a cursor in descending order and a filter")
+    void queryAsset_cursorDescWithFilter() {
+        IntStream.range(0, 10).forEach(i -> {
+            var asset = getAsset("id" + i);
+            asset.getProperties().put("parity", i % 2 == 0 ? "even" : "odd");
+            sqlAssetIndex.accept(asset, getDataAddress());
+        });
+
+        var spec = QuerySpec.Builder.newInstance()
+                .filter(List.of(new Criterion("parity", "=", "even")))
+                .cursor(QuerySpec.cursorAfter("id6"))
+                .sortOrder(SortOrder.DESC)
+                .build();
+        assertThat(sqlAssetIndex.queryAssets(spec)).extracting(Asset::getId).containsExactly("id4", "id2", "id0");
+    }
+
     @Test
     void queryAsset_withFilterExpression() {
         var qs = QuerySpec.Builder.newInstance().filter(List.of(
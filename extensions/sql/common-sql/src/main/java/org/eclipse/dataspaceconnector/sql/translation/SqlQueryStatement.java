@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.sql.translation;
 
 import org.eclipse.dataspaceconnector.spi.query.Criterion;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
+import org.eclipse.dataspaceconnector.spi.query.SortOrder;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +28,10 @@ import static java.lang.String.format;
  * Maps a {@link QuerySpec} to a single SQL {@code SELECT ... FROM ... WHERE ...} statement. The {@code SELECT ...} part
  * is passed in through the constructor, and the rest of the query is assembled dynamically, based on the
  * {@link QuerySpec} and the {@link TranslationMapping}.
+ * <p>
+ * If the {@link QuerySpec} carries a cursor, the rows are ordered by the column the {@code id} property maps to, and
+ * restricted to the ones following the cursor, so that the database can seek to the page through the index instead of
+ * skipping all preceding rows.
  */
 public class SqlQueryStatement {
 
@@ -34,9 +39,11 @@ public class SqlQueryStatement {
     private static final String OFFSET = "OFFSET ?";
     private static final String WHERE_TOKEN = "WHERE";
     private static final String AND_TOKEN = "AND";
+    private static final String ID_PROPERTY = "id";
     private final String selectStatement;
     private final List<String> whereClauses = new ArrayList<>();
     private final List<Object> parameters = new ArrayList<>();
+    private String orderByClause = "";
 
     /**
      * Initializes this SQL Query Statement with a SELECT clause, a {@link QuerySpec} and a translation mapping.
@@ -68,6 +75,7 @@ public class SqlQueryStatement {
     public String getQueryAsString() {
         return selectStatement + " " +
                 String.join(" ", whereClauses) + " " +
+                orderByClause +
                 LIMIT +
                 OFFSET +
                 ";";
@@ -86,6 +94,28 @@ public class SqlQueryStatement {
         parameters.add(param);
     }
 
+    /**
+     * Restricts this statement to the rows following the cursor of the query and orders them by the given key column.
+     * Does nothing if the query is not paged by cursor. Must be invoked before the limit and offset parameters are
+     * added.
+     *
+     * @param query     the query, that may carry a cursor
+     * @param keyColumn the column that uniquely identifies a row, typically the primary key
+     */
+    public void keyset(QuerySpec query, String keyColumn) {
+        var cursorKey = query.getCursorKey();
+        if (cursorKey == null) {
+            return;
+        }
+        var ascending = query.getSortOrder() == SortOrder.ASC;
+        if (!cursorKey.isEmpty()) {
+            var prefix = whereClauses.isEmpty() ? WHERE_TOKEN : AND_TOKEN;
+            whereClauses.add(format("%s %s %s ?", prefix, keyColumn, ascending ? ">" : "<"));
+            parameters.add(cursorKey);
+        }
+        orderByClause = format("ORDER BY %s %s ", keyColumn, ascending ? "ASC" : "DESC");
+    }
+
     private void initialize(QuerySpec query, TranslationMapping rootModel) {
         whereClauses.clear();
         parameters.clear();
@@ -93,6 +123,10 @@ public class SqlQueryStatement {
         var expr = query.getFilterExpression();
         expr.forEach(e -> parseExpression(e, rootModel));
 
+        if (query.getCursor() != null) {
+            keyset(query, rootModel.getStatement(ID_PROPERTY));
+        }
+
         parameters.add(query.getLimit());
         parameters.add(query.getOffset());
     }
@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.sql.translation;
 
 import org.eclipse.dataspaceconnector.spi.query.Criterion;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
+import org.eclipse.dataspaceconnector.spi.query.SortOrder;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -55,6 +56,34 @@ class SqlQueryStatementTest {
         assertThat(t.getParameters()).containsExactlyInAnyOrder("id1", "id2", "id3", "something", 50, 0);
     }
 
+    @Test
+    void cursor() {
+        var criterion = new Criterion("field1", "=", "testid1");
+        var query = QuerySpec.Builder.newInstance().filter(List.of(criterion)).cursor(QuerySpec.cursorAfter("id5")).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? AND edc_id > ? ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("testid1", "id5", 50, 0);
+    }
+
+    @Test
+    void cursor_descending() {
+        var query = QuerySpec.Builder.newInstance().cursor(QuerySpec.cursorAfter("id5")).sortOrder(SortOrder.DESC).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_id < ? ORDER BY edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("id5", 50, 0);
+    }
+
+    @Test
+    void cursor_firstPage() {
+        var query = QuerySpec.Builder.newInstance().cursor("").build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + "  ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly(50, 0);
+    }
+
     private QuerySpec query(Criterion... criterion) {
         return QuerySpec.Builder.newInstance().filter(List.of(criterion)).build();
     }
@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.sql.contractnegotiation;
 
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Provides;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
@@ -45,9 +46,12 @@ public class SqlContractNegotiationStoreExtension implements ServiceExtension {
     @Inject(required = false)
     private ContractNegotiationStatements statements;
 
+    @Inject(required = false)
+    private MetricsInstrumentation metricsInstrumentation;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var sqlStore = new SqlContractNegotiationStore(dataSourceRegistry, getDataSourceName(context), trxContext, context.getTypeManager(), getStatementImpl(), context.getConnectorId(), clock);
+        var sqlStore = new SqlContractNegotiationStore(dataSourceRegistry, getDataSourceName(context), trxContext, context.getTypeManager(), getStatementImpl(), context.getConnectorId(), clock, getMetricsInstrumentation());
         context.registerService(ContractNegotiationStore.class, sqlStore);
     }
 
@@ -58,6 +62,13 @@ public class SqlContractNegotiationStoreExtension implements ServiceExtension {
         return statements != null ? statements : new PostgresDialectStatements();
     }
 
+    /**
+     * returns an externally-provided metrics instrumentation, or a noop one as a default
+     */
+    private MetricsInstrumentation getMetricsInstrumentation() {
+        return metricsInstrumentation != null ? metricsInstrumentation : MetricsInstrumentation.noop();
+    }
+
     private String getDataSourceName(ServiceExtensionContext context) {
         return context.getConfig().getString(DATASOURCE_NAME_SETTING, DEFAULT_DATASOURCE_NAME);
     }
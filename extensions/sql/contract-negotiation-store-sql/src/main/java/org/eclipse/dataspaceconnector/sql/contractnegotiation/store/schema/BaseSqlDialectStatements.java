@@ -104,9 +104,10 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
 
     @Override
     public SqlQueryStatement createNegotiationsQuery(QuerySpec querySpec) {
-        // for generic SQL, only the limit and offset fields are used!
+        // for generic SQL, only the limit, offset and cursor fields are used!
         var sql = getSelectNegotiationsTemplate();
         var stmt = new SqlQueryStatement(sql);
+        stmt.keyset(querySpec, getContractNegotiationTable() + "." + getIdColumn());
         stmt.addParameter(querySpec.getLimit());
         stmt.addParameter(querySpec.getOffset());
         return stmt;
@@ -114,9 +115,10 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
 
     @Override
     public SqlQueryStatement createAgreementsQuery(QuerySpec querySpec) {
-        // for generic SQL, only the limit and offset fields are used!
+        // for generic SQL, only the limit, offset and cursor fields are used!
         var sql = "SELECT * FROM " + getContractAgreementTable();
         var stmt = new SqlQueryStatement(sql);
+        stmt.keyset(querySpec, getContractAgreementIdColumn());
         stmt.addParameter(querySpec.getLimit());
         stmt.addParameter(querySpec.getOffset());
         return stmt;
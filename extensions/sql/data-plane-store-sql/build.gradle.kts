@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+    `maven-publish`
+}
+
+val h2Version: String by project
+val assertj: String by project
+val postgresVersion: String by project
+
+dependencies {
+    api(project(":spi:core-spi"))
+    api(project(":spi:transaction-spi"))
+    api(project(":extensions:data-plane:data-plane-spi"))
+    implementation(project(":extensions:transaction:transaction-datasource-spi"))
+    implementation(project(":extensions:sql:common-sql"))
+
+    testImplementation(project(":extensions:junit"))
+    testImplementation("com.h2database:h2:${h2Version}")
+    testImplementation("org.assertj:assertj-core:${assertj}")
+    testImplementation(testFixtures(project(":common:util")))
+}
+
+publishing {
+    publications {
+        create<MavenPublication>("data-plane-store-sql") {
+            artifactId = "data-plane-store-sql"
+            from(components["java"])
+        }
+    }
+}
@@ -0,0 +1,50 @@
+--
+--  Copyright (c) 2022 Microsoft Corporation
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Microsoft Corporation - initial API and implementation
+--
+
+-- Statements are designed for and tested with Postgres only!
+
+CREATE TABLE IF NOT EXISTS edc_data_plane_flow
+(
+    process_id   VARCHAR NOT NULL
+        CONSTRAINT data_plane_flow_pk
+            PRIMARY KEY,
+    runtime_id   VARCHAR NOT NULL,
+    state        VARCHAR NOT NULL,
+    request      JSON,
+    error_detail VARCHAR,
+    received_at  BIGINT  NOT NULL
+);
+
+COMMENT ON COLUMN edc_data_plane_flow.runtime_id IS 'id of the data plane runtime that received the request';
+
+COMMENT ON COLUMN edc_data_plane_flow.request IS 'DataFlowRequest serialized as JSON';
+
+COMMENT ON COLUMN edc_data_plane_flow.received_at IS 'posix timestamp of the reception of the request';
+
+CREATE INDEX IF NOT EXISTS data_plane_flow_pending_index
+    ON edc_data_plane_flow (runtime_id, state, received_at);
+
+CREATE TABLE IF NOT EXISTS edc_data_plane_part
+(
+    process_id VARCHAR NOT NULL
+        CONSTRAINT data_plane_part_process_id_fk
+            REFERENCES edc_data_plane_flow
+            ON DELETE CASCADE,
+    part_name  VARCHAR NOT NULL,
+    bytes      BIGINT  NOT NULL,
+    complete   BOOLEAN NOT NULL,
+    CONSTRAINT data_plane_part_pk
+        PRIMARY KEY (process_id, part_name)
+);
+
+COMMENT ON COLUMN edc_data_plane_part.bytes IS 'number of bytes of the part written to the destination';
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.sql.dataplane;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
+import org.eclipse.dataspaceconnector.spi.system.Inject;
+import org.eclipse.dataspaceconnector.spi.system.Provides;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.transaction.TransactionContext;
+import org.eclipse.dataspaceconnector.spi.transaction.datasource.DataSourceRegistry;
+import org.eclipse.dataspaceconnector.sql.dataplane.store.SqlDataPlaneStore;
+import org.eclipse.dataspaceconnector.sql.dataplane.store.schema.DataPlaneStoreStatements;
+import org.eclipse.dataspaceconnector.sql.dataplane.store.schema.postgres.PostgresDialectStatements;
+
+import java.time.Clock;
+
+@Provides(DataPlaneStore.class)
+public class SqlDataPlaneStoreExtension implements ServiceExtension {
+
+    @EdcSetting
+    private static final String DATASOURCE_NAME_SETTING = "edc.datasource.dataplane.name";
+    private static final String DEFAULT_DATASOURCE_NAME = "dataplane";
+
+    @EdcSetting
+    private static final String RUNTIME_ID_SETTING = "edc.dataplane.store.runtime.id";
+    private static final String DEFAULT_RUNTIME_ID = "default";
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+    @Inject
+    private TransactionContext trxContext;
+    @Inject
+    private Clock clock;
+
+    @Inject(required = false)
+    private DataPlaneStoreStatements statements;
+
+    @Override
+    public String name() {
+        return "SQL Data Plane Store";
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var store = new SqlDataPlaneStore(dataSourceRegistry, getDataSourceName(context), trxContext, context.getTypeManager().getMapper(),
+                getStatementImpl(), context.getSetting(RUNTIME_ID_SETTING, DEFAULT_RUNTIME_ID), clock);
+        context.registerService(DataPlaneStore.class, store);
+    }
+
+    /**
+     * returns an externally-provided sql statement dialect, or postgres as a default
+     */
+    private DataPlaneStoreStatements getStatementImpl() {
+        return statements != null ? statements : new PostgresDialectStatements();
+    }
+
+    private String getDataSourceName(ServiceExtensionContext context) {
+        return context.getConfig().getString(DATASOURCE_NAME_SETTING, DEFAULT_DATASOURCE_NAME);
+    }
+}
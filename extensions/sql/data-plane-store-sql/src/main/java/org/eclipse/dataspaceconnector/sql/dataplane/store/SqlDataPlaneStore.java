@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.sql.dataplane.store;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.PartProgress;
+import org.eclipse.dataspaceconnector.spi.persistence.EdcPersistenceException;
+import org.eclipse.dataspaceconnector.spi.transaction.TransactionContext;
+import org.eclipse.dataspaceconnector.spi.transaction.datasource.DataSourceRegistry;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.eclipse.dataspaceconnector.sql.dataplane.store.schema.DataPlaneStoreStatements;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.List;
+import java.util.Objects;
+import javax.sql.DataSource;
+
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuery;
+
+/**
+ * SQL-based {@link DataPlaneStore}. Requests, states, error details and part progress are stored in the database, so
+ * that a data plane resumes the requests it received but did not complete before a restart.
+ * <p>
+ * Each data flow is owned by the runtime that received it last, so that data planes that share a database only
+ * recover their own requests.
+ */
+public class SqlDataPlaneStore implements DataPlaneStore {
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final TransactionContext transactionContext;
+    private final ObjectMapper objectMapper;
+    private final DataPlaneStoreStatements statements;
+    private final String runtimeId;
+    private final Clock clock;
+
+    public SqlDataPlaneStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                             ObjectMapper objectMapper, DataPlaneStoreStatements statements, String runtimeId, Clock clock) {
+        this.dataSourceRegistry = Objects.requireNonNull(dataSourceRegistry);
+        this.dataSourceName = Objects.requireNonNull(dataSourceName);
+        this.transactionContext = Objects.requireNonNull(transactionContext);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.statements = Objects.requireNonNull(statements);
+        this.runtimeId = Objects.requireNonNull(runtimeId);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public void received(String processId) {
+        save(processId, null);
+    }
+
+    @Override
+    public void received(DataFlowRequest request) {
+        save(request.getProcessId(), toJson(request));
+    }
+
+    @Override
+    public void completed(String processId) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var updated = executeQuery(connection, statements.getUpdateStateTemplate(), State.COMPLETED.name(), processId);
+                if (updated == 0) {
+                    executeQuery(connection, statements.getInsertTemplate(), processId, runtimeId, State.COMPLETED.name(), null, clock.millis());
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public State getState(String processId) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var states = executeQuery(connection, this::mapState, statements.getFindByIdTemplate(), processId);
+                return states.isEmpty() ? State.NOT_TRACKED : states.get(0);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void recordError(String processId, String errorDetail) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                executeQuery(connection, statements.getUpdateErrorDetailTemplate(), errorDetail, processId);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public @Nullable String getErrorDetail(String processId) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var details = executeQuery(connection, this::mapErrorDetail, statements.getFindByIdTemplate(), processId);
+                return details.isEmpty() ? null : details.get(0);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void checkpoint(String processId, PartProgress progress) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var updated = executeQuery(connection, statements.getUpdatePartTemplate(), progress.getBytes(), progress.isComplete(), processId, progress.getName());
+                if (updated == 0) {
+                    executeQuery(connection, statements.getInsertPartTemplate(), processId, progress.getName(), progress.getBytes(), progress.isComplete());
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<PartProgress> getProgress(String processId) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return executeQuery(connection, this::mapPart, statements.getFindPartsTemplate(), processId);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<DataFlowRequest> pending() {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return executeQuery(connection, this::mapRequest, statements.getFindPendingTemplate(), runtimeId, State.RECEIVED.name());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private void save(String processId, @Nullable String request) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var updated = executeQuery(connection, statements.getUpdateReceivedTemplate(), runtimeId, State.RECEIVED.name(), request, clock.millis(), processId);
+                if (updated == 0) {
+                    executeQuery(connection, statements.getInsertTemplate(), processId, runtimeId, State.RECEIVED.name(), request, clock.millis());
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private State mapState(ResultSet resultSet) throws SQLException {
+        return State.valueOf(resultSet.getString(statements.getStateColumn()));
+    }
+
+    private String mapErrorDetail(ResultSet resultSet) throws SQLException {
+        return resultSet.getString(statements.getErrorDetailColumn());
+    }
+
+    private PartProgress mapPart(ResultSet resultSet) throws SQLException {
+        return new PartProgress(resultSet.getString(statements.getPartNameColumn()), resultSet.getLong(statements.getBytesColumn()),
+                resultSet.getBoolean(statements.getCompleteColumn()));
+    }
+
+    private DataFlowRequest mapRequest(ResultSet resultSet) throws SQLException {
+        try {
+            return objectMapper.readValue(resultSet.getString(statements.getRequestColumn()), DataFlowRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+
+    private String toJson(Object object) {
+        try {
+            return objectMapper.writeValueAsString(object);
+        } catch (JsonProcessingException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+
+    private DataSource getDataSource() {
+        return Objects.requireNonNull(dataSourceRegistry.resolve(dataSourceName), String.format("DataSource %s could not be resolved", dataSourceName));
+    }
+
+    private Connection getConnection() throws SQLException {
+        return getDataSource().getConnection();
+    }
+}
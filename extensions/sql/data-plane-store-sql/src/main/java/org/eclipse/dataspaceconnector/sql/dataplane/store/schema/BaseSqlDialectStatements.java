@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.sql.dataplane.store.schema;
+
+import static java.lang.String.format;
+
+public class BaseSqlDialectStatements implements DataPlaneStoreStatements {
+
+    @Override
+    public String getFindByIdTemplate() {
+        return format("SELECT * FROM %s WHERE %s = ?", getDataFlowTable(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getFindPendingTemplate() {
+        return format("SELECT * FROM %s WHERE %s = ? AND %s = ? AND %s IS NOT NULL ORDER BY %s",
+                getDataFlowTable(), getRuntimeIdColumn(), getStateColumn(), getRequestColumn(), getReceivedAtColumn());
+    }
+
+    @Override
+    public String getInsertTemplate() {
+        return format("INSERT INTO %s (%s, %s, %s, %s, %s) VALUES (?, ?, ?, ?%s, ?)",
+                getDataFlowTable(), getProcessIdColumn(), getRuntimeIdColumn(), getStateColumn(), getRequestColumn(), getReceivedAtColumn(),
+                getFormatAsJsonOperator());
+    }
+
+    @Override
+    public String getUpdateReceivedTemplate() {
+        return format("UPDATE %s SET %s = ?, %s = ?, %s = ?%s, %s = NULL, %s = ? WHERE %s = ?",
+                getDataFlowTable(), getRuntimeIdColumn(), getStateColumn(), getRequestColumn(), getFormatAsJsonOperator(), getErrorDetailColumn(),
+                getReceivedAtColumn(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getUpdateStateTemplate() {
+        return format("UPDATE %s SET %s = ? WHERE %s = ?", getDataFlowTable(), getStateColumn(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getUpdateErrorDetailTemplate() {
+        return format("UPDATE %s SET %s = ? WHERE %s = ?", getDataFlowTable(), getErrorDetailColumn(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getFindPartsTemplate() {
+        return format("SELECT * FROM %s WHERE %s = ? ORDER BY %s", getPartTable(), getProcessIdColumn(), getPartNameColumn());
+    }
+
+    @Override
+    public String getInsertPartTemplate() {
+        return format("INSERT INTO %s (%s, %s, %s, %s) VALUES (?, ?, ?, ?)",
+                getPartTable(), getProcessIdColumn(), getPartNameColumn(), getBytesColumn(), getCompleteColumn());
+    }
+
+    @Override
+    public String getUpdatePartTemplate() {
+        return format("UPDATE %s SET %s = ?, %s = ? WHERE %s = ? AND %s = ?",
+                getPartTable(), getBytesColumn(), getCompleteColumn(), getProcessIdColumn(), getPartNameColumn());
+    }
+}
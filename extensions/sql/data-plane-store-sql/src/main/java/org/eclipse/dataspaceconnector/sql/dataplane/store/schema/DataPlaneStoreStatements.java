@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.sql.dataplane.store.schema;
+
+import org.eclipse.dataspaceconnector.sql.dialect.BaseSqlDialect;
+
+/**
+ * Defines the tables, columns and statements of the SQL data plane store.
+ */
+public interface DataPlaneStoreStatements {
+
+    /**
+     * SELECT statement for a single data flow.
+     */
+    String getFindByIdTemplate();
+
+    /**
+     * SELECT statement for the received data flows of a runtime, in the order in which they were received.
+     */
+    String getFindPendingTemplate();
+
+    /**
+     * INSERT statement for a data flow.
+     */
+    String getInsertTemplate();
+
+    /**
+     * UPDATE statement that replaces the request of a data flow and marks it as received.
+     */
+    String getUpdateReceivedTemplate();
+
+    /**
+     * UPDATE statement for the state of a data flow.
+     */
+    String getUpdateStateTemplate();
+
+    /**
+     * UPDATE statement for the error detail of a data flow.
+     */
+    String getUpdateErrorDetailTemplate();
+
+    /**
+     * SELECT statement for the parts of a data flow.
+     */
+    String getFindPartsTemplate();
+
+    /**
+     * INSERT statement for the progress of a part.
+     */
+    String getInsertPartTemplate();
+
+    /**
+     * UPDATE statement for the progress of a part.
+     */
+    String getUpdatePartTemplate();
+
+    default String getDataFlowTable() {
+        return "edc_data_plane_flow";
+    }
+
+    default String getProcessIdColumn() {
+        return "process_id";
+    }
+
+    default String getRuntimeIdColumn() {
+        return "runtime_id";
+    }
+
+    default String getStateColumn() {
+        return "state";
+    }
+
+    default String getRequestColumn() {
+        return "request";
+    }
+
+    default String getErrorDetailColumn() {
+        return "error_detail";
+    }
+
+    default String getReceivedAtColumn() {
+        return "received_at";
+    }
+
+    default String getPartTable() {
+        return "edc_data_plane_part";
+    }
+
+    default String getPartNameColumn() {
+        return "part_name";
+    }
+
+    default String getBytesColumn() {
+        return "bytes";
+    }
+
+    default String getCompleteColumn() {
+        return "complete";
+    }
+
+    default String getFormatAsJsonOperator() {
+        return BaseSqlDialect.getJsonCastOperator();
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspaceconnector.sql.dataplane.store;
+
+import org.eclipse.dataspaceconnector.common.util.junit.annotations.ComponentTest;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.PartProgress;
+import org.eclipse.dataspaceconnector.spi.transaction.NoopTransactionContext;
+import org.eclipse.dataspaceconnector.spi.transaction.datasource.DataSourceRegistry;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.eclipse.dataspaceconnector.sql.SqlQueryExecutor;
+import org.eclipse.dataspaceconnector.sql.dataplane.store.schema.BaseSqlDialectStatements;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.State.COMPLETED;
+import static org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.State.NOT_TRACKED;
+import static org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.State.RECEIVED;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+@ComponentTest
+class SqlDataPlaneStoreTest {
+    private static final String DATASOURCE_NAME = "dataplane";
+    private static final String RUNTIME_ID = "test-runtime";
+
+    private final NoopTransactionContext transactionContext = new NoopTransactionContext();
+    private final DataSourceRegistry dataSourceRegistry = mock(DataSourceRegistry.class);
+    private final Instant now = Instant.now();
+    private SqlDataPlaneStore store;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException, IOException {
+        var jdbcDataSource = new JdbcDataSource();
+        jdbcDataSource.setURL("jdbc:h2:mem:");
+
+        // do not actually close
+        connection = spy(jdbcDataSource.getConnection());
+        doNothing().when(connection).close();
+
+        var datasourceMock = mock(DataSource.class);
+        when(datasourceMock.getConnection()).thenReturn(connection);
+        when(dataSourceRegistry.resolve(DATASOURCE_NAME)).thenReturn(datasourceMock);
+        store = createStore(RUNTIME_ID, now);
+
+        var schema = Files.readString(Paths.get("./docs/schema.sql"));
+        transactionContext.execute(() -> SqlQueryExecutor.executeQuery(connection, schema));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        doCallRealMethod().when(connection).close();
+        connection.close();
+    }
+
+    @Test
+    void verifyOperations() {
+        assertThat(store.getState("1")).isEqualTo(NOT_TRACKED);
+        store.received("1");
+        assertThat(store.getState("1")).isEqualTo(RECEIVED);
+        store.completed("1");
+        assertThat(store.getState("1")).isEqualTo(COMPLETED);
+    }
+
+    @Test
+    void completed_whenNotReceived() {
+        store.completed("1");
+
+        assertThat(store.getState("1")).isEqualTo(COMPLETED);
+    }
+
+    @Test
+    void recordError() {
+        store.received(createRequest("1"));
+
+        store.recordError("1", "error");
+
+        assertThat(store.getErrorDetail("1")).isEqualTo("error");
+        assertThat(store.getErrorDetail("unknown")).isNull();
+    }
+
+    @Test
+    void checkpoint_replacesProgressOfPart() {
+        store.received(createRequest("1"));
+
+        store.checkpoint("1", new PartProgress("part1", 10, false));
+        store.checkpoint("1", new PartProgress("part2", 5, true));
+        store.checkpoint("1", new PartProgress("part1", 20, true));
+
+        assertThat(store.getProgress("1")).containsExactly(new PartProgress("part1", 20, true), new PartProgress("part2", 5, true));
+    }
+
+    @Test
+    void received_resetsErrorAndKeepsProgress() {
+        store.received(createRequest("1"));
+        store.checkpoint("1", new PartProgress("part", 10, false));
+        store.recordError("1", "error");
+        store.completed("1");
+
+        store.received(createRequest("1"));
+
+        assertThat(store.getState("1")).isEqualTo(RECEIVED);
+        assertThat(store.getErrorDetail("1")).isNull();
+        assertThat(store.getProgress("1")).containsExactly(new PartProgress("part", 10, false));
+    }
+
+    @Test
+    void pending_returnsReceivedRequestsOfRuntimeInOrder() {
+        createStore(RUNTIME_ID, now.plusSeconds(1)).received(createRequest("2"));
+        createStore(RUNTIME_ID, now).received(createRequest("1"));
+        createStore(RUNTIME_ID, now).received(createRequest("3"));
+        store.completed("3");
+        createStore("other-runtime", now).received(createRequest("4"));
+
+        var pending = store.pending();
+
+        assertThat(pending).extracting(DataFlowRequest::getProcessId).containsExactly("1", "2");
+        assertThat(pending.get(0).getProperties()).containsEntry("key", "value");
+        assertThat(pending.get(0).getSourceDataAddress().getType()).isEqualTo("source");
+    }
+
+    private SqlDataPlaneStore createStore(String runtimeId, Instant time) {
+        return new SqlDataPlaneStore(dataSourceRegistry, DATASOURCE_NAME, transactionContext, new TypeManager().getMapper(),
+                new BaseSqlDialectStatements(), runtimeId, Clock.fixed(time, ZoneOffset.UTC));
+    }
+
+    private DataFlowRequest createRequest(String processId) {
+        return DataFlowRequest.Builder.newInstance()
+                .id(processId)
+                .processId(processId)
+                .properties(Map.of("key", "value"))
+                .sourceDataAddress(DataAddress.Builder.newInstance().type("source").build())
+                .destinationDataAddress(DataAddress.Builder.newInstance().type("destination").build())
+                .build();
+    }
+}
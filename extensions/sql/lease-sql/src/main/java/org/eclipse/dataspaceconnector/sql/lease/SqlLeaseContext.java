@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.sql.lease;
 
 
 import org.eclipse.dataspaceconnector.spi.persistence.LeaseContext;
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.transaction.TransactionContext;
 import org.jetbrains.annotations.Nullable;
 
@@ -36,21 +37,24 @@ import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuery;
  */
 public class SqlLeaseContext implements LeaseContext {
     private static final long DEFAULT_LEASE_DURATION = 60_000;
+    private static final String CONTENTION_METRIC = "edc.lease.contention";
     private final TransactionContext trxContext;
     private final LeaseStatements statements;
     private final String leaseHolder;
     private final Connection connection;
     private final Clock clock;
     private final Duration leaseDuration;
+    private final MetricsInstrumentation metricsInstrumentation;
 
 
-    SqlLeaseContext(TransactionContext trxContext, LeaseStatements statements, String leaseHolder, Clock clock, Duration leaseDuration, Connection connection) {
+    SqlLeaseContext(TransactionContext trxContext, LeaseStatements statements, String leaseHolder, Clock clock, Duration leaseDuration, Connection connection, MetricsInstrumentation metricsInstrumentation) {
         this.trxContext = trxContext;
         this.statements = statements;
         this.leaseHolder = leaseHolder;
         this.clock = clock;
         this.leaseDuration = leaseDuration;
         this.connection = connection;
+        this.metricsInstrumentation = metricsInstrumentation;
     }
 
     @Override
@@ -61,6 +65,7 @@ public class SqlLeaseContext implements LeaseContext {
 
             if (l != null) {
                 if (!Objects.equals(leaseHolder, l.getLeasedBy())) {
+                    metricsInstrumentation.increment(CONTENTION_METRIC, 1, "operation", "break");
                     throw new IllegalStateException("Current runtime does not hold the lease for Object (id [" + entityId + "]), cannot break lease!");
                 }
 
@@ -78,6 +83,7 @@ public class SqlLeaseContext implements LeaseContext {
             var lease = getLease(entityId);
 
             if (lease != null && !lease.isExpired(clock)) {
+                metricsInstrumentation.increment(CONTENTION_METRIC, 1, "operation", "acquire");
                 throw new IllegalStateException("Entity is currently leased!");
             }
 
@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspaceconnector.sql.lease;
 
+import org.eclipse.dataspaceconnector.spi.system.MetricsInstrumentation;
 import org.eclipse.dataspaceconnector.spi.transaction.TransactionContext;
 
 import java.sql.Connection;
@@ -45,6 +46,7 @@ public class SqlLeaseContextBuilder {
     private final Clock clock;
     private String leaseHolder;
     private Duration leaseDuration;
+    private MetricsInstrumentation metricsInstrumentation = MetricsInstrumentation.noop();
 
     private SqlLeaseContextBuilder(TransactionContext trxContext, LeaseStatements statements, String leaseHolder, Clock clock) {
         this.trxContext = trxContext;
@@ -76,12 +78,20 @@ public class SqlLeaseContextBuilder {
         return this;
     }
 
+    /**
+     * configures the instrumentation used to count lease contention, i.e. attempts to acquire or break a lease that is held by someone else.
+     */
+    public SqlLeaseContextBuilder metrics(MetricsInstrumentation metricsInstrumentation) {
+        this.metricsInstrumentation = Objects.requireNonNull(metricsInstrumentation, "metricsInstrumentation");
+        return this;
+    }
+
     /**
      * sets the {@linkplain Connection} on which the next DB statement is executed.<p>
      * <strong>Storing references to the {@link SqlLeaseContext} is strongly discouraged, as this would keep the database {@link Connection} open!</strong>
      */
     public SqlLeaseContext withConnection(Connection connection) {
         Objects.requireNonNull(connection, "connection");
-        return new SqlLeaseContext(trxContext, statements, leaseHolder, clock, leaseDuration, connection);
+        return new SqlLeaseContext(trxContext, statements, leaseHolder, clock, leaseDuration, connection, metricsInstrumentation);
     }
 }
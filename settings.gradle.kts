@@ -100,6 +100,7 @@ include(":extensions:catalog:federated-catalog-cache")
 include(":extensions:catalog:federated-catalog-spi")
 include(":extensions:dataloading")
 include(":extensions:jdk-logger-monitor")
+include(":extensions:async-monitor")
 include(":extensions:http")
 include(":extensions:http:jersey")
 include(":extensions:http:jersey-micrometer")
@@ -132,6 +133,7 @@ include(":extensions:sql:asset-index-sql")
 include(":extensions:sql:common-sql")
 include(":extensions:sql:contract-definition-store-sql")
 include(":extensions:sql:contract-negotiation-store-sql")
+include(":extensions:sql:data-plane-store-sql")
 include(":extensions:sql:lease-sql")
 include(":extensions:sql:policy-store-sql")
 include(":extensions:sql:pool:apache-commons-pool-sql")
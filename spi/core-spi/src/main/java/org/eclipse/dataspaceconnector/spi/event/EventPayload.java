@@ -14,5 +14,18 @@
 
 package org.eclipse.dataspaceconnector.spi.event;
 
+import org.jetbrains.annotations.Nullable;
+
 public abstract class EventPayload {
+
+    /**
+     * Returns the id of the entity the event refers to. The {@link EventRouter} delivers the events of the same entity to
+     * a subscriber in the order in which they were published.
+     *
+     * @return the entity id, or null if the event does not refer to a single entity.
+     */
+    @Nullable
+    public String entityId() {
+        return null;
+    }
 }
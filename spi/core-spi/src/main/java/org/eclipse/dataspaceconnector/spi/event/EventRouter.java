@@ -27,6 +27,20 @@ public interface EventRouter {
      */
     void register(EventSubscriber subscriber);
 
+    /**
+     * Register a new subscriber to the events of a specific kind. Events of other kinds are never dispatched to it.
+     *
+     * @param eventKind  the class of the events, subclasses included, the subscriber is interested in
+     * @param subscriber that will receive the published events of the given kind
+     */
+    default void register(Class<? extends Event> eventKind, EventSubscriber subscriber) {
+        register(event -> {
+            if (eventKind.isInstance(event)) {
+                subscriber.on(event);
+            }
+        });
+    }
+
     /**
      * Publish an event to all the subscribers
      *
@@ -54,6 +54,11 @@ public class AssetCreated extends Event<AssetCreated.Payload> {
         public String getAssetId() {
             return assetId;
         }
+
+        @Override
+        public String entityId() {
+            return assetId;
+        }
     }
 
 }
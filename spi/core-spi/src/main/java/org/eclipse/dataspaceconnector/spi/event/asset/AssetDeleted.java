@@ -54,5 +54,10 @@ public class AssetDeleted extends Event<AssetDeleted.Payload> {
         public String getAssetId() {
             return assetId;
         }
+
+        @Override
+        public String entityId() {
+            return assetId;
+        }
     }
 }
@@ -54,5 +54,10 @@ public class ContractDefinitionCreated extends Event<ContractDefinitionCreated.P
         public String getContractDefinitionId() {
             return contractDefinitionId;
         }
+
+        @Override
+        public String entityId() {
+            return contractDefinitionId;
+        }
     }
 }
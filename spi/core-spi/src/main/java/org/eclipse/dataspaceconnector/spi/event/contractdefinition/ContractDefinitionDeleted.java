@@ -54,5 +54,10 @@ public class ContractDefinitionDeleted extends Event<ContractDefinitionDeleted.P
         public String getContractDefinitionId() {
             return contractDefinitionId;
         }
+
+        @Override
+        public String entityId() {
+            return contractDefinitionId;
+        }
     }
 }
@@ -54,5 +54,10 @@ public class ContractNegotiationApproved extends Event<ContractNegotiationApprov
         public String getContractNegotiationId() {
             return contractNegotiationId;
         }
+
+        @Override
+        public String entityId() {
+            return contractNegotiationId;
+        }
     }
 }
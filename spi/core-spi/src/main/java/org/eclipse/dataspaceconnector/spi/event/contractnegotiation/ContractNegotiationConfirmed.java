@@ -54,5 +54,10 @@ public class ContractNegotiationConfirmed extends Event<ContractNegotiationConfi
         public String getContractNegotiationId() {
             return contractNegotiationId;
         }
+
+        @Override
+        public String entityId() {
+            return contractNegotiationId;
+        }
     }
 }
@@ -54,5 +54,10 @@ public class ContractNegotiationDeclined extends Event<ContractNegotiationDeclin
         public String getContractNegotiationId() {
             return contractNegotiationId;
         }
+
+        @Override
+        public String entityId() {
+            return contractNegotiationId;
+        }
     }
 }
@@ -54,5 +54,10 @@ public class ContractNegotiationFailed extends Event<ContractNegotiationFailed.P
         public String getContractNegotiationId() {
             return contractNegotiationId;
         }
+
+        @Override
+        public String entityId() {
+            return contractNegotiationId;
+        }
     }
 }
@@ -54,5 +54,10 @@ public class ContractNegotiationInitiated extends Event<ContractNegotiationIniti
         public String getContractNegotiationId() {
             return contractNegotiationId;
         }
+
+        @Override
+        public String entityId() {
+            return contractNegotiationId;
+        }
     }
 }
@@ -54,5 +54,10 @@ public class ContractNegotiationOffered extends Event<ContractNegotiationOffered
         public String getContractNegotiationId() {
             return contractNegotiationId;
         }
+
+        @Override
+        public String entityId() {
+            return contractNegotiationId;
+        }
     }
 }
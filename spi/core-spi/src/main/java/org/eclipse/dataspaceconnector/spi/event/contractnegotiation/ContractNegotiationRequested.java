@@ -54,5 +54,10 @@ public class ContractNegotiationRequested extends Event<ContractNegotiationReque
         public String getContractNegotiationId() {
             return contractNegotiationId;
         }
+
+        @Override
+        public String entityId() {
+            return contractNegotiationId;
+        }
     }
 }
@@ -54,5 +54,10 @@ public class PolicyDefinitionCreated extends Event<PolicyDefinitionCreated.Paylo
         public String getPolicyDefinitionId() {
             return policyDefinitionId;
         }
+
+        @Override
+        public String entityId() {
+            return policyDefinitionId;
+        }
     }
 }
@@ -54,5 +54,10 @@ public class PolicyDefinitionDeleted extends Event<PolicyDefinitionDeleted.Paylo
         public String getPolicyDefinitionId() {
             return policyDefinitionId;
         }
+
+        @Override
+        public String entityId() {
+            return policyDefinitionId;
+        }
     }
 }
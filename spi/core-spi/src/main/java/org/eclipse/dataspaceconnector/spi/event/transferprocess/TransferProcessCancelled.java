@@ -54,5 +54,10 @@ public class TransferProcessCancelled extends Event<TransferProcessCancelled.Pay
         public String getTransferProcessId() {
             return transferProcessId;
         }
+
+        @Override
+        public String entityId() {
+            return transferProcessId;
+        }
     }
 }
@@ -54,5 +54,10 @@ public class TransferProcessCompleted extends Event<TransferProcessCompleted.Pay
         public String getTransferProcessId() {
             return transferProcessId;
         }
+
+        @Override
+        public String entityId() {
+            return transferProcessId;
+        }
     }
 }
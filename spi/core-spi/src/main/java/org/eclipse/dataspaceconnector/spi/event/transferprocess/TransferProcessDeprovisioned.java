@@ -54,5 +54,10 @@ public class TransferProcessDeprovisioned extends Event<TransferProcessDeprovisi
         public String getTransferProcessId() {
             return transferProcessId;
         }
+
+        @Override
+        public String entityId() {
+            return transferProcessId;
+        }
     }
 }
@@ -54,5 +54,10 @@ public class TransferProcessEnded extends Event<TransferProcessEnded.Payload> {
         public String getTransferProcessId() {
             return transferProcessId;
         }
+
+        @Override
+        public String entityId() {
+            return transferProcessId;
+        }
     }
 }
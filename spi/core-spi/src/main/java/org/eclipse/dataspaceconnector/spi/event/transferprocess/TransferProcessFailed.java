@@ -54,5 +54,10 @@ public class TransferProcessFailed extends Event<TransferProcessFailed.Payload>
         public String getTransferProcessId() {
             return transferProcessId;
         }
+
+        @Override
+        public String entityId() {
+            return transferProcessId;
+        }
     }
 }
@@ -54,5 +54,10 @@ public class TransferProcessInitiated extends Event<TransferProcessInitiated.Pay
         public String getTransferProcessId() {
             return transferProcessId;
         }
+
+        @Override
+        public String entityId() {
+            return transferProcessId;
+        }
     }
 }
@@ -54,5 +54,10 @@ public class TransferProcessProvisioned extends Event<TransferProcessProvisioned
         public String getTransferProcessId() {
             return transferProcessId;
         }
+
+        @Override
+        public String entityId() {
+            return transferProcessId;
+        }
     }
 }
@@ -54,5 +54,10 @@ public class TransferProcessRequested extends Event<TransferProcessRequested.Pay
         public String getTransferProcessId() {
             return transferProcessId;
         }
+
+        @Override
+        public String entityId() {
+            return transferProcessId;
+        }
     }
 }
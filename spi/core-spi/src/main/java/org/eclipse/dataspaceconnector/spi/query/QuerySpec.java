@@ -19,14 +19,23 @@ import org.eclipse.dataspaceconnector.spi.message.Range;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 /**
  * Specifies various query parameters for collection-like queries. Typical uses include API endpoints, where the query
  * is tunnelled through to the database level.
+ * <p>
+ * Pages are either addressed by {@code offset} or by an opaque {@code cursor}. With a cursor, the results are ordered by
+ * the id of the entities in the requested {@link SortOrder} and start right after the entity the cursor was created for
+ * (keyset pagination), so that stores do not have to skip all preceding entities. An empty cursor requests the first
+ * page, the cursor of the next page is obtained with {@link #cursorAfter(String)} from the id of the last entity of a
+ * page.
  */
 public class QuerySpec {
     private int offset = 0;
@@ -34,6 +43,7 @@ public class QuerySpec {
     private List<Criterion> filterExpression = new ArrayList<>();
     private SortOrder sortOrder = SortOrder.ASC;
     private String sortField;
+    private String cursor;
 
     public static QuerySpec none() {
         return new QuerySpec();
@@ -46,13 +56,20 @@ public class QuerySpec {
         return QuerySpec.Builder.newInstance().limit(Integer.MAX_VALUE).build();
     }
 
+    /**
+     * Creates the cursor that addresses the page following the entity with the given id.
+     */
+    public static String cursorAfter(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(UTF_8));
+    }
+
     public String getSortField() {
         return sortField;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField);
+        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField, cursor);
     }
 
     @Override
@@ -64,7 +81,7 @@ public class QuerySpec {
             return false;
         }
         QuerySpec querySpec = (QuerySpec) o;
-        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField);
+        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField) && Objects.equals(cursor, querySpec.cursor);
     }
 
     @Override
@@ -75,6 +92,7 @@ public class QuerySpec {
                 ", filterExpression=" + filterExpression +
                 ", sortOrder=" + sortOrder +
                 ", sortField=" + sortField +
+                ", cursor=" + cursor +
                 '}';
     }
 
@@ -99,6 +117,22 @@ public class QuerySpec {
         return sortOrder;
     }
 
+    /**
+     * The opaque cursor of the requested page, null if the page is addressed by offset.
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * The id after which the requested page starts, empty for the first page and null if the page is addressed by
+     * offset.
+     */
+    @JsonIgnore
+    public String getCursorKey() {
+        return cursor == null ? null : new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+    }
+
     /**
      * Checks whether any {@link Criterion} contains the given left-hand operand
      */
@@ -149,6 +183,11 @@ public class QuerySpec {
             return this;
         }
 
+        public Builder cursor(String cursor) {
+            querySpec.cursor = cursor;
+            return this;
+        }
+
         public Builder equalsAsContains(boolean equalsAsContains) {
             this.equalsAsContains = equalsAsContains;
             return this;
@@ -161,6 +200,19 @@ public class QuerySpec {
             if (querySpec.limit <= 0) {
                 throw new IllegalArgumentException("limit");
             }
+            if (querySpec.cursor != null) {
+                if (querySpec.offset != 0) {
+                    throw new IllegalArgumentException("cursor cannot be combined with offset");
+                }
+                if (querySpec.sortField != null) {
+                    throw new IllegalArgumentException("cursor cannot be combined with sortField, pages are ordered by id");
+                }
+                try {
+                    Base64.getUrlDecoder().decode(querySpec.cursor);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("cursor", e);
+                }
+            }
             return querySpec;
         }
 
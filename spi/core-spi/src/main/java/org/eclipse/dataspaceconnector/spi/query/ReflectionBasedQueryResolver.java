@@ -16,9 +16,11 @@ package org.eclipse.dataspaceconnector.spi.query;
 
 import org.eclipse.dataspaceconnector.common.reflection.ReflectionUtil;
 
+import java.util.Comparator;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+import static java.lang.String.format;
 import static org.eclipse.dataspaceconnector.common.reflection.ReflectionUtil.propertyComparator;
 
 /**
@@ -28,6 +30,7 @@ import static org.eclipse.dataspaceconnector.common.reflection.ReflectionUtil.pr
  */
 public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
+    private static final String ID_FIELD = "id";
     private final Class<T> typeParameterClass;
 
     /**
@@ -43,7 +46,8 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
      * Method to query a stream by provided specification.
      * Converts the criterion into 'and' predicate.
      * Applies sorting. When sort field is not found returns empty stream.
-     * Applies offset and limit on the query result.
+     * Applies offset and limit on the query result, or, if the specification carries a cursor, orders by the {@code id}
+     * field and returns the elements following the cursor.
      *
      * @param stream stream to be queried.
      * @param spec query specification.
@@ -57,6 +61,12 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
         var andPredicate = predicateStream.reduce(x -> true, Predicate::and);
         Stream<T> filteredStream  = stream.filter(andPredicate);
 
+        // keyset
+        var cursorKey = spec.getCursorKey();
+        if (cursorKey != null) {
+            return afterCursor(filteredStream, cursorKey, spec);
+        }
+
         // sort
         var sortField = spec.getSortField();
 
@@ -73,6 +83,22 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
         return filteredStream.skip(spec.getOffset()).limit(spec.getLimit());
     }
 
+    private Stream<T> afterCursor(Stream<T> stream, String cursorKey, QuerySpec spec) {
+        if (ReflectionUtil.getFieldRecursive(typeParameterClass, ID_FIELD) == null) {
+            throw new IllegalArgumentException(format("Cursor pagination is not supported, %s has no %s field", typeParameterClass.getSimpleName(), ID_FIELD));
+        }
+        var ascending = spec.getSortOrder() == SortOrder.ASC;
+        Comparator<T> byId = Comparator.comparing(this::idOf);
+        if (!cursorKey.isEmpty()) {
+            stream = stream.filter(item -> ascending ? idOf(item).compareTo(cursorKey) > 0 : idOf(item).compareTo(cursorKey) < 0);
+        }
+        return stream.sorted(ascending ? byId : byId.reversed()).limit(spec.getLimit());
+    }
+
+    private String idOf(T item) {
+        return String.valueOf((Object) ReflectionUtil.getFieldValueSilent(ID_FIELD, item));
+    }
+
     private Predicate<T> toPredicate(Criterion criterion) {
         BaseCriterionToPredicateConverter<T> predicateConverter = new BaseCriterionToPredicateConverter<>() {
             @Override
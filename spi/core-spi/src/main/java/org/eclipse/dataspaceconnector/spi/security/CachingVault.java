@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.security;
+
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Decorates a {@link Vault} with a bounded read-through cache, so that resolving a secret does not require a round-trip
+ * to the vault every time.
+ * <p>
+ * Resolved secrets are cached for a fixed time, missing secrets are cached for a separate, usually shorter time.
+ * When the cache is full, the least recently used entry is evicted. Storing or deleting a secret through this vault
+ * invalidates its entry, changes made to the vault by other parties become visible once the entry expired.
+ */
+public class CachingVault implements Vault {
+
+    @EdcSetting
+    public static final String CACHE_TTL_SETTING = "edc.vault.cache.ttl";
+    @EdcSetting
+    public static final String CACHE_NEGATIVE_TTL_SETTING = "edc.vault.cache.negative.ttl";
+    @EdcSetting
+    public static final String CACHE_SIZE_SETTING = "edc.vault.cache.size";
+    public static final long DEFAULT_CACHE_TTL = 0;
+    public static final long DEFAULT_CACHE_NEGATIVE_TTL = 10;
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private final Vault delegate;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+    private long generation;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate    the vault to cache.
+     * @param ttl         how long a resolved secret is cached.
+     * @param negativeTtl how long a missing secret is cached, zero disables caching of missing secrets.
+     * @param maxEntries  the maximum number of cached entries.
+     * @param clock       the clock used to expire entries.
+     */
+    public CachingVault(Vault delegate, Duration ttl, Duration negativeTtl, int maxEntries, Clock clock) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("The maximum number of cached entries must be at least 1");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.ttlMillis = ttl.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Decorates the vault with a cache if one is configured through {@value #CACHE_TTL_SETTING}, otherwise returns the vault
+     * unchanged.
+     */
+    public static Vault decorate(Vault vault, ServiceExtensionContext context) {
+        var ttl = context.getSetting(CACHE_TTL_SETTING, DEFAULT_CACHE_TTL);
+        if (ttl <= 0) {
+            return vault;
+        }
+        var negativeTtl = context.getSetting(CACHE_NEGATIVE_TTL_SETTING, DEFAULT_CACHE_NEGATIVE_TTL);
+        var size = context.getSetting(CACHE_SIZE_SETTING, DEFAULT_CACHE_SIZE);
+        context.getMonitor().info(String.format("Caching vault secrets for %s seconds (missing secrets for %s seconds, at most %s entries)", ttl, negativeTtl, size));
+        return new CachingVault(vault, Duration.ofSeconds(ttl), Duration.ofSeconds(Math.max(0, negativeTtl)), size, Clock.systemUTC());
+    }
+
+    @Override
+    public @Nullable String resolveSecret(String key) {
+        long resolvingGeneration;
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt > clock.millis()) {
+                    return entry.value;
+                }
+                entries.remove(key);
+            }
+            resolvingGeneration = generation;
+        }
+
+        // resolve outside the lock, as the delegate may be remote
+        var value = delegate.resolveSecret(key);
+
+        var ttl = value != null ? ttlMillis : negativeTtlMillis;
+        if (ttl > 0) {
+            synchronized (entries) {
+                // a secret stored or deleted in the meantime must not be overwritten with the resolved value
+                if (resolvingGeneration == generation) {
+                    entries.put(key, new Entry(value, clock.millis() + ttl));
+                }
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public Result<Void> storeSecret(String key, String value) {
+        try {
+            return delegate.storeSecret(key, value);
+        } finally {
+            invalidate(key);
+        }
+    }
+
+    @Override
+    public Result<Void> deleteSecret(String key) {
+        try {
+            return delegate.deleteSecret(key);
+        } finally {
+            invalidate(key);
+        }
+    }
+
+    private void invalidate(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+            generation++;
+        }
+    }
+
+    private static class Entry {
+        private final String value;
+        private final long expiresAt;
+
+        Entry(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
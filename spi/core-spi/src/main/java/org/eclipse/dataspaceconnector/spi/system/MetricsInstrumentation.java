@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.system;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Services for recording domain-level metrics, such as timings of store calls or the throughput of state machines.
+ * <p>
+ * The default implementation does not record anything. Extension modules can provide implementations of the
+ * {@link MetricsInstrumentation} interface, such as for collecting metrics. Tags are passed as key/value pairs, e.g.
+ * {@code "state", "INITIAL"}.
+ */
+public interface MetricsInstrumentation {
+
+    /**
+     * Default implementation that does not record any metric. Extension modules can provide implementations, such as
+     * for collecting metrics.
+     *
+     * @return a default {@link MetricsInstrumentation} implementation.
+     */
+    static MetricsInstrumentation noop() {
+        return new MetricsInstrumentation() {
+        };
+    }
+
+    /**
+     * Indicates if metrics are actually recorded. Callers can use this to avoid the cost of decorating or tagging
+     * when instrumentation is disabled.
+     *
+     * @return true if metrics are recorded, false otherwise.
+     */
+    default boolean isEnabled() {
+        return false;
+    }
+
+    /**
+     * Executes an operation and records its duration.
+     *
+     * @param name      name of the timer.
+     * @param operation the operation to execute.
+     * @param tags      tags as key/value pairs.
+     * @return the result of the operation.
+     */
+    default <T> T time(String name, Supplier<T> operation, String... tags) {
+        return operation.get();
+    }
+
+    /**
+     * Executes an asynchronous operation and records the duration until the returned future completes.
+     *
+     * @param name      name of the timer.
+     * @param operation the operation to execute.
+     * @param tags      tags as key/value pairs.
+     * @return the future returned by the operation.
+     */
+    default <T> CompletableFuture<T> timeAsync(String name, Supplier<CompletableFuture<T>> operation, String... tags) {
+        return operation.get();
+    }
+
+    /**
+     * Records a duration that was measured by the caller.
+     *
+     * @param name     name of the timer.
+     * @param duration the measured duration.
+     * @param tags     tags as key/value pairs.
+     */
+    default void record(String name, Duration duration, String... tags) {
+    }
+
+    /**
+     * Increments a counter.
+     *
+     * @param name   name of the counter.
+     * @param amount amount to add.
+     * @param tags   tags as key/value pairs.
+     */
+    default void increment(String name, double amount, String... tags) {
+    }
+
+    /**
+     * Registers a gauge, which samples the given value whenever metrics are collected.
+     *
+     * @param name  name of the gauge.
+     * @param value supplier of the current value.
+     * @param tags  tags as key/value pairs.
+     */
+    default void gauge(String name, Supplier<Number> value, String... tags) {
+    }
+}
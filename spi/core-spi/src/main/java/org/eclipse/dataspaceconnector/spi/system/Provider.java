@@ -31,9 +31,15 @@ import java.lang.annotation.Target;
  *     <li>be public</li>
  *     <li>either have no parameters or accept a single {@linkplain ServiceExtensionContext}</li>
  * </ul>
+ * <p>
+ * Non-default providers can be declared {@linkplain #isLazy() lazy}: the method is then only invoked the first time the
+ * service is resolved from the {@link ServiceExtensionContext}, which avoids constructing expensive services that are
+ * never used.
  */
 @Target({ ElementType.METHOD })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Provider {
     boolean isDefault() default false;
+
+    boolean isLazy() default false;
 }
@@ -20,6 +20,7 @@ import org.eclipse.dataspaceconnector.spi.telemetry.Telemetry;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 
 import java.time.Clock;
+import java.util.function.Supplier;
 
 /**
  * Context provided to extensions when they are initialized.
@@ -85,6 +86,14 @@ public interface ServiceExtensionContext extends SettingResolver {
     default <T> void registerService(Class<T> type, T service) {
     }
 
+    /**
+     * Registers a service that is created by the supplier the first time it is resolved. Contexts that do not support
+     * lazy resolution create the service immediately.
+     */
+    default <T> void registerLazyService(Class<T> type, Supplier<T> supplier) {
+        registerService(type, supplier.get());
+    }
+
     /**
      * Initializes the service context. This should be used to perform tasks like service registrations, etc.
      */
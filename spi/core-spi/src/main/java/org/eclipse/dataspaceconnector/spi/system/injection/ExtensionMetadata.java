@@ -0,0 +1,255 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.system.injection;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import org.eclipse.dataspaceconnector.spi.system.Inject;
+import org.eclipse.dataspaceconnector.spi.system.Provider;
+import org.eclipse.dataspaceconnector.spi.system.Provides;
+import org.eclipse.dataspaceconnector.spi.system.Requires;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Describes the injection-relevant declarations of a single {@link org.eclipse.dataspaceconnector.spi.system.ServiceExtension}:
+ * fields annotated with {@link Inject}, methods annotated with {@link Provider} and the features declared with {@link Provides}
+ * and {@link Requires}.
+ * <p>
+ * The metadata is generated at build time by the module processor and stored in the {@link #INDEX_RESOURCE} of every
+ * module, which allows the runtime to resolve dependencies from the index instead of deriving them from the annotations
+ * of every member. All type names are binary names, i.e. as returned by {@link Class#getName()}.
+ */
+@JsonDeserialize(builder = ExtensionMetadata.Builder.class)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ExtensionMetadata {
+    public static final String INDEX_RESOURCE = "META-INF/edc/injection-index.json";
+
+    private final String type;
+    private final List<InjectedField> injectedFields;
+    private final List<ProviderMethodMetadata> providerMethods;
+    private final List<String> provides;
+    private final List<String> requires;
+
+    private ExtensionMetadata(String type, List<InjectedField> injectedFields, List<ProviderMethodMetadata> providerMethods, List<String> provides, List<String> requires) {
+        this.type = type;
+        this.injectedFields = injectedFields;
+        this.providerMethods = providerMethods;
+        this.provides = provides;
+        this.requires = requires;
+    }
+
+    /**
+     * The class name of the extension.
+     */
+    public String getType() {
+        return type;
+    }
+
+    public List<InjectedField> getInjectedFields() {
+        return injectedFields;
+    }
+
+    public List<ProviderMethodMetadata> getProviderMethods() {
+        return providerMethods;
+    }
+
+    /**
+     * The class names of the features declared with {@link Provides}.
+     */
+    public List<String> getProvides() {
+        return provides;
+    }
+
+    /**
+     * The class names of the features declared with {@link Requires}.
+     */
+    public List<String> getRequires() {
+        return requires;
+    }
+
+    /**
+     * A field annotated with {@link Inject}.
+     */
+    public static class InjectedField {
+        private final String name;
+        private final String type;
+        private final boolean required;
+
+        public InjectedField(@JsonProperty("name") String name, @JsonProperty("type") String type, @JsonProperty("required") boolean required) {
+            this.name = Objects.requireNonNull(name, "name");
+            this.type = Objects.requireNonNull(type, "type");
+            this.required = required;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public boolean isRequired() {
+            return required;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            InjectedField that = (InjectedField) o;
+            return required == that.required && name.equals(that.name) && type.equals(that.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, type, required);
+        }
+    }
+
+    /**
+     * A method annotated with {@link Provider}.
+     */
+    public static class ProviderMethodMetadata {
+        private final String name;
+        private final String type;
+        private final boolean isDefault;
+        private final boolean isLazy;
+        private final boolean acceptsContext;
+
+        public ProviderMethodMetadata(@JsonProperty("name") String name, @JsonProperty("type") String type, @JsonProperty("isDefault") boolean isDefault,
+                                      @JsonProperty("isLazy") boolean isLazy, @JsonProperty("acceptsContext") boolean acceptsContext) {
+            this.name = Objects.requireNonNull(name, "name");
+            this.type = Objects.requireNonNull(type, "type");
+            this.isDefault = isDefault;
+            this.isLazy = isLazy;
+            this.acceptsContext = acceptsContext;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * The class name of the provided service, i.e. the return type of the method.
+         */
+        public String getType() {
+            return type;
+        }
+
+        @JsonProperty("isDefault")
+        public boolean isDefault() {
+            return isDefault;
+        }
+
+        @JsonProperty("isLazy")
+        public boolean isLazy() {
+            return isLazy;
+        }
+
+        /**
+         * Whether the method accepts the {@link org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext} as parameter.
+         */
+        @JsonProperty("acceptsContext")
+        public boolean acceptsContext() {
+            return acceptsContext;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ProviderMethodMetadata that = (ProviderMethodMetadata) o;
+            return isDefault == that.isDefault && isLazy == that.isLazy && acceptsContext == that.acceptsContext &&
+                    name.equals(that.name) && type.equals(that.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, type, isDefault, isLazy, acceptsContext);
+        }
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static class Builder {
+        private final List<InjectedField> injectedFields = new ArrayList<>();
+        private final List<ProviderMethodMetadata> providerMethods = new ArrayList<>();
+        private final List<String> provides = new ArrayList<>();
+        private final List<String> requires = new ArrayList<>();
+        private String type;
+
+        private Builder() {
+        }
+
+        @JsonCreator
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder type(String type) {
+            this.type = type;
+            return this;
+        }
+
+        public Builder injectedFields(List<InjectedField> injectedFields) {
+            this.injectedFields.addAll(injectedFields);
+            return this;
+        }
+
+        public Builder injectedField(InjectedField injectedField) {
+            injectedFields.add(injectedField);
+            return this;
+        }
+
+        public Builder providerMethods(List<ProviderMethodMetadata> providerMethods) {
+            this.providerMethods.addAll(providerMethods);
+            return this;
+        }
+
+        public Builder providerMethod(ProviderMethodMetadata providerMethod) {
+            providerMethods.add(providerMethod);
+            return this;
+        }
+
+        public Builder provides(List<String> provides) {
+            this.provides.addAll(provides);
+            return this;
+        }
+
+        public Builder requires(List<String> requires) {
+            this.requires.addAll(requires);
+            return this;
+        }
+
+        public ExtensionMetadata build() {
+            Objects.requireNonNull(type, "type");
+            return new ExtensionMetadata(type, injectedFields, providerMethods, provides, requires);
+        }
+    }
+}
@@ -29,11 +29,14 @@ import static java.util.Optional.ofNullable;
 public class ProviderMethod {
     private final Method method;
     private final boolean isDefault;
+    private final boolean isLazy;
 
     public ProviderMethod(Method method) {
         this.method = method;
-        isDefault = ofNullable(method.getAnnotation(Provider.class)).map(Provider::isDefault)
+        var annotation = ofNullable(method.getAnnotation(Provider.class))
                 .orElseThrow(() -> new IllegalArgumentException(format("Method %s is not annotated with @Provider!", method)));
+        isDefault = annotation.isDefault();
+        isLazy = annotation.isLazy();
     }
 
     public Method getMethod() {
@@ -47,6 +50,13 @@ public class ProviderMethod {
         return isDefault;
     }
 
+    /**
+     * Whether {@link Provider#isLazy()} is {@code true} or {@code false}
+     */
+    public boolean isLazy() {
+        return isLazy;
+    }
+
     @SuppressWarnings("unchecked")
     public <T> Class<T> getReturnType() {
         return (Class<T>) method.getReturnType();
@@ -28,32 +28,53 @@ import static java.lang.reflect.Modifier.isPublic;
  */
 public class ProviderMethodScanner {
     private final Object target;
+    private Set<ProviderMethod> providerMethods;
 
     public ProviderMethodScanner(ServiceExtension target) {
         this.target = target;
     }
 
+    /**
+     * Creates a scanner for provider methods that are already known, e.g. from the {@link ExtensionMetadata} generated at
+     * build time, so that the target does not need to be scanned.
+     */
+    public ProviderMethodScanner(ServiceExtension target, Set<ProviderMethod> providerMethods) {
+        this.target = target;
+        this.providerMethods = validate(providerMethods);
+    }
+
 
     /**
      * Returns all methods annotated with {@link Provider}, where {@link Provider#isDefault()} is {@code false}
      */
     public Set<ProviderMethod> nonDefaultProviders() {
-        return getProviderMethods(target).stream().filter(pm -> !pm.isDefault()).collect(Collectors.toSet());
+        return getProviderMethods().stream().filter(pm -> !pm.isDefault()).collect(Collectors.toSet());
     }
 
     /**
      * Returns all methods annotated with {@link Provider}, where {@link Provider#isDefault()} is {@code true}
      */
     public Set<ProviderMethod> defaultProviders() {
-        return getProviderMethods(target).stream().filter(ProviderMethod::isDefault).collect(Collectors.toSet());
+        return getProviderMethods().stream().filter(ProviderMethod::isDefault).collect(Collectors.toSet());
     }
 
-    private Set<ProviderMethod> getProviderMethods(Object extension) {
+    // the target's methods are only scanned once, no matter how many times the providers are requested
+    private Set<ProviderMethod> getProviderMethods() {
+        if (providerMethods == null) {
+            providerMethods = scanProviderMethods(target);
+        }
+        return providerMethods;
+    }
+
+    private Set<ProviderMethod> scanProviderMethods(Object extension) {
         var methods = Arrays.stream(extension.getClass().getDeclaredMethods())
                 .filter(m -> m.getAnnotation(Provider.class) != null)
                 .map(ProviderMethod::new)
                 .collect(Collectors.toSet());
+        return validate(methods);
+    }
 
+    private Set<ProviderMethod> validate(Set<ProviderMethod> methods) {
         if (methods.stream().anyMatch(m -> m.getReturnType().equals(Void.TYPE))) {
             throw new EdcInjectionException("Methods annotated with @Provider must have a non-void return type!");
         }
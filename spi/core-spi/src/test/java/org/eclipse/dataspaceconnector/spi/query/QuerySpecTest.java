@@ -31,6 +31,20 @@ class QuerySpecTest {
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().limit(-10).build()).isInstanceOf(IllegalArgumentException.class);
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().limit(0).build()).isInstanceOf(IllegalArgumentException.class);
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().offset(-10).build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuerySpec.Builder.newInstance().cursor("").offset(10).build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuerySpec.Builder.newInstance().cursor("").sortField("name").build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuerySpec.Builder.newInstance().cursor("not a cursor!").build()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verifyCursor() {
+        var cursor = QuerySpec.cursorAfter("urn:asset:42");
+        var spec = QuerySpec.Builder.newInstance().cursor(cursor).build();
+
+        assertThat(spec.getCursor()).isEqualTo(cursor).doesNotContain("urn:asset:42");
+        assertThat(spec.getCursorKey()).isEqualTo("urn:asset:42");
+        assertThat(QuerySpec.Builder.newInstance().cursor("").build().getCursorKey()).isEmpty();
+        assertThat(QuerySpec.none().getCursorKey()).isNull();
     }
 
     @Test
@@ -43,6 +57,7 @@ class QuerySpecTest {
         assertion.extracting(QuerySpec::getOffset).isEqualTo(0);
         assertion.extracting(QuerySpec::getSortOrder).isEqualTo(SortOrder.ASC);
         assertion.extracting(QuerySpec::getSortField).isNull();
+        assertion.extracting(QuerySpec::getCursor).isNull();
     }
 
     @ParameterizedTest
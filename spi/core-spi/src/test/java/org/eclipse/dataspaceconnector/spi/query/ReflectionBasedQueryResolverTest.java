@@ -100,6 +100,38 @@ class ReflectionBasedQueryResolverTest {
         assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(8, 7);
     }
 
+    @Test
+    void verifyQuery_cursor() {
+        var stream = IntStream.range(0, 10).mapToObj(FakeItem::new);
+
+        QuerySpec spec = QuerySpec.Builder.newInstance().cursor(QuerySpec.cursorAfter("3")).limit(2).build();
+        assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(4, 5);
+    }
+
+    @Test
+    void verifyQuery_cursorDesc() {
+        var stream = IntStream.range(0, 10).mapToObj(FakeItem::new);
+
+        QuerySpec spec = QuerySpec.Builder.newInstance().cursor(QuerySpec.cursorAfter("3")).sortOrder(SortOrder.DESC).limit(5).build();
+        assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(2, 1, 0);
+    }
+
+    @Test
+    void verifyQuery_emptyCursorReturnsFirstPage() {
+        var stream = Stream.of(7, 2, 9, 0, 5).map(FakeItem::new);
+
+        QuerySpec spec = QuerySpec.Builder.newInstance().cursor("").limit(3).build();
+        assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(0, 2, 5);
+    }
+
+    @Test
+    void verifyQuery_cursorWithFilter() {
+        var stream = IntStream.range(0, 10).mapToObj(i -> new FakeItem(i, i % 2 == 0 ? "Alice" : "Bob"));
+
+        QuerySpec spec = QuerySpec.Builder.newInstance().filter("name=Alice").cursor(QuerySpec.cursorAfter("2")).build();
+        assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(4, 6, 8);
+    }
+
     @Test
     void verifyExceptionThrown_invalidCriterion() {
         var stream = Stream.concat(
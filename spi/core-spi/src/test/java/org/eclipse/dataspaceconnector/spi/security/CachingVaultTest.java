@@ -0,0 +1,197 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.security;
+
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.dataspaceconnector.spi.security.CachingVault.CACHE_NEGATIVE_TTL_SETTING;
+import static org.eclipse.dataspaceconnector.spi.security.CachingVault.CACHE_SIZE_SETTING;
+import static org.eclipse.dataspaceconnector.spi.security.CachingVault.CACHE_TTL_SETTING;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CachingVaultTest {
+
+    private final CountingVault delegate = new CountingVault();
+    private final Clock clock = mock(Clock.class);
+    private CachingVault vault;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+        vault = new CachingVault(delegate, Duration.ofSeconds(60), Duration.ofSeconds(5), 2, clock);
+    }
+
+    @Test
+    void resolveSecret_cachesValue() {
+        delegate.storeSecret("key", "value");
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+
+        assertThat(delegate.resolveCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void resolveSecret_expiresValue() {
+        delegate.storeSecret("key", "value");
+        vault.resolveSecret("key");
+
+        when(clock.millis()).thenReturn(60_000L);
+        vault.resolveSecret("key");
+
+        assertThat(delegate.resolveCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void resolveSecret_cachesMissingSecret() {
+        assertThat(vault.resolveSecret("missing")).isNull();
+        assertThat(vault.resolveSecret("missing")).isNull();
+        assertThat(delegate.resolveCount.get()).isEqualTo(1);
+
+        when(clock.millis()).thenReturn(5_000L);
+        assertThat(vault.resolveSecret("missing")).isNull();
+        assertThat(delegate.resolveCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void resolveSecret_doesNotCacheMissingSecret_whenNegativeTtlIsZero() {
+        vault = new CachingVault(delegate, Duration.ofSeconds(60), Duration.ZERO, 2, clock);
+
+        vault.resolveSecret("missing");
+        vault.resolveSecret("missing");
+
+        assertThat(delegate.resolveCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void resolveSecret_evictsLeastRecentlyUsed() {
+        delegate.storeSecret("key1", "value1");
+        delegate.storeSecret("key2", "value2");
+        delegate.storeSecret("key3", "value3");
+
+        vault.resolveSecret("key1");
+        vault.resolveSecret("key2");
+        vault.resolveSecret("key1");
+        vault.resolveSecret("key3");
+        assertThat(delegate.resolveCount.get()).isEqualTo(3);
+
+        vault.resolveSecret("key1");
+        assertThat(delegate.resolveCount.get()).isEqualTo(3);
+        vault.resolveSecret("key2");
+        assertThat(delegate.resolveCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    void storeSecret_invalidatesEntry() {
+        assertThat(vault.resolveSecret("key")).isNull();
+
+        assertThat(vault.storeSecret("key", "value").succeeded()).isTrue();
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+        assertThat(delegate.resolveCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void deleteSecret_invalidatesEntry() {
+        vault.storeSecret("key", "value");
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+
+        assertThat(vault.deleteSecret("key").succeeded()).isTrue();
+
+        assertThat(vault.resolveSecret("key")).isNull();
+        assertThat(delegate.resolveCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void storeSecret_duringResolve_isNotOverwrittenByResolvedValue() {
+        delegate.storeSecret("key", "old");
+        delegate.onResolve = () -> vault.storeSecret("key", "new");
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("old");
+
+        delegate.onResolve = () -> { };
+        assertThat(vault.resolveSecret("key")).isEqualTo("new");
+    }
+
+    @Test
+    void verifyInvalidSize() {
+        assertThatThrownBy(() -> new CachingVault(delegate, Duration.ofSeconds(1), Duration.ZERO, 0, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decorate_returnsVault_whenCacheDisabled() {
+        var context = mock(ServiceExtensionContext.class);
+        when(context.getSetting(eq(CACHE_TTL_SETTING), anyLong())).thenReturn(0L);
+
+        assertThat(CachingVault.decorate(delegate, context)).isSameAs(delegate);
+    }
+
+    @Test
+    void decorate_returnsCachingVault_whenCacheEnabled() {
+        var context = mock(ServiceExtensionContext.class);
+        when(context.getMonitor()).thenReturn(mock(Monitor.class));
+        when(context.getSetting(eq(CACHE_TTL_SETTING), anyLong())).thenReturn(30L);
+        when(context.getSetting(eq(CACHE_NEGATIVE_TTL_SETTING), anyLong())).thenReturn(5L);
+        when(context.getSetting(eq(CACHE_SIZE_SETTING), anyInt())).thenReturn(10);
+
+        assertThat(CachingVault.decorate(delegate, context)).isInstanceOf(CachingVault.class);
+    }
+
+    /**
+     * In-memory vault that counts how often secrets are resolved.
+     */
+    private static class CountingVault implements Vault {
+        private final Map<String, String> secrets = new HashMap<>();
+        private final AtomicInteger resolveCount = new AtomicInteger();
+        private Runnable onResolve = () -> { };
+
+        @Override
+        public String resolveSecret(String key) {
+            resolveCount.incrementAndGet();
+            var value = secrets.get(key);
+            onResolve.run();
+            return value;
+        }
+
+        @Override
+        public Result<Void> storeSecret(String key, String value) {
+            secrets.put(key, value);
+            return Result.success();
+        }
+
+        @Override
+        public Result<Void> deleteSecret(String key) {
+            secrets.remove(key);
+            return Result.success();
+        }
+    }
+}
@@ -21,6 +21,8 @@ import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Handles a data flow.
  */
@@ -47,4 +49,17 @@ public interface DataFlowController {
     @NotNull
     StatusResult<Void> initiateFlow(DataRequest dataRequest, DataAddress contentAddress, Policy policy);
 
+    /**
+     * Initiate a data flow without blocking the caller, e.g. when the flow is delegated to a remote service. The default
+     * implementation completes with the result of {@link #initiateFlow(DataRequest, DataAddress, Policy)}.
+     *
+     * @param dataRequest    the request
+     * @param contentAddress the address to resolve the asset contents. This may be the original asset address or an address resolving to generated content.
+     * @param policy         the contract agreement usage policy for the asset being transferred
+     */
+    @NotNull
+    default CompletableFuture<StatusResult<Void>> initiateFlowAsync(DataRequest dataRequest, DataAddress contentAddress, Policy policy) {
+        return CompletableFuture.completedFuture(initiateFlow(dataRequest, contentAddress, policy));
+    }
+
 }
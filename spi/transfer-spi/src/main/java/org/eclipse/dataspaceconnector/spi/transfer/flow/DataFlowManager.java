@@ -20,6 +20,8 @@ import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Manages data flows and dispatches to {@link DataFlowController}s.
  */
@@ -39,4 +41,16 @@ public interface DataFlowManager {
      */
     @NotNull
     StatusResult<Void> initiate(DataRequest dataRequest, DataAddress contentAddress, Policy policy);
+
+    /**
+     * Initiates a data flow without blocking the caller, see {@link DataFlowController#initiateFlowAsync(DataRequest, DataAddress, Policy)}.
+     *
+     * @param dataRequest    the data to transfer
+     * @param contentAddress the address to resolve the asset contents. This may be the original asset address or an address resolving to generated content.
+     * @param policy         the contract agreement usage policy for the asset being transferred
+     */
+    @NotNull
+    default CompletableFuture<StatusResult<Void>> initiateAsync(DataRequest dataRequest, DataAddress contentAddress, Policy policy) {
+        return CompletableFuture.completedFuture(initiate(dataRequest, contentAddress, policy));
+    }
 }
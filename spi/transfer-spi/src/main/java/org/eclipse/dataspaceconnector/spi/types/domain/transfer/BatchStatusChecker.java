@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.types.domain.transfer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link StatusChecker} that checks several data transfers at once, so that transfers to the same destination can share
+ * requests to the destination storage.
+ */
+public interface BatchStatusChecker extends StatusChecker {
+
+    /**
+     * Checks which of the data transfers are finished.
+     *
+     * @param processes The data transfer processes mapped to their provisioned resources, or to an empty collection if no resources were provisioned
+     * @return the ids of the finished transfer processes
+     */
+    Set<String> completed(Map<TransferProcess, List<ProvisionedResource>> processes);
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.types.domain.transfer;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Names of the marker objects that signal the completion of a data transfer to a storage destination, e.g. a bucket or an
+ * object container. Status checkers probe for these names directly instead of listing the destination.
+ */
+public final class CompletionMarker {
+
+    /**
+     * Name of the marker written by data plane sinks once all parts have been transferred to the destination.
+     */
+    public static final String NAME = ".complete";
+
+    private CompletionMarker() {
+    }
+
+    /**
+     * Names of the markers that are specific to a transfer process, i.e. {@code <id>.complete} with the id of the process
+     * or the id of its data request.
+     */
+    public static List<String> namesFor(TransferProcess process) {
+        var names = new LinkedHashSet<String>();
+        names.add(process.getId() + NAME);
+        var dataRequest = process.getDataRequest();
+        if (dataRequest != null && dataRequest.getId() != null) {
+            names.add(dataRequest.getId() + NAME);
+        }
+        return List.copyOf(names);
+    }
+}
@@ -19,7 +19,7 @@ import java.util.List;
 /**
  * Checks if a data transfer has completed.
  * <p>
- * For example, a data transfer type involving the copying of files to a folder may employ a completion check that verifies if a file with the "*.complete" extension exists.
+ * For example, a data transfer type involving the copying of files to a folder may employ a completion check that verifies if a {@link CompletionMarker} file exists.
  */
 @FunctionalInterface
 public interface StatusChecker {
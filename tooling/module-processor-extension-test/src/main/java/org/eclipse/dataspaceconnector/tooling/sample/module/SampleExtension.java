@@ -17,8 +17,10 @@ package org.eclipse.dataspaceconnector.tooling.sample.module;
 import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.system.Extension;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
+import org.eclipse.dataspaceconnector.spi.system.Provider;
 import org.eclipse.dataspaceconnector.spi.system.Provides;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 
 import static org.eclipse.dataspaceconnector.tooling.sample.module.SampleExtension.CATEGORY;
 import static org.eclipse.dataspaceconnector.tooling.sample.module.SampleExtension.NAME;
@@ -43,4 +45,10 @@ public class SampleExtension implements ServiceExtension {
     @Inject(required = false)
     protected OptionalService optionalService;
 
+    @Provider(isDefault = true)
+    public ProvidedService1 providedService1(ServiceExtensionContext context) {
+        return new ProvidedService1() {
+        };
+    }
+
 }
@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.tooling.sample.module;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspaceconnector.spi.system.injection.ExtensionMetadata;
 import org.eclipse.dataspaceconnector.tooling.module.domain.EdcModule;
 import org.eclipse.dataspaceconnector.tooling.module.domain.ServiceReference;
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,7 @@ import java.nio.file.Paths;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 /**
  * Verifies the sample extension module is introspected correctly.
@@ -35,6 +37,9 @@ class EdcModuleProcessorExtensionTest {
     private static final TypeReference<List<EdcModule>> TYPE_REFERENCE = new TypeReference<>() {
     };
 
+    private static final TypeReference<List<ExtensionMetadata>> INDEX_TYPE_REFERENCE = new TypeReference<>() {
+    };
+
     @Test
     void verify() throws IOException {
         var userdir = System.getProperty("user.dir"); //will point to the module's directory
@@ -67,4 +72,33 @@ class EdcModuleProcessorExtensionTest {
             assertThat(configuration.getDescription()).isNotEmpty();
         }
     }
+
+    @Test
+    void verifyInjectionIndex() throws IOException {
+        var url = getClass().getClassLoader().getResource(ExtensionMetadata.INDEX_RESOURCE);
+        assertThat(url).isNotNull();
+
+        try (var stream = url.openStream()) {
+            var index = new ObjectMapper().readValue(stream, INDEX_TYPE_REFERENCE);
+            assertThat(index).hasSize(1);
+
+            var metadata = index.get(0);
+            assertThat(metadata.getType()).isEqualTo(SampleExtension.class.getName());
+            assertThat(metadata.getProvides()).containsExactly(ProvidedService1.class.getName());
+            assertThat(metadata.getRequires()).isEmpty();
+            assertThat(metadata.getInjectedFields())
+                    .extracting(ExtensionMetadata.InjectedField::getName, ExtensionMetadata.InjectedField::getType, ExtensionMetadata.InjectedField::isRequired)
+                    .containsExactlyInAnyOrder(
+                            tuple("requiredService", RequiredService.class.getName(), true),
+                            tuple("optionalService", OptionalService.class.getName(), false));
+
+            assertThat(metadata.getProviderMethods()).hasSize(1);
+            var providerMethod = metadata.getProviderMethods().get(0);
+            assertThat(providerMethod.getName()).isEqualTo("providedService1");
+            assertThat(providerMethod.getType()).isEqualTo(ProvidedService1.class.getName());
+            assertThat(providerMethod.isDefault()).isTrue();
+            assertThat(providerMethod.isLazy()).isFalse();
+            assertThat(providerMethod.acceptsContext()).isTrue();
+        }
+    }
 }
@@ -17,8 +17,10 @@ package org.eclipse.dataspaceconnector.tooling.module.processor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.dataspaceconnector.spi.system.Extension;
 import org.eclipse.dataspaceconnector.spi.system.Spi;
+import org.eclipse.dataspaceconnector.spi.system.injection.ExtensionMetadata;
 import org.eclipse.dataspaceconnector.tooling.module.domain.EdcModule;
 import org.eclipse.dataspaceconnector.tooling.module.domain.ModuleType;
+import org.eclipse.dataspaceconnector.tooling.module.processor.introspection.InjectionIntrospector;
 import org.eclipse.dataspaceconnector.tooling.module.processor.introspection.ModuleIntrospector;
 import org.eclipse.dataspaceconnector.tooling.module.processor.introspection.OverviewIntrospector;
 import org.jetbrains.annotations.Nullable;
@@ -27,6 +29,7 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -49,6 +52,9 @@ import static javax.tools.Diagnostic.Kind.NOTE;
  * Two processor parameters must be set: {@link #ID} which by convention uses Maven group id an artifact id coordinates;
  * and {@link #VERSION}. To Override the location where the manifest is generated, specify
  * {@link #EDC_LOCATION_OVERRIDE} as a processor parameter.
+ * <p>
+ * Additionally, the injection metadata of the module's extensions is written to {@link ExtensionMetadata#INDEX_RESOURCE},
+ * which allows the runtime to resolve dependencies without scanning the extensions by reflection.
  */
 @SupportedAnnotationTypes({
         "org.eclipse.dataspaceconnector.spi.EdcSetting",
@@ -76,6 +82,10 @@ public class EdcModuleProcessor extends AbstractProcessor {
 
     private OverviewIntrospector overviewIntrospector;
 
+    private InjectionIntrospector injectionIntrospector;
+
+    private final List<ExtensionMetadata> injectionIndex = new ArrayList<>();
+
     private EdcModule.Builder moduleBuilder;
 
     private ModuleType moduleType;
@@ -86,10 +96,18 @@ public class EdcModuleProcessor extends AbstractProcessor {
         moduleIntrospector = new ModuleIntrospector(processingEnv.getElementUtils());
         //todo: replace this Noop converter with an actual JavadocConverter
         overviewIntrospector = new OverviewIntrospector(javadoc -> javadoc, processingEnv.getElementUtils());
+        injectionIntrospector = new InjectionIntrospector(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
     }
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment environment) {
+        // the injection index is generated for every module, regardless of whether it is documented by a manifest
+        if (environment.processingOver()) {
+            writeInjectionIndex();
+        } else {
+            injectionIndex.addAll(injectionIntrospector.resolveExtensionMetadata(environment));
+        }
+
         if (!initializeModuleBuilder(environment)) {
             return false;  // error, do not continue processing
         }
@@ -194,5 +212,23 @@ public class EdcModuleProcessor extends AbstractProcessor {
         }
     }
 
+    /**
+     * Writes the {@link ExtensionMetadata} of the module to the class output, so that it is packaged with the module and
+     * can be picked up by the runtime.
+     */
+    private void writeInjectionIndex() {
+        if (injectionIndex.isEmpty()) {
+            return;
+        }
+        try {
+            var resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", ExtensionMetadata.INDEX_RESOURCE);
+            try (var writer = resource.openWriter()) {
+                mapper.writeValue(writer, injectionIndex);
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
 
 }
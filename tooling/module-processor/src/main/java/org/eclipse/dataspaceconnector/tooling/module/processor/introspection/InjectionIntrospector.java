@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.tooling.module.processor.introspection;
+
+import org.eclipse.dataspaceconnector.spi.system.Inject;
+import org.eclipse.dataspaceconnector.spi.system.Provider;
+import org.eclipse.dataspaceconnector.spi.system.Provides;
+import org.eclipse.dataspaceconnector.spi.system.Requires;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.system.injection.ExtensionMetadata;
+
+import java.lang.annotation.Annotation;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import static java.util.stream.Collectors.toList;
+import static org.eclipse.dataspaceconnector.tooling.module.processor.compiler.AnnotationFunctions.attributeTypeValues;
+import static org.eclipse.dataspaceconnector.tooling.module.processor.compiler.AnnotationFunctions.attributeValue;
+import static org.eclipse.dataspaceconnector.tooling.module.processor.compiler.AnnotationFunctions.mirrorFor;
+
+/**
+ * Resolves the {@link ExtensionMetadata} of the types declared in the current module, i.e. the members and features
+ * the boot runtime would otherwise discover by reflection.
+ */
+public class InjectionIntrospector {
+    private final Elements elementUtils;
+    private final Types typeUtils;
+
+    public InjectionIntrospector(Elements elementUtils, Types typeUtils) {
+        this.elementUtils = elementUtils;
+        this.typeUtils = typeUtils;
+    }
+
+    /**
+     * Resolves the metadata of all types that declare {@link Inject} fields, {@link Provider} methods, or are annotated with
+     * {@link Provides} or {@link Requires}.
+     */
+    public List<ExtensionMetadata> resolveExtensionMetadata(RoundEnvironment environment) {
+        var builders = new LinkedHashMap<TypeElement, ExtensionMetadata.Builder>();
+
+        environment.getElementsAnnotatedWith(Inject.class).stream()
+                .filter(element -> element.getKind() == ElementKind.FIELD)
+                .forEach(element -> {
+                    var required = attributeValue(Boolean.class, "required", mirrorFor(Inject.class, element), elementUtils);
+                    var field = new ExtensionMetadata.InjectedField(element.getSimpleName().toString(), binaryName(element.asType()), required);
+                    builderFor(element.getEnclosingElement(), builders).injectedField(field);
+                });
+
+        environment.getElementsAnnotatedWith(Provider.class).stream()
+                .filter(element -> element.getKind() == ElementKind.METHOD)
+                .map(ExecutableElement.class::cast)
+                .forEach(element -> {
+                    var mirror = mirrorFor(Provider.class, element);
+                    var isDefault = attributeValue(Boolean.class, "isDefault", mirror, elementUtils);
+                    var isLazy = attributeValue(Boolean.class, "isLazy", mirror, elementUtils);
+                    var acceptsContext = element.getParameters().size() == 1 &&
+                            ServiceExtensionContext.class.getName().equals(binaryName(element.getParameters().get(0).asType()));
+                    var method = new ExtensionMetadata.ProviderMethodMetadata(element.getSimpleName().toString(), binaryName(element.getReturnType()), isDefault, isLazy, acceptsContext);
+                    builderFor(element.getEnclosingElement(), builders).providerMethod(method);
+                });
+
+        environment.getElementsAnnotatedWith(Provides.class)
+                .forEach(element -> builderFor(element, builders).provides(featuresOf(Provides.class, element)));
+
+        environment.getElementsAnnotatedWith(Requires.class)
+                .forEach(element -> builderFor(element, builders).requires(featuresOf(Requires.class, element)));
+
+        return builders.values().stream().map(ExtensionMetadata.Builder::build).collect(toList());
+    }
+
+    private ExtensionMetadata.Builder builderFor(Element typeElement, Map<TypeElement, ExtensionMetadata.Builder> builders) {
+        var type = (TypeElement) typeElement;
+        return builders.computeIfAbsent(type, t -> ExtensionMetadata.Builder.newInstance().type(elementUtils.getBinaryName(t).toString()));
+    }
+
+    private List<String> featuresOf(Class<? extends Annotation> annotation, Element element) {
+        return attributeTypeValues("value", mirrorFor(annotation, element), elementUtils).stream()
+                .map(this::binaryName)
+                .collect(toList());
+    }
+
+    /**
+     * Returns the name of the type as returned by {@link Class#getName()} at runtime, e.g. {@code Outer$Inner} for nested types.
+     */
+    private String binaryName(TypeMirror type) {
+        var erasure = typeUtils.erasure(type);
+        if (erasure.getKind() == TypeKind.DECLARED) {
+            return elementUtils.getBinaryName((TypeElement) typeUtils.asElement(erasure)).toString();
+        }
+        return erasure.toString();
+    }
+
+    private String binaryName(String canonicalName) {
+        var element = elementUtils.getTypeElement(canonicalName);
+        return element != null ? elementUtils.getBinaryName(element).toString() : canonicalName;
+    }
+}